@@ -0,0 +1,66 @@
+package benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import datastructure.phase01.arraylist.AnagramGrouper;
+
+/**
+ * 정렬 키 + HashMap&lt;String, List&lt;String&gt;&gt; 그룹핑과 AnagramGrouper를 비교합니다.
+ * <p>
+ * params는 단어(토큰) 수다. 어휘는 5만 단어이고 단어는 여러 번 반복된다.
+ * 병렬 버전은 -Djava.util.concurrent.ForkJoinPool.common.parallelism으로 워커 수를 조절한다.
+ */
+public class AnagramBench {
+
+	private static final int VOCABULARY = 50_000;
+
+	public static void main(String[] args) throws Exception {
+		new BenchmarkRunner(AnagramBench.class)
+			.params(1_000_000, 10_000_000)
+			.jvmArgs("-Xmx4g")
+			.add("sortedKeyHashMap", n -> {
+				String[] words = corpus(n);
+				return bh -> {
+					Map<String, List<String>> groups = new HashMap<>();
+					for (String word : words) {
+						char[] chars = word.toCharArray();
+						Arrays.sort(chars);
+						groups.computeIfAbsent(new String(chars), k -> new ArrayList<>()).add(word);
+					}
+					bh.consume(groups.size());
+				};
+			})
+			.add("anagramGrouper", n -> {
+				byte[] text = String.join(" ", corpus(n)).getBytes(StandardCharsets.US_ASCII);
+				return bh -> bh.consume(AnagramGrouper.group(text).groups().size());
+			})
+			.add("anagramGrouperParallel", n -> {
+				byte[] text = String.join(" ", corpus(n)).getBytes(StandardCharsets.US_ASCII);
+				return bh -> bh.consume(AnagramGrouper.parallelGroup(text).groups().size());
+			})
+			.run(args);
+	}
+
+	private static String[] corpus(int n) {
+		Random random = new Random(42);
+		String[] vocabulary = new String[VOCABULARY];
+		for (int i = 0; i < VOCABULARY; i++) {
+			char[] chars = new char[3 + random.nextInt(8)];
+			for (int j = 0; j < chars.length; j++) {
+				chars[j] = (char)('a' + random.nextInt(26));
+			}
+			vocabulary[i] = new String(chars);
+		}
+		String[] words = new String[n];
+		for (int i = 0; i < n; i++) {
+			words[i] = vocabulary[random.nextInt(VOCABULARY)];
+		}
+		return words;
+	}
+}
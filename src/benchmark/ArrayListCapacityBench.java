@@ -0,0 +1,41 @@
+package benchmark;
+
+import java.util.ArrayList;
+
+import datastructure.phase01.array.IntList;
+
+/**
+ * datastructure.phase01.arraylist.ArrayListCapacityDemo를 BenchmarkRunner로 옮긴 벤치마크입니다.
+ * <p>
+ * 초기 용량 지정 여부에 따른 grow() 비용과 함께,
+ * 박싱이 없는 IntList와의 할당량(B/op) 차이도 비교한다.
+ */
+public class ArrayListCapacityBench {
+
+	public static void main(String[] args) throws Exception {
+		new BenchmarkRunner(ArrayListCapacityBench.class)
+			.params(1000, 10_000, 100_000, 1_000_000)
+			.add("defaultCapacity", count -> bh -> {
+				ArrayList<Integer> list = new ArrayList<>();
+				for (int i = 0; i < count; i++) {
+					list.add(i);
+				}
+				bh.consume(list);
+			})
+			.add("presized", count -> bh -> {
+				ArrayList<Integer> list = new ArrayList<>(count);
+				for (int i = 0; i < count; i++) {
+					list.add(i);
+				}
+				bh.consume(list);
+			})
+			.add("intList", count -> bh -> {
+				IntList list = new IntList();
+				for (int i = 0; i < count; i++) {
+					list.addLast(i);
+				}
+				bh.consume(list);
+			})
+			.run(args);
+	}
+}
@@ -0,0 +1,146 @@
+package benchmark;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import datastructure.phase04.IntObjectBTreeMap;
+import datastructure.phase04.LongLongBTreeMap;
+
+/**
+ * TreeMap과 B+트리 맵(IntObjectBTreeMap, LongLongBTreeMap)을 비교합니다.
+ * <p>
+ * 키는 0, 10, 20, ... 처럼 10 간격이고 조회 키는 그 사이의 무작위 값이라 floor가 항상 다른 키를 찾는다.
+ * - floor: 한 op는 LOOKUPS번 floor 키의 값을 찾는다 (floorEntry(q).getValue() vs floorValue(q))
+ * - range: 한 op는 키 1000개 구간을 하나 순회
+ * - build: 정렬된 입력 params개로 맵을 만든다 (TreeMap.put 반복 vs fromSorted)
+ */
+public class BTreeBench {
+
+	private static final int LOOKUPS = 1024;
+	private static final int RANGE = 1000;
+
+	public static void main(String[] args) throws Exception {
+		new BenchmarkRunner(BTreeBench.class)
+			.params(10_000, 1_000_000, 10_000_000)
+			.jvmArgs("-Xmx4g")
+			.add("treeMapFloor", n -> {
+				TreeMap<Integer, String> map = treeMap(n);
+				int[] queries = queries(n);
+				return bh -> {
+					for (int q : queries) {
+						bh.consume(map.floorEntry(q).getValue());
+					}
+				};
+			})
+			.add("intObjectBTreeFloor", n -> {
+				IntObjectBTreeMap<String> map = IntObjectBTreeMap.fromSorted(keys(n), values(n));
+				int[] queries = queries(n);
+				return bh -> {
+					for (int q : queries) {
+						bh.consume(map.floorValue(q));
+					}
+				};
+			})
+			.add("treeMapLongFloor", n -> {
+				TreeMap<Long, Long> map = new TreeMap<>();
+				for (int i = 0; i < n; i++) {
+					map.put(i * 10L, (long)i);
+				}
+				int[] queries = queries(n);
+				return bh -> {
+					for (int q : queries) {
+						bh.consume(map.floorEntry((long)q).getValue());
+					}
+				};
+			})
+			.add("longLongBTreeFloor", n -> {
+				long[] keys = new long[n];
+				long[] values = new long[n];
+				for (int i = 0; i < n; i++) {
+					keys[i] = i * 10L;
+					values[i] = i;
+				}
+				LongLongBTreeMap map = LongLongBTreeMap.fromSorted(keys, values);
+				int[] queries = queries(n);
+				return bh -> {
+					for (int q : queries) {
+						bh.consume(map.floorValue(q, -1));
+					}
+				};
+			})
+			.add("treeMapRange", n -> {
+				TreeMap<Integer, String> map = treeMap(n);
+				int[] queries = queries(n);
+				int[] next = {0};
+				return bh -> {
+					int from = queries[next[0]++ & (LOOKUPS - 1)];
+					for (Map.Entry<Integer, String> entry : map.subMap(from, true, from + RANGE * 10, false).entrySet()) {
+						bh.consume(entry.getValue());
+					}
+				};
+			})
+			.add("intObjectBTreeRange", n -> {
+				IntObjectBTreeMap<String> map = IntObjectBTreeMap.fromSorted(keys(n), values(n));
+				int[] queries = queries(n);
+				int[] next = {0};
+				return bh -> {
+					int from = queries[next[0]++ & (LOOKUPS - 1)];
+					map.forEachInRange(from, true, from + RANGE * 10, false, (key, value) -> bh.consume(value));
+				};
+			})
+			.add("treeMapBuild", n -> {
+				int[] keys = keys(n);
+				String[] values = values(n);
+				return bh -> {
+					TreeMap<Integer, String> map = new TreeMap<>();
+					for (int i = 0; i < n; i++) {
+						map.put(keys[i], values[i]);
+					}
+					bh.consume(map.size());
+				};
+			})
+			.add("intObjectBTreeBuild", n -> {
+				int[] keys = keys(n);
+				String[] values = values(n);
+				return bh -> bh.consume(IntObjectBTreeMap.fromSorted(keys, values).size());
+			})
+			.run(args);
+	}
+
+	private static int[] keys(int n) {
+		int[] keys = new int[n];
+		for (int i = 0; i < n; i++) {
+			keys[i] = i * 10;
+		}
+		return keys;
+	}
+
+	// 값은 몇 개를 돌려 쓴다 (String 생성 비용과 메모리는 비교 대상이 아니다)
+	private static String[] values(int n) {
+		String[] values = new String[n];
+		for (int i = 0; i < n; i++) {
+			values[i] = "v" + (i & 1023);
+		}
+		return values;
+	}
+
+	private static TreeMap<Integer, String> treeMap(int n) {
+		int[] keys = keys(n);
+		String[] values = values(n);
+		TreeMap<Integer, String> map = new TreeMap<>();
+		for (int i = 0; i < n; i++) {
+			map.put(keys[i], values[i]);
+		}
+		return map;
+	}
+
+	private static int[] queries(int n) {
+		Random random = new Random(42);
+		int[] queries = new int[LOOKUPS];
+		for (int i = 0; i < LOOKUPS; i++) {
+			queries[i] = random.nextInt(n * 10);
+		}
+		return queries;
+	}
+}
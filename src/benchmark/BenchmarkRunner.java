@@ -0,0 +1,372 @@
+package benchmark;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * System.currentTimeMillis() 한 번 측정의 문제를 피하기 위한 마이크로벤치마크 실행기입니다.
+ * <p>
+ * JMH와 같은 원칙을 그대로 따른다.
+ * 1. Fork: 벤치마크마다 새 JVM을 띄워 이전 벤치마크의 JIT 프로파일이 섞이지 않게 한다
+ * 2. Warm-up: 측정 전에 충분히 실행해서 C2 컴파일이 끝난 상태에서 잰다
+ * 3. Blackhole: 결과를 소비해서 Dead Code Elimination을 막는다
+ * 4. GC / 할당 프로파일러: 연산당 할당 바이트(B/op)와 GC 횟수/시간을 함께 보고한다
+ * <p>
+ * 사용법:
+ * <pre>
+ * new BenchmarkRunner(MyBench.class)
+ *     .params(1000, 5000, 10000, 50000)
+ *     .add("stringPlus", size -> bh -> ...)
+ *     .run(args);
+ * </pre>
+ */
+public final class BenchmarkRunner {
+
+	// 파라미터 값마다 한 번 호출되어 측정 대상 연산을 준비한다 (JMH의 @Setup(Level.Trial))
+	// 배열/문자열 생성처럼 측정하면 안 되는 비용은 여기서 처리한다.
+	@FunctionalInterface
+	public interface Workload {
+		Op setup(int size) throws Exception;
+	}
+
+	// 한 번의 연산(op). 측정 구간에서 반복 호출된다 (JMH의 @Benchmark 메서드)
+	@FunctionalInterface
+	public interface Op {
+		void run(Blackhole bh) throws Exception;
+	}
+
+	private static final String FORK_FLAG = "--fork";
+	private static final String RESULT_PREFIX = "#RESULT ";
+
+	private final Class<?> mainClass;
+	private final Map<String, Workload> workloads = new LinkedHashMap<>();
+	private int[] params = {0};
+	private int forks = 2;
+	private int warmupIterations = 5;
+	private int measurementIterations = 5;
+	private long iterationMillis = 1000;
+	private List<String> jvmArgs = new ArrayList<>();
+
+	private volatile boolean iterationDone; // 측정 중인 iteration의 시간이 다 되면 타이머 스레드가 true로 바꾼다
+
+	public BenchmarkRunner(Class<?> mainClass) {
+		this.mainClass = mainClass;
+	}
+
+	public BenchmarkRunner params(int... params) {
+		this.params = params.clone();
+		return this;
+	}
+
+	public BenchmarkRunner forks(int forks) {
+		this.forks = forks;
+		return this;
+	}
+
+	public BenchmarkRunner warmupIterations(int warmupIterations) {
+		this.warmupIterations = warmupIterations;
+		return this;
+	}
+
+	public BenchmarkRunner measurementIterations(int measurementIterations) {
+		this.measurementIterations = measurementIterations;
+		return this;
+	}
+
+	public BenchmarkRunner iterationMillis(long iterationMillis) {
+		this.iterationMillis = iterationMillis;
+		return this;
+	}
+
+	public BenchmarkRunner jvmArgs(String... args) {
+		this.jvmArgs = List.of(args);
+		return this;
+	}
+
+	public BenchmarkRunner add(String name, Workload workload) {
+		workloads.put(name, workload);
+		return this;
+	}
+
+	/**
+	 * main(args)에서 그대로 호출한다.
+	 * 인자 없이 실행하면 부모 프로세스로서 fork들을 띄우고 결과를 모아 출력한다.
+	 * "-f 0"을 주면 fork 없이 현재 JVM에서 실행한다 (디버깅용).
+	 */
+	public void run(String[] args) throws Exception {
+		if (args.length == 7 && FORK_FLAG.equals(args[0])) {
+			warmupIterations = Integer.parseInt(args[4]);
+			measurementIterations = Integer.parseInt(args[5]);
+			iterationMillis = Long.parseLong(args[6]);
+			runForked(args[1], Integer.parseInt(args[2]), Integer.parseInt(args[3]));
+			return;
+		}
+		for (int i = 0; i + 1 < args.length; i += 2) {
+			switch (args[i]) {
+				case "-f" -> forks = Integer.parseInt(args[i + 1]);
+				case "-wi" -> warmupIterations = Integer.parseInt(args[i + 1]);
+				case "-i" -> measurementIterations = Integer.parseInt(args[i + 1]);
+				case "-r" -> iterationMillis = Long.parseLong(args[i + 1]);
+				default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+			}
+		}
+
+		List<Result> results = new ArrayList<>();
+		for (String name : workloads.keySet()) {
+			for (int size : params) {
+				Result total = new Result(name, size);
+				if (forks == 0) {
+					total.merge(measure(workloads.get(name), size, "(in-process)"));
+				}
+				for (int fork = 1; fork <= forks; fork++) {
+					total.merge(fork(name, size, fork));
+				}
+				results.add(total);
+			}
+		}
+		printTable(results);
+	}
+
+	// ========================================
+	// 측정
+	// ========================================
+
+	private Result measure(Workload workload, int size, String label) throws Exception {
+		Op op = workload.setup(size);
+		Blackhole bh = new Blackhole();
+		for (int i = 1; i <= warmupIterations; i++) {
+			IterationSample s = iteration(op, bh);
+			System.out.printf("  %s warm-up %d: %.3f ns/op%n", label, i, s.nanosPerOp());
+		}
+
+		Result result = new Result(null, size);
+		for (int i = 1; i <= measurementIterations; i++) {
+			IterationSample s = iteration(op, bh);
+			System.out.printf("  %s iteration %d: %.3f ns/op%n", label, i, s.nanosPerOp());
+			result.add(s);
+		}
+		return result;
+	}
+
+	private IterationSample iteration(Op op, Blackhole bh) throws Exception {
+		// 이전 iteration의 쓰레기가 이번 측정에 GC로 끼어들지 않도록 정리
+		System.gc();
+
+		long gcCountBefore = gcCount();
+		long gcTimeBefore = gcTime();
+		long allocBefore = allocatedBytes();
+		// JMH처럼 타이머 스레드가 끝을 알린다. 연산마다 System.nanoTime()을 부르면 그 비용(수십 ns)이
+		// 모든 ns/op에 더해지므로, 루프에서는 volatile 플래그만 읽는다.
+		iterationDone = false;
+		Thread timer = new Thread(() -> {
+			try {
+				Thread.sleep(iterationMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			iterationDone = true;
+		}, "benchmark-timer");
+		timer.setDaemon(true);
+		long ops = 0;
+		long start = System.nanoTime();
+		timer.start();
+		do {
+			op.run(bh);
+			ops++;
+		} while (!iterationDone);
+		long elapsed = System.nanoTime() - start;
+		timer.join();
+		long allocated = allocatedBytes() - allocBefore;
+
+		return new IterationSample(ops, elapsed, allocated,
+			gcCount() - gcCountBefore, gcTime() - gcTimeBefore);
+	}
+
+	// ========================================
+	// Fork
+	// ========================================
+
+	private Result fork(String name, int size, int fork) throws IOException, InterruptedException {
+		List<String> command = new ArrayList<>();
+		command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+		command.addAll(jvmArgs);
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		command.add(mainClass.getName());
+		command.add(FORK_FLAG);
+		command.add(name);
+		command.add(String.valueOf(size));
+		command.add(String.valueOf(fork));
+		command.add(String.valueOf(warmupIterations));
+		command.add(String.valueOf(measurementIterations));
+		command.add(String.valueOf(iterationMillis));
+
+		System.out.printf("# %s (size = %d), fork %d of %d%n", name, size, fork, forks);
+		Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+
+		Result result = new Result(name, size);
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.startsWith(RESULT_PREFIX)) {
+					result.add(IterationSample.parse(line.substring(RESULT_PREFIX.length())));
+				} else {
+					System.out.println(line);
+				}
+			}
+		}
+		int exit = process.waitFor();
+		if (exit != 0) {
+			throw new IllegalStateException("Fork failed with exit code " + exit + ": " + name);
+		}
+		return result;
+	}
+
+	private void runForked(String name, int size, int fork) throws Exception {
+		Workload workload = workloads.get(name);
+		if (workload == null) {
+			throw new IllegalArgumentException("Unknown benchmark: " + name);
+		}
+		Result result = measure(workload, size, "fork " + fork);
+		for (IterationSample s : result.samples) {
+			System.out.println(RESULT_PREFIX + s.format());
+		}
+	}
+
+	// ========================================
+	// 프로파일러
+	// ========================================
+
+	private static long gcCount() {
+		long count = 0;
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+			count += Math.max(0, gc.getCollectionCount());
+		}
+		return count;
+	}
+
+	private static long gcTime() {
+		long time = 0;
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+			time += Math.max(0, gc.getCollectionTime());
+		}
+		return time;
+	}
+
+	// HotSpot 전용 확장 API. 지원하지 않는 JVM에서는 -1
+	private static long allocatedBytes() {
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (bean instanceof com.sun.management.ThreadMXBean hotspot) {
+			return hotspot.getCurrentThreadAllocatedBytes();
+		}
+		return -1;
+	}
+
+	// ========================================
+	// 결과
+	// ========================================
+
+	private record IterationSample(long ops, long elapsedNanos, long allocatedBytes, long gcCount, long gcMillis) {
+
+		double nanosPerOp() {
+			return (double)elapsedNanos / ops;
+		}
+
+		double bytesPerOp() {
+			return allocatedBytes < 0 ? Double.NaN : (double)allocatedBytes / ops;
+		}
+
+		String format() {
+			return ops + " " + elapsedNanos + " " + allocatedBytes + " " + gcCount + " " + gcMillis;
+		}
+
+		static IterationSample parse(String line) {
+			String[] p = line.trim().split(" ");
+			return new IterationSample(Long.parseLong(p[0]), Long.parseLong(p[1]),
+				Long.parseLong(p[2]), Long.parseLong(p[3]), Long.parseLong(p[4]));
+		}
+	}
+
+	private static final class Result {
+		final String name;
+		final int size;
+		final List<IterationSample> samples = new ArrayList<>();
+
+		Result(String name, int size) {
+			this.name = name;
+			this.size = size;
+		}
+
+		void add(IterationSample sample) {
+			samples.add(sample);
+		}
+
+		void merge(Result other) {
+			samples.addAll(other.samples);
+		}
+
+		double mean() {
+			double sum = 0;
+			for (IterationSample s : samples) {
+				sum += s.nanosPerOp();
+			}
+			return sum / samples.size();
+		}
+
+		// 99.9% 신뢰구간 (정규분포 근사)
+		double error() {
+			int n = samples.size();
+			if (n < 2) {
+				return Double.NaN;
+			}
+			double mean = mean();
+			double sq = 0;
+			for (IterationSample s : samples) {
+				double d = s.nanosPerOp() - mean;
+				sq += d * d;
+			}
+			return 3.291 * Math.sqrt(sq / (n - 1)) / Math.sqrt(n);
+		}
+
+		double bytesPerOp() {
+			long bytes = 0;
+			long ops = 0;
+			for (IterationSample s : samples) {
+				if (s.allocatedBytes() < 0) {
+					return Double.NaN;
+				}
+				bytes += s.allocatedBytes();
+				ops += s.ops();
+			}
+			return (double)bytes / ops;
+		}
+
+		long gcCount() {
+			return samples.stream().mapToLong(IterationSample::gcCount).sum();
+		}
+
+		long gcMillis() {
+			return samples.stream().mapToLong(IterationSample::gcMillis).sum();
+		}
+	}
+
+	private static void printTable(List<Result> results) {
+		System.out.println();
+		System.out.printf("%-28s %8s %4s %16s %12s %14s %14s %8s %8s%n",
+			"Benchmark", "(size)", "Cnt", "Score", "Error", "Units", "alloc (B/op)", "gc.count", "gc.ms");
+		for (Result r : results) {
+			System.out.printf("%-28s %8d %4d %16.3f ± %10.3f %14s %14.1f %8d %8d%n",
+				r.name, r.size, r.samples.size(), r.mean(), r.error(), "ns/op",
+				r.bytesPerOp(), r.gcCount(), r.gcMillis());
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import datastructure.phase01.array.EytzingerIndex;
+
+/**
+ * Arrays.binarySearch와 EytzingerIndex의 무작위 조회 성능을 비교합니다.
+ * <p>
+ * 한 op는 무작위 key 1024개를 조회한다. 배열이 캐시보다 커질수록 차이가 커진다.
+ */
+public class BinarySearchBench {
+
+	private static final int LOOKUPS = 1024;
+
+	public static void main(String[] args) throws Exception {
+		new BenchmarkRunner(BinarySearchBench.class)
+			.params(1_000, 1_000_000, 100_000_000)
+			.jvmArgs("-Xmx4g")
+			.add("arraysBinarySearch", n -> {
+				int[] sorted = sortedArray(n);
+				int[] keys = randomKeys(n);
+				return bh -> {
+					for (int key : keys) {
+						bh.consume(Arrays.binarySearch(sorted, key));
+					}
+				};
+			})
+			.add("eytzingerLowerBound", n -> {
+				EytzingerIndex index = new EytzingerIndex(sortedArray(n));
+				int[] keys = randomKeys(n);
+				return bh -> {
+					for (int key : keys) {
+						bh.consume(index.lowerBound(key));
+					}
+				};
+			})
+			.add("eytzingerBatch", n -> {
+				EytzingerIndex index = new EytzingerIndex(sortedArray(n));
+				int[] keys = randomKeys(n);
+				int[] out = new int[LOOKUPS];
+				return bh -> {
+					index.lowerBounds(keys, out);
+					bh.consume(out[LOOKUPS - 1]);
+				};
+			})
+			.run(args);
+	}
+
+	// 짝수만 담아서 조회의 절반은 실패하도록 한다.
+	private static int[] sortedArray(int n) {
+		int[] sorted = new int[n];
+		for (int i = 0; i < n; i++) {
+			sorted[i] = i * 2;
+		}
+		return sorted;
+	}
+
+	private static int[] randomKeys(int n) {
+		Random random = new Random(42);
+		int[] keys = new int[LOOKUPS];
+		for (int i = 0; i < LOOKUPS; i++) {
+			keys[i] = random.nextInt(n * 2);
+		}
+		return keys;
+	}
+}
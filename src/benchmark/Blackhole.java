@@ -0,0 +1,60 @@
+package benchmark;
+
+/**
+ * 벤치마크 결과 값을 "사용한 것처럼" 만들어 JIT의 Dead Code Elimination을 막는 클래스입니다.
+ * <p>
+ * 계산 결과를 아무 데도 쓰지 않으면 C2 컴파일러가 계산 자체를 지워버릴 수 있다.
+ * JMH의 Blackhole과 같은 방식으로, 결과를 volatile 필드와 비교해서
+ * JIT가 결과를 버릴 수 없게 만든다.
+ */
+public final class Blackhole {
+
+	private volatile int i1 = 1;
+	private volatile int i2 = 2;
+	private volatile long l1 = 1L;
+	private volatile long l2 = 2L;
+	private volatile boolean b1 = false;
+	private volatile boolean b2 = true;
+	private volatile Object sink;
+
+	// consume(Object)에서 저장 여부를 결정하는 의사 난수 상태
+	private int tlr = (int)System.nanoTime();
+	private int tlrMask = 1;
+
+	// i1 != i2 이므로 조건은 절대 참이 되지 않지만, JIT는 이를 증명할 수 없다.
+	public void consume(int v) {
+		if (v == i1 & v == i2) {
+			nullBait();
+		}
+	}
+
+	public void consume(long v) {
+		if (v == l1 & v == l2) {
+			nullBait();
+		}
+	}
+
+	public void consume(boolean v) {
+		if (v == b1 & v == b2) {
+			nullBait();
+		}
+	}
+
+	public void consume(double v) {
+		consume(Double.doubleToRawLongBits(v));
+	}
+
+	// 객체는 가끔씩만 실제로 저장한다. 매번 저장하면 쓰기 비용이 측정값을 오염시킨다.
+	public void consume(Object obj) {
+		int t = tlr * 1664525 + 1013904223;
+		tlr = t;
+		if ((t & tlrMask) == 0) {
+			sink = obj;
+			tlrMask = (tlrMask << 1) + 1;
+		}
+	}
+
+	private void nullBait() {
+		throw new IllegalStateException("Blackhole 필드가 변경되었습니다.");
+	}
+}
@@ -0,0 +1,39 @@
+package benchmark;
+
+/**
+ * datastructure.phase01.array.CacheLocalityDemo를 BenchmarkRunner로 옮긴 벤치마크입니다.
+ * <p>
+ * 원본은 10000x10000(약 400MB) 배열을 한 번씩만 순회했다.
+ * 여기서는 크기를 파라미터로 두어 행렬이 L2/L3 캐시에 들어가는 경우와
+ * 넘치는 경우의 차이를 함께 비교한다.
+ */
+public class CacheLocalityBench {
+
+	public static void main(String[] args) throws Exception {
+		new BenchmarkRunner(CacheLocalityBench.class)
+			.params(256, 1000, 2000, 4000)
+			.add("rowMajor", size -> {
+				int[][] matrix = new int[size][size];
+				return bh -> {
+					for (int i = 0; i < size; i++) {
+						for (int j = 0; j < size; j++) {
+							matrix[i][j] = i + j;
+						}
+					}
+					bh.consume(matrix[size - 1][size - 1]);
+				};
+			})
+			.add("columnMajor", size -> {
+				int[][] matrix = new int[size][size];
+				return bh -> {
+					for (int j = 0; j < size; j++) {
+						for (int i = 0; i < size; i++) {
+							matrix[i][j] = i + j;
+						}
+					}
+					bh.consume(matrix[size - 1][size - 1]);
+				};
+			})
+			.run(args);
+	}
+}
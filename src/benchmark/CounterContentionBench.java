@@ -0,0 +1,87 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.LongAdder;
+
+import datastructure.phase05.ConcurrentCounterMap;
+
+/**
+ * 여러 스레드가 소수의 핫 키를 세는 경우를 ConcurrentHashMap.merge,
+ * ConcurrentHashMap&lt;K, LongAdder&gt;.computeIfAbsent, ConcurrentCounterMap으로 비교합니다.
+ * <p>
+ * params는 키 수다 (1이면 모든 스레드가 키 하나에 몰린다).
+ * 한 op는 공용 풀의 워커 수만큼 작업을 띄워 각각 INCREMENTS번 센다.
+ * 스레드 수는 -Djava.util.concurrent.ForkJoinPool.common.parallelism으로 조절한다 (코어 수보다 많으면 경합이 드러나지 않는다).
+ */
+public class CounterContentionBench {
+
+	private static final int INCREMENTS = 100_000;
+
+	public static void main(String[] args) throws Exception {
+		new BenchmarkRunner(CounterContentionBench.class)
+			.params(1, 16, 100_000)
+			.add("concurrentHashMapMerge", n -> {
+				String[] keys = keys(n);
+				ConcurrentHashMap<String, Long> counts = new ConcurrentHashMap<>();
+				return bh -> {
+					parallel(worker -> {
+						for (int i = 0; i < INCREMENTS; i++) {
+							counts.merge(keys[(i + worker) % keys.length], 1L, Long::sum);
+						}
+					});
+					bh.consume(counts.size());
+				};
+			})
+			.add("concurrentHashMapLongAdder", n -> {
+				String[] keys = keys(n);
+				ConcurrentHashMap<String, LongAdder> counts = new ConcurrentHashMap<>();
+				return bh -> {
+					parallel(worker -> {
+						for (int i = 0; i < INCREMENTS; i++) {
+							counts.computeIfAbsent(keys[(i + worker) % keys.length], k -> new LongAdder()).increment();
+						}
+					});
+					bh.consume(counts.size());
+				};
+			})
+			.add("concurrentCounterMap", n -> {
+				String[] keys = keys(n);
+				ConcurrentCounterMap<String> counts = new ConcurrentCounterMap<>();
+				return bh -> {
+					parallel(worker -> {
+						for (int i = 0; i < INCREMENTS; i++) {
+							counts.increment(keys[(i + worker) % keys.length]);
+						}
+					});
+					bh.consume(counts.size());
+				};
+			})
+			.run(args);
+	}
+
+	private interface Worker {
+		void run(int worker);
+	}
+
+	private static void parallel(Worker body) {
+		int workers = ForkJoinPool.getCommonPoolParallelism();
+		List<ForkJoinTask<?>> tasks = new ArrayList<>(workers);
+		for (int w = 0; w < workers; w++) {
+			int worker = w;
+			tasks.add(ForkJoinTask.adapt(() -> body.run(worker)));
+		}
+		ForkJoinTask.invokeAll(tasks);
+	}
+
+	private static String[] keys(int n) {
+		String[] keys = new String[n];
+		for (int i = 0; i < n; i++) {
+			keys[i] = "event-" + i;
+		}
+		return keys;
+	}
+}
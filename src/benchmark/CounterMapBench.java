@@ -0,0 +1,88 @@
+package benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import datastructure.phase03.IntIntHashMap;
+import datastructure.phase03.ObjectIntHashMap;
+
+/**
+ * 카운팅 맵을 HashMap.merge와 ObjectIntHashMap / IntIntHashMap.addTo로 비교합니다.
+ * <p>
+ * params개의 서로 다른 키에 대해 4 * params번 카운트를 올린다 (키는 Zipf 비슷하게 앞쪽이 자주 나온다).
+ * 맵은 op마다 새로 만들어 항목 생성 비용(Node / Integer vs 배열 칸)까지 포함한다.
+ */
+public class CounterMapBench {
+
+	public static void main(String[] args) throws Exception {
+		new BenchmarkRunner(CounterMapBench.class)
+			.params(10_000, 1_000_000)
+			.jvmArgs("-Xmx4g")
+			.add("hashMapMergeString", n -> {
+				String[] tokens = stringTokens(n);
+				return bh -> {
+					Map<String, Integer> counts = new HashMap<>();
+					for (String token : tokens) {
+						counts.merge(token, 1, Integer::sum);
+					}
+					bh.consume(counts.size());
+				};
+			})
+			.add("objectIntHashMapAddTo", n -> {
+				String[] tokens = stringTokens(n);
+				return bh -> {
+					ObjectIntHashMap<String> counts = new ObjectIntHashMap<>();
+					for (String token : tokens) {
+						counts.addTo(token, 1);
+					}
+					bh.consume(counts.size());
+				};
+			})
+			.add("hashMapMergeInt", n -> {
+				int[] tokens = intTokens(n);
+				return bh -> {
+					Map<Integer, Integer> counts = new HashMap<>();
+					for (int token : tokens) {
+						counts.merge(token, 1, Integer::sum);
+					}
+					bh.consume(counts.size());
+				};
+			})
+			.add("intIntHashMapAddTo", n -> {
+				int[] tokens = intTokens(n);
+				return bh -> {
+					IntIntHashMap counts = new IntIntHashMap();
+					for (int token : tokens) {
+						counts.addTo(token, 1);
+					}
+					bh.consume(counts.size());
+				};
+			})
+			.run(args);
+	}
+
+	// 0..n-1 범위에서 작은 값이 더 자주 나오도록 (두 난수의 최솟값) 4n개
+	private static int[] intTokens(int n) {
+		Random random = new Random(42);
+		int[] tokens = new int[4 * n];
+		for (int i = 0; i < tokens.length; i++) {
+			tokens[i] = i < n ? i : Math.min(random.nextInt(n), random.nextInt(n));
+		}
+		return tokens;
+	}
+
+	// 같은 단어는 같은 String 객체를 공유한다 (토크나이저의 intern과 비슷하게 hashCode가 캐시된 상태)
+	private static String[] stringTokens(int n) {
+		String[] words = new String[n];
+		for (int i = 0; i < n; i++) {
+			words[i] = "word" + i;
+		}
+		int[] ids = intTokens(n);
+		String[] tokens = new String[ids.length];
+		for (int i = 0; i < ids.length; i++) {
+			tokens[i] = words[ids[i]];
+		}
+		return tokens;
+	}
+}
@@ -0,0 +1,56 @@
+package benchmark;
+
+import java.util.ArrayDeque;
+
+import datastructure.phase02.IntArrayDeque;
+
+/**
+ * ArrayDeque&lt;Integer&gt;와 IntArrayDeque를 BFS 프런티어처럼 사용할 때의 성능을 비교합니다.
+ * <p>
+ * 한 op는 params개를 넣고, 하나 꺼낼 때마다 (값이 작으면) 두 개를 더 넣는 큐 작업을 끝까지 한다.
+ * 큐 객체는 재사용하므로 IntArrayDeque는 정상 상태에서 할당이 0이다.
+ */
+public class DequeBench {
+
+	public static void main(String[] args) throws Exception {
+		new BenchmarkRunner(DequeBench.class)
+			.params(1_000, 1_000_000)
+			.add("arrayDequeInteger", n -> {
+				ArrayDeque<Integer> queue = new ArrayDeque<>();
+				return bh -> {
+					for (int i = 0; i < n; i++) {
+						queue.offer(i);
+					}
+					long sum = 0;
+					while (!queue.isEmpty()) {
+						int value = queue.poll();
+						sum += value;
+						if (value < n / 2) {
+							queue.offer(value + n);
+							queue.offer(value + 2 * n);
+						}
+					}
+					bh.consume(sum);
+				};
+			})
+			.add("intArrayDeque", n -> {
+				IntArrayDeque queue = new IntArrayDeque();
+				return bh -> {
+					for (int i = 0; i < n; i++) {
+						queue.offer(i);
+					}
+					long sum = 0;
+					while (!queue.isEmpty()) {
+						int value = queue.poll();
+						sum += value;
+						if (value < n / 2) {
+							queue.offer(value + n);
+							queue.offer(value + 2 * n);
+						}
+					}
+					bh.consume(sum);
+				};
+			})
+			.run(args);
+	}
+}
@@ -0,0 +1,94 @@
+package benchmark;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import datastructure.phase04.DiskSortedMap;
+
+/**
+ * 힙의 TreeMap과 디스크의 DiskSortedMap을 비교합니다.
+ * <p>
+ * 키는 무작위 8바이트(long) params개, 값은 16바이트. DiskSortedMap은 compact한 세그먼트 하나에서 읽는다.
+ * - floor: QUERIES번 floorEntry (TreeMap은 힙에 전부, DiskSortedMap은 매핑된 파일만 두고 조회)
+ * - open: 이미 만든 인덱스를 다시 여는 시간 (TreeMap으로 치면 파일에서 다시 읽어 쌓는 재구축)
+ * DiskSortedMap은 인큐베이터 모듈(jdk.incubator.foreign)로 매핑하므로 fork JVM에 --add-modules 옵션을 넘긴다.
+ */
+public class DiskSortedMapBench {
+
+	private static final int QUERIES = 1_000;
+
+	public static void main(String[] args) throws Exception {
+		new BenchmarkRunner(DiskSortedMapBench.class)
+			.params(100_000, 1_000_000)
+			.jvmArgs("-Xmx4g", "--add-modules", "jdk.incubator.foreign")
+			.add("treeMapFloor", n -> {
+				TreeMap<byte[], byte[]> map = new TreeMap<>(Arrays::compareUnsigned);
+				Random random = new Random(42);
+				for (int i = 0; i < n; i++) {
+					map.put(bytes(random.nextLong()), new byte[16]);
+				}
+				byte[][] queries = queries();
+				return bh -> {
+					for (byte[] q : queries) {
+						Map.Entry<byte[], byte[]> entry = map.floorEntry(q);
+						bh.consume(entry == null ? 0 : entry.getValue().length);
+					}
+				};
+			})
+			.add("diskFloor", n -> {
+				DiskSortedMap map = new DiskSortedMap(build(n));
+				byte[][] queries = queries();
+				return bh -> {
+					for (byte[] q : queries) {
+						Map.Entry<byte[], byte[]> entry = map.floorEntry(q);
+						bh.consume(entry == null ? 0 : entry.getValue().length);
+					}
+				};
+			})
+			.add("diskOpen", n -> {
+				Path directory = build(n);
+				return bh -> {
+					DiskSortedMap map = new DiskSortedMap(directory);
+					bh.consume(map.segmentCount());
+					map.close();
+				};
+			})
+			.run(args);
+	}
+
+	// n개를 넣고 compact한 인덱스 디렉터리 (JVM이 끝나면 지운다)
+	private static Path build(int n) throws Exception {
+		Path directory = Files.createTempDirectory("disk-sorted-map-bench");
+		Random random = new Random(42);
+		try (DiskSortedMap map = new DiskSortedMap(directory)) {
+			for (int i = 0; i < n; i++) {
+				map.put(bytes(random.nextLong()), new byte[16]);
+			}
+			map.compact();
+		}
+		directory.toFile().deleteOnExit();
+		for (File file : directory.toFile().listFiles()) {
+			file.deleteOnExit();
+		}
+		return directory;
+	}
+
+	private static byte[][] queries() {
+		Random random = new Random(1);
+		byte[][] queries = new byte[QUERIES][];
+		for (int i = 0; i < QUERIES; i++) {
+			queries[i] = bytes(random.nextLong());
+		}
+		return queries;
+	}
+
+	private static byte[] bytes(long value) {
+		return ByteBuffer.allocate(Long.BYTES).putLong(value).array();
+	}
+}
@@ -0,0 +1,74 @@
+package benchmark;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+
+import datastructure.phase01.arraylist.CsrGraph;
+
+/**
+ * List&lt;List&lt;Integer&gt;&gt; 인접 리스트 BFS와 CSR 그래프 BFS를 비교합니다.
+ * <p>
+ * 노드 수의 8배만큼 무작위 무방향 간선을 가진 그래프에서 노드 0부터 BFS를 한다.
+ */
+public class GraphBench {
+
+	private static final int DEGREE = 8;
+
+	public static void main(String[] args) throws Exception {
+		new BenchmarkRunner(GraphBench.class)
+			.params(100_000, 1_000_000)
+			.jvmArgs("-Xmx4g")
+			.add("adjacencyListBfs", n -> {
+				List<List<Integer>> graph = new ArrayList<>();
+				for (int i = 0; i < n; i++) {
+					graph.add(new ArrayList<>());
+				}
+				Random random = new Random(42);
+				for (long i = 0; i < (long)n * DEGREE / 2; i++) {
+					int u = random.nextInt(n);
+					int v = random.nextInt(n);
+					graph.get(u).add(v);
+					graph.get(v).add(u);
+				}
+				return bh -> {
+					int[] distances = new int[n];
+					Arrays.fill(distances, -1);
+					Deque<Integer> queue = new ArrayDeque<>();
+					queue.offer(0);
+					distances[0] = 0;
+					while (!queue.isEmpty()) {
+						int u = queue.poll();
+						for (int v : graph.get(u)) {
+							if (distances[v] < 0) {
+								distances[v] = distances[u] + 1;
+								queue.offer(v);
+							}
+						}
+					}
+					bh.consume(distances);
+				};
+			})
+			.add("csrBfs", n -> {
+				CsrGraph graph = randomGraph(n);
+				return bh -> bh.consume(graph.bfs(0));
+			})
+			.add("csrParallelBfs", n -> {
+				CsrGraph graph = randomGraph(n);
+				return bh -> bh.consume(graph.parallelBfs(0));
+			})
+			.run(args);
+	}
+
+	private static CsrGraph randomGraph(int n) {
+		CsrGraph.Builder builder = CsrGraph.builder(n);
+		Random random = new Random(42);
+		for (long i = 0; i < (long)n * DEGREE / 2; i++) {
+			builder.addUndirectedEdge(random.nextInt(n), random.nextInt(n));
+		}
+		return builder.build();
+	}
+}
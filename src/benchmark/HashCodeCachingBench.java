@@ -0,0 +1,32 @@
+package benchmark;
+
+/**
+ * string.HashCodeCachingTest를 BenchmarkRunner로 옮긴 벤치마크입니다.
+ * <p>
+ * 원본은 nanoTime으로 hashCode() 호출 한 번을 재서 타이머 해상도보다 작은 값을 비교했다.
+ * 여기서는 세 가지를 반복 측정한다.
+ * - cachedHashCode: 이미 계산된 hash 필드를 읽기만 하는 경우
+ * - firstHashCode: 새 String을 만들고 처음 hashCode()를 호출하는 경우
+ * - newStringOnly: 새 String 생성 비용 (firstHashCode에서 빼서 순수 계산 비용을 구한다)
+ */
+public class HashCodeCachingBench {
+
+	public static void main(String[] args) throws Exception {
+		new BenchmarkRunner(HashCodeCachingBench.class)
+			.params(1000, 5000, 10000, 50000)
+			.add("cachedHashCode", n -> {
+				String s = "a".repeat(n);
+				s.hashCode(); // 캐싱
+				return bh -> bh.consume(s.hashCode());
+			})
+			.add("firstHashCode", n -> {
+				byte[] bytes = "a".repeat(n).getBytes();
+				return bh -> bh.consume(new String(bytes).hashCode());
+			})
+			.add("newStringOnly", n -> {
+				byte[] bytes = "a".repeat(n).getBytes();
+				return bh -> bh.consume(new String(bytes));
+			})
+			.run(args);
+	}
+}
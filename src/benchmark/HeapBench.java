@@ -0,0 +1,100 @@
+package benchmark;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import datastructure.phase02.IndexedLongMinHeap;
+import datastructure.phase02.IntMinHeap;
+
+/**
+ * PriorityQueue와 IntMinHeap / IndexedLongMinHeap을 비교합니다.
+ * <p>
+ * - push/poll: params개를 넣고 모두 꺼낸다
+ * - update: params개의 작업 우선순위를 무작위로 바꾼다.
+ *   PriorityQueue는 remove(Object)가 O(n)이라 remove + offer 대신 새 항목을 넣고 꺼낼 때 낡은 항목을 버린다.
+ */
+public class HeapBench {
+
+	private static final int UPDATES = 10_000;
+
+	public static void main(String[] args) throws Exception {
+		new BenchmarkRunner(HeapBench.class)
+			.params(1_000, 1_000_000)
+			.add("priorityQueuePushPoll", n -> {
+				int[] values = randomValues(n);
+				PriorityQueue<Integer> queue = new PriorityQueue<>();
+				return bh -> {
+					for (int value : values) {
+						queue.offer(value);
+					}
+					while (!queue.isEmpty()) {
+						bh.consume(queue.poll());
+					}
+				};
+			})
+			.add("intMinHeapPushPoll", n -> {
+				int[] values = randomValues(n);
+				IntMinHeap heap = new IntMinHeap(n);
+				return bh -> {
+					for (int value : values) {
+						heap.add(value);
+					}
+					while (!heap.isEmpty()) {
+						bh.consume(heap.poll());
+					}
+				};
+			})
+			.add("priorityQueueLazyUpdate", n -> {
+				int[] values = randomValues(n);
+				long[] current = new long[n];
+				PriorityQueue<long[]> queue = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+				for (int id = 0; id < n; id++) {
+					current[id] = values[id];
+					queue.offer(new long[] {values[id], id});
+				}
+				Random random = new Random(7);
+				return bh -> {
+					for (int u = 0; u < UPDATES; u++) {
+						int id = random.nextInt(n);
+						current[id] = random.nextInt();
+						queue.offer(new long[] {current[id], id});
+						// 꺼낸 항목이 최신 우선순위가 아니면 버리고 다시 꺼낸다.
+						long[] top = queue.poll();
+						while (top[0] != current[(int)top[1]]) {
+							top = queue.poll();
+						}
+						queue.offer(top);
+						bh.consume(top);
+					}
+				};
+			})
+			.add("indexedHeapUpdateKey", n -> {
+				int[] values = randomValues(n);
+				IndexedLongMinHeap heap = new IndexedLongMinHeap(n);
+				int[] ids = new int[n];
+				long[] keys = new long[n];
+				for (int id = 0; id < n; id++) {
+					ids[id] = id;
+					keys[id] = values[id];
+				}
+				heap.insertAll(ids, keys);
+				Random random = new Random(7);
+				return bh -> {
+					for (int u = 0; u < UPDATES; u++) {
+						heap.updateKey(random.nextInt(n), random.nextInt());
+						bh.consume(heap.peek());
+					}
+				};
+			})
+			.run(args);
+	}
+
+	private static int[] randomValues(int n) {
+		Random random = new Random(42);
+		int[] values = new int[n];
+		for (int i = 0; i < n; i++) {
+			values[i] = random.nextInt();
+		}
+		return values;
+	}
+}
@@ -0,0 +1,61 @@
+package benchmark;
+
+import datastructure.phase01.array.IntMatrix;
+
+/**
+ * int[][]의 열 우선 순회와 IntMatrix의 타일 전치 / 병렬 처리를 비교합니다.
+ * <p>
+ * 열 방향 데이터가 필요할 때 매번 열 방향으로 읽는 대신,
+ * 한 번 타일 전치해 두고 행 방향으로 읽는 비용을 함께 본다.
+ */
+public class MatrixBench {
+
+	public static void main(String[] args) throws Exception {
+		new BenchmarkRunner(MatrixBench.class)
+			.params(1000, 4000)
+			.add("jaggedColumnMajorSum", size -> {
+				int[][] matrix = new int[size][size];
+				return bh -> {
+					long sum = 0;
+					for (int j = 0; j < size; j++) {
+						for (int i = 0; i < size; i++) {
+							sum += matrix[i][j];
+						}
+					}
+					bh.consume(sum);
+				};
+			})
+			.add("flatColumnSums", size -> {
+				IntMatrix matrix = new IntMatrix(size, size);
+				return bh -> bh.consume(matrix.columnSums());
+			})
+			.add("naiveTranspose", size -> {
+				int[][] matrix = new int[size][size];
+				int[][] result = new int[size][size];
+				return bh -> {
+					for (int i = 0; i < size; i++) {
+						for (int j = 0; j < size; j++) {
+							result[j][i] = matrix[i][j];
+						}
+					}
+					bh.consume(result);
+				};
+			})
+			.add("tiledTranspose", size -> {
+				IntMatrix matrix = new IntMatrix(size, size);
+				return bh -> bh.consume(matrix.transpose());
+			})
+			.add("tiledTransposeInPlace", size -> {
+				IntMatrix matrix = new IntMatrix(size, size);
+				return bh -> {
+					matrix.transposeInPlace();
+					bh.consume(matrix);
+				};
+			})
+			.add("parallelTranspose", size -> {
+				IntMatrix matrix = new IntMatrix(size, size);
+				return bh -> bh.consume(matrix.parallelTranspose());
+			})
+			.run(args);
+	}
+}
@@ -0,0 +1,137 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import datastructure.phase03.Person;
+import datastructure.phase03.PersonTable;
+
+/**
+ * HashMap&lt;Person, Integer&gt; 행 모델과 PersonTable을 비교합니다.
+ * <p>
+ * - load: params명을 적재한다 (이름은 5만 개에서 중복해서 고른다)
+ * - lookup: 미리 적재한 상태에서 LOOKUPS번 (이름, 나이)로 행을 찾는다.
+ *   HashMap은 조회마다 키 Person을 만들어야 하므로 그 비용까지 포함한다.
+ * - ageRange: 30~39세 행 수를 센다. 행 모델은 전체를 훑고, PersonTable은 나이 버킷을 쓴다.
+ */
+public class PersonTableBench {
+
+	private static final int NAMES = 50_000;
+	private static final int LOOKUPS = 100_000;
+
+	public static void main(String[] args) throws Exception {
+		new BenchmarkRunner(PersonTableBench.class)
+			.params(100_000, 1_000_000)
+			.jvmArgs("-Xmx4g")
+			.add("hashMapLoad", n -> {
+				Rows rows = rows(n);
+				return bh -> {
+					Map<Person, Integer> map = new HashMap<>();
+					for (int i = 0; i < n; i++) {
+						map.put(new Person(rows.names[i], rows.ages[i]), i);
+					}
+					bh.consume(map.size());
+				};
+			})
+			.add("personTableLoad", n -> {
+				Rows rows = rows(n);
+				return bh -> {
+					PersonTable table = new PersonTable();
+					for (int i = 0; i < n; i++) {
+						table.add(rows.names[i], rows.ages[i]);
+					}
+					bh.consume(table.size());
+				};
+			})
+			.add("hashMapLookup", n -> {
+				Rows rows = rows(n);
+				Map<Person, Integer> map = new HashMap<>();
+				for (int i = 0; i < n; i++) {
+					map.put(new Person(rows.names[i], rows.ages[i]), i);
+				}
+				int[] queries = queries(n);
+				return bh -> {
+					for (int q : queries) {
+						bh.consume(map.get(new Person(rows.names[q], rows.ages[q])));
+					}
+				};
+			})
+			.add("personTableLookup", n -> {
+				Rows rows = rows(n);
+				PersonTable table = new PersonTable(n);
+				for (int i = 0; i < n; i++) {
+					table.add(rows.names[i], rows.ages[i]);
+				}
+				int[] queries = queries(n);
+				return bh -> {
+					for (int q : queries) {
+						bh.consume(table.rowOf(rows.names[q], rows.ages[q]));
+					}
+				};
+			})
+			.add("rowModelAgeRange", n -> {
+				Rows rows = rows(n);
+				List<Person> people = new ArrayList<>(n);
+				int[] ages = new int[n];
+				for (int i = 0; i < n; i++) {
+					people.add(new Person(rows.names[i], rows.ages[i]));
+					ages[i] = rows.ages[i];
+				}
+				return bh -> {
+					// Person에는 getter가 없으므로 나이는 같은 순서의 배열에서 읽는다 (객체 순회 비용은 people로)
+					int count = 0;
+					for (int i = 0; i < people.size(); i++) {
+						if (people.get(i) != null && ages[i] >= 30 && ages[i] <= 39) {
+							count++;
+						}
+					}
+					bh.consume(count);
+				};
+			})
+			.add("personTableAgeRange", n -> {
+				Rows rows = rows(n);
+				PersonTable table = new PersonTable(n);
+				for (int i = 0; i < n; i++) {
+					table.add(rows.names[i], rows.ages[i]);
+				}
+				return bh -> bh.consume(table.countInAgeRange(30, 39));
+			})
+			.run(args);
+	}
+
+	private static final class Rows {
+		final String[] names;
+		final int[] ages;
+
+		Rows(int n) {
+			names = new String[n];
+			ages = new int[n];
+		}
+	}
+
+	// 서로 다른 (이름, 나이) n개 - 나이 i % 100, 이름은 i / 100을 섞어 고른다
+	private static Rows rows(int n) {
+		String[] vocabulary = new String[NAMES];
+		for (int i = 0; i < NAMES; i++) {
+			vocabulary[i] = "person" + i;
+		}
+		Rows rows = new Rows(n);
+		for (int i = 0; i < n; i++) {
+			rows.names[i] = vocabulary[(i / 100) % NAMES];
+			rows.ages[i] = (i % 100) + (i / (100 * NAMES)); // NAMES * 100을 넘으면 나이를 밀어 중복을 피한다
+		}
+		return rows;
+	}
+
+	private static int[] queries(int n) {
+		Random random = new Random(42);
+		int[] queries = new int[LOOKUPS];
+		for (int i = 0; i < LOOKUPS; i++) {
+			queries[i] = random.nextInt(n);
+		}
+		return queries;
+	}
+}
@@ -0,0 +1,70 @@
+package benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import datastructure.phase01.array.RadixSort;
+
+/**
+ * Arrays.sort / Arrays.parallelSort와 RadixSort를 비교합니다.
+ * <p>
+ * 정렬은 배열을 바꾸므로 op마다 원본을 복사한 뒤 정렬한다.
+ * 복사 비용은 arrayCopyOnly로 따로 재서 빼고 본다.
+ */
+public class RadixSortBench {
+
+	public static void main(String[] args) throws Exception {
+		new BenchmarkRunner(RadixSortBench.class)
+			.params(10_000, 1_000_000, 10_000_000)
+			.jvmArgs("-Xmx2g")
+			.add("arrayCopyOnly", n -> {
+				int[] source = randomInts(n);
+				int[] work = new int[n];
+				return bh -> {
+					System.arraycopy(source, 0, work, 0, n);
+					bh.consume(work);
+				};
+			})
+			.add("arraysSort", n -> {
+				int[] source = randomInts(n);
+				int[] work = new int[n];
+				return bh -> {
+					System.arraycopy(source, 0, work, 0, n);
+					Arrays.sort(work);
+					bh.consume(work);
+				};
+			})
+			.add("arraysParallelSort", n -> {
+				int[] source = randomInts(n);
+				int[] work = new int[n];
+				return bh -> {
+					System.arraycopy(source, 0, work, 0, n);
+					Arrays.parallelSort(work);
+					bh.consume(work);
+				};
+			})
+			.add("radixSort", n -> {
+				int[] source = randomInts(n);
+				int[] work = new int[n];
+				return bh -> {
+					System.arraycopy(source, 0, work, 0, n);
+					RadixSort.sort(work);
+					bh.consume(work);
+				};
+			})
+			.add("radixParallelSort", n -> {
+				int[] source = randomInts(n);
+				int[] work = new int[n];
+				return bh -> {
+					System.arraycopy(source, 0, work, 0, n);
+					RadixSort.parallelSort(work);
+					bh.consume(work);
+				};
+			})
+			.run(args);
+	}
+
+	private static int[] randomInts(int n) {
+		return new Random(42).ints(n).toArray();
+	}
+}
@@ -0,0 +1,106 @@
+package benchmark;
+
+import java.util.Random;
+import java.util.TreeMap;
+
+import datastructure.phase04.RankedLongLongBTreeMap;
+
+/**
+ * TreeMap 뷰의 size()와 RankedLongLongBTreeMap의 순위 질의를 비교합니다.
+ * <p>
+ * 키는 무작위 long params개, 한 op는 QUERIES번
+ * - rank: headMap(key).size() vs rank(key)
+ * - count: subMap(from, true, to, true).size() vs countInRange(from, to) (구간은 전체의 약 1/4)
+ * - update: 키 하나를 지우고 다른 키를 넣는다 (순위 정보를 유지하는 비용)
+ */
+public class RankBench {
+
+	private static final int QUERIES = 64;
+
+	public static void main(String[] args) throws Exception {
+		new BenchmarkRunner(RankBench.class)
+			.params(10_000, 1_000_000)
+			.jvmArgs("-Xmx4g")
+			.add("treeMapHeadMapSize", n -> {
+				TreeMap<Long, Long> map = treeMap(n);
+				long[] queries = queries();
+				return bh -> {
+					for (long q : queries) {
+						bh.consume(map.headMap(q).size());
+					}
+				};
+			})
+			.add("rankedRank", n -> {
+				RankedLongLongBTreeMap map = rankedMap(n);
+				long[] queries = queries();
+				return bh -> {
+					for (long q : queries) {
+						bh.consume(map.rank(q));
+					}
+				};
+			})
+			.add("treeMapSubMapSize", n -> {
+				TreeMap<Long, Long> map = treeMap(n);
+				long[] queries = queries();
+				return bh -> {
+					for (long q : queries) {
+						bh.consume(map.subMap(q, true, q + (Long.MAX_VALUE >> 1), true).size());
+					}
+				};
+			})
+			.add("rankedCountInRange", n -> {
+				RankedLongLongBTreeMap map = rankedMap(n);
+				long[] queries = queries();
+				return bh -> {
+					for (long q : queries) {
+						bh.consume(map.countInRange(q, q + (Long.MAX_VALUE >> 1)));
+					}
+				};
+			})
+			.add("treeMapUpdate", n -> {
+				TreeMap<Long, Long> map = treeMap(n);
+				Random random = new Random(7);
+				return bh -> {
+					map.remove(map.firstKey());
+					map.put(random.nextLong(), 1L);
+				};
+			})
+			.add("rankedUpdate", n -> {
+				RankedLongLongBTreeMap map = rankedMap(n);
+				Random random = new Random(7);
+				return bh -> {
+					map.remove(map.firstKey());
+					map.put(random.nextLong(), 1L);
+				};
+			})
+			.run(args);
+	}
+
+	private static TreeMap<Long, Long> treeMap(int n) {
+		Random random = new Random(42);
+		TreeMap<Long, Long> map = new TreeMap<>();
+		while (map.size() < n) {
+			map.put(random.nextLong(), 1L);
+		}
+		return map;
+	}
+
+	private static RankedLongLongBTreeMap rankedMap(int n) {
+		Random random = new Random(42);
+		RankedLongLongBTreeMap map = new RankedLongLongBTreeMap();
+		while (map.size() < n) {
+			map.put(random.nextLong(), 1L);
+		}
+		return map;
+	}
+
+	// [-2^62, 2^62) 범위의 조회 키 - q + (Long.MAX_VALUE >> 1)이 넘치지 않는다.
+	private static long[] queries() {
+		Random random = new Random(1);
+		long[] queries = new long[QUERIES];
+		for (int i = 0; i < QUERIES; i++) {
+			queries[i] = random.nextLong() >> 1;
+		}
+		return queries;
+	}
+}
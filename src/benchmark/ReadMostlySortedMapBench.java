@@ -0,0 +1,104 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import datastructure.phase05.CopyOnWriteLongLongSortedMap;
+
+/**
+ * 읽기:쓰기 = 100:1인 정렬 맵을 ConcurrentSkipListMap과 CopyOnWriteLongLongSortedMap으로 비교합니다.
+ * <p>
+ * params는 키 수다. 한 op는 공용 풀의 워커마다 READS번 floor 조회를 하고,
+ * 워커 0은 그 사이에 전체 조회 수의 1/100만큼 키를 바꾼다 (하나 지우고 하나 넣기).
+ * CopyOnWriteLongLongSortedMap은 WRITE_BATCH개씩 모아 공개한다.
+ * 스레드 수는 -Djava.util.concurrent.ForkJoinPool.common.parallelism으로 조절한다.
+ */
+public class ReadMostlySortedMapBench {
+
+	private static final int READS = 10_000;
+	private static final int WRITE_BATCH = 32;
+
+	public static void main(String[] args) throws Exception {
+		new BenchmarkRunner(ReadMostlySortedMapBench.class)
+			.params(100_000, 1_000_000)
+			.jvmArgs("-Xmx4g")
+			.add("concurrentSkipListMap", n -> {
+				long[] keys = keys(n);
+				ConcurrentSkipListMap<Long, Long> map = new ConcurrentSkipListMap<>();
+				for (long key : keys) {
+					map.put(key, key);
+				}
+				return bh -> parallel((worker, workers) -> {
+					Random random = new Random(worker);
+					int writes = worker == 0 ? READS * workers / 100 : 0;
+					for (int i = 0; i < READS; i++) {
+						Long floor = map.floorKey(random.nextLong());
+						bh.consume(floor == null ? 0 : floor);
+						if (writes > 0 && i % (READS / writes) == 0) {
+							int slot = random.nextInt(n);
+							map.remove(keys[slot]);
+							keys[slot] = random.nextLong();
+							map.put(keys[slot], keys[slot]);
+						}
+					}
+				});
+			})
+			.add("copyOnWriteSortedMap", n -> {
+				long[] keys = keys(n);
+				CopyOnWriteLongLongSortedMap map = new CopyOnWriteLongLongSortedMap();
+				CopyOnWriteLongLongSortedMap.Batch load = map.newBatch();
+				for (long key : keys) {
+					load.put(key, key);
+				}
+				map.apply(load);
+				CopyOnWriteLongLongSortedMap.Batch batch = map.newBatch();
+				return bh -> parallel((worker, workers) -> {
+					Random random = new Random(worker);
+					int writes = worker == 0 ? READS * workers / 100 : 0;
+					for (int i = 0; i < READS; i++) {
+						bh.consume(map.floorValue(random.nextLong(), 0));
+						if (writes > 0 && i % (READS / writes) == 0) {
+							int slot = random.nextInt(n);
+							batch.remove(keys[slot]);
+							keys[slot] = random.nextLong();
+							batch.put(keys[slot], keys[slot]);
+							if (batch.size() >= WRITE_BATCH) {
+								map.apply(batch);
+							}
+						}
+					}
+					if (worker == 0) {
+						map.apply(batch);
+					}
+				});
+			})
+			.run(args);
+	}
+
+	private interface Worker {
+		void run(int worker, int workers);
+	}
+
+	private static void parallel(Worker body) {
+		int workers = ForkJoinPool.getCommonPoolParallelism();
+		List<ForkJoinTask<?>> tasks = new ArrayList<>(workers);
+		for (int w = 0; w < workers; w++) {
+			int worker = w;
+			tasks.add(ForkJoinTask.adapt(() -> body.run(worker, workers)));
+		}
+		ForkJoinTask.invokeAll(tasks);
+	}
+
+	private static long[] keys(int n) {
+		Random random = new Random(42);
+		long[] keys = new long[n];
+		for (int i = 0; i < n; i++) {
+			keys[i] = random.nextLong();
+		}
+		return keys;
+	}
+}
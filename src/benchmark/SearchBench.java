@@ -0,0 +1,52 @@
+package benchmark;
+
+import java.util.Random;
+
+import datastructure.phase01.array.SearchAlgorithms;
+import datastructure.phase01.array.VectorizedSearch;
+
+/**
+ * 정렬되지 않은 int[]에서 스칼라 선형 탐색과 Vector API 탐색을 비교합니다.
+ * <p>
+ * 찾는 값을 배열 끝 근처에 두어 거의 전체를 훑는 최악의 경우를 잰다.
+ * Vector API는 인큐베이터 모듈이므로 fork JVM에 --add-modules 옵션을 넘긴다.
+ */
+public class SearchBench {
+
+	public static void main(String[] args) throws Exception {
+		new BenchmarkRunner(SearchBench.class)
+			.params(1_000, 100_000, 10_000_000)
+			.jvmArgs("--add-modules", "jdk.incubator.vector")
+			.add("scalarLinear", n -> {
+				int[] arr = randomArray(n);
+				int target = arr[n - 1];
+				return bh -> bh.consume(SearchAlgorithms.linearSearch(arr, target));
+			})
+			.add("vectorLinear", n -> {
+				int[] arr = randomArray(n);
+				int target = arr[n - 1];
+				return bh -> bh.consume(VectorizedSearch.linearSearch(arr, target));
+			})
+			.add("scalarIndexOfAny", n -> {
+				int[] arr = randomArray(n);
+				int[] needles = {arr[n / 4], arr[n / 2], arr[n - 1], -1};
+				return bh -> bh.consume(SearchAlgorithms.indexOfAny(arr, needles));
+			})
+			.add("vectorIndexOfAny", n -> {
+				int[] arr = randomArray(n);
+				int[] needles = {arr[n / 4], arr[n / 2], arr[n - 1], -1};
+				return bh -> bh.consume(VectorizedSearch.indexOfAny(arr, needles));
+			})
+			.run(args);
+	}
+
+	// 음수가 없는 난수 배열 (-1은 항상 "없는 값")
+	private static int[] randomArray(int n) {
+		Random random = new Random(42);
+		int[] arr = new int[n];
+		for (int i = 0; i < n; i++) {
+			arr[i] = random.nextInt(Integer.MAX_VALUE);
+		}
+		return arr;
+	}
+}
@@ -0,0 +1,89 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import datastructure.phase01.arraylist.WeightedCsrGraph;
+
+/**
+ * PriorityQueue&lt;long[]&gt; + lazy deletion 다익스트라와
+ * WeightedCsrGraph.Searcher(인덱스 힙 + decrease-key)를 비교합니다.
+ * <p>
+ * 한 op는 무작위 (source, target) 쌍 하나에 대한 최단 거리 질의다.
+ */
+public class ShortestPathBench {
+
+	private static final int DEGREE = 6;
+	private static final int QUERIES = 64;
+
+	public static void main(String[] args) throws Exception {
+		new BenchmarkRunner(ShortestPathBench.class)
+			.params(10_000, 1_000_000)
+			.jvmArgs("-Xmx4g")
+			.add("priorityQueueLazy", n -> {
+				List<List<int[]>> graph = new ArrayList<>();
+				for (int i = 0; i < n; i++) {
+					graph.add(new ArrayList<>());
+				}
+				Random random = new Random(42);
+				for (long i = 0; i < (long)n * DEGREE; i++) {
+					graph.get(random.nextInt(n)).add(new int[] {random.nextInt(n), 1 + random.nextInt(100)});
+				}
+				int[][] queries = queries(n);
+				int[] next = {0};
+				return bh -> {
+					int[] q = queries[next[0]++ % QUERIES];
+					long[] dist = new long[n];
+					Arrays.fill(dist, Long.MAX_VALUE);
+					dist[q[0]] = 0;
+					PriorityQueue<long[]> pq = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+					pq.offer(new long[] {0, q[0]});
+					while (!pq.isEmpty()) {
+						long[] top = pq.poll();
+						int u = (int)top[1];
+						if (top[0] > dist[u]) {
+							continue; // 낡은 항목
+						}
+						if (u == q[1]) {
+							break;
+						}
+						for (int[] edge : graph.get(u)) {
+							long candidate = top[0] + edge[1];
+							if (candidate < dist[edge[0]]) {
+								dist[edge[0]] = candidate;
+								pq.offer(new long[] {candidate, edge[0]});
+							}
+						}
+					}
+					bh.consume(dist[q[1]]);
+				};
+			})
+			.add("indexedHeapSearcher", n -> {
+				WeightedCsrGraph.Builder builder = WeightedCsrGraph.builder(n);
+				Random random = new Random(42);
+				for (long i = 0; i < (long)n * DEGREE; i++) {
+					builder.addEdge(random.nextInt(n), random.nextInt(n), 1 + random.nextInt(100));
+				}
+				WeightedCsrGraph.Searcher searcher = builder.build().newSearcher();
+				int[][] queries = queries(n);
+				int[] next = {0};
+				return bh -> {
+					int[] q = queries[next[0]++ % QUERIES];
+					bh.consume(searcher.distance(q[0], q[1]));
+				};
+			})
+			.run(args);
+	}
+
+	private static int[][] queries(int n) {
+		Random random = new Random(7);
+		int[][] queries = new int[QUERIES][];
+		for (int i = 0; i < QUERIES; i++) {
+			queries[i] = new int[] {random.nextInt(n), random.nextInt(n)};
+		}
+		return queries;
+	}
+}
@@ -0,0 +1,76 @@
+package benchmark;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+
+import datastructure.phase01.arraylist.SlidingWindow;
+
+/**
+ * 박싱된 Deque&lt;Integer&gt; 단조 덱과 SlidingWindow의 스트리밍 최대값 성능을 비교합니다.
+ * <p>
+ * 한 op는 이벤트 4096개를 넣으면서 매번 윈도우 최대값을 읽는다. params는 윈도우 크기다.
+ * B/op를 보면 박싱 버전은 이벤트마다 할당하고, SlidingWindow는 할당이 0이다.
+ */
+public class SlidingWindowBench {
+
+	private static final int EVENTS = 4096;
+
+	public static void main(String[] args) throws Exception {
+		new BenchmarkRunner(SlidingWindowBench.class)
+			.params(16, 1024)
+			.add("boxedDequeMax", k -> {
+				long[] events = randomEvents();
+				long[] ring = new long[k];
+				Deque<Integer> deque = new ArrayDeque<>();
+				int[] seq = {0};
+				return bh -> {
+					for (long value : events) {
+						int i = seq[0]++;
+						ring[i % k] = value;
+						while (!deque.isEmpty() && deque.peekFirst() <= i - k) {
+							deque.pollFirst();
+						}
+						while (!deque.isEmpty() && ring[deque.peekLast() % k] < value) {
+							deque.pollLast();
+						}
+						deque.offerLast(i);
+						bh.consume(ring[deque.peekFirst() % k]);
+					}
+				};
+			})
+			.add("slidingWindowMax", k -> {
+				long[] events = randomEvents();
+				SlidingWindow window = SlidingWindow.countBased(k);
+				return bh -> {
+					for (long value : events) {
+						window.push(value);
+						bh.consume(window.max());
+					}
+				};
+			})
+			.add("slidingWindowAll", k -> {
+				long[] events = randomEvents();
+				SlidingWindow window = SlidingWindow.countBased(k);
+				return bh -> {
+					for (long value : events) {
+						window.push(value);
+						bh.consume(window.max());
+						bh.consume(window.min());
+						bh.consume(window.sum());
+					}
+					bh.consume(window.percentile(0.99));
+				};
+			})
+			.run(args);
+	}
+
+	private static long[] randomEvents() {
+		Random random = new Random(42);
+		long[] events = new long[EVENTS];
+		for (int i = 0; i < EVENTS; i++) {
+			events[i] = random.nextInt(1_000_000);
+		}
+		return events;
+	}
+}
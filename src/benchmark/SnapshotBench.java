@@ -0,0 +1,101 @@
+package benchmark;
+
+import java.util.Random;
+import java.util.TreeMap;
+
+import datastructure.phase05.PersistentLongLongTreeMap;
+
+/**
+ * 변경 후 스냅숏을 뜨는 비용을 TreeMap 복사와 PersistentLongLongTreeMap으로 비교합니다.
+ * <p>
+ * 맵에는 params개의 키가 있고, 한 op는 UPDATES번 값을 바꾼 뒤 읽기용 스냅숏 하나를 만든다.
+ * - treeMapCopy: TreeMap을 고치고 new TreeMap(map)으로 복사
+ * - persistentPut: 바꿀 때마다 새 버전 (마지막 버전이 스냅숏)
+ * - persistentBuilder: Builder로 모아 고치고 build()
+ * floor 조회(QUERIES번)도 함께 비교한다.
+ */
+public class SnapshotBench {
+
+	private static final int UPDATES = 1_000;
+	private static final int QUERIES = 1_000;
+
+	public static void main(String[] args) throws Exception {
+		new BenchmarkRunner(SnapshotBench.class)
+			.params(100_000, 1_000_000)
+			.jvmArgs("-Xmx4g")
+			.add("treeMapCopy", n -> {
+				TreeMap<Long, Long> map = new TreeMap<>();
+				for (int i = 0; i < n; i++) {
+					map.put(i * 10L, (long)i);
+				}
+				Random random = new Random(7);
+				return bh -> {
+					for (int i = 0; i < UPDATES; i++) {
+						map.put(random.nextInt(n) * 10L, (long)i);
+					}
+					bh.consume(new TreeMap<>(map));
+				};
+			})
+			.add("persistentPut", n -> {
+				PersistentLongLongTreeMap[] map = {load(n)};
+				Random random = new Random(7);
+				return bh -> {
+					PersistentLongLongTreeMap version = map[0];
+					for (int i = 0; i < UPDATES; i++) {
+						version = version.put(random.nextInt(n) * 10L, i);
+					}
+					map[0] = version;
+					bh.consume(version);
+				};
+			})
+			.add("persistentBuilder", n -> {
+				PersistentLongLongTreeMap.Builder builder = load(n).toBuilder();
+				Random random = new Random(7);
+				return bh -> {
+					for (int i = 0; i < UPDATES; i++) {
+						builder.put(random.nextInt(n) * 10L, i);
+					}
+					bh.consume(builder.build());
+				};
+			})
+			.add("treeMapFloor", n -> {
+				TreeMap<Long, Long> map = new TreeMap<>();
+				for (int i = 0; i < n; i++) {
+					map.put(i * 10L, (long)i);
+				}
+				long[] queries = queries(n);
+				return bh -> {
+					for (long q : queries) {
+						bh.consume(map.floorEntry(q).getValue());
+					}
+				};
+			})
+			.add("persistentFloor", n -> {
+				PersistentLongLongTreeMap map = load(n);
+				long[] queries = queries(n);
+				return bh -> {
+					for (long q : queries) {
+						bh.consume(map.floorValue(q, -1));
+					}
+				};
+			})
+			.run(args);
+	}
+
+	private static PersistentLongLongTreeMap load(int n) {
+		PersistentLongLongTreeMap.Builder builder = PersistentLongLongTreeMap.builder();
+		for (int i = 0; i < n; i++) {
+			builder.put(i * 10L, i);
+		}
+		return builder.build();
+	}
+
+	private static long[] queries(int n) {
+		Random random = new Random(1);
+		long[] queries = new long[QUERIES];
+		for (int i = 0; i < QUERIES; i++) {
+			queries[i] = random.nextInt(n * 10);
+		}
+		return queries;
+	}
+}
@@ -0,0 +1,38 @@
+package benchmark;
+
+/**
+ * string.StringConcatBenchmark를 BenchmarkRunner로 옮긴 벤치마크입니다.
+ * <p>
+ * 원본은 크기마다 한 번씩만 재서 JIT 컴파일 전/후가 섞여 있었다.
+ * 여기서는 warm-up 후 반복 측정하고, 연산당 할당량(B/op)도 함께 본다.
+ * String + 연결은 매번 새 배열을 복사하므로 할당량이 O(n²)으로 늘어나는 것을 확인할 수 있다.
+ */
+public class StringConcatBench {
+
+	public static void main(String[] args) throws Exception {
+		new BenchmarkRunner(StringConcatBench.class)
+			.params(1000, 5000, 10000, 50000)
+			.add("stringPlus", n -> bh -> {
+				String s = "";
+				for (int i = 0; i < n; i++) {
+					s = s + "a";
+				}
+				bh.consume(s);
+			})
+			.add("stringBuilder", n -> bh -> {
+				StringBuilder sb = new StringBuilder();
+				for (int i = 0; i < n; i++) {
+					sb.append("a");
+				}
+				bh.consume(sb.toString());
+			})
+			.add("stringBuilderPresized", n -> bh -> {
+				StringBuilder sb = new StringBuilder(n);
+				for (int i = 0; i < n; i++) {
+					sb.append("a");
+				}
+				bh.consume(sb.toString());
+			})
+			.run(args);
+	}
+}
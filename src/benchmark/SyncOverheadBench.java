@@ -0,0 +1,31 @@
+package benchmark;
+
+/**
+ * string.SyncOverheadTest를 BenchmarkRunner로 옮긴 벤치마크입니다.
+ * <p>
+ * 버퍼를 op 안의 지역 변수로 만들면 Escape Analysis가 StringBuffer의 락을 제거(Lock Elision)해서
+ * 차이가 사라진다. setup에서 만든 버퍼를 op들이 공유하게 해서 락이 실제로 걸리도록 한다.
+ */
+public class SyncOverheadBench {
+
+	public static void main(String[] args) throws Exception {
+		new BenchmarkRunner(SyncOverheadBench.class)
+			.add("stringBuilder", n -> {
+				StringBuilder sb = new StringBuilder();
+				return bh -> {
+					sb.append("a");
+					bh.consume(sb.length());
+					sb.setLength(0);
+				};
+			})
+			.add("stringBuffer", n -> {
+				StringBuffer sbuf = new StringBuffer();
+				return bh -> {
+					sbuf.append("a");
+					bh.consume(sbuf.length());
+					sbuf.setLength(0);
+				};
+			})
+			.run(args);
+	}
+}
@@ -0,0 +1,116 @@
+package benchmark;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+import datastructure.phase02.TimingWheel;
+
+/**
+ * 연결 타임아웃처럼 등록/취소가 빈번한 타이머를 PriorityQueue, DelayQueue, TimingWheel로 비교합니다.
+ * <p>
+ * params개의 타이머를 미리 살려둔 상태에서, 한 op는 CHURN번 "타이머 하나 등록 + 가장 오래된 타이머 하나 취소"를 한다.
+ * PriorityQueue / DelayQueue의 remove(Object)는 O(n)이라 실제로는 취소 표시만 하고
+ * 꺼낼 때 버리는(lazy) 방식을 쓰므로, 여기서도 그렇게 비교한다. (취소된 항목만큼 힙이 커진다)
+ * TimingWheel은 시계를 직접 움직여 op마다 1 tick씩 진행한다.
+ */
+public class TimerBench {
+
+	private static final int CHURN = 10_000;
+	private static final long TIMEOUT_MS = 30_000;
+
+	public static void main(String[] args) throws Exception {
+		new BenchmarkRunner(TimerBench.class)
+			.params(10_000, 1_000_000)
+			.jvmArgs("-Xmx4g")
+			.add("priorityQueueLazyCancel", n -> {
+				PriorityQueue<Timer> queue = new PriorityQueue<>();
+				Timer[] live = new Timer[n];
+				long[] now = {0};
+				Random random = new Random(42);
+				for (int i = 0; i < n; i++) {
+					live[i] = new Timer(random.nextInt((int)TIMEOUT_MS));
+					queue.offer(live[i]);
+				}
+				int[] oldest = {0};
+				return bh -> {
+					for (int c = 0; c < CHURN; c++) {
+						int i = oldest[0]++ % n;
+						live[i].cancelled = true;
+						live[i] = new Timer(now[0] + TIMEOUT_MS);
+						queue.offer(live[i]);
+					}
+					now[0]++;
+					// 만료 처리: 앞에서부터 취소된 것은 버리고, 만료된 것은 실행
+					while (!queue.isEmpty() && (queue.peek().cancelled || queue.peek().deadline <= now[0])) {
+						bh.consume(queue.poll());
+					}
+				};
+			})
+			.add("delayQueueLazyCancel", n -> {
+				DelayQueue<Timer> queue = new DelayQueue<>();
+				Timer[] live = new Timer[n];
+				Random random = new Random(42);
+				for (int i = 0; i < n; i++) {
+					live[i] = new Timer(System.currentTimeMillis() + random.nextInt((int)TIMEOUT_MS));
+					queue.offer(live[i]);
+				}
+				int[] oldest = {0};
+				return bh -> {
+					for (int c = 0; c < CHURN; c++) {
+						int i = oldest[0]++ % n;
+						live[i].cancelled = true;
+						live[i] = new Timer(System.currentTimeMillis() + TIMEOUT_MS);
+						queue.offer(live[i]);
+					}
+					// DelayQueue는 만료된 것만 꺼낼 수 있어 취소된 항목은 만료될 때까지 남는다.
+					for (Timer timer = queue.poll(); timer != null; timer = queue.poll()) {
+						bh.consume(timer);
+					}
+				};
+			})
+			.add("timingWheel", n -> {
+				long[] now = {0};
+				TimingWheel wheel = new TimingWheel(1, TimeUnit.MILLISECONDS, 256, 4, () -> now[0]);
+				long[] live = new long[n];
+				Random random = new Random(42);
+				Runnable task = () -> { };
+				for (int i = 0; i < n; i++) {
+					live[i] = wheel.schedule(random.nextInt((int)TIMEOUT_MS), TimeUnit.MILLISECONDS, task);
+				}
+				int[] oldest = {0};
+				return bh -> {
+					for (int c = 0; c < CHURN; c++) {
+						int i = oldest[0]++ % n;
+						bh.consume(wheel.cancel(live[i]));
+						live[i] = wheel.schedule(TIMEOUT_MS, TimeUnit.MILLISECONDS, task);
+					}
+					now[0] += TimeUnit.MILLISECONDS.toNanos(1);
+					bh.consume(wheel.advance());
+				};
+			})
+			.run(args);
+	}
+
+	// PriorityQueue / DelayQueue 공용 타이머 (deadline은 ms)
+	private static final class Timer implements Delayed {
+		final long deadline;
+		boolean cancelled;
+
+		Timer(long deadline) {
+			this.deadline = deadline;
+		}
+
+		@Override
+		public long getDelay(TimeUnit unit) {
+			return unit.convert(deadline - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+		}
+
+		@Override
+		public int compareTo(Delayed other) {
+			return Long.compare(deadline, ((Timer)other).deadline);
+		}
+	}
+}
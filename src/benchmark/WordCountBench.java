@@ -0,0 +1,87 @@
+package benchmark;
+
+import java.io.BufferedReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import datastructure.phase03.WordCounter;
+
+/**
+ * 로그 파일 토큰 빈도 상위 N개를 readLine → String → HashMap.merge 경로와 WordCounter로 비교합니다.
+ * <p>
+ * params는 파일 크기(MB)다. 파일은 준비 단계에서 임시 파일로 한 번 만들고, 페이지 캐시에 올라간 상태로 측정한다.
+ * 병렬 버전은 -Djava.util.concurrent.ForkJoinPool.common.parallelism으로 워커 수를 조절한다.
+ */
+public class WordCountBench {
+
+	private static final int TOP_N = 100;
+	private static final int VOCABULARY = 200_000;
+
+	public static void main(String[] args) throws Exception {
+		new BenchmarkRunner(WordCountBench.class)
+			.params(64, 512)
+			.jvmArgs("-Xmx4g")
+			.add("readLineHashMapMerge", mb -> {
+				Path file = logFile(mb);
+				return bh -> {
+					Map<String, Long> counts = new HashMap<>();
+					try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+						for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+							for (String token : line.split("[^A-Za-z0-9_\\u0080-\\uFFFF]+")) {
+								if (!token.isEmpty()) {
+									counts.merge(token, 1L, Long::sum);
+								}
+							}
+						}
+					}
+					List<Map.Entry<String, Long>> entries = new ArrayList<>(counts.entrySet());
+					entries.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+					bh.consume(entries.subList(0, Math.min(TOP_N, entries.size())));
+				};
+			})
+			.add("wordCounter", mb -> {
+				Path file = logFile(mb);
+				return bh -> bh.consume(WordCounter.count(file, TOP_N).top());
+			})
+			.add("wordCounterParallel", mb -> {
+				Path file = logFile(mb);
+				return bh -> bh.consume(WordCounter.parallelCount(file, TOP_N).top());
+			})
+			.run(args);
+	}
+
+	// 타임스탬프 + 레벨 + 무작위 단어 몇 개로 된 줄을 mb MB만큼 쓴다 (단어는 앞쪽 어휘가 더 자주 나온다)
+	private static Path logFile(int mb) throws Exception {
+		Random random = new Random(42);
+		String[] vocabulary = new String[VOCABULARY];
+		for (int i = 0; i < VOCABULARY; i++) {
+			vocabulary[i] = "w" + Integer.toString(i, 36);
+		}
+		String[] levels = {"INFO", "DEBUG", "WARN", "ERROR"};
+		Path file = Files.createTempFile("wordcount", ".log");
+		file.toFile().deleteOnExit();
+		long target = (long)mb << 20;
+		long written = 0;
+		StringBuilder line = new StringBuilder();
+		try (var writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			while (written < target) {
+				line.setLength(0);
+				line.append("2024-05-01T12:").append(random.nextInt(60)).append(' ').append(levels[random.nextInt(4)]);
+				for (int t = 0; t < 8; t++) {
+					int k = Math.min(random.nextInt(VOCABULARY), random.nextInt(VOCABULARY));
+					line.append(' ').append(vocabulary[k]);
+				}
+				line.append('\n');
+				writer.append(line);
+				written += line.length();
+			}
+		}
+		return file;
+	}
+}
@@ -69,7 +69,7 @@ public class ArrayBasicOperations {
 
 		int removed = arr[index];
 		// index + 1부터 끝까지 한 칸씩 앞으로 이동
-		for (int i = index; i < size; i++) {
+		for (int i = index; i < size - 1; i++) {
 			arr[i] = arr[i + 1];
 		}
 		size--;
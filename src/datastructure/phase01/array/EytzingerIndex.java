@@ -0,0 +1,170 @@
+package datastructure.phase01.array;
+
+import java.util.Arrays;
+
+/**
+ * 정렬된 int[]를 Eytzinger(BFS) 순서로 재배치한 읽기 전용 정렬 집합 인덱스입니다.
+ * <p>
+ * 일반 이진 탐색의 문제:
+ * 1. mid 위치가 매번 멀리 떨어져 있어서 거의 모든 비교가 캐시 미스다
+ * 2. 비교 결과가 무작위라 분기 예측이 50% 확률로 실패한다
+ * <p>
+ * Eytzinger 배치는 힙처럼 노드 k의 자식을 2k, 2k+1에 둔다.
+ * - 탐색 초반의 상위 레벨 노드들이 배열 앞쪽에 모여 있어 항상 캐시에 남는다
+ * - k의 손자/증손자(4k~, 8k~, 16k~)가 연속된 캐시 라인에 있어 하드웨어 프리페처가 잘 동작한다
+ * - k = 2k + (b[k] &lt; x) 형태로 분기 없이(cmov) 내려간다
+ * <p>
+ * 탐색 결과는 원래 정렬 배열 기준 인덱스로 돌려준다.
+ */
+public class EytzingerIndex {
+
+	// 한 번에 함께 내려가는 탐색 수. 서로 독립적인 메모리 로드를 겹쳐서 캐시 미스 대기 시간을 숨긴다.
+	private static final int BATCH = 8;
+	// 탐색 중 k는 2n + 1까지 커지므로 int로 넘치지 않는 최대 크기
+	private static final int MAX_SIZE = (1 << 30) - 1;
+
+	private final int n;
+	private final int[] tree; // tree[1..n], tree[0]은 사용하지 않음
+	private final int[] rank; // rank[k] = tree[k]의 정렬 배열 기준 인덱스, rank[0] = n (찾지 못함)
+
+	// 정렬된 배열로부터 생성 - O(n)
+	public EytzingerIndex(int[] sorted) {
+		if (sorted.length > MAX_SIZE) {
+			throw new IllegalArgumentException("Size: " + sorted.length + ", Max: " + MAX_SIZE);
+		}
+		for (int i = 1; i < sorted.length; i++) {
+			if (sorted[i - 1] > sorted[i]) {
+				throw new IllegalArgumentException("배열이 정렬되어 있지 않습니다. Index: " + i);
+			}
+		}
+		this.n = sorted.length;
+		this.tree = new int[n + 1];
+		this.rank = new int[n + 1];
+		rank[0] = n;
+		build(sorted, 0, 1);
+	}
+
+	// 중위 순회 순서로 정렬 배열의 값을 채운다.
+	private int build(int[] sorted, int i, int k) {
+		if (k <= n) {
+			i = build(sorted, i, 2 * k);
+			tree[k] = sorted[i];
+			rank[k] = i++;
+			i = build(sorted, i, 2 * k + 1);
+		}
+		return i;
+	}
+
+	public int size() {
+		return n;
+	}
+
+	// key 이상인 첫 원소의 인덱스 (없으면 size()) - O(log n)
+	public int lowerBound(int key) {
+		return rank[lowerBoundNode(key)];
+	}
+
+	// key 초과인 첫 원소의 인덱스 (없으면 size()) - O(log n)
+	public int upperBound(int key) {
+		int k = 1;
+		while (k <= n) {
+			k = 2 * k + (tree[k] <= key ? 1 : 0);
+		}
+		return rank[settle(k)];
+	}
+
+	// key의 인덱스 (없으면 -1), 중복이 있으면 가장 앞의 인덱스
+	// lowerBound가 멈춘 노드의 값을 바로 비교한다 (get(i)으로 다시 내려가지 않는다).
+	public int indexOf(int key) {
+		int k = lowerBoundNode(key);
+		return k != 0 && tree[k] == key ? rank[k] : -1;
+	}
+
+	public boolean contains(int key) {
+		return indexOf(key) >= 0;
+	}
+
+	// 정렬 배열 기준 i번째 값 - O(1)이 아니라 O(log n)이므로 순회용으로는 쓰지 않는다.
+	public int get(int index) {
+		if (index < 0 || index >= n) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + n);
+		}
+		// 중위 순회 순서의 index번째 노드를 찾는다.
+		int k = 1;
+		while (true) {
+			int r = rank[k];
+			if (r == index) {
+				return tree[k];
+			}
+			k = 2 * k + (r < index ? 1 : 0);
+		}
+	}
+
+	// 여러 key의 lowerBound를 한 번에 계산한다.
+	// BATCH개의 탐색을 한 레벨씩 동시에 진행해서, 한 탐색의 캐시 미스를 기다리는 동안
+	// 다른 탐색의 로드가 함께 진행되도록 한다 (소프트웨어 프리페치 대신 메모리 수준 병렬성 활용).
+	public void lowerBounds(int[] keys, int[] out) {
+		if (out.length < keys.length) {
+			throw new IllegalArgumentException("out 배열이 keys보다 짧습니다.");
+		}
+		int[] k = new int[BATCH];
+		int depth = 32 - Integer.numberOfLeadingZeros(n); // 트리 높이
+		int i = 0;
+		for (; i + BATCH <= keys.length; i += BATCH) {
+			Arrays.fill(k, 1);
+			// 모든 탐색이 같은 횟수만큼 내려가도록 전체 높이만큼 반복한다.
+			for (int level = 0; level < depth; level++) {
+				for (int b = 0; b < BATCH; b++) {
+					int kb = k[b];
+					if (kb <= n) {
+						k[b] = 2 * kb + (tree[kb] < keys[i + b] ? 1 : 0);
+					}
+				}
+			}
+			for (int b = 0; b < BATCH; b++) {
+				out[i + b] = rank[settle(k[b])];
+			}
+		}
+		for (; i < keys.length; i++) {
+			out[i] = lowerBound(keys[i]);
+		}
+	}
+
+	public int[] lowerBounds(int[] keys) {
+		int[] out = new int[keys.length];
+		lowerBounds(keys, out);
+		return out;
+	}
+
+	// key 이상인 첫 원소의 노드 번호 (없으면 0)
+	private int lowerBoundNode(int key) {
+		int k = 1;
+		while (k <= n) {
+			k = 2 * k + (tree[k] < key ? 1 : 0);
+		}
+		return settle(k);
+	}
+
+	// 마지막으로 오른쪽으로 내려간 횟수 + 1만큼 되돌아가면 답 노드가 나온다.
+	// 한 번도 왼쪽으로 가지 않았다면(모든 원소가 key보다 작음) 0이 되어 rank[0] = n
+	private static int settle(int k) {
+		return k >>> (Integer.numberOfTrailingZeros(~k) + 1);
+	}
+
+	public static void main(String[] args) {
+		int[] sorted = {11, 12, 22, 25, 25, 34, 64, 90};
+		EytzingerIndex index = new EytzingerIndex(sorted);
+
+		System.out.println("정렬 배열: " + Arrays.toString(sorted));
+		System.out.println("Eytzinger 배치: " + Arrays.toString(Arrays.copyOfRange(index.tree, 1, index.n + 1)));
+
+		System.out.println("25의 인덱스: " + index.indexOf(25)); // 3
+		System.out.println("30의 인덱스: " + index.indexOf(30)); // -1
+		System.out.println("lowerBound(25): " + index.lowerBound(25)); // 3
+		System.out.println("upperBound(25): " + index.upperBound(25)); // 5
+		System.out.println("lowerBound(100): " + index.lowerBound(100)); // 8
+
+		int[] keys = {0, 11, 12, 13, 22, 25, 26, 34, 64, 65, 90, 91};
+		System.out.println("일괄 lowerBound: " + Arrays.toString(index.lowerBounds(keys)));
+	}
+}
@@ -0,0 +1,251 @@
+package datastructure.phase01.array;
+
+import java.util.Arrays;
+
+/**
+ * ArrayBasicOperations를 확장한, 박싱 없는 가변 크기 int 리스트입니다.
+ * <p>
+ * ArrayList&lt;Integer&gt;는 요소마다 Integer 객체(16바이트) + 참조(4~8바이트)를 사용하지만
+ * IntList는 요소당 4바이트만 사용한다.
+ * <p>
+ * 특징:
+ * 1. 용량이 부족하면 1.5배씩 늘린다 (분할 상환 O(1) 삽입)
+ * 2. 요소 이동은 System.arraycopy로 한 번에 처리한다
+ * 3. addAll / removeRange / trimToSize 같은 대량 연산 제공
+ */
+public class IntList {
+
+	private static final int DEFAULT_CAPACITY = 10;
+	// 일부 VM은 배열 헤더 때문에 Integer.MAX_VALUE 길이의 배열을 만들 수 없다.
+	private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+	private static final int[] EMPTY = {};
+
+	private int[] arr;
+	private int size; // 실제 사용중인 배열의 요소 개수
+
+	public IntList() {
+		this.arr = EMPTY;
+	}
+
+	public IntList(int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("Capacity: " + initialCapacity);
+		}
+		this.arr = initialCapacity == 0 ? EMPTY : new int[initialCapacity];
+	}
+
+	// 기존 배열의 내용을 복사해서 생성
+	public static IntList of(int... values) {
+		IntList list = new IntList(values.length);
+		list.addAll(values);
+		return list;
+	}
+
+	// 접근 - O(1)
+	public int get(int index) {
+		checkIndex(index);
+		return arr[index];
+	}
+
+	// 수정 - O(1), 이전 값 반환
+	public int set(int index, int value) {
+		checkIndex(index);
+		int old = arr[index];
+		arr[index] = value;
+		return old;
+	}
+
+	// 끝에 삽입 - 분할 상환 O(1)
+	public void addLast(int value) {
+		if (size == arr.length) {
+			grow(size + 1);
+		}
+		arr[size++] = value;
+	}
+
+	// 특정 위치에 삽입 - O(n)
+	public void addAt(int index, int value) {
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		if (size == arr.length) {
+			grow(size + 1);
+		}
+		// index부터 끝까지 한 번에 뒤로 이동
+		System.arraycopy(arr, index, arr, index + 1, size - index);
+		arr[index] = value;
+		size++;
+	}
+
+	// 끝에 배열 전체 삽입 - O(m)
+	public void addAll(int[] values) {
+		addAll(values, 0, values.length);
+	}
+
+	// 끝에 배열의 [offset, offset + length) 구간 삽입 - O(m)
+	public void addAll(int[] values, int offset, int length) {
+		if (offset < 0 || length < 0 || offset > values.length - length) {
+			throw new IndexOutOfBoundsException("Offset: " + offset + ", Length: " + length);
+		}
+		ensureCapacity(size + length);
+		System.arraycopy(values, offset, arr, size, length);
+		size += length;
+	}
+
+	// 특정 위치에 배열 전체 삽입 - O(n + m)
+	public void addAll(int index, int[] values) {
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		int length = values.length;
+		ensureCapacity(size + length);
+		System.arraycopy(arr, index, arr, index + length, size - index);
+		System.arraycopy(values, 0, arr, index, length);
+		size += length;
+	}
+
+	// 끝에서 삭제 - O(1)
+	public int removeLast() {
+		if (size == 0) {
+			throw new IllegalStateException("리스트가 비어있습니다.");
+		}
+		return arr[--size];
+	}
+
+	// 특정 위치에서 삭제 - O(n)
+	public int removeAt(int index) {
+		checkIndex(index);
+		int removed = arr[index];
+		// index + 1부터 끝까지 한 번에 앞으로 이동
+		System.arraycopy(arr, index + 1, arr, index, size - index - 1);
+		size--;
+		return removed;
+	}
+
+	// [fromIndex, toIndex) 구간 삭제 - O(n)
+	// 한 칸씩 여러 번 지우면 O(n * k)지만 한 번에 이동하면 O(n)
+	public void removeRange(int fromIndex, int toIndex) {
+		if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+			throw new IndexOutOfBoundsException(
+				"From: " + fromIndex + ", To: " + toIndex + ", Size: " + size);
+		}
+		System.arraycopy(arr, toIndex, arr, fromIndex, size - toIndex);
+		size -= toIndex - fromIndex;
+	}
+
+	// 값으로 검색 - O(n)
+	public int indexOf(int value) {
+		for (int i = 0; i < size; i++) {
+			if (arr[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	public boolean contains(int value) {
+		return indexOf(value) >= 0;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public int capacity() {
+		return arr.length;
+	}
+
+	// 요소만 비운다. 내부 배열은 재사용 (재할당 없음)
+	public void clear() {
+		size = 0;
+	}
+
+	// 대량 삽입 전에 미리 용량을 확보하면 grow()가 한 번만 일어난다.
+	public void ensureCapacity(int minCapacity) {
+		if (minCapacity < 0) {
+			// int 오버플로
+			throw new OutOfMemoryError("Required capacity too large");
+		}
+		if (minCapacity > arr.length) {
+			grow(minCapacity);
+		}
+	}
+
+	// 사용하지 않는 여유 공간을 반환
+	public void trimToSize() {
+		if (size < arr.length) {
+			arr = size == 0 ? EMPTY : Arrays.copyOf(arr, size);
+		}
+	}
+
+	public int[] toArray() {
+		return Arrays.copyOf(arr, size);
+	}
+
+	private void grow(int minCapacity) {
+		int oldCapacity = arr.length;
+		// 1.5배 증가 (ArrayList와 동일한 정책)
+		int newCapacity = oldCapacity + (oldCapacity >> 1);
+		if (newCapacity < DEFAULT_CAPACITY) {
+			newCapacity = DEFAULT_CAPACITY;
+		}
+		if (newCapacity < minCapacity || newCapacity < 0) {
+			newCapacity = minCapacity;
+		}
+		if (newCapacity > MAX_ARRAY_SIZE) {
+			if (minCapacity > MAX_ARRAY_SIZE) {
+				throw new OutOfMemoryError("Required capacity too large: " + minCapacity);
+			}
+			newCapacity = MAX_ARRAY_SIZE;
+		}
+		arr = Arrays.copyOf(arr, newCapacity);
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < size; i++) {
+			sb.append(arr[i]);
+			if (i < size - 1)
+				sb.append(", ");
+		}
+		return sb.append(']').toString();
+	}
+
+	public static void main(String[] args) {
+		IntList list = new IntList();
+
+		// 용량 제한 없이 계속 삽입 가능
+		for (int i = 1; i <= 20; i++) {
+			list.addLast(i * 10);
+		}
+		System.out.println("20개 삽입 후 size: " + list.size() + ", capacity: " + list.capacity());
+
+		// 중간 삽입/삭제 - System.arraycopy
+		list.addAt(0, 5);
+		list.removeAt(list.size() - 1);
+		System.out.println("앞에 5 삽입, 마지막 삭제: " + list);
+
+		// 구간 삭제
+		list.removeRange(5, 15);
+		System.out.println("[5, 15) 구간 삭제: " + list);
+
+		// 대량 삽입
+		list.addAll(new int[] {1, 2, 3});
+		System.out.println("addAll 후: " + list);
+
+		// 여유 공간 정리
+		list.trimToSize();
+		System.out.println("trimToSize 후 capacity: " + list.capacity());
+	}
+}
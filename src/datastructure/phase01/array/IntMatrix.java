@@ -0,0 +1,361 @@
+package datastructure.phase01.array;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 하나의 연속된 int[]에 행 우선(row-major)으로 저장하는 2차원 행렬입니다.
+ * <p>
+ * int[size][size]는 행마다 별도 배열 객체라서
+ * 1. 행마다 객체 헤더(16바이트)와 참조가 추가되고
+ * 2. 행들이 힙에서 연속이라는 보장이 없으며
+ * 3. matrix[i][j]마다 행 참조를 한 번 더 따라가야 한다.
+ * IntMatrix는 (row, col) 요소를 data[row * cols + col]에 두어 이 문제를 없앤다.
+ * <p>
+ * 열 방향 접근은 여전히 cols * 4바이트씩 건너뛰므로,
+ * 전치(transpose)는 TILE x TILE 블록 단위로 처리해서 읽기/쓰기 양쪽 모두 캐시 안에서 끝나게 한다.
+ */
+public class IntMatrix {
+
+	// 64 x 64 int 타일 = 16KB, 원본 타일 + 대상 타일이 L1(32~48KB)에 함께 들어간다.
+	private static final int TILE = 64;
+	// 이 행 수 이하의 밴드는 더 나누지 않고 한 스레드가 처리한다.
+	private static final int MIN_BAND_ROWS = 64;
+	private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+	@FunctionalInterface
+	public interface CellFunction {
+		int apply(int row, int col);
+	}
+
+	// [fromRow, toRow) 구간의 행들을 처리한다. 밴드끼리는 서로 다른 스레드에서 실행될 수 있다.
+	@FunctionalInterface
+	public interface RowBandAction {
+		void apply(IntMatrix matrix, int fromRow, int toRow);
+	}
+
+	private final int rows;
+	private final int cols;
+	private final int[] data;
+
+	public IntMatrix(int rows, int cols) {
+		if (rows < 0 || cols < 0) {
+			throw new IllegalArgumentException("Rows: " + rows + ", Cols: " + cols);
+		}
+		// 2^31개를 넘는 행렬은 LargeIntArray 같은 long 인덱스 저장소가 필요하다.
+		if ((long)rows * cols > MAX_ARRAY_SIZE) {
+			throw new IllegalArgumentException("행렬이 너무 큽니다: " + rows + " x " + cols);
+		}
+		this.rows = rows;
+		this.cols = cols;
+		this.data = new int[rows * cols];
+	}
+
+	// int[][]에서 복사해서 생성 (모든 행의 길이가 같아야 한다)
+	public static IntMatrix of(int[][] source) {
+		int rows = source.length;
+		int cols = rows == 0 ? 0 : source[0].length;
+		IntMatrix matrix = new IntMatrix(rows, cols);
+		for (int r = 0; r < rows; r++) {
+			if (source[r].length != cols) {
+				throw new IllegalArgumentException("행 " + r + "의 길이가 다릅니다.");
+			}
+			System.arraycopy(source[r], 0, matrix.data, r * cols, cols);
+		}
+		return matrix;
+	}
+
+	public int rows() {
+		return rows;
+	}
+
+	public int cols() {
+		return cols;
+	}
+
+	// 접근 - O(1)
+	public int get(int row, int col) {
+		return data[offset(row, col)];
+	}
+
+	// 수정 - O(1)
+	public void set(int row, int col, int value) {
+		data[offset(row, col)] = value;
+	}
+
+	private int offset(int row, int col) {
+		if (row < 0 || row >= rows || col < 0 || col >= cols) {
+			throw new IndexOutOfBoundsException("Row: " + row + ", Col: " + col);
+		}
+		return row * cols + col;
+	}
+
+	// ========================================
+	// 행/열 뷰 (복사 없음)
+	// ========================================
+
+	public View row(int row) {
+		if (row < 0 || row >= rows) {
+			throw new IndexOutOfBoundsException("Row: " + row);
+		}
+		return new View(row * cols, 1, cols);
+	}
+
+	public View column(int col) {
+		if (col < 0 || col >= cols) {
+			throw new IndexOutOfBoundsException("Col: " + col);
+		}
+		return new View(col, cols, rows);
+	}
+
+	// data[start + i * stride]를 i번째 요소로 보는 뷰. 행 뷰는 stride 1, 열 뷰는 stride cols
+	public final class View {
+		private final int start;
+		private final int stride;
+		private final int length;
+
+		private View(int start, int stride, int length) {
+			this.start = start;
+			this.stride = stride;
+			this.length = length;
+		}
+
+		public int length() {
+			return length;
+		}
+
+		public int get(int i) {
+			checkIndex(i);
+			return data[start + i * stride];
+		}
+
+		public void set(int i, int value) {
+			checkIndex(i);
+			data[start + i * stride] = value;
+		}
+
+		public long sum() {
+			long sum = 0;
+			for (int i = 0, p = start; i < length; i++, p += stride) {
+				sum += data[p];
+			}
+			return sum;
+		}
+
+		public int[] toArray() {
+			int[] out = new int[length];
+			for (int i = 0, p = start; i < length; i++, p += stride) {
+				out[i] = data[p];
+			}
+			return out;
+		}
+
+		private void checkIndex(int i) {
+			if (i < 0 || i >= length) {
+				throw new IndexOutOfBoundsException("Index: " + i + ", Length: " + length);
+			}
+		}
+	}
+
+	// ========================================
+	// 채우기
+	// ========================================
+
+	public void fill(int value) {
+		Arrays.fill(data, value);
+	}
+
+	// 행 우선 순서로 채운다 - 메모리를 순차적으로 쓰므로 캐시 친화적
+	public void setAll(CellFunction fn) {
+		setAll(fn, 0, rows);
+	}
+
+	public void parallelSetAll(CellFunction fn) {
+		parallelForEachRowBand((m, from, to) -> m.setAll(fn, from, to));
+	}
+
+	private void setAll(CellFunction fn, int fromRow, int toRow) {
+		for (int r = fromRow; r < toRow; r++) {
+			int base = r * cols;
+			for (int c = 0; c < cols; c++) {
+				data[base + c] = fn.apply(r, c);
+			}
+		}
+	}
+
+	// 열 방향으로 계산해야 하는 값(예: 다른 열 우선 데이터에서 가져오기)을 채울 때
+	// 타일 안에서는 열 순서로 계산하되, 타일 단위로 나누어 쓰기 대상이 캐시에 머물게 한다.
+	public void setAllByColumns(CellFunction fn) {
+		for (int r0 = 0; r0 < rows; r0 += TILE) {
+			int r1 = Math.min(r0 + TILE, rows);
+			for (int c0 = 0; c0 < cols; c0 += TILE) {
+				int c1 = Math.min(c0 + TILE, cols);
+				for (int c = c0; c < c1; c++) {
+					for (int r = r0; r < r1; r++) {
+						data[r * cols + c] = fn.apply(r, c);
+					}
+				}
+			}
+		}
+	}
+
+	// ========================================
+	// 전치 (타일 단위)
+	// ========================================
+
+	// 새 행렬로 전치 - O(rows * cols)
+	// 단순 이중 루프는 읽기나 쓰기 중 한쪽이 반드시 열 방향이 되어 매 요소가 캐시 미스다.
+	public IntMatrix transpose() {
+		IntMatrix result = new IntMatrix(cols, rows);
+		transposeBand(result, 0, rows);
+		return result;
+	}
+
+	public IntMatrix parallelTranspose() {
+		IntMatrix result = new IntMatrix(cols, rows);
+		ForkJoinPool.commonPool().invoke(new BandTask(this, 0, rows,
+			(m, from, to) -> m.transposeBand(result, from, to)));
+		return result;
+	}
+
+	// 원본의 [fromRow, toRow) 행들을 result의 해당 열들로 복사
+	private void transposeBand(IntMatrix result, int fromRow, int toRow) {
+		int[] dst = result.data;
+		for (int r0 = fromRow; r0 < toRow; r0 += TILE) {
+			int r1 = Math.min(r0 + TILE, toRow);
+			for (int c0 = 0; c0 < cols; c0 += TILE) {
+				int c1 = Math.min(c0 + TILE, cols);
+				for (int r = r0; r < r1; r++) {
+					int src = r * cols;
+					for (int c = c0; c < c1; c++) {
+						dst[c * rows + r] = data[src + c];
+					}
+				}
+			}
+		}
+	}
+
+	// 정사각 행렬 제자리 전치 - 추가 메모리 없음
+	// 대각선 위쪽 타일 (i, j)와 아래쪽 타일 (j, i)를 서로 교환한다.
+	public void transposeInPlace() {
+		if (rows != cols) {
+			throw new IllegalStateException("정사각 행렬만 제자리 전치할 수 있습니다: " + rows + " x " + cols);
+		}
+		int n = rows;
+		for (int r0 = 0; r0 < n; r0 += TILE) {
+			int r1 = Math.min(r0 + TILE, n);
+			for (int c0 = r0; c0 < n; c0 += TILE) {
+				int c1 = Math.min(c0 + TILE, n);
+				for (int r = r0; r < r1; r++) {
+					// 대각 타일에서는 대각선 위쪽만 교환
+					for (int c = Math.max(c0, r + 1); c < c1; c++) {
+						int a = r * n + c;
+						int b = c * n + r;
+						int tmp = data[a];
+						data[a] = data[b];
+						data[b] = tmp;
+					}
+				}
+			}
+		}
+	}
+
+	// ========================================
+	// 집계
+	// ========================================
+
+	// 열 합계 - 열마다 아래로 내려가지 않고 행 순서로 읽으면서 열별 누적기에 더한다.
+	public long[] columnSums() {
+		long[] sums = new long[cols];
+		for (int r = 0; r < rows; r++) {
+			int base = r * cols;
+			for (int c = 0; c < cols; c++) {
+				sums[c] += data[base + c];
+			}
+		}
+		return sums;
+	}
+
+	public long[] rowSums() {
+		long[] sums = new long[rows];
+		parallelForEachRowBand((m, from, to) -> {
+			for (int r = from; r < to; r++) {
+				long sum = 0;
+				int base = r * cols;
+				for (int c = 0; c < cols; c++) {
+					sum += data[base + c];
+				}
+				sums[r] = sum;
+			}
+		});
+		return sums;
+	}
+
+	// ========================================
+	// Fork-Join 행 밴드 병렬 처리
+	// ========================================
+
+	// 행들을 밴드로 나누어 공통 ForkJoinPool에서 병렬로 처리한다.
+	// 각 밴드는 연속된 메모리 구간이므로 스레드끼리 같은 캐시 라인을 거의 공유하지 않는다 (False Sharing 최소화).
+	public void parallelForEachRowBand(RowBandAction action) {
+		ForkJoinPool.commonPool().invoke(new BandTask(this, 0, rows, action));
+	}
+
+	private static final class BandTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final IntMatrix matrix;
+		private final int from;
+		private final int to;
+		private final RowBandAction action;
+
+		BandTask(IntMatrix matrix, int from, int to, RowBandAction action) {
+			this.matrix = matrix;
+			this.from = from;
+			this.to = to;
+			this.action = action;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= MIN_BAND_ROWS) {
+				action.apply(matrix, from, to);
+				return;
+			}
+			// 타일 경계에 맞춰 나누어 전치 타일이 두 밴드에 걸치지 않게 한다.
+			int mid = from + (((to - from) / 2 + TILE - 1) / TILE) * TILE;
+			if (mid >= to) {
+				mid = (from + to) >>> 1;
+			}
+			invokeAll(new BandTask(matrix, from, mid, action), new BandTask(matrix, mid, to, action));
+		}
+	}
+
+	public static void main(String[] args) {
+		int size = 4000;
+		IntMatrix matrix = new IntMatrix(size, size);
+
+		// 행 우선 채우기
+		long start1 = System.currentTimeMillis();
+		matrix.parallelSetAll((i, j) -> i + j);
+		long end1 = System.currentTimeMillis();
+		System.out.println("병렬 행 우선 채우기: " + (end1 - start1) + "ms");
+
+		// 열 뷰 - 복사 없이 열을 읽는다
+		System.out.println("열 7의 합: " + matrix.column(7).sum());
+		System.out.println("행 7의 합: " + matrix.row(7).sum());
+
+		// 타일 전치
+		long start2 = System.currentTimeMillis();
+		IntMatrix transposed = matrix.transpose();
+		long end2 = System.currentTimeMillis();
+		System.out.println("타일 전치: " + (end2 - start2) + "ms, (3, 5) = " + matrix.get(3, 5)
+			+ ", 전치 (5, 3) = " + transposed.get(5, 3));
+
+		// 제자리 전치
+		IntMatrix small = IntMatrix.of(new int[][] {{1, 2, 3}, {4, 5, 6}, {7, 8, 9}});
+		small.transposeInPlace();
+		System.out.println("제자리 전치 후 0행: " + Arrays.toString(small.row(0).toArray())); // [1, 4, 7]
+	}
+}
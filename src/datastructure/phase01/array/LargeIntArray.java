@@ -0,0 +1,319 @@
+package datastructure.phase01.array;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import jdk.incubator.foreign.MemorySegment;
+import jdk.incubator.foreign.ResourceScope;
+
+/**
+ * long 인덱스를 사용하는 힙 밖(off-heap) int 배열입니다.
+ * <p>
+ * Java 배열은 인덱스가 int라서 최대 약 21억(2^31) 개까지만 담을 수 있고,
+ * 수 GB짜리 int[]는 GC가 살아있는 객체로 관리하면서 Full GC 때 큰 정지 시간을 만든다.
+ * LargeIntArray는 데이터를 힙 밖 버퍼 여러 개(청크)에 나누어 저장한다.
+ * <p>
+ * 두 가지 모드:
+ * 1. allocate(): 네이티브 메모리 (MemorySegment.allocateNative) - 프로세스 메모리에만 존재
+ * 2. map(path): 파일을 메모리 매핑 - OS 페이지 캐시가 데이터를 관리하고,
+ *    재시작 후 다시 map()하면 데이터를 읽어들이는 과정 없이 바로 사용할 수 있다.
+ *    size는 바뀔 때마다 매핑된 헤더에 바로 쓰므로, close 없이 프로세스가 죽어도 다시 열면 같은 size가 복원된다.
+ * <p>
+ * JDK 17의 Foreign Memory API는 인큐베이터 모듈(jdk.incubator.foreign)이고, Arena 대신 ResourceScope로 수명을 관리한다.
+ * 청크마다 MemorySegment를 자기 ResourceScope에 잡으므로 close()는 힙 밖 메모리와 매핑을 GC를 기다리지 않고 바로 해제하고,
+ * 닫은 뒤의 접근은 IllegalStateException이 된다. 청크로 나누는 이유는 늘릴 때 기존 데이터를 복사하지 않기 위해서이고,
+ * 청크 안은 int 인덱스인 IntBuffer 뷰로 읽고 쓴다. 컴파일/실행 시 --add-modules jdk.incubator.foreign 옵션이 필요하다.
+ */
+public class LargeIntArray implements Closeable {
+
+	// 청크 하나 = 2^27개 int = 512MB. 인덱스 → (청크, 오프셋)을 시프트/마스크로 계산한다.
+	private static final int CHUNK_SHIFT = 27;
+	private static final int CHUNK_INTS = 1 << CHUNK_SHIFT;
+	private static final int CHUNK_MASK = CHUNK_INTS - 1;
+	private static final int MIN_CHUNK_INTS = 1024;
+
+	// 매핑 파일 헤더: magic(4) + version(4) + size(8), 데이터는 캐시 라인 경계인 64바이트부터 시작
+	private static final int MAGIC = 0x4C494131; // "LIA1"
+	private static final int VERSION = 1;
+	private static final int HEADER_BYTES = 64;
+	private static final int SIZE_OFFSET = 8;
+
+	private final Path file; // null이면 네이티브 메모리 모드
+	private final MemorySegment headerSegment;
+	private final ByteBuffer header;
+	private MemorySegment[] segments = new MemorySegment[0]; // 청크마다의 메모리, 각자 자기 scope를 가진다
+	private IntBuffer[] chunks = new IntBuffer[0]; // segments의 IntBuffer 뷰
+	private long capacity;
+	private long size;
+	private boolean closed;
+
+	private LargeIntArray(Path file, MemorySegment headerSegment) {
+		this.file = file;
+		this.headerSegment = headerSegment;
+		this.header = headerSegment == null ? null : headerSegment.asByteBuffer().order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	// 힙 밖 메모리에 할당
+	public static LargeIntArray allocate(long initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("Capacity: " + initialCapacity);
+		}
+		LargeIntArray array = new LargeIntArray(null, null);
+		array.ensureCapacity(initialCapacity);
+		return array;
+	}
+
+	// 파일을 메모리 매핑해서 연다. 파일이 없으면 새로 만들고, 있으면 저장된 size 그대로 복원한다.
+	public static LargeIntArray map(Path file) throws IOException {
+		if (Files.notExists(file)) {
+			Files.createFile(file);
+		}
+		long fileSize = Files.size(file);
+		boolean created = fileSize == 0;
+		MemorySegment headerSegment = MemorySegment.mapFile(file, 0, HEADER_BYTES, FileChannel.MapMode.READ_WRITE,
+			ResourceScope.newSharedScope());
+		LargeIntArray array = new LargeIntArray(file, headerSegment);
+		try {
+			ByteBuffer header = array.header;
+			if (created) {
+				header.putInt(0, MAGIC);
+				header.putInt(4, VERSION);
+				header.putLong(SIZE_OFFSET, 0);
+			} else {
+				if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+					throw new IOException("LargeIntArray 파일이 아닙니다: " + file);
+				}
+				long storedSize = header.getLong(SIZE_OFFSET);
+				long available = (fileSize - HEADER_BYTES) / Integer.BYTES;
+				if (storedSize < 0 || storedSize > available) {
+					throw new IOException("손상된 파일입니다. size: " + storedSize + ", 데이터: " + available);
+				}
+				array.ensureCapacity(storedSize);
+				array.size = storedSize;
+			}
+			return array;
+		} catch (IOException | RuntimeException e) {
+			array.close();
+			throw e;
+		}
+	}
+
+	// 접근 - O(1)
+	public int get(long index) {
+		ensureOpen();
+		checkIndex(index);
+		return chunks[(int)(index >>> CHUNK_SHIFT)].get((int)index & CHUNK_MASK);
+	}
+
+	// 수정 - O(1)
+	public void set(long index, int value) {
+		ensureOpen();
+		checkIndex(index);
+		chunks[(int)(index >>> CHUNK_SHIFT)].put((int)index & CHUNK_MASK, value);
+	}
+
+	// 끝에 삽입 - 분할 상환 O(1)
+	// 청크가 가득 차면 새 청크만 추가하므로 기존 데이터는 복사되지 않는다.
+	public void addLast(int value) {
+		ensureOpen();
+		if (size == capacity) {
+			ensureCapacity(size + 1);
+		}
+		long index = size;
+		chunks[(int)(index >>> CHUNK_SHIFT)].put((int)index & CHUNK_MASK, value);
+		setSize(index + 1); // 값을 쓴 뒤에 size를 늘린다
+	}
+
+	// 끝에서 삭제 - O(1)
+	public int removeLast() {
+		ensureOpen();
+		if (size == 0) {
+			throw new IllegalStateException("배열이 비어있습니다.");
+		}
+		long index = size - 1;
+		int value = chunks[(int)(index >>> CHUNK_SHIFT)].get((int)index & CHUNK_MASK);
+		setSize(index);
+		return value;
+	}
+
+	// 값으로 검색 - O(n)
+	public long indexOf(int value) {
+		ensureOpen();
+		long base = 0;
+		for (IntBuffer chunk : chunks) {
+			int limit = (int)Math.min(chunk.capacity(), size - base);
+			for (int i = 0; i < limit; i++) {
+				if (chunk.get(i) == value) {
+					return base + i;
+				}
+			}
+			base += CHUNK_INTS;
+			if (base >= size) {
+				break;
+			}
+		}
+		return -1;
+	}
+
+	public long size() {
+		return size;
+	}
+
+	public long capacity() {
+		return capacity;
+	}
+
+	public boolean isMapped() {
+		return file != null;
+	}
+
+	public void ensureCapacity(long minCapacity) {
+		ensureOpen();
+		while (capacity < minCapacity) {
+			int last = chunks.length - 1;
+			if (last >= 0 && chunks[last].capacity() < CHUNK_INTS) {
+				// 마지막 청크가 최대 크기가 아니면 2배로 키운다 (작은 배열이 512MB를 잡지 않도록)
+				int current = chunks[last].capacity();
+				long wanted = minCapacity - ((long)last << CHUNK_SHIFT);
+				int grown = (int)Math.min(CHUNK_INTS, Math.max(current * 2L, wanted));
+				resizeChunk(last, grown);
+				capacity = ((long)last << CHUNK_SHIFT) + grown;
+			} else {
+				int index = chunks.length;
+				long wanted = minCapacity - ((long)index << CHUNK_SHIFT);
+				int chunkInts = (int)Math.min(CHUNK_INTS, Math.max(MIN_CHUNK_INTS, wanted));
+				segments = Arrays.copyOf(segments, index + 1);
+				chunks = Arrays.copyOf(chunks, index + 1);
+				setChunk(index, newSegment(index, chunkInts));
+				capacity = ((long)index << CHUNK_SHIFT) + chunkInts;
+			}
+		}
+	}
+
+	private MemorySegment newSegment(int index, int ints) {
+		if (file == null) {
+			// 0으로 채워진 새 메모리
+			return MemorySegment.allocateNative((long)ints * Integer.BYTES, 64, ResourceScope.newSharedScope());
+		}
+		return mapSegment(index, ints);
+	}
+
+	// 청크를 ints개로 늘리고 옛 청크는 바로 해제한다.
+	private void resizeChunk(int index, int ints) {
+		MemorySegment old = segments[index];
+		MemorySegment grown;
+		if (file == null) {
+			grown = newSegment(index, ints);
+			grown.copyFrom(old);
+		} else {
+			// 매핑 모드는 더 큰 영역을 다시 매핑하기만 하면 된다 (같은 파일 내용을 가리키므로 복사 없음)
+			grown = mapSegment(index, ints);
+		}
+		setChunk(index, grown);
+		old.scope().close();
+	}
+
+	// 매핑 영역이 파일 끝을 넘으면 파일이 그만큼 늘어난다.
+	private MemorySegment mapSegment(int index, int ints) {
+		long position = HEADER_BYTES + ((long)index << CHUNK_SHIFT) * Integer.BYTES;
+		try {
+			return MemorySegment.mapFile(file, position, (long)ints * Integer.BYTES, FileChannel.MapMode.READ_WRITE,
+				ResourceScope.newSharedScope());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void setChunk(int index, MemorySegment segment) {
+		segments[index] = segment;
+		chunks[index] = segment.asByteBuffer().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+	}
+
+	// 매핑 모드는 size가 바뀔 때마다 헤더에도 쓴다 (저장 한 번). 페이지 캐시에 남으므로 프로세스가 죽어도 유지된다.
+	private void setSize(long size) {
+		this.size = size;
+		if (header != null) {
+			header.putLong(SIZE_OFFSET, size);
+		}
+	}
+
+	// 매핑 모드에서 변경된 페이지를 디스크로 내보낸다 (OS가 죽어도 남도록).
+	public void force() {
+		ensureOpen();
+		if (file == null) {
+			return;
+		}
+		for (MemorySegment segment : segments) {
+			segment.force();
+		}
+		headerSegment.force();
+	}
+
+	// 매핑 모드는 디스크에 기록한 뒤, 모든 청크의 메모리와 매핑을 바로 해제한다.
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		try {
+			if (file != null) {
+				force();
+			}
+		} finally {
+			for (MemorySegment segment : segments) {
+				segment.scope().close();
+			}
+			if (headerSegment != null) {
+				headerSegment.scope().close();
+			}
+			segments = new MemorySegment[0];
+			chunks = new IntBuffer[0];
+			capacity = 0;
+			closed = true;
+		}
+	}
+
+	private void checkIndex(long index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+	private void ensureOpen() {
+		if (closed) {
+			throw new IllegalStateException("이미 닫힌 배열입니다.");
+		}
+	}
+
+	public static void main(String[] args) throws IOException {
+		// 1. 힙 밖 메모리
+		try (LargeIntArray array = LargeIntArray.allocate(16)) {
+			for (int i = 0; i < 1_000_000; i++) {
+				array.addLast(i * 2);
+			}
+			System.out.println("size: " + array.size() + ", capacity: " + array.capacity());
+			System.out.println("값 777776의 인덱스: " + array.indexOf(777_776)); // 388888
+		}
+
+		// 2. 파일 매핑 - 닫았다가 다시 열어도 데이터가 남아있다.
+		Path file = Path.of(System.getProperty("java.io.tmpdir"), "large-int-array.bin");
+		try (LargeIntArray array = LargeIntArray.map(file)) {
+			if (array.size() == 0) {
+				for (int i = 0; i < 100; i++) {
+					array.addLast(i);
+				}
+				System.out.println("새 파일 생성, size: " + array.size());
+			} else {
+				System.out.println("기존 파일 재사용, size: " + array.size() + ", 마지막 값: " + array.get(array.size() - 1));
+			}
+		}
+	}
+}
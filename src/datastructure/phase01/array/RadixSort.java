@@ -0,0 +1,363 @@
+package datastructure.phase01.array;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * int[] / long[]용 LSD(Least Significant Digit) 기수 정렬입니다.
+ * <p>
+ * Arrays.sort(int[])는 비교 기반 Dual-Pivot Quicksort로 O(n log n)이지만,
+ * 기수 정렬은 8비트씩 자릿수를 나누어 자릿수마다 계수(counting) + 분배(scatter)를 하므로
+ * int는 4번, long은 8번의 선형 패스로 끝난다 - O(n * 자릿수)
+ * <p>
+ * 1. 각 패스는 안정 정렬이라, 키와 함께 payload 배열을 정렬할 수 있다 (sortByKey)
+ * 2. 모든 원소가 같은 자릿수를 가진 패스는 건너뛴다 (작은 값 범위에서 유리)
+ * 3. 병렬 버전은 배열을 블록으로 나누어 블록별 히스토그램을 만들고,
+ *    (자릿수, 블록) 순서로 누적해서 각 블록이 겹치지 않는 위치에 동시에 분배한다.
+ * <p>
+ * 단점: 원본과 같은 크기의 보조 배열이 필요하다 (Arrays.sort는 거의 제자리).
+ */
+public class RadixSort {
+
+	private static final int BITS = 8;
+	private static final int RADIX = 1 << BITS;
+	private static final int MASK = RADIX - 1;
+	// 이보다 작으면 기수 정렬의 고정 비용(히스토그램 초기화 등)이 더 크다.
+	private static final int INSERTION_THRESHOLD = 64;
+	// 병렬 정렬에서 블록 하나의 최소 크기
+	private static final int MIN_PARALLEL_BLOCK = 1 << 16;
+
+	private RadixSort() {
+	}
+
+	// ========================================
+	// int[]
+	// ========================================
+
+	public static void sort(int[] a) {
+		sortInts(a, null, 1);
+	}
+
+	public static void parallelSort(int[] a) {
+		sortInts(a, null, ForkJoinPool.getCommonPoolParallelism());
+	}
+
+	// keys 기준으로 keys와 values를 함께 정렬한다. 같은 키끼리는 원래 순서를 유지(안정 정렬)
+	public static void sortByKey(int[] keys, int[] values) {
+		checkSameLength(keys.length, values.length);
+		sortInts(keys, values, 1);
+	}
+
+	public static void parallelSortByKey(int[] keys, int[] values) {
+		checkSameLength(keys.length, values.length);
+		sortInts(keys, values, ForkJoinPool.getCommonPoolParallelism());
+	}
+
+	// 정렬했을 때의 원래 인덱스 순서를 반환한다 (keys는 변경하지 않음)
+	public static int[] argsort(int[] keys) {
+		int[] copy = keys.clone();
+		int[] indices = identity(keys.length);
+		sortInts(copy, indices, 1);
+		return indices;
+	}
+
+	private static void sortInts(int[] keys, int[] values, int parallelism) {
+		int n = keys.length;
+		if (n < INSERTION_THRESHOLD) {
+			insertionSort(keys, values);
+			return;
+		}
+		int blocks = blockCount(n, parallelism);
+		int[] srcK = keys;
+		int[] dstK = new int[n];
+		int[] srcV = values;
+		int[] dstV = values == null ? null : new int[n];
+
+		for (int shift = 0; shift < Integer.SIZE; shift += BITS) {
+			// 마지막 자릿수는 부호 비트를 뒤집어 음수가 양수보다 앞에 오게 한다.
+			int flip = shift == Integer.SIZE - BITS ? 0x80 : 0;
+			int[][] counts = intHistograms(srcK, shift, flip, blocks);
+			if (isTrivialPass(counts, n)) {
+				continue;
+			}
+			toOffsets(counts);
+			intScatter(srcK, dstK, srcV, dstV, shift, flip, counts);
+
+			int[] t = srcK;
+			srcK = dstK;
+			dstK = t;
+			t = srcV;
+			srcV = dstV;
+			dstV = t;
+		}
+		// 홀수 번 교환했으면 결과가 보조 배열에 있으므로 원본으로 복사
+		if (srcK != keys) {
+			System.arraycopy(srcK, 0, keys, 0, n);
+			if (values != null) {
+				System.arraycopy(srcV, 0, values, 0, n);
+			}
+		}
+	}
+
+	private static int[][] intHistograms(int[] keys, int shift, int flip, int blocks) {
+		int[][] counts = new int[blocks][RADIX];
+		runBlocks(keys.length, blocks, (b, from, to) -> {
+			int[] c = counts[b];
+			for (int i = from; i < to; i++) {
+				c[((keys[i] >>> shift) & MASK) ^ flip]++;
+			}
+		});
+		return counts;
+	}
+
+	private static void intScatter(int[] srcK, int[] dstK, int[] srcV, int[] dstV,
+		int shift, int flip, int[][] offsets) {
+		runBlocks(srcK.length, offsets.length, (b, from, to) -> {
+			int[] o = offsets[b];
+			if (srcV == null) {
+				for (int i = from; i < to; i++) {
+					int k = srcK[i];
+					dstK[o[((k >>> shift) & MASK) ^ flip]++] = k;
+				}
+			} else {
+				for (int i = from; i < to; i++) {
+					int k = srcK[i];
+					int pos = o[((k >>> shift) & MASK) ^ flip]++;
+					dstK[pos] = k;
+					dstV[pos] = srcV[i];
+				}
+			}
+		});
+	}
+
+	private static void insertionSort(int[] keys, int[] values) {
+		for (int i = 1; i < keys.length; i++) {
+			int k = keys[i];
+			int v = values == null ? 0 : values[i];
+			int j = i - 1;
+			while (j >= 0 && keys[j] > k) {
+				keys[j + 1] = keys[j];
+				if (values != null) {
+					values[j + 1] = values[j];
+				}
+				j--;
+			}
+			keys[j + 1] = k;
+			if (values != null) {
+				values[j + 1] = v;
+			}
+		}
+	}
+
+	// ========================================
+	// long[]
+	// ========================================
+
+	public static void sort(long[] a) {
+		sortLongs(a, null, 1);
+	}
+
+	public static void parallelSort(long[] a) {
+		sortLongs(a, null, ForkJoinPool.getCommonPoolParallelism());
+	}
+
+	public static void sortByKey(long[] keys, int[] values) {
+		checkSameLength(keys.length, values.length);
+		sortLongs(keys, values, 1);
+	}
+
+	public static void parallelSortByKey(long[] keys, int[] values) {
+		checkSameLength(keys.length, values.length);
+		sortLongs(keys, values, ForkJoinPool.getCommonPoolParallelism());
+	}
+
+	public static int[] argsort(long[] keys) {
+		long[] copy = keys.clone();
+		int[] indices = identity(keys.length);
+		sortLongs(copy, indices, 1);
+		return indices;
+	}
+
+	private static void sortLongs(long[] keys, int[] values, int parallelism) {
+		int n = keys.length;
+		if (n < INSERTION_THRESHOLD) {
+			insertionSort(keys, values);
+			return;
+		}
+		int blocks = blockCount(n, parallelism);
+		long[] srcK = keys;
+		long[] dstK = new long[n];
+		int[] srcV = values;
+		int[] dstV = values == null ? null : new int[n];
+
+		for (int shift = 0; shift < Long.SIZE; shift += BITS) {
+			int flip = shift == Long.SIZE - BITS ? 0x80 : 0;
+			int[][] counts = longHistograms(srcK, shift, flip, blocks);
+			if (isTrivialPass(counts, n)) {
+				continue;
+			}
+			toOffsets(counts);
+			longScatter(srcK, dstK, srcV, dstV, shift, flip, counts);
+
+			long[] t = srcK;
+			srcK = dstK;
+			dstK = t;
+			int[] tv = srcV;
+			srcV = dstV;
+			dstV = tv;
+		}
+		if (srcK != keys) {
+			System.arraycopy(srcK, 0, keys, 0, n);
+			if (values != null) {
+				System.arraycopy(srcV, 0, values, 0, n);
+			}
+		}
+	}
+
+	private static int[][] longHistograms(long[] keys, int shift, int flip, int blocks) {
+		int[][] counts = new int[blocks][RADIX];
+		runBlocks(keys.length, blocks, (b, from, to) -> {
+			int[] c = counts[b];
+			for (int i = from; i < to; i++) {
+				c[((int)(keys[i] >>> shift) & MASK) ^ flip]++;
+			}
+		});
+		return counts;
+	}
+
+	private static void longScatter(long[] srcK, long[] dstK, int[] srcV, int[] dstV,
+		int shift, int flip, int[][] offsets) {
+		runBlocks(srcK.length, offsets.length, (b, from, to) -> {
+			int[] o = offsets[b];
+			if (srcV == null) {
+				for (int i = from; i < to; i++) {
+					long k = srcK[i];
+					dstK[o[((int)(k >>> shift) & MASK) ^ flip]++] = k;
+				}
+			} else {
+				for (int i = from; i < to; i++) {
+					long k = srcK[i];
+					int pos = o[((int)(k >>> shift) & MASK) ^ flip]++;
+					dstK[pos] = k;
+					dstV[pos] = srcV[i];
+				}
+			}
+		});
+	}
+
+	private static void insertionSort(long[] keys, int[] values) {
+		for (int i = 1; i < keys.length; i++) {
+			long k = keys[i];
+			int v = values == null ? 0 : values[i];
+			int j = i - 1;
+			while (j >= 0 && keys[j] > k) {
+				keys[j + 1] = keys[j];
+				if (values != null) {
+					values[j + 1] = values[j];
+				}
+				j--;
+			}
+			keys[j + 1] = k;
+			if (values != null) {
+				values[j + 1] = v;
+			}
+		}
+	}
+
+	// ========================================
+	// 공통
+	// ========================================
+
+	@FunctionalInterface
+	private interface BlockAction {
+		void apply(int block, int from, int to);
+	}
+
+	private static int blockCount(int n, int parallelism) {
+		if (parallelism <= 1) {
+			return 1;
+		}
+		return Math.max(1, Math.min(parallelism, n / MIN_PARALLEL_BLOCK));
+	}
+
+	// [0, n)을 blocks개의 연속 구간으로 나누어 실행. 블록이 하나면 현재 스레드에서 바로 실행
+	private static void runBlocks(int n, int blocks, BlockAction action) {
+		if (blocks == 1) {
+			action.apply(0, 0, n);
+			return;
+		}
+		List<ForkJoinTask<?>> tasks = new ArrayList<>(blocks);
+		for (int b = 0; b < blocks; b++) {
+			int block = b;
+			int from = (int)((long)n * b / blocks);
+			int to = (int)((long)n * (b + 1) / blocks);
+			tasks.add(ForkJoinTask.adapt(() -> action.apply(block, from, to)));
+		}
+		ForkJoinTask.invokeAll(tasks);
+	}
+
+	// 모든 원소가 같은 버킷에 있으면 이 패스는 순서를 바꾸지 않는다.
+	private static boolean isTrivialPass(int[][] counts, int n) {
+		for (int d = 0; d < RADIX; d++) {
+			int total = 0;
+			for (int[] c : counts) {
+				total += c[d];
+			}
+			if (total != 0) {
+				return total == n;
+			}
+		}
+		return true;
+	}
+
+	// counts[b][d]를 "블록 b의 자릿수 d가 쓰기 시작할 위치"로 바꾼다.
+	// 자릿수 순서 → 블록 순서로 누적해야 블록 간에도 안정 정렬이 유지된다.
+	private static void toOffsets(int[][] counts) {
+		int running = 0;
+		for (int d = 0; d < RADIX; d++) {
+			for (int[] c : counts) {
+				int count = c[d];
+				c[d] = running;
+				running += count;
+			}
+		}
+	}
+
+	private static int[] identity(int n) {
+		int[] indices = new int[n];
+		for (int i = 0; i < n; i++) {
+			indices[i] = i;
+		}
+		return indices;
+	}
+
+	private static void checkSameLength(int keys, int values) {
+		if (keys != values) {
+			throw new IllegalArgumentException("keys와 values의 길이가 다릅니다: " + keys + " != " + values);
+		}
+	}
+
+	public static void main(String[] args) {
+		int[] nums = {64, -34, 25, 12, -22, 11, 90, 0, Integer.MIN_VALUE, Integer.MAX_VALUE};
+		int[] copy = nums.clone();
+		sort(copy);
+		System.out.println("기수 정렬: " + Arrays.toString(copy));
+
+		// 키-값 안정 정렬
+		int[] keys = {3, 1, 2, 1, 3};
+		int[] values = {0, 1, 2, 3, 4};
+		sortByKey(keys, values);
+		System.out.println("키 정렬: " + Arrays.toString(keys) + ", 값: " + Arrays.toString(values)); // 값: [1, 3, 2, 0, 4]
+
+		// long[] - 음수 포함
+		long[] longs = {5L, -1L, Long.MAX_VALUE, Long.MIN_VALUE, 0L};
+		parallelSort(longs);
+		System.out.println("long 정렬: " + Arrays.toString(longs));
+
+		// 정렬 순서의 원래 인덱스
+		System.out.println("argsort: " + Arrays.toString(argsort(new int[] {30, 10, 20}))); // [1, 2, 0]
+	}
+}
@@ -1,5 +1,7 @@
 package datastructure.phase01.array;
 
+import java.util.Arrays;
+
 public class SearchAlgorithms {
 
 	// 선형 탐색 - O(n)
@@ -33,4 +35,62 @@ public class SearchAlgorithms {
 
 		return -1;
 	}
+
+	// 여러 값 동시 선형 탐색 - O(n + m)
+	// needles[j]가 haystack에서 처음 나타나는 인덱스를 result[j]에 담는다 (없으면 -1)
+	// needle마다 linearSearch를 부르면 O(n * m)이지만, needle을 해시 테이블에 넣고
+	// haystack을 한 번만 훑으면 O(n + m)이다.
+	public static int[] indexOfAny(int[] haystack, int[] needles) {
+		int[] result = new int[needles.length];
+		Arrays.fill(result, -1);
+		if (needles.length == 0) {
+			return result;
+		}
+
+		// 개방 주소법 해시 테이블: 값 -> 첫 번째 needle 위치 (중복 needle은 first 체인으로 연결)
+		int capacity = Integer.highestOneBit(Math.max(2, needles.length * 2 - 1)) << 1;
+		int mask = capacity - 1;
+		int[] keys = new int[capacity];
+		int[] slots = new int[capacity]; // needle 인덱스 + 1 (0이면 빈 칸)
+		int[] sameNext = new int[needles.length]; // 같은 값을 가진 다음 needle 인덱스 + 1
+		int remaining = 0;
+
+		for (int j = 0; j < needles.length; j++) {
+			int slot = mix(needles[j]) & mask;
+			while (slots[slot] != 0 && keys[slot] != needles[j]) {
+				slot = (slot + 1) & mask;
+			}
+			if (slots[slot] == 0) {
+				keys[slot] = needles[j];
+				remaining++;
+			} else {
+				sameNext[j] = slots[slot];
+			}
+			slots[slot] = j + 1;
+		}
+
+		for (int i = 0; i < haystack.length && remaining > 0; i++) {
+			int value = haystack[i];
+			int slot = mix(value) & mask;
+			while (slots[slot] != 0) {
+				if (keys[slot] == value) {
+					if (result[slots[slot] - 1] < 0) {
+						for (int j = slots[slot]; j != 0; j = sameNext[j - 1]) {
+							result[j - 1] = i;
+						}
+						remaining--;
+					}
+					break;
+				}
+				slot = (slot + 1) & mask;
+			}
+		}
+		return result;
+	}
+
+	// 연속된 정수 값이 같은 버킷 근처로 몰리지 않도록 비트를 섞는다.
+	private static int mix(int value) {
+		int h = value * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
 }
@@ -0,0 +1,102 @@
+package datastructure.phase01.array;
+
+import java.util.Arrays;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API(SIMD)를 사용한 정렬되지 않은 int[] 선형 탐색입니다.
+ * <p>
+ * SearchAlgorithms.linearSearch는 한 번에 한 요소씩 비교하지만,
+ * SIMD 레지스터(AVX2 256비트 = int 8개, AVX-512 = int 16개)를 쓰면 한 명령으로 여러 요소를 비교한다.
+ * 조기 종료가 있는 탐색 루프는 C2가 자동 벡터화하지 못하기 때문에 Vector API로 직접 작성한다.
+ * <p>
+ * JDK 17에서는 인큐베이터 모듈이므로 컴파일/실행 시 옵션이 필요하다.
+ * <pre>
+ * javac --add-modules jdk.incubator.vector ...
+ * java  --add-modules jdk.incubator.vector ...
+ * </pre>
+ */
+public class VectorizedSearch {
+
+	private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+	// 이 개수 이하의 needle은 청크마다 각각 비교하고, 넘으면 해시 기반 indexOfAny를 쓴다.
+	private static final int MAX_BROADCAST_NEEDLES = 8;
+
+	// 선형 탐색 - O(n), 한 번에 SPECIES.length()개씩 비교
+	public static int linearSearch(int[] arr, int target) {
+		int i = 0;
+		int upper = SPECIES.loopBound(arr.length);
+		for (; i < upper; i += SPECIES.length()) {
+			IntVector v = IntVector.fromArray(SPECIES, arr, i);
+			VectorMask<Integer> eq = v.compare(VectorOperators.EQ, target);
+			if (eq.anyTrue()) {
+				return i + eq.firstTrue();
+			}
+		}
+		// 벡터 길이로 나누어 떨어지지 않는 나머지
+		for (; i < arr.length; i++) {
+			if (arr[i] == target) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	// 여러 값 동시 탐색 - needles[j]가 처음 나타나는 인덱스를 result[j]에 담는다 (없으면 -1)
+	// needle이 적으면 청크마다 needle 수만큼 벡터 비교를 하고, 많으면 해시 기반으로 넘긴다.
+	public static int[] indexOfAny(int[] haystack, int[] needles) {
+		if (needles.length > MAX_BROADCAST_NEEDLES) {
+			return SearchAlgorithms.indexOfAny(haystack, needles);
+		}
+
+		int[] result = new int[needles.length];
+		Arrays.fill(result, -1);
+		int remaining = needles.length;
+
+		int i = 0;
+		int upper = SPECIES.loopBound(haystack.length);
+		for (; i < upper && remaining > 0; i += SPECIES.length()) {
+			IntVector v = IntVector.fromArray(SPECIES, haystack, i);
+			for (int j = 0; j < needles.length; j++) {
+				if (result[j] < 0) {
+					VectorMask<Integer> eq = v.compare(VectorOperators.EQ, needles[j]);
+					if (eq.anyTrue()) {
+						result[j] = i + eq.firstTrue();
+						remaining--;
+					}
+				}
+			}
+		}
+		for (; i < haystack.length && remaining > 0; i++) {
+			for (int j = 0; j < needles.length; j++) {
+				if (result[j] < 0 && haystack[i] == needles[j]) {
+					result[j] = i;
+					remaining--;
+				}
+			}
+		}
+		return result;
+	}
+
+	public static void main(String[] args) {
+		int[] ids = new int[1_000_003];
+		for (int i = 0; i < ids.length; i++) {
+			ids[i] = (int)((i * 2654435761L) & 0x7FFFFFFF);
+		}
+
+		System.out.println("벡터 레인 수: " + SPECIES.length());
+
+		int target = ids[987_654];
+		System.out.println("스칼라 탐색: " + SearchAlgorithms.linearSearch(ids, target));
+		System.out.println("벡터 탐색: " + linearSearch(ids, target));
+		System.out.println("없는 값: " + linearSearch(ids, -1));
+
+		int[] needles = {ids[10], ids[1_000_002], -1, ids[500_000]};
+		System.out.println("indexOfAny: " + Arrays.toString(indexOfAny(ids, needles)));
+	}
+}
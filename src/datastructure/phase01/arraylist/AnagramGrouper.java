@@ -0,0 +1,426 @@
+package datastructure.phase01.arraylist;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 큰 단어 말뭉치를 애너그램 그룹으로 묶는 엔진입니다.
+ * <p>
+ * ArrayListPatterns 5번 예제는 단어마다 toCharArray → Arrays.sort → new String으로
+ * 할당 3번과 O(k log k) 정렬을 한다. 여기서는 단어를 바이트 그대로 읽으면서
+ * 글자별 개수를 128비트(long 두 개)에 4비트씩 누적한 시그니처를 키로 쓴다.
+ * - 시그니처 계산: 단어 길이에 비례 O(k), 정렬/할당 없음
+ * - 그룹 테이블: (hi, lo) 키의 오픈 어드레싱 해시 테이블, 서로 다른 단어만 바이트 아레나에 복사
+ * - 같은 단어가 여러 번 나오면 개수만 센다 (중복 제거)
+ * <p>
+ * 병렬 처리: 입력을 단어 경계에 맞춘 세그먼트로 나누고, 워커(스레드)마다 자기 테이블에 모은 뒤
+ * 마지막에 한 번 병합한다. 파일은 세그먼트 단위로 메모리 매핑해서 읽는다 (SegmentedScan).
+ * <p>
+ * 단어는 연속된 ASCII 영문자 [A-Za-z]이고 나머지 바이트는 모두 구분자다.
+ * 시그니처는 대소문자를 구분하지 않고, 중복 제거는 바이트 그대로 비교한다.
+ */
+public final class AnagramGrouper {
+
+	// 세그먼트 분할, 파일 매핑, 워커 실행과 병합은 SegmentedScan이 맡는다.
+	private static final SegmentedScan<GroupTable> SCAN = new SegmentedScan<>(
+		b -> letterIndex((byte)b) >= 0, GroupTable::new, AnagramGrouper::scan, GroupTable::mergeFrom);
+
+	private AnagramGrouper() {
+	}
+
+	/**
+	 * 그룹 하나 - words는 등장 횟수 내림차순(같으면 사전순), tokens는 그룹 전체의 등장 횟수
+	 */
+	public record Group(List<String> words, long tokens) {
+	}
+
+	/**
+	 * 그룹핑 결과 - 그룹은 단어 수 내림차순, 같으면 등장 횟수 내림차순
+	 */
+	public static final class Result {
+		private final List<Group> groups;
+		private final long tokenCount;
+		private final int distinctWordCount;
+
+		private Result(List<Group> groups, long tokenCount, int distinctWordCount) {
+			this.groups = groups;
+			this.tokenCount = tokenCount;
+			this.distinctWordCount = distinctWordCount;
+		}
+
+		public List<Group> groups() {
+			return groups;
+		}
+
+		// 서로 다른 단어가 2개 이상인 그룹 (실제 애너그램이 있는 그룹)
+		public List<Group> anagramGroups() {
+			List<Group> result = new ArrayList<>();
+			for (Group group : groups) {
+				if (group.words().size() >= 2) {
+					result.add(group);
+				}
+			}
+			return result;
+		}
+
+		public long tokenCount() {
+			return tokenCount;
+		}
+
+		public int distinctWordCount() {
+			return distinctWordCount;
+		}
+	}
+
+	// ========================================
+	// 진입점
+	// ========================================
+
+	public static Result group(byte[] text) {
+		return SCAN.run(text, 1).toResult();
+	}
+
+	public static Result parallelGroup(byte[] text) {
+		return SCAN.run(text, ForkJoinPool.getCommonPoolParallelism()).toResult();
+	}
+
+	public static Result group(Path file) throws IOException {
+		return SCAN.run(file, 1).toResult();
+	}
+
+	public static Result parallelGroup(Path file) throws IOException {
+		return SCAN.run(file, ForkJoinPool.getCommonPoolParallelism()).toResult();
+	}
+
+	// 바이트 → 시그니처 증가량. 글자 c(0~25)는 lo 또는 hi의 4비트 칸 하나를 1 늘린다. 영문자가 아니면 둘 다 0
+	// 바이트마다 분기(대소문자, lo/hi 선택) 대신 표를 한 번 읽는다.
+	private static final long[] LOW_INCREMENT = new long[256];
+	private static final long[] HIGH_INCREMENT = new long[256];
+
+	static {
+		for (int b = 0; b < 256; b++) {
+			int c = letterIndex((byte)b);
+			if (c >= 0 && c < 13) {
+				LOW_INCREMENT[b] = 1L << (c << 2);
+			} else if (c >= 13) {
+				HIGH_INCREMENT[b] = 1L << ((c - 13) << 2);
+			}
+		}
+	}
+
+	// 세그먼트 하나를 읽으며 단어마다 시그니처를 계산해 테이블에 넣는다 - 할당 없음
+	private static void scan(ByteBuffer buffer, GroupTable table) {
+		int limit = buffer.limit();
+		int i = 0;
+		while (i < limit) {
+			int start = i;
+			long lo = 0;
+			long hi = 0;
+			while (i < limit) {
+				int b = buffer.get(i) & 0xFF;
+				long low = LOW_INCREMENT[b];
+				long high = HIGH_INCREMENT[b];
+				if ((low | high) == 0) {
+					break;
+				}
+				lo += low;
+				hi += high;
+				i++;
+			}
+			int length = i - start;
+			if (length == 0) {
+				i++; // 구분자
+				continue;
+			}
+			if (length >= 16) {
+				// 16글자 이상이면 한 글자가 15번을 넘어 4비트 칸이 넘칠 수 있다 → 정확히 다시 센다.
+				table.exactKey(buffer, start, length);
+				hi = table.keyHi;
+				lo = table.keyLo;
+			}
+			table.add(hi, lo, buffer, start, length, 1);
+		}
+	}
+
+	// 'a'~'z' / 'A'~'Z'이면 0~25, 아니면 음수 또는 26 이상
+	// b | 0x20은 대문자를 소문자로 바꾸고, 그 결과가 a~z가 되는 바이트는 영문자뿐이다.
+	private static int letterIndex(byte b) {
+		int c = (b | 0x20) - 'a';
+		return c >= 0 && c < 26 ? c : -1;
+	}
+
+	// ========================================
+	// 그룹 테이블
+	// ========================================
+
+	/**
+	 * 시그니처 (hi, lo) → 그룹의 서로 다른 단어 목록
+	 * <p>
+	 * 단어 하나를 넣을 때 건드리는 캐시 라인을 줄이려고 관련 값을 붙여 저장한다.
+	 * - keys: 칸마다 (hi, lo) 두 칸, heads: 칸 → 그룹의 첫 단어 + 1 (0이면 빈 칸)
+	 * - words: 단어마다 (arena 오프셋, 길이, 다음 단어) 세 칸, 같은 그룹의 단어들을 연결 리스트로 잇는다
+	 * - arena: 서로 다른 단어의 바이트를 처음 나왔을 때 한 번만 복사해 둔다.
+	 *   입력 버퍼의 처음 위치를 가리키면 비교할 때마다 수십 MB 떨어진 곳을 읽게 되어 캐시 미스가 난다.
+	 * 배열이 커질 때만 할당이 일어난다.
+	 * <p>
+	 * hi의 부호 비트는 "넘친 시그니처" 표시다. 한 글자가 16번 이상 나온 단어는 4비트 칸으로
+	 * 표현할 수 없어서 개수 배열의 해시를 키로 쓰고, 키가 같을 때 실제 글자 개수를 비교한다.
+	 */
+	private static final class GroupTable {
+		private static final long OVERFLOW_FLAG = Long.MIN_VALUE;
+		private static final int INITIAL_CAPACITY = 1024;
+		private static final int MAX_ARENA_BYTES = Integer.MAX_VALUE - 8; // 배열 최대 크기
+
+		// words 배열에서 단어 하나가 차지하는 칸
+		private static final int OFFSET = 0;
+		private static final int LENGTH = 1;
+		private static final int NEXT = 2;
+		private static final int STRIDE = 3;
+
+		private long[] keys = new long[INITIAL_CAPACITY * 2];
+		private int[] heads = new int[INITIAL_CAPACITY];
+		private int groupCount;
+
+		private int[] words = new int[INITIAL_CAPACITY * STRIDE];
+		private long[] wordCount = new long[INITIAL_CAPACITY];
+		private int distinctWords;
+		private byte[] arena = new byte[INITIAL_CAPACITY * 8];
+		private ByteBuffer arenaView = ByteBuffer.wrap(arena); // sameLetters용, arena가 커질 때만 다시 만든다
+		private int arenaSize;
+
+		private final int[] counts = new int[26];
+		private final int[] otherCounts = new int[26];
+		private long keyHi; // exactKey의 결과
+		private long keyLo;
+
+		// 단어 하나(또는 병합 시 count번)를 추가한다.
+		void add(long hi, long lo, ByteBuffer buffer, int offset, int length, long count) {
+			int slot = findOrAddSlot(hi, lo, buffer, offset, length);
+			for (int w = heads[slot] - 1; w >= 0; w = words[w * STRIDE + NEXT]) {
+				int base = w * STRIDE;
+				if (words[base + LENGTH] == length && sameBytes(words[base + OFFSET], buffer, offset, length)) {
+					wordCount[w] += count;
+					return;
+				}
+			}
+			int w = newWord(buffer, offset, length, count);
+			words[w * STRIDE + NEXT] = heads[slot] - 1;
+			heads[slot] = w + 1;
+		}
+
+		void mergeFrom(GroupTable other) {
+			ByteBuffer otherArena = ByteBuffer.wrap(other.arena);
+			for (int slot = 0; slot < other.heads.length; slot++) {
+				for (int w = other.heads[slot] - 1; w >= 0; w = other.words[w * STRIDE + NEXT]) {
+					int base = w * STRIDE;
+					add(other.keys[slot * 2], other.keys[slot * 2 + 1], otherArena, other.words[base + OFFSET],
+						other.words[base + LENGTH], other.wordCount[w]);
+				}
+			}
+		}
+
+		// 길이 16 이상인 단어의 정확한 시그니처를 keyHi / keyLo에 계산한다.
+		void exactKey(ByteBuffer buffer, int offset, int length) {
+			countLetters(buffer, offset, length, counts);
+			long hi = 0;
+			long lo = 0;
+			boolean overflow = false;
+			for (int c = 0; c < 26; c++) {
+				overflow |= counts[c] > 15;
+			}
+			if (!overflow) {
+				for (int c = 0; c < 13; c++) {
+					lo |= (long)counts[c] << (c << 2);
+					hi |= (long)counts[c + 13] << (c << 2);
+				}
+			} else {
+				long h1 = 0x9E3779B97F4A7C15L;
+				long h2 = 0xC2B2AE3D27D4EB4FL;
+				for (int c = 0; c < 26; c++) {
+					h1 = mix(h1 + counts[c]);
+					h2 = mix(h2 ^ counts[c]);
+				}
+				hi = h1 | OVERFLOW_FLAG;
+				lo = h2;
+			}
+			keyHi = hi;
+			keyLo = lo;
+		}
+
+		private int findOrAddSlot(long hi, long lo, ByteBuffer buffer, int offset, int length) {
+			int mask = heads.length - 1;
+			int slot = (int)mix(hi * 31 + lo) & mask;
+			while (heads[slot] != 0) {
+				if (keys[slot * 2] == hi && keys[slot * 2 + 1] == lo
+					&& (hi >= 0 || sameLetters(heads[slot] - 1, buffer, offset, length))) {
+					return slot;
+				}
+				slot = (slot + 1) & mask;
+			}
+			// 적재율 50% 이하 유지
+			if ((groupCount + 1) * 2 > heads.length) {
+				rehash(heads.length * 2);
+				return findOrAddSlot(hi, lo, buffer, offset, length);
+			}
+			// heads는 add가 첫 단어를 연결하면서 채운다.
+			groupCount++;
+			keys[slot * 2] = hi;
+			keys[slot * 2 + 1] = lo;
+			return slot;
+		}
+
+		private void rehash(int capacity) {
+			long[] oldKeys = keys;
+			int[] oldHeads = heads;
+			keys = new long[capacity * 2];
+			heads = new int[capacity];
+			int mask = capacity - 1;
+			for (int old = 0; old < oldHeads.length; old++) {
+				if (oldHeads[old] == 0) {
+					continue;
+				}
+				long hi = oldKeys[old * 2];
+				long lo = oldKeys[old * 2 + 1];
+				int slot = (int)mix(hi * 31 + lo) & mask;
+				while (heads[slot] != 0) {
+					slot = (slot + 1) & mask;
+				}
+				keys[slot * 2] = hi;
+				keys[slot * 2 + 1] = lo;
+				heads[slot] = oldHeads[old];
+			}
+		}
+
+		private int newWord(ByteBuffer buffer, int offset, int length, long count) {
+			if (distinctWords == wordCount.length) {
+				int capacity = distinctWords * 2;
+				words = Arrays.copyOf(words, capacity * STRIDE);
+				wordCount = Arrays.copyOf(wordCount, capacity);
+			}
+			long needed = (long)arenaSize + length;
+			if (needed > arena.length) {
+				// 1GB를 넘으면 2배가 int를 넘으므로 long으로 계산하고 배열 최대 크기에서 멈춘다.
+				if (needed > MAX_ARENA_BYTES) {
+					throw new OutOfMemoryError("Word arena too large: " + needed + " bytes");
+				}
+				arena = Arrays.copyOf(arena, (int)Math.min(MAX_ARENA_BYTES, Math.max(arena.length * 2L, needed)));
+				arenaView = ByteBuffer.wrap(arena);
+			}
+			buffer.get(offset, arena, arenaSize, length);
+			int w = distinctWords++;
+			int base = w * STRIDE;
+			words[base + OFFSET] = arenaSize;
+			words[base + LENGTH] = length;
+			wordCount[w] = count;
+			arenaSize += length;
+			return w;
+		}
+
+		// 넘친 시그니처끼리 키가 같을 때 - 그룹 대표 단어와 글자 개수가 정말 같은지 확인
+		private boolean sameLetters(int word, ByteBuffer buffer, int offset, int length) {
+			int base = word * STRIDE;
+			if (words[base + LENGTH] != length) {
+				return false;
+			}
+			countLetters(arenaView, words[base + OFFSET], length, counts);
+			countLetters(buffer, offset, length, otherCounts);
+			return Arrays.equals(counts, otherCounts);
+		}
+
+		private static void countLetters(ByteBuffer buffer, int offset, int length, int[] out) {
+			Arrays.fill(out, 0);
+			for (int i = offset; i < offset + length; i++) {
+				out[letterIndex(buffer.get(i))]++;
+			}
+		}
+
+		private boolean sameBytes(int arenaOffset, ByteBuffer buffer, int offset, int length) {
+			for (int i = 0; i < length; i++) {
+				if (arena[arenaOffset + i] != buffer.get(offset + i)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		// 결과를 만들 때 처음으로 String을 만든다 (서로 다른 단어 수만큼)
+		Result toResult() {
+			String[] texts = new String[distinctWords];
+			for (int w = 0; w < distinctWords; w++) {
+				int base = w * STRIDE;
+				texts[w] = new String(arena, words[base + OFFSET], words[base + LENGTH], StandardCharsets.US_ASCII);
+			}
+			List<Group> groups = new ArrayList<>(groupCount);
+			long tokens = 0;
+			for (int slot = 0; slot < heads.length; slot++) {
+				if (heads[slot] == 0) {
+					continue;
+				}
+				List<Integer> ids = new ArrayList<>();
+				long groupTokens = 0;
+				for (int w = heads[slot] - 1; w >= 0; w = words[w * STRIDE + NEXT]) {
+					ids.add(w);
+					groupTokens += wordCount[w];
+				}
+				ids.sort((a, b) -> wordCount[a] != wordCount[b]
+					? Long.compare(wordCount[b], wordCount[a])
+					: texts[a].compareTo(texts[b]));
+				List<String> groupWords = new ArrayList<>(ids.size());
+				for (int w : ids) {
+					groupWords.add(texts[w]);
+				}
+				groups.add(new Group(Collections.unmodifiableList(groupWords), groupTokens));
+				tokens += groupTokens;
+			}
+			groups.sort((a, b) -> a.words().size() != b.words().size()
+				? Integer.compare(b.words().size(), a.words().size())
+				: a.tokens() != b.tokens()
+				? Long.compare(b.tokens(), a.tokens())
+				: a.words().get(0).compareTo(b.words().get(0)));
+			return new Result(Collections.unmodifiableList(groups), tokens, distinctWords);
+		}
+
+		private static long mix(long x) {
+			x = (x ^ (x >>> 33)) * 0xFF51AFD7ED558CCDL;
+			x = (x ^ (x >>> 33)) * 0xC4CEB9FE1A85EC53L;
+			return x ^ (x >>> 33);
+		}
+	}
+
+	public static void main(String[] args) throws IOException {
+		// ArrayListPatterns 5번과 같은 입력
+		byte[] text = "eat tea tan ate nat bat".getBytes(StandardCharsets.US_ASCII);
+		Result result = AnagramGrouper.group(text);
+		System.out.println("애너그램 그룹:");
+		for (Group group : result.groups()) {
+			System.out.println(group.words()); // [ate, eat, tea], [nat, tan], [bat]
+		}
+
+		// 파일을 메모리 매핑해서 병렬로 그룹핑
+		Path file = Files.createTempFile("anagram", ".txt");
+		try {
+			StringBuilder sb = new StringBuilder();
+			String[] corpus = {"listen", "silent", "enlist", "Tinsel", "google", "banana", "elbow", "below"};
+			for (int i = 0; i < 100_000; i++) {
+				sb.append(corpus[i % corpus.length]).append(i % 7 == 0 ? ",\n" : " ");
+			}
+			Files.writeString(file, sb, StandardCharsets.US_ASCII);
+
+			Result parallel = AnagramGrouper.parallelGroup(file);
+			System.out.println("토큰 수: " + parallel.tokenCount() + ", 서로 다른 단어: " + parallel.distinctWordCount());
+			for (Group group : parallel.anagramGroups()) {
+				System.out.println(group.words() + " - " + group.tokens() + "회");
+			}
+		} finally {
+			Files.delete(file);
+		}
+	}
+}
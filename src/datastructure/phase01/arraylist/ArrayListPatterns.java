@@ -3,6 +3,7 @@ package datastructure.phase01.arraylist;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
@@ -113,6 +114,10 @@ public class ArrayListPatterns {
 		System.out.println("애너그램 그룹:");
 		anagramGroups.values().forEach(System.out::println);
 
+		// 단어마다 할당/정렬 없이 글자 개수 시그니처로 묶기 (큰 말뭉치용): AnagramGrouper
+		byte[] text = String.join(" ", words).getBytes(java.nio.charset.StandardCharsets.US_ASCII);
+		AnagramGrouper.group(text).groups().forEach(group -> System.out.println(group.words()));
+
 		// ============================================
 		// 6. 조건부 필터링과 변환
 		// ============================================
@@ -166,6 +171,17 @@ public class ArrayListPatterns {
 		}
 		System.out.println("윈도우 크기 " + k + " 최대값들: " + maxInWindow);
 
+		// 값이 하나씩 들어오는 스트림이라면 SlidingWindow (long[] 링 버퍼, 박싱 없음)
+		SlidingWindow window = SlidingWindow.countBased(k);
+		List<Long> streamingMax = new ArrayList<>();
+		for (int i = 0; i < data.size(); i++) {
+			window.push(data.get(i));
+			if (i >= k - 1) {
+				streamingMax.add(window.max());
+			}
+		}
+		System.out.println("SlidingWindow 최대값들: " + streamingMax + ", 마지막 윈도우 합: " + window.sum());
+
 		// ============================================
 		// 8. 실전 문제: 구간 병합
 		// ============================================
@@ -210,7 +226,8 @@ public class ArrayListPatterns {
 		if (intervals.length == 0) return new ArrayList<>();
 
 		// 시작점 기준 정렬
-		Arrays.sort(intervals, (a, b) -> a[0] - b[0]);
+		// (a, b) -> a[0] - b[0]은 값의 부호가 다르고 크기가 크면 오버플로가 나므로 비교는 Integer.compare로
+		Arrays.sort(intervals, Comparator.comparingInt(a -> a[0]));
 
 		List<int[]> result = new ArrayList<>();
 		result.add(intervals[0]);
@@ -0,0 +1,450 @@
+package datastructure.phase01.arraylist;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntConsumer;
+
+import datastructure.phase01.array.IntList;
+
+/**
+ * CSR(Compressed Sparse Row) 형식의 불변 그래프입니다.
+ * <p>
+ * List&lt;List&lt;Integer&gt;&gt; 인접 리스트는 노드마다 ArrayList 객체, 간선마다 Integer 객체를 만든다.
+ * CSR은 배열 두 개로 그래프 전체를 표현한다.
+ * <pre>
+ * offsets: [0, 2, 4, 5, ...]   노드 u의 이웃은 targets[offsets[u] .. offsets[u + 1])
+ * targets: [1, 2, 0, 3, 0, ...]
+ * </pre>
+ * - 간선당 4바이트, 노드당 4바이트만 사용한다
+ * - 한 노드의 이웃이 연속된 메모리에 있어 순회가 캐시 친화적이다
+ * <p>
+ * 생성은 Builder로 간선 목록을 모은 뒤 build()에서 계수 정렬로 한 번에 만든다 - O(V + E)
+ */
+public final class CsrGraph {
+
+	// 방향 최적화 BFS 전환 기준 (Beamer et al., "Direction-Optimizing Breadth-First Search")
+	// 프런티어의 간선 수가 아직 방문하지 않은 노드 간선 수의 1/ALPHA를 넘으면 bottom-up으로,
+	// 프런티어 노드 수가 전체의 1/BETA보다 작아지면 다시 top-down으로 바꾼다.
+	private static final int ALPHA = 14;
+	private static final int BETA = 24;
+	// 병렬 처리할 때 블록 하나의 최소 작업량
+	private static final int MIN_PARALLEL_BLOCK = 1 << 12;
+
+	private static final VarHandle INT_ARRAY = MethodHandles.arrayElementVarHandle(int[].class);
+
+	private final int[] offsets;
+	private final int[] targets;
+	private CsrGraph reverse;
+
+	// symmetric: 모든 간선이 양방향이면 true (역방향 그래프 = 자기 자신)
+	private CsrGraph(int[] offsets, int[] targets, boolean symmetric) {
+		this.offsets = offsets;
+		this.targets = targets;
+		if (symmetric) {
+			this.reverse = this;
+		}
+	}
+
+	public int nodeCount() {
+		return offsets.length - 1;
+	}
+
+	public long edgeCount() {
+		return targets.length;
+	}
+
+	public int degree(int node) {
+		checkNode(node);
+		return offsets[node + 1] - offsets[node];
+	}
+
+	// 할당 없이 이웃을 순회하기 위한 구간: targets[neighborStart(u) .. neighborEnd(u))
+	public int neighborStart(int node) {
+		checkNode(node);
+		return offsets[node];
+	}
+
+	public int neighborEnd(int node) {
+		checkNode(node);
+		return offsets[node + 1];
+	}
+
+	public int target(int edgeIndex) {
+		return targets[edgeIndex];
+	}
+
+	public void forEachNeighbor(int node, IntConsumer action) {
+		checkNode(node);
+		for (int e = offsets[node]; e < offsets[node + 1]; e++) {
+			action.accept(targets[e]);
+		}
+	}
+
+	public int[] neighbors(int node) {
+		checkNode(node);
+		return Arrays.copyOfRange(targets, offsets[node], offsets[node + 1]);
+	}
+
+	// 모든 간선의 방향을 뒤집은 그래프 (들어오는 간선 순회용), 처음 호출할 때 한 번만 만든다.
+	public synchronized CsrGraph reverse() {
+		if (reverse == null) {
+			int n = nodeCount();
+			int[] revOffsets = new int[n + 1];
+			for (int t : targets) {
+				revOffsets[t + 1]++;
+			}
+			for (int i = 0; i < n; i++) {
+				revOffsets[i + 1] += revOffsets[i];
+			}
+			int[] cursor = Arrays.copyOf(revOffsets, n);
+			int[] revTargets = new int[targets.length];
+			for (int u = 0; u < n; u++) {
+				for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+					revTargets[cursor[targets[e]]++] = u;
+				}
+			}
+			reverse = new CsrGraph(revOffsets, revTargets, false);
+			reverse.reverse = this;
+		}
+		return reverse;
+	}
+
+	private void checkNode(int node) {
+		if (node < 0 || node >= nodeCount()) {
+			throw new IndexOutOfBoundsException("Node: " + node + ", NodeCount: " + nodeCount());
+		}
+	}
+
+	// ========================================
+	// Builder
+	// ========================================
+
+	public static Builder builder(int nodeCount) {
+		return new Builder(nodeCount);
+	}
+
+	public static final class Builder {
+		private final int nodeCount;
+		private final IntList sources = new IntList();
+		private final IntList destinations = new IntList();
+		private boolean symmetric = true;
+
+		private Builder(int nodeCount) {
+			if (nodeCount < 0) {
+				throw new IllegalArgumentException("NodeCount: " + nodeCount);
+			}
+			this.nodeCount = nodeCount;
+		}
+
+		// 방향 간선 u -> v
+		public Builder addEdge(int u, int v) {
+			check(u);
+			check(v);
+			sources.addLast(u);
+			destinations.addLast(v);
+			symmetric = false;
+			return this;
+		}
+
+		// 무방향 간선 (u -> v, v -> u 두 개로 저장)
+		public Builder addUndirectedEdge(int u, int v) {
+			check(u);
+			check(v);
+			sources.addLast(u);
+			destinations.addLast(v);
+			sources.addLast(v);
+			destinations.addLast(u);
+			return this;
+		}
+
+		// 출발 노드 기준 계수 정렬 - O(V + E)
+		// 같은 출발 노드의 간선은 추가한 순서를 유지한다.
+		public CsrGraph build() {
+			int m = sources.size();
+			int[] offsets = new int[nodeCount + 1];
+			for (int i = 0; i < m; i++) {
+				offsets[sources.get(i) + 1]++;
+			}
+			for (int i = 0; i < nodeCount; i++) {
+				offsets[i + 1] += offsets[i];
+			}
+			int[] cursor = Arrays.copyOf(offsets, nodeCount);
+			int[] targets = new int[m];
+			for (int i = 0; i < m; i++) {
+				targets[cursor[sources.get(i)]++] = destinations.get(i);
+			}
+			return new CsrGraph(offsets, targets, symmetric);
+		}
+
+		private void check(int node) {
+			if (node < 0 || node >= nodeCount) {
+				throw new IndexOutOfBoundsException("Node: " + node + ", NodeCount: " + nodeCount);
+			}
+		}
+	}
+
+	// ========================================
+	// BFS
+	// ========================================
+
+	// BFS 결과: distances[v] = source에서의 간선 수 (도달 불가면 -1)
+	//          parents[v] = BFS 트리의 부모 (source는 자기 자신, 도달 불가면 -1)
+	public record BfsResult(int[] distances, int[] parents) {
+
+		// source에서 target까지의 경로 (도달 불가면 빈 배열)
+		public int[] pathTo(int target) {
+			if (distances[target] < 0) {
+				return new int[0];
+			}
+			int[] path = new int[distances[target] + 1];
+			for (int v = target, i = path.length - 1; i >= 0; v = parents[v], i--) {
+				path[i] = v;
+			}
+			return path;
+		}
+	}
+
+	// 단일 스레드 BFS - O(V + E), 큐로 int[] 하나를 재사용한다.
+	public BfsResult bfs(int source) {
+		checkNode(source);
+		int n = nodeCount();
+		int[] distances = new int[n];
+		int[] parents = new int[n];
+		Arrays.fill(distances, -1);
+		Arrays.fill(parents, -1);
+
+		int[] queue = new int[n];
+		int head = 0;
+		int tail = 0;
+		queue[tail++] = source;
+		distances[source] = 0;
+		parents[source] = source;
+
+		while (head < tail) {
+			int u = queue[head++];
+			for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+				int v = targets[e];
+				if (parents[v] < 0) {
+					parents[v] = u;
+					distances[v] = distances[u] + 1;
+					queue[tail++] = v;
+				}
+			}
+		}
+		return new BfsResult(distances, parents);
+	}
+
+	/**
+	 * 방향 최적화(direction-optimizing) 병렬 BFS
+	 * <p>
+	 * top-down: 프런티어 노드의 나가는 간선을 보며 미방문 노드를 CAS로 차지한다.
+	 * bottom-up: 미방문 노드마다 들어오는 간선 중 프런티어에 있는 노드를 하나 찾으면 멈춘다.
+	 * 프런티어가 커지는 중간 레벨에서는 bottom-up이 검사하는 간선 수가 훨씬 적다.
+	 */
+	public BfsResult parallelBfs(int source) {
+		checkNode(source);
+		int n = nodeCount();
+		int[] distances = new int[n];
+		int[] parents = new int[n];
+		Arrays.fill(distances, -1);
+		Arrays.fill(parents, -1);
+		distances[source] = 0;
+		parents[source] = source;
+
+		CsrGraph incoming = reverse();
+		int[] frontier = {source};
+		int frontierSize = 1;
+		long[] frontierBits = null; // bottom-up 중일 때의 프런티어 비트맵
+		long frontierEdges = degree(source);
+		long unexploredEdges = edgeCount() - frontierEdges;
+		int level = 0;
+
+		while (frontierSize > 0) {
+			if (frontierBits == null && frontierEdges > unexploredEdges / ALPHA) {
+				frontierBits = toBitmap(frontier, frontierSize, n);
+			}
+
+			if (frontierBits == null) {
+				frontier = topDownStep(frontier, frontierSize, distances, parents, level);
+				frontierSize = frontier.length;
+			} else {
+				long[] next = new long[frontierBits.length];
+				frontierSize = bottomUpStep(incoming, frontierBits, next, distances, parents, level);
+				frontierBits = next;
+				if (frontierSize < n / BETA) {
+					frontier = toQueue(frontierBits, frontierSize);
+					frontierBits = null;
+				}
+			}
+			frontierEdges = frontierBits == null ? sumDegrees(frontier, frontierSize) : sumDegrees(frontierBits);
+			unexploredEdges -= frontierEdges;
+			level++;
+		}
+		return new BfsResult(distances, parents);
+	}
+
+	private int[] topDownStep(int[] frontier, int size, int[] distances, int[] parents, int level) {
+		int blocks = blockCount(size);
+		IntList[] found = new IntList[blocks];
+		runBlocks(size, blocks, (b, from, to) -> {
+			IntList local = new IntList();
+			for (int i = from; i < to; i++) {
+				int u = frontier[i];
+				for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+					int v = targets[e];
+					// 먼저 읽어보고 비어 있을 때만 CAS - 이미 방문한 노드에 대한 불필요한 CAS를 줄인다.
+					if ((int)INT_ARRAY.getOpaque(parents, v) < 0
+						&& INT_ARRAY.compareAndSet(parents, v, -1, u)) {
+						distances[v] = level + 1;
+						local.addLast(v);
+					}
+				}
+			}
+			found[b] = local;
+		});
+
+		int total = 0;
+		for (IntList list : found) {
+			total += list.size();
+		}
+		int[] next = new int[total];
+		int pos = 0;
+		for (IntList list : found) {
+			int[] part = list.toArray();
+			System.arraycopy(part, 0, next, pos, part.length);
+			pos += part.length;
+		}
+		return next;
+	}
+
+	// 노드 구간을 64의 배수로 나누어 각 스레드가 next 비트맵의 서로 다른 long만 쓰도록 한다.
+	private int bottomUpStep(CsrGraph incoming, long[] frontier, long[] next,
+		int[] distances, int[] parents, int level) {
+		int n = nodeCount();
+		int words = frontier.length;
+		int blocks = Math.min(words, blockCount(n));
+		int[] counts = new int[blocks];
+		runBlocks(words, blocks, (b, fromWord, toWord) -> {
+			int count = 0;
+			int end = Math.min(n, toWord * Long.SIZE);
+			for (int v = fromWord * Long.SIZE; v < end; v++) {
+				if (parents[v] >= 0) {
+					continue;
+				}
+				for (int e = incoming.offsets[v]; e < incoming.offsets[v + 1]; e++) {
+					int u = incoming.targets[e];
+					if ((frontier[u >>> 6] & (1L << u)) != 0) {
+						parents[v] = u;
+						distances[v] = level + 1;
+						next[v >>> 6] |= 1L << v;
+						count++;
+						break;
+					}
+				}
+			}
+			counts[b] = count;
+		});
+		int total = 0;
+		for (int c : counts) {
+			total += c;
+		}
+		return total;
+	}
+
+	private static long[] toBitmap(int[] queue, int size, int n) {
+		long[] bits = new long[(n + Long.SIZE - 1) / Long.SIZE];
+		for (int i = 0; i < size; i++) {
+			bits[queue[i] >>> 6] |= 1L << queue[i];
+		}
+		return bits;
+	}
+
+	private static int[] toQueue(long[] bits, int size) {
+		int[] queue = new int[size];
+		int pos = 0;
+		for (int w = 0; w < bits.length; w++) {
+			long word = bits[w];
+			while (word != 0) {
+				queue[pos++] = (w << 6) + Long.numberOfTrailingZeros(word);
+				word &= word - 1;
+			}
+		}
+		return queue;
+	}
+
+	private long sumDegrees(int[] queue, int size) {
+		long sum = 0;
+		for (int i = 0; i < size; i++) {
+			sum += offsets[queue[i] + 1] - offsets[queue[i]];
+		}
+		return sum;
+	}
+
+	private long sumDegrees(long[] bits) {
+		long sum = 0;
+		for (int w = 0; w < bits.length; w++) {
+			long word = bits[w];
+			while (word != 0) {
+				int v = (w << 6) + Long.numberOfTrailingZeros(word);
+				sum += offsets[v + 1] - offsets[v];
+				word &= word - 1;
+			}
+		}
+		return sum;
+	}
+
+	// ========================================
+	// Fork-Join
+	// ========================================
+
+	@FunctionalInterface
+	private interface BlockAction {
+		void apply(int block, int from, int to);
+	}
+
+	private static int blockCount(int work) {
+		int parallelism = ForkJoinPool.getCommonPoolParallelism();
+		return Math.max(1, Math.min(parallelism * 4, work / MIN_PARALLEL_BLOCK));
+	}
+
+	private static void runBlocks(int n, int blocks, BlockAction action) {
+		if (blocks == 1) {
+			action.apply(0, 0, n);
+			return;
+		}
+		List<ForkJoinTask<?>> tasks = new ArrayList<>(blocks);
+		for (int b = 0; b < blocks; b++) {
+			int block = b;
+			int from = (int)((long)n * b / blocks);
+			int to = (int)((long)n * (b + 1) / blocks);
+			tasks.add(ForkJoinTask.adapt(() -> action.apply(block, from, to)));
+		}
+		ForkJoinTask.invokeAll(tasks);
+	}
+
+	public static void main(String[] args) {
+		// ArrayListPatterns의 인접 리스트 예제를 CSR로
+		CsrGraph graph = CsrGraph.builder(5)
+			.addUndirectedEdge(0, 1)
+			.addUndirectedEdge(0, 2)
+			.addUndirectedEdge(1, 3)
+			.addUndirectedEdge(2, 4)
+			.build();
+
+		for (int i = 0; i < graph.nodeCount(); i++) {
+			System.out.println("노드 " + i + "의 인접 노드: " + Arrays.toString(graph.neighbors(i)));
+		}
+
+		BfsResult result = graph.bfs(0);
+		System.out.println("거리: " + Arrays.toString(result.distances())); // [0, 1, 1, 2, 2]
+		System.out.println("0 -> 4 경로: " + Arrays.toString(result.pathTo(4))); // [0, 2, 4]
+
+		BfsResult parallel = graph.parallelBfs(0);
+		System.out.println("병렬 BFS 거리: " + Arrays.toString(parallel.distances()));
+	}
+}
@@ -0,0 +1,370 @@
+package datastructure.phase01.arraylist;
+
+import java.util.Arrays;
+
+import datastructure.phase01.array.RadixSort;
+
+/**
+ * 겹치지 않는 반열린 구간 [start, end)들의 집합입니다.
+ * <p>
+ * mergeIntervals는 구간이 추가될 때마다 전체를 다시 정렬하고 List&lt;int[]&gt;를 새로 만든다.
+ * IntervalSet은 항상 병합된 상태를 유지하므로 구간 하나를 추가할 때 정렬이 필요 없다.
+ * <p>
+ * 구조: 시작점 순으로 정렬된 두 개의 int[] (starts, ends)
+ * - 구간들이 서로 겹치지 않으므로 starts와 ends가 모두 정렬되어 있어 이진 탐색이 가능하다
+ * - 구간마다 객체를 만들지 않아 구간당 8바이트만 사용한다
+ * <p>
+ * 시간 복잡도:
+ * - contains / overlaps: O(log n)
+ * - add / remove: O(log n) + 병합으로 사라지거나 새로 생기는 칸만큼 System.arraycopy 이동
+ *   (끝에 추가하거나 기존 구간을 늘리기만 하는 경우는 이동 없음)
+ * - addAll: 입력을 기수 정렬한 뒤 기존 구간과 한 번에 병합 O(n + m)
+ * <p>
+ * 맞닿은 구간([1, 3)과 [3, 5))은 하나로 합쳐진다.
+ */
+public class IntervalSet {
+
+	@FunctionalInterface
+	public interface IntervalConsumer {
+		void accept(int start, int end);
+	}
+
+	private static final int DEFAULT_CAPACITY = 8;
+
+	private int[] starts;
+	private int[] ends;
+	private int size; // 구간 개수
+
+	public IntervalSet() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public IntervalSet(int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("Capacity: " + initialCapacity);
+		}
+		this.starts = new int[initialCapacity];
+		this.ends = new int[initialCapacity];
+	}
+
+	// [start, end) 추가 - 겹치거나 맞닿은 구간들과 합친다.
+	public void add(int start, int end) {
+		checkRange(start, end);
+		if (start == end) {
+			return;
+		}
+		// 새 구간과 합쳐질 구간들의 범위 [i, j]
+		int i = firstEndAtLeast(start);
+		int j = lastStartAtMost(end);
+
+		if (i > j) {
+			// 합쳐질 구간이 없음 → i 위치에 삽입
+			insertAt(i, start, end);
+			return;
+		}
+		starts[i] = Math.min(start, starts[i]);
+		ends[i] = Math.max(end, ends[j]);
+		removeSlots(i + 1, j + 1);
+	}
+
+	// [start, end)에 해당하는 점들을 제거한다. 걸쳐있는 구간은 잘리거나 둘로 나뉜다.
+	public void remove(int start, int end) {
+		checkRange(start, end);
+		if (start == end) {
+			return;
+		}
+		// 실제로 겹치는(맞닿기만 한 것은 제외) 구간들의 범위 [i, j]
+		int i = firstEndAbove(start);
+		int j = lastStartBelow(end);
+		if (i > j) {
+			return;
+		}
+
+		boolean keepLeft = starts[i] < start;
+		boolean keepRight = ends[j] > end;
+		int leftStart = starts[i];
+		int rightEnd = ends[j];
+
+		if (keepLeft && keepRight && i == j) {
+			// 한 구간 가운데를 잘라내면 둘로 나뉜다.
+			insertAt(i + 1, end, rightEnd);
+			ends[i] = start;
+			return;
+		}
+
+		int write = i;
+		if (keepLeft) {
+			starts[write] = leftStart;
+			ends[write] = start;
+			write++;
+		}
+		if (keepRight) {
+			starts[write] = end;
+			ends[write] = rightEnd;
+			write++;
+		}
+		removeSlots(write, j + 1);
+	}
+
+	// 점 포함 여부 - O(log n)
+	public boolean contains(int point) {
+		int i = firstEndAbove(point);
+		return i < size && starts[i] <= point;
+	}
+
+	// [start, end) 전체가 하나의 구간 안에 들어있는지 - O(log n)
+	public boolean containsRange(int start, int end) {
+		checkRange(start, end);
+		if (start == end) {
+			return true;
+		}
+		int i = firstEndAbove(start);
+		return i < size && starts[i] <= start && ends[i] >= end;
+	}
+
+	// [start, end)와 조금이라도 겹치는 구간이 있는지 - O(log n)
+	public boolean overlaps(int start, int end) {
+		checkRange(start, end);
+		if (start == end) {
+			return false;
+		}
+		int i = firstEndAbove(start);
+		return i < size && starts[i] < end;
+	}
+
+	// 여러 구간을 한 번에 추가한다.
+	// 입력을 시작점 기준으로 기수 정렬한 뒤, 기존 구간들과 병합 정렬처럼 한 번에 합친다.
+	public void addAll(int[] newStarts, int[] newEnds) {
+		if (newStarts.length != newEnds.length) {
+			throw new IllegalArgumentException("starts와 ends의 길이가 다릅니다.");
+		}
+		int m = newStarts.length;
+		int[] s = newStarts.clone();
+		int[] e = newEnds.clone();
+		for (int k = 0; k < m; k++) {
+			checkRange(s[k], e[k]);
+		}
+		RadixSort.sortByKey(s, e);
+
+		int[] mergedStarts = new int[Math.max(DEFAULT_CAPACITY, size + m)];
+		int[] mergedEnds = new int[mergedStarts.length];
+		int count = 0;
+		int a = 0;
+		int b = 0;
+		while (a < size || b < m) {
+			int curStart;
+			int curEnd;
+			// 두 정렬된 목록 중 시작점이 작은 쪽을 먼저 꺼낸다.
+			if (b >= m || (a < size && starts[a] <= s[b])) {
+				curStart = starts[a];
+				curEnd = ends[a++];
+			} else {
+				curStart = s[b];
+				curEnd = e[b++];
+			}
+			if (curStart == curEnd) {
+				continue;
+			}
+			if (count > 0 && curStart <= mergedEnds[count - 1]) {
+				mergedEnds[count - 1] = Math.max(mergedEnds[count - 1], curEnd);
+			} else {
+				mergedStarts[count] = curStart;
+				mergedEnds[count] = curEnd;
+				count++;
+			}
+		}
+		starts = mergedStarts;
+		ends = mergedEnds;
+		size = count;
+	}
+
+	// 구간 개수
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public int start(int index) {
+		checkIndex(index);
+		return starts[index];
+	}
+
+	public int end(int index) {
+		checkIndex(index);
+		return ends[index];
+	}
+
+	// 모든 구간 길이의 합
+	public long totalLength() {
+		long total = 0;
+		for (int k = 0; k < size; k++) {
+			total += (long)ends[k] - starts[k];
+		}
+		return total;
+	}
+
+	// 할당 없이 구간들을 순서대로 순회
+	public void forEach(IntervalConsumer consumer) {
+		for (int k = 0; k < size; k++) {
+			consumer.accept(starts[k], ends[k]);
+		}
+	}
+
+	public void clear() {
+		size = 0;
+	}
+
+	public void trimToSize() {
+		if (size < starts.length) {
+			starts = Arrays.copyOf(starts, size);
+			ends = Arrays.copyOf(ends, size);
+		}
+	}
+
+	// ========================================
+	// 이진 탐색 (모두 O(log n))
+	// ========================================
+
+	// ends[i] >= value인 첫 i (없으면 size) - 맞닿은 구간까지 포함
+	private int firstEndAtLeast(int value) {
+		int lo = 0;
+		int hi = size;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (ends[mid] < value) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	// ends[i] > value인 첫 i (없으면 size)
+	private int firstEndAbove(int value) {
+		int lo = 0;
+		int hi = size;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (ends[mid] <= value) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	// starts[j] <= value인 마지막 j (없으면 -1)
+	private int lastStartAtMost(int value) {
+		int lo = 0;
+		int hi = size;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (starts[mid] <= value) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo - 1;
+	}
+
+	// starts[j] < value인 마지막 j (없으면 -1)
+	private int lastStartBelow(int value) {
+		int lo = 0;
+		int hi = size;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (starts[mid] < value) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo - 1;
+	}
+
+	// ========================================
+	// 배열 관리
+	// ========================================
+
+	private void insertAt(int index, int start, int end) {
+		if (size == starts.length) {
+			int newCapacity = Math.max(DEFAULT_CAPACITY, size + (size >> 1));
+			starts = Arrays.copyOf(starts, newCapacity);
+			ends = Arrays.copyOf(ends, newCapacity);
+		}
+		System.arraycopy(starts, index, starts, index + 1, size - index);
+		System.arraycopy(ends, index, ends, index + 1, size - index);
+		starts[index] = start;
+		ends[index] = end;
+		size++;
+	}
+
+	// [from, to) 칸 삭제
+	private void removeSlots(int from, int to) {
+		if (from >= to) {
+			return;
+		}
+		System.arraycopy(starts, to, starts, from, size - to);
+		System.arraycopy(ends, to, ends, from, size - to);
+		size -= to - from;
+	}
+
+	private static void checkRange(int start, int end) {
+		if (start > end) {
+			throw new IllegalArgumentException("Start: " + start + " > End: " + end);
+		}
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("[");
+		for (int k = 0; k < size; k++) {
+			if (k > 0)
+				sb.append(", ");
+			sb.append('[').append(starts[k]).append(", ").append(ends[k]).append(')');
+		}
+		return sb.append(']').toString();
+	}
+
+	public static void main(String[] args) {
+		IntervalSet set = new IntervalSet();
+
+		// 스트리밍 추가 - 추가할 때마다 바로 병합된다.
+		set.add(1, 3);
+		set.add(8, 10);
+		set.add(15, 18);
+		set.add(2, 6);
+		System.out.println("병합 결과: " + set); // [[1, 6), [8, 10), [15, 18)]
+
+		// 맞닿은 구간도 합쳐진다.
+		set.add(6, 8);
+		System.out.println("[6, 8) 추가: " + set); // [[1, 10), [15, 18)]
+
+		// 점/구간 질의
+		System.out.println("5 포함? " + set.contains(5)); // true
+		System.out.println("10 포함? " + set.contains(10)); // false (반열린 구간)
+		System.out.println("[10, 15)와 겹침? " + set.overlaps(10, 15)); // false
+		System.out.println("[9, 16)과 겹침? " + set.overlaps(9, 16)); // true
+
+		// 가운데를 제거하면 둘로 나뉜다.
+		set.remove(4, 6);
+		System.out.println("[4, 6) 제거: " + set); // [[1, 4), [6, 10), [15, 18)]
+
+		// 대량 추가
+		set.addAll(new int[] {20, 0, 17}, new int[] {25, 2, 21});
+		System.out.println("addAll 후: " + set); // [[0, 4), [6, 10), [15, 25)]
+		System.out.println("전체 길이: " + set.totalLength());
+	}
+}
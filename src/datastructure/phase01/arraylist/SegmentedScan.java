@@ -0,0 +1,220 @@
+package datastructure.phase01.arraylist;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+
+/**
+ * 큰 텍스트를 단어 경계에 맞춘 세그먼트로 나눠 워커마다 자기 테이블에 모은 뒤 하나로 병합하는 실행기입니다.
+ * <p>
+ * AnagramGrouper처럼 쓰는 쪽은 테이블과 세그먼트 스캔만 정하고, 나머지는 이 클래스가 맡는다.
+ * - 입력: byte[] 또는 파일. 파일은 세그먼트 단위로 메모리 매핑(FileChannel.map)해서 커널 → 힙 복사 없이 읽고,
+ *   세그먼트만 매핑하므로 2GB보다 큰 파일도 읽을 수 있다.
+ * - 세그먼트 경계: segmentBytes마다 자르되, 단어 바이트(wordByte) 중간이면 단어가 끝날 때까지 민다.
+ * - 실행: 워커는 다음 세그먼트를 하나씩 가져가며 자기 테이블에만 기록하고 (공유 쓰기 없음),
+ *   끝나면 첫 번째 테이블에 나머지를 병합한다.
+ *
+ * @param <T> 워커 하나가 쓰는 집계 테이블
+ */
+public final class SegmentedScan<T> {
+
+	// 세그먼트 하나의 크기 (작을수록 부하 분산이 좋고, 클수록 병합할 테이블 항목이 줄어든다)
+	private static final int DEFAULT_SEGMENT_BYTES = 16 << 20;
+
+	private final IntPredicate wordByte;
+	private final Supplier<T> newTable;
+	private final BiConsumer<ByteBuffer, T> scanner;
+	private final BiConsumer<T, T> merger;
+	private final int segmentBytes;
+
+	/**
+	 * @param wordByte 단어를 이루는 바이트인지 (0~255) - 세그먼트 경계가 단어를 자르지 않게 한다
+	 * @param newTable 워커마다 한 번 호출해 빈 테이블을 만든다
+	 * @param scanner 세그먼트 하나(position 0 ~ limit)를 읽어 테이블에 기록한다
+	 * @param merger merger(into, from) - from을 into에 병합한다
+	 */
+	public SegmentedScan(IntPredicate wordByte, Supplier<T> newTable, BiConsumer<ByteBuffer, T> scanner,
+		BiConsumer<T, T> merger) {
+		this(wordByte, newTable, scanner, merger, DEFAULT_SEGMENT_BYTES);
+	}
+
+	public SegmentedScan(IntPredicate wordByte, Supplier<T> newTable, BiConsumer<ByteBuffer, T> scanner,
+		BiConsumer<T, T> merger, int segmentBytes) {
+		if (segmentBytes <= 0) {
+			throw new IllegalArgumentException("SegmentBytes: " + segmentBytes);
+		}
+		this.wordByte = wordByte;
+		this.newTable = newTable;
+		this.scanner = scanner;
+		this.merger = merger;
+		this.segmentBytes = segmentBytes;
+	}
+
+	// ========================================
+	// 진입점
+	// ========================================
+
+	// 워커 parallelism개(세그먼트 수 이하)로 text를 집계한 병합 테이블
+	public T run(byte[] text, int parallelism) {
+		return run(new Input(text), parallelism);
+	}
+
+	public T run(Path file, int parallelism) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			return run(new Input(channel), parallelism);
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	private T run(Input input, int parallelism) {
+		int segmentCount = input.segmentCount();
+		int workers = Math.max(1, Math.min(parallelism, segmentCount));
+		List<T> tables = new ArrayList<>(workers);
+		for (int w = 0; w < workers; w++) {
+			tables.add(null);
+		}
+		AtomicInteger nextSegment = new AtomicInteger();
+
+		// 워커는 다음 세그먼트를 하나씩 가져가며 자기 테이블에만 기록한다 - 공유 쓰기 없음
+		Runnable[] tasks = new Runnable[workers];
+		for (int w = 0; w < workers; w++) {
+			int worker = w;
+			tasks[w] = () -> {
+				T table = newTable.get();
+				for (int s = nextSegment.getAndIncrement(); s < segmentCount; s = nextSegment.getAndIncrement()) {
+					scanner.accept(input.open(s), table);
+				}
+				tables.set(worker, table);
+			};
+		}
+		if (workers == 1) {
+			tasks[0].run();
+		} else {
+			List<ForkJoinTask<?>> forks = new ArrayList<>(workers);
+			for (Runnable task : tasks) {
+				forks.add(ForkJoinTask.adapt(task));
+			}
+			ForkJoinTask.invokeAll(forks);
+		}
+
+		// 첫 번째 테이블에 나머지를 병합한다.
+		T merged = tables.get(0);
+		for (int w = 1; w < workers; w++) {
+			merger.accept(merged, tables.get(w));
+		}
+		return merged;
+	}
+
+	// ========================================
+	// 입력 (byte[] 또는 메모리 매핑된 파일)
+	// ========================================
+
+	private final class Input {
+		private final byte[] text;
+		private final FileChannel channel;
+		private final long[] bounds; // 세그먼트 s = [bounds[s], bounds[s + 1])
+
+		Input(byte[] text) {
+			this.text = text;
+			this.channel = null;
+			this.bounds = computeBounds(text.length);
+		}
+
+		Input(FileChannel channel) {
+			this.text = null;
+			this.channel = channel;
+			try {
+				this.bounds = computeBounds(channel.size());
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		int segmentCount() {
+			return bounds.length - 1;
+		}
+
+		// 세그먼트를 연다. 파일이면 세그먼트만 매핑하고, 워커가 다 읽으면 더 이상 참조하지 않는다.
+		ByteBuffer open(int s) {
+			int length = (int)(bounds[s + 1] - bounds[s]);
+			if (text != null) {
+				return ByteBuffer.wrap(text, (int)bounds[s], length).slice();
+			}
+			try {
+				return channel.map(FileChannel.MapMode.READ_ONLY, bounds[s], length);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		// segmentBytes마다 자르되, 단어 중간이면 단어가 끝날 때까지 경계를 민다.
+		private long[] computeBounds(long size) {
+			long[] result = new long[(int)(size / segmentBytes) + 2];
+			int count = 1;
+			long position = 0;
+			ByteBuffer one = ByteBuffer.allocate(1);
+			while (position < size) {
+				long bound = Math.min(size, position + segmentBytes);
+				while (bound < size && wordByte.test(byteAt(bound, one) & 0xFF)) {
+					bound++;
+				}
+				result[count++] = bound;
+				position = bound;
+			}
+			return Arrays.copyOf(result, count);
+		}
+
+		private byte byteAt(long position, ByteBuffer one) {
+			if (text != null) {
+				return text[(int)position];
+			}
+			try {
+				one.clear();
+				channel.read(one, position);
+				return one.get(0);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	public static void main(String[] args) {
+		// 단어(영문자) 길이별 개수 - 워커마다 long[]에 세고 더해서 병합한다. 세그먼트를 작게 잡아 여러 개로 나눈다.
+		SegmentedScan<long[]> lengths = new SegmentedScan<>(
+			b -> (b | 0x20) >= 'a' && (b | 0x20) <= 'z',
+			() -> new long[16],
+			(segment, table) -> {
+				int length = 0;
+				for (int i = 0; i <= segment.limit(); i++) {
+					int b = i < segment.limit() ? segment.get(i) | 0x20 : ' ';
+					if (b >= 'a' && b <= 'z') {
+						length++;
+					} else if (length > 0) {
+						table[Math.min(length, 15)]++;
+						length = 0;
+					}
+				}
+			},
+			(into, from) -> {
+				for (int i = 0; i < into.length; i++) {
+					into[i] += from[i];
+				}
+			},
+			8);
+		byte[] text = "the quick brown fox jumps over the lazy dog".getBytes();
+		System.out.println("길이별 단어 수: " + Arrays.toString(lengths.run(text, 4)));
+		// [0, 0, 0, 4, 2, 3, 0, ...] - 경계가 단어를 자르지 않으므로 워커 수와 상관없이 같다
+	}
+}
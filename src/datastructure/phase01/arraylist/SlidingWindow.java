@@ -0,0 +1,323 @@
+package datastructure.phase01.arraylist;
+
+import java.util.NoSuchElementException;
+
+/**
+ * 값이 하나씩 들어오는 스트림 위의 슬라이딩 윈도우 집계기입니다.
+ * <p>
+ * ArrayListPatterns 7번 예제(Deque&lt;Integer&gt; 단조 덱)와 같은 알고리즘이지만,
+ * 1. 고정된 List가 아니라 push(value)로 값을 하나씩 받고
+ * 2. 값과 인덱스를 모두 long[] 링 버퍼에 저장해서 박싱이 없고 (정상 상태에서 할당 0)
+ * 3. 최대/최소/합/평균/근사 백분위수를 함께 제공한다.
+ * <p>
+ * 윈도우 종류:
+ * - countBased(k): 최근 k개의 값
+ * - timeBased(duration): 최근 duration 동안의 값 (시간은 호출자가 넘기며, 감소하면 안 된다)
+ * <p>
+ * 시간 복잡도: push / max / min / sum / mean O(1) 분할 상환, percentile O(버킷 수)
+ */
+public final class SlidingWindow {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private final int maxCount; // 개수 기반 윈도우 크기 (시간 기반이면 Integer.MAX_VALUE)
+	private final long duration; // 시간 기반 윈도우 길이 (개수 기반이면 Long.MAX_VALUE)
+
+	// 윈도우 안의 값들. 시퀀스 번호 seq의 값은 values[seq & mask]
+	private long[] values;
+	private long[] times;
+	private int mask;
+	private long head; // 가장 오래된 값의 seq
+	private long tail; // 다음에 들어올 값의 seq
+
+	// 단조 덱: 값이 감소(최대용) / 증가(최소용)하는 seq 목록
+	private long[] maxDeque;
+	private long maxHead;
+	private long maxTail;
+	private long[] minDeque;
+	private long minHead;
+	private long minTail;
+
+	private long sum;
+	private final LogHistogram histogram = new LogHistogram();
+
+	private SlidingWindow(int maxCount, long duration, int capacity) {
+		this.maxCount = maxCount;
+		this.duration = duration;
+		allocate(capacity);
+	}
+
+	// 최근 size개의 값을 유지하는 윈도우 - 버퍼를 처음에 한 번만 할당한다.
+	public static SlidingWindow countBased(int size) {
+		if (size <= 0) {
+			throw new IllegalArgumentException("Size: " + size);
+		}
+		return new SlidingWindow(size, Long.MAX_VALUE, size);
+	}
+
+	// 최근 duration 시간 단위 동안의 값을 유지하는 윈도우 - (now - duration, now] 구간
+	// 버퍼는 윈도우에 동시에 들어있는 최대 개수에 맞춰 2배씩 늘어나고, 그 뒤로는 할당이 없다.
+	public static SlidingWindow timeBased(long duration) {
+		if (duration <= 0) {
+			throw new IllegalArgumentException("Duration: " + duration);
+		}
+		return new SlidingWindow(Integer.MAX_VALUE, duration, INITIAL_CAPACITY);
+	}
+
+	// 개수 기반 윈도우에 값 추가 - 분할 상환 O(1)
+	public void push(long value) {
+		if (isTimeBased()) {
+			throw new IllegalStateException("시간 기반 윈도우는 push(time, value)를 사용해야 합니다.");
+		}
+		if (tail - head == maxCount) {
+			evictOldest();
+		}
+		append(0, value);
+	}
+
+	// 시간 기반 윈도우에 값 추가 - 분할 상환 O(1)
+	public void push(long time, long value) {
+		if (!isTimeBased()) {
+			throw new IllegalStateException("개수 기반 윈도우는 push(value)를 사용해야 합니다.");
+		}
+		if (tail > head && time < times[(int)((tail - 1) & mask)]) {
+			throw new IllegalArgumentException("시간이 감소했습니다: " + time);
+		}
+		expire(time);
+		if (tail - head == values.length) {
+			allocate(values.length * 2);
+		}
+		append(time, value);
+	}
+
+	// 시간 기반 윈도우에서 now - duration 이하의 값들을 제거한다 (값 추가 없이 시간만 흐를 때)
+	public void expire(long now) {
+		if (!isTimeBased()) {
+			return;
+		}
+		long cutoff = now - duration;
+		while (tail > head && times[(int)(head & mask)] <= cutoff) {
+			evictOldest();
+		}
+	}
+
+	public int count() {
+		return (int)(tail - head);
+	}
+
+	public boolean isEmpty() {
+		return tail == head;
+	}
+
+	public long max() {
+		checkNotEmpty();
+		return values[(int)(maxDeque[(int)(maxHead & mask)] & mask)];
+	}
+
+	public long min() {
+		checkNotEmpty();
+		return values[(int)(minDeque[(int)(minHead & mask)] & mask)];
+	}
+
+	public long sum() {
+		return sum;
+	}
+
+	public double mean() {
+		checkNotEmpty();
+		return (double)sum / count();
+	}
+
+	// 근사 백분위수 (q는 0.0 ~ 1.0, 예: 0.99 = p99)
+	// 상대 오차는 약 1 / 2^LogHistogram.PRECISION_BITS (약 3%) 이내이며, 결과는 [min, max]로 보정한다.
+	public long percentile(double q) {
+		checkNotEmpty();
+		if (q < 0.0 || q > 1.0) {
+			throw new IllegalArgumentException("q: " + q);
+		}
+		long rank = Math.max(1, (long)Math.ceil(q * count()));
+		long estimate = histogram.valueAtRank(rank);
+		return Math.max(min(), Math.min(max(), estimate));
+	}
+
+	public void clear() {
+		head = tail = 0;
+		maxHead = maxTail = 0;
+		minHead = minTail = 0;
+		sum = 0;
+		histogram.clear();
+	}
+
+	private boolean isTimeBased() {
+		return duration != Long.MAX_VALUE;
+	}
+
+	private void append(long time, long value) {
+		long seq = tail++;
+		int slot = (int)(seq & mask);
+		values[slot] = value;
+		if (times != null) {
+			times[slot] = time;
+		}
+		sum += value;
+		histogram.add(value, 1);
+
+		// 새 값보다 작거나 같은 값은 다시는 최대가 될 수 없다.
+		while (maxTail > maxHead && values[(int)(maxDeque[(int)((maxTail - 1) & mask)] & mask)] <= value) {
+			maxTail--;
+		}
+		maxDeque[(int)(maxTail++ & mask)] = seq;
+
+		// 새 값보다 크거나 같은 값은 다시는 최소가 될 수 없다.
+		while (minTail > minHead && values[(int)(minDeque[(int)((minTail - 1) & mask)] & mask)] >= value) {
+			minTail--;
+		}
+		minDeque[(int)(minTail++ & mask)] = seq;
+	}
+
+	private void evictOldest() {
+		long seq = head++;
+		long value = values[(int)(seq & mask)];
+		sum -= value;
+		histogram.add(value, -1);
+		if (maxDeque[(int)(maxHead & mask)] == seq) {
+			maxHead++;
+		}
+		if (minDeque[(int)(minHead & mask)] == seq) {
+			minHead++;
+		}
+	}
+
+	// 2의 거듭제곱 크기로 (재)할당한다. seq & mask가 그대로 유효하도록 기존 원소를 새 위치로 옮긴다.
+	private void allocate(int minCapacity) {
+		int capacity = Integer.highestOneBit(Math.max(2, minCapacity - 1)) << 1;
+		long[] newValues = new long[capacity];
+		long[] newTimes = isTimeBased() ? new long[capacity] : null;
+		long[] newMax = new long[capacity];
+		long[] newMin = new long[capacity];
+		int newMask = capacity - 1;
+		for (long s = head; s < tail; s++) {
+			newValues[(int)(s & newMask)] = values[(int)(s & mask)];
+			if (newTimes != null) {
+				newTimes[(int)(s & newMask)] = times[(int)(s & mask)];
+			}
+		}
+		for (long s = maxHead; s < maxTail; s++) {
+			newMax[(int)(s & newMask)] = maxDeque[(int)(s & mask)];
+		}
+		for (long s = minHead; s < minTail; s++) {
+			newMin[(int)(s & newMask)] = minDeque[(int)(s & mask)];
+		}
+		values = newValues;
+		times = newTimes;
+		maxDeque = newMax;
+		minDeque = newMin;
+		mask = newMask;
+	}
+
+	private void checkNotEmpty() {
+		if (isEmpty()) {
+			throw new NoSuchElementException("윈도우가 비어있습니다.");
+		}
+	}
+
+	/**
+	 * 로그-선형 버킷 히스토그램 (HdrHistogram과 같은 방식)
+	 * <p>
+	 * 2^k ~ 2^(k+1) 구간마다 2^PRECISION_BITS개의 같은 폭 버킷을 둔다.
+	 * 값이 커질수록 버킷 폭도 커지므로 버킷 수는 고정(약 2천 개)이고 상대 오차는 일정하다.
+	 * 음수는 절댓값으로 별도 배열에 센다.
+	 */
+	private static final class LogHistogram {
+		private static final int PRECISION_BITS = 5;
+		private static final int SUB_BUCKETS = 1 << PRECISION_BITS;
+		private static final int BUCKETS = (Long.SIZE - PRECISION_BITS + 1) * SUB_BUCKETS;
+
+		private final long[] positive = new long[BUCKETS];
+		private final long[] negative = new long[BUCKETS];
+		private long negativeCount;
+
+		void add(long value, int delta) {
+			if (value >= 0) {
+				positive[index(value)] += delta;
+			} else {
+				// Long.MIN_VALUE의 절댓값은 표현할 수 없으므로 MAX_VALUE로 취급
+				negative[index(value == Long.MIN_VALUE ? Long.MAX_VALUE : -value)] += delta;
+				negativeCount += delta;
+			}
+		}
+
+		// 오름차순 rank번째(1부터) 값의 근사치
+		long valueAtRank(long rank) {
+			if (rank <= negativeCount) {
+				// 음수는 절댓값이 큰 버킷부터가 작은 값
+				long seen = 0;
+				for (int i = BUCKETS - 1; i >= 0; i--) {
+					seen += negative[i];
+					if (seen >= rank) {
+						return -midpoint(i);
+					}
+				}
+			}
+			long seen = negativeCount;
+			for (int i = 0; i < BUCKETS; i++) {
+				seen += positive[i];
+				if (seen >= rank) {
+					return midpoint(i);
+				}
+			}
+			return Long.MAX_VALUE;
+		}
+
+		void clear() {
+			java.util.Arrays.fill(positive, 0);
+			java.util.Arrays.fill(negative, 0);
+			negativeCount = 0;
+		}
+
+		// 0 이상 값의 버킷 번호
+		private static int index(long value) {
+			if (value < SUB_BUCKETS) {
+				return (int)value;
+			}
+			int exponent = 63 - Long.numberOfLeadingZeros(value); // value의 최상위 비트 위치
+			int shift = exponent - PRECISION_BITS;
+			return ((shift + 1) << PRECISION_BITS) + (int)((value >>> shift) & (SUB_BUCKETS - 1));
+		}
+
+		// 버킷이 나타내는 값 구간의 가운데
+		private static long midpoint(int index) {
+			if (index < SUB_BUCKETS) {
+				return index;
+			}
+			int shift = (index >>> PRECISION_BITS) - 1;
+			long low = ((long)(SUB_BUCKETS + (index & (SUB_BUCKETS - 1)))) << shift;
+			return low + ((1L << shift) >>> 1);
+		}
+	}
+
+	public static void main(String[] args) {
+		// ArrayListPatterns 7번과 같은 입력: 윈도우 크기 3의 최대값
+		long[] data = {1, 3, -1, -3, 5, 3, 6, 7};
+		SlidingWindow window = SlidingWindow.countBased(3);
+		StringBuilder maxes = new StringBuilder();
+		for (int i = 0; i < data.length; i++) {
+			window.push(data[i]);
+			if (i >= 2) {
+				maxes.append(window.max()).append(' ');
+			}
+		}
+		System.out.println("윈도우 크기 3 최대값들: " + maxes); // 3 3 5 5 6 7
+
+		System.out.println("마지막 윈도우 - 최소: " + window.min() + ", 합: " + window.sum()
+			+ ", 평균: " + window.mean()); // 최소: 3, 합: 16
+
+		// 시간 기반 윈도우: 최근 1000ms 동안의 응답 시간
+		SlidingWindow latency = SlidingWindow.timeBased(1000);
+		for (int t = 0; t < 5000; t++) {
+			latency.push(t, t % 100); // 1ms마다 0~99
+		}
+		System.out.println("최근 1초 - 개수: " + latency.count() + ", p50: " + latency.percentile(0.5)
+			+ ", p99: " + latency.percentile(0.99) + ", 최대: " + latency.max());
+	}
+}
@@ -0,0 +1,283 @@
+package datastructure.phase01.arraylist;
+
+import java.util.Arrays;
+import java.util.function.IntToLongFunction;
+
+import datastructure.phase01.array.IntList;
+import datastructure.phase02.IndexedLongMinHeap;
+
+/**
+ * 가중치가 있는 불변 CSR 그래프와 최단 경로 탐색(다익스트라 / A*)입니다.
+ * <p>
+ * List&lt;List&lt;int[]&gt;&gt;는 간선마다 int[2] 객체(24바이트 + 참조)를 만든다.
+ * 여기서는 offsets / targets / weights 세 개의 배열에 간선을 나란히 저장한다 (간선당 8바이트).
+ * <p>
+ * 최단 경로 탐색은 Searcher에서 한다. Searcher는 거리/부모 배열과 인덱스 힙을 한 번만 할당하고,
+ * 질의가 끝나면 이번 질의에서 건드린 노드만 되돌려 놓는다.
+ * 따라서 같은 Searcher로 반복 질의하면 질의 경로에서 할당이 일어나지 않는다.
+ * (Searcher는 스레드마다 하나씩 사용한다)
+ */
+public final class WeightedCsrGraph {
+
+	public static final long UNREACHABLE = Long.MAX_VALUE;
+
+	private final int[] offsets;
+	private final int[] targets;
+	private final int[] weights;
+
+	private WeightedCsrGraph(int[] offsets, int[] targets, int[] weights) {
+		this.offsets = offsets;
+		this.targets = targets;
+		this.weights = weights;
+	}
+
+	public int nodeCount() {
+		return offsets.length - 1;
+	}
+
+	public long edgeCount() {
+		return targets.length;
+	}
+
+	public int degree(int node) {
+		checkNode(node);
+		return offsets[node + 1] - offsets[node];
+	}
+
+	// 할당 없이 이웃을 순회하기 위한 구간: [neighborStart(u), neighborEnd(u))
+	public int neighborStart(int node) {
+		checkNode(node);
+		return offsets[node];
+	}
+
+	public int neighborEnd(int node) {
+		checkNode(node);
+		return offsets[node + 1];
+	}
+
+	public int target(int edgeIndex) {
+		return targets[edgeIndex];
+	}
+
+	public int weight(int edgeIndex) {
+		return weights[edgeIndex];
+	}
+
+	private void checkNode(int node) {
+		if (node < 0 || node >= nodeCount()) {
+			throw new IndexOutOfBoundsException("Node: " + node + ", NodeCount: " + nodeCount());
+		}
+	}
+
+	// ========================================
+	// Builder
+	// ========================================
+
+	public static Builder builder(int nodeCount) {
+		return new Builder(nodeCount);
+	}
+
+	public static final class Builder {
+		private final int nodeCount;
+		private final IntList sources = new IntList();
+		private final IntList destinations = new IntList();
+		private final IntList edgeWeights = new IntList();
+
+		private Builder(int nodeCount) {
+			if (nodeCount < 0) {
+				throw new IllegalArgumentException("NodeCount: " + nodeCount);
+			}
+			this.nodeCount = nodeCount;
+		}
+
+		// 방향 간선 u -> v (가중치는 0 이상, 다익스트라는 음수 가중치를 지원하지 않는다)
+		public Builder addEdge(int u, int v, int weight) {
+			check(u);
+			check(v);
+			if (weight < 0) {
+				throw new IllegalArgumentException("음수 가중치는 허용되지 않습니다: " + weight);
+			}
+			sources.addLast(u);
+			destinations.addLast(v);
+			edgeWeights.addLast(weight);
+			return this;
+		}
+
+		public Builder addUndirectedEdge(int u, int v, int weight) {
+			addEdge(u, v, weight);
+			addEdge(v, u, weight);
+			return this;
+		}
+
+		// 출발 노드 기준 계수 정렬 - O(V + E)
+		public WeightedCsrGraph build() {
+			int m = sources.size();
+			int[] offsets = new int[nodeCount + 1];
+			for (int i = 0; i < m; i++) {
+				offsets[sources.get(i) + 1]++;
+			}
+			for (int i = 0; i < nodeCount; i++) {
+				offsets[i + 1] += offsets[i];
+			}
+			int[] cursor = Arrays.copyOf(offsets, nodeCount);
+			int[] targets = new int[m];
+			int[] weights = new int[m];
+			for (int i = 0; i < m; i++) {
+				int e = cursor[sources.get(i)]++;
+				targets[e] = destinations.get(i);
+				weights[e] = edgeWeights.get(i);
+			}
+			return new WeightedCsrGraph(offsets, targets, weights);
+		}
+
+		private void check(int node) {
+			if (node < 0 || node >= nodeCount) {
+				throw new IndexOutOfBoundsException("Node: " + node + ", NodeCount: " + nodeCount);
+			}
+		}
+	}
+
+	// ========================================
+	// 최단 경로
+	// ========================================
+
+	public Searcher newSearcher() {
+		return new Searcher();
+	}
+
+	// source에서 모든 노드까지의 최단 거리 (도달 불가는 UNREACHABLE)
+	public long[] dijkstra(int source) {
+		Searcher searcher = newSearcher();
+		searcher.search(source, -1, null);
+		return searcher.dist.clone();
+	}
+
+	/**
+	 * 재사용 가능한 최단 경로 탐색기
+	 * <p>
+	 * dist / parent 배열은 UNREACHABLE / -1로 한 번만 초기화해 두고,
+	 * 질의마다 값을 쓴 노드를 touched에 기록했다가 다음 질의 전에 그 노드들만 되돌린다.
+	 * 작은 지역 질의가 많을 때 O(V) 초기화를 피할 수 있다.
+	 */
+	public final class Searcher {
+		private final long[] dist;
+		private final int[] parent;
+		private final int[] touched;
+		private int touchedCount;
+		private final IndexedLongMinHeap heap;
+		private int lastSource = -1;
+
+		private Searcher() {
+			int n = nodeCount();
+			this.dist = new long[n];
+			this.parent = new int[n];
+			this.touched = new int[n];
+			this.heap = new IndexedLongMinHeap(n);
+			Arrays.fill(dist, UNREACHABLE);
+			Arrays.fill(parent, -1);
+		}
+
+		// 다익스트라로 source → target 최단 거리 (도달 불가면 UNREACHABLE)
+		public long distance(int source, int target) {
+			checkNode(target);
+			search(source, target, null);
+			return dist[target];
+		}
+
+		// A*로 source → target 최단 거리
+		// heuristic(v)는 v → target 실제 거리 이하여야(admissible) 하고,
+		// 간선마다 h(u) <= w(u, v) + h(v)를 만족해야(consistent) 한 번 꺼낸 노드를 다시 볼 필요가 없다.
+		public long distance(int source, int target, IntToLongFunction heuristic) {
+			checkNode(target);
+			search(source, target, heuristic);
+			return dist[target];
+		}
+
+		// 마지막 질의의 source → target 경로 (도달 불가면 빈 배열)
+		// target까지 탐색이 끝난 질의에서만 유효하다.
+		public int[] path(int target) {
+			checkNode(target);
+			if (dist[target] == UNREACHABLE) {
+				return new int[0];
+			}
+			int length = 1;
+			for (int v = target; v != lastSource; v = parent[v]) {
+				length++;
+			}
+			int[] path = new int[length];
+			for (int v = target, i = length - 1; i >= 0; v = parent[v], i--) {
+				path[i] = v;
+			}
+			return path;
+		}
+
+		// target < 0이면 전체 노드의 최단 거리를 구한다.
+		private void search(int source, int target, IntToLongFunction heuristic) {
+			checkNode(source);
+			reset();
+			lastSource = source;
+
+			touch(source, 0, source);
+			heap.insert(source, heuristic == null ? 0 : heuristic.applyAsLong(source));
+
+			while (!heap.isEmpty()) {
+				int u = heap.poll();
+				if (u == target) {
+					break;
+				}
+				long du = dist[u];
+				for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+					int v = targets[e];
+					long candidate = du + weights[e];
+					if (candidate < dist[v]) {
+						if (dist[v] == UNREACHABLE) {
+							touched[touchedCount++] = v;
+						}
+						dist[v] = candidate;
+						parent[v] = u;
+						long priority = heuristic == null ? candidate : candidate + heuristic.applyAsLong(v);
+						heap.insertOrDecrease(v, priority);
+					}
+				}
+			}
+			heap.clear();
+		}
+
+		private void touch(int node, long distance, int from) {
+			touched[touchedCount++] = node;
+			dist[node] = distance;
+			parent[node] = from;
+		}
+
+		private void reset() {
+			for (int i = 0; i < touchedCount; i++) {
+				int v = touched[i];
+				dist[v] = UNREACHABLE;
+				parent[v] = -1;
+			}
+			touchedCount = 0;
+		}
+	}
+
+	public static void main(String[] args) {
+		// ArrayListPatterns의 가중치 그래프 예제 + 간선 몇 개
+		WeightedCsrGraph graph = WeightedCsrGraph.builder(5)
+			.addEdge(0, 1, 5)
+			.addEdge(0, 2, 3)
+			.addEdge(1, 3, 2)
+			.addEdge(2, 1, 1)
+			.addEdge(2, 4, 9)
+			.addEdge(3, 4, 1)
+			.build();
+
+		System.out.println("0에서의 최단 거리: " + Arrays.toString(graph.dijkstra(0))); // [0, 4, 3, 6, 7]
+
+		Searcher searcher = graph.newSearcher();
+		System.out.println("0 -> 4 거리: " + searcher.distance(0, 4)); // 7
+		System.out.println("0 -> 4 경로: " + Arrays.toString(searcher.path(4))); // [0, 2, 1, 3, 4]
+		System.out.println("4 -> 0 거리: " + searcher.distance(4, 0)); // UNREACHABLE (Long.MAX_VALUE)
+
+		// 휴리스틱이 0이면 A*는 다익스트라와 같다.
+		System.out.println("A* 0 -> 3 거리: " + searcher.distance(0, 3, v -> 0)); // 6
+	}
+}
@@ -25,5 +25,12 @@ public class ArrayDequeDemo {
 		System.out.println(queue.poll()); // A
 		System.out.println(queue.poll()); // B
 		System.out.println(queue.poll()); // C
+
+		// int만 담는다면 IntArrayDeque - Integer 박싱 없이 같은 push/pop/offer/poll
+		IntArrayDeque ints = new IntArrayDeque();
+		ints.offer(1);
+		ints.offer(2);
+		ints.push(0);
+		System.out.println(ints.poll() + ", " + ints.poll() + ", " + ints.poll()); // 0, 1, 2
 	}
 }
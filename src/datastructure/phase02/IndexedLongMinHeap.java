@@ -0,0 +1,333 @@
+package datastructure.phase02;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * 0 ~ capacity-1 범위의 int id마다 long 우선순위를 가지는 d-ary 최소 힙입니다.
+ * <p>
+ * PriorityQueue&lt;int[]&gt;로 다익스트라를 구현하면 거리가 줄어들 때마다 새 배열을 넣고
+ * 꺼낼 때 낡은 항목을 버리는(lazy deletion) 방식이 되어, 간선 수만큼 객체가 생긴다.
+ * 인덱스 힙은 id → 힙 위치(pos)를 기억하므로 기존 항목의 우선순위를 제자리에서 낮출 수 있다.
+ * <p>
+ * - 힙 항목 수는 항상 id 개수 이하 → 미리 할당한 배열만 사용, 할당 없음
+ * - d-ary(기본 4): 트리 높이가 log_d n으로 낮아지고, 자식들이 연속된 캐시 라인에 있다
+ * <p>
+ * 시간 복잡도: insert / decreaseKey O(log_d n), poll / remove / updateKey O(d log_d n), insertAll O(n + m)
+ * <p>
+ * id 없이 값만 필요하면 IntMinHeap / LongMinHeap을 쓴다.
+ */
+public class IndexedLongMinHeap {
+
+	private static final int DEFAULT_ARITY = 4;
+	private static final int BATCH = -2; // insertAll 검사 중인 id의 pos
+
+	private final int arity;
+	private final int[] heap; // 힙 순서의 id
+	private final long[] heapKeys; // heap[i]의 우선순위 (sift 중 id → key 간접 참조를 피하려고 함께 저장)
+	private final int[] pos; // id의 힙 위치, 없으면 -1
+	private int size;
+
+	public IndexedLongMinHeap(int capacity) {
+		this(capacity, DEFAULT_ARITY);
+	}
+
+	public IndexedLongMinHeap(int capacity, int arity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Capacity: " + capacity);
+		}
+		if (arity < 2) {
+			throw new IllegalArgumentException("Arity: " + arity);
+		}
+		this.arity = arity;
+		this.heap = new int[capacity];
+		this.heapKeys = new long[capacity];
+		this.pos = new int[capacity];
+		Arrays.fill(pos, -1);
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public int capacity() {
+		return pos.length;
+	}
+
+	public boolean contains(int id) {
+		checkId(id);
+		return pos[id] >= 0;
+	}
+
+	// id의 현재 우선순위
+	public long key(int id) {
+		checkId(id);
+		int p = pos[id];
+		if (p < 0) {
+			throw new NoSuchElementException("Id: " + id);
+		}
+		return heapKeys[p];
+	}
+
+	// 삽입 - O(log_d n)
+	public void insert(int id, long key) {
+		checkId(id);
+		if (pos[id] >= 0) {
+			throw new IllegalStateException("이미 힙에 있는 id입니다: " + id);
+		}
+		int i = size++;
+		heap[i] = id;
+		heapKeys[i] = key;
+		pos[id] = i;
+		siftUp(i);
+	}
+
+	// 우선순위 낮추기 - O(log_d n)
+	public void decreaseKey(int id, long key) {
+		checkId(id);
+		int p = pos[id];
+		if (p < 0) {
+			throw new NoSuchElementException("Id: " + id);
+		}
+		if (key > heapKeys[p]) {
+			throw new IllegalArgumentException("새 우선순위가 더 큽니다: " + key + " > " + heapKeys[p]);
+		}
+		heapKeys[p] = key;
+		siftUp(p);
+	}
+
+	// 없으면 삽입하고, 있으면 더 작을 때만 낮춘다. 값이 바뀌었으면 true
+	// 다익스트라의 간선 완화(relaxation)에 그대로 쓸 수 있다.
+	public boolean insertOrDecrease(int id, long key) {
+		checkId(id);
+		int p = pos[id];
+		if (p < 0) {
+			insert(id, key);
+			return true;
+		}
+		if (key < heapKeys[p]) {
+			heapKeys[p] = key;
+			siftUp(p);
+			return true;
+		}
+		return false;
+	}
+
+	// 우선순위를 어느 방향으로든 바꾼다 - 작아지면 위로, 커지면 아래로
+	// 스케줄러처럼 우선순위가 양쪽으로 자주 바뀔 때 remove + insert보다 싸다.
+	public void updateKey(int id, long key) {
+		checkId(id);
+		int p = pos[id];
+		if (p < 0) {
+			throw new NoSuchElementException("Id: " + id);
+		}
+		long old = heapKeys[p];
+		heapKeys[p] = key;
+		if (key < old) {
+			siftUp(p);
+		} else if (key > old) {
+			siftDown(p);
+		}
+	}
+
+	// 여러 항목을 한 번에 삽입한다. 기존 항목보다 많이 넣을 때는
+	// 뒤에 붙인 뒤 마지막 내부 노드부터 siftDown해서 O(n + m)에 다시 구성한다.
+	// id를 먼저 모두 검사하므로 예외가 나면 힙은 바뀌지 않는다.
+	public void insertAll(int[] ids, long[] keys) {
+		if (ids.length != keys.length) {
+			throw new IllegalArgumentException("ids와 keys의 길이가 다릅니다.");
+		}
+		int m = ids.length;
+		if (m == 0) {
+			return;
+		}
+		checkNewIds(ids);
+		if (m < size) {
+			for (int i = 0; i < m; i++) {
+				insert(ids[i], keys[i]);
+			}
+			return;
+		}
+		for (int i = 0; i < m; i++) {
+			heap[size + i] = ids[i];
+			heapKeys[size + i] = keys[i];
+			pos[ids[i]] = size + i;
+		}
+		size += m;
+		for (int i = (size - 2) / arity; i >= 0; i--) {
+			siftDown(i);
+		}
+	}
+
+	// ids가 모두 범위 안이고, 힙에 없고, 서로 다른지 검사한다.
+	// 배치 안의 중복은 pos에 BATCH 표시를 해서 찾고, 끝나면 표시를 되돌린다.
+	private void checkNewIds(int[] ids) {
+		RuntimeException error = null;
+		int marked = 0;
+		for (; marked < ids.length; marked++) {
+			int id = ids[marked];
+			if (id < 0 || id >= pos.length) {
+				error = new IndexOutOfBoundsException("Id: " + id + ", Capacity: " + pos.length);
+				break;
+			}
+			if (pos[id] == BATCH) {
+				error = new IllegalArgumentException("ids에 중복된 id가 있습니다: " + id);
+				break;
+			}
+			if (pos[id] >= 0) {
+				error = new IllegalStateException("이미 힙에 있는 id입니다: " + id);
+				break;
+			}
+			pos[id] = BATCH;
+		}
+		for (int i = 0; i < marked; i++) {
+			pos[ids[i]] = -1;
+		}
+		if (error != null) {
+			throw error;
+		}
+	}
+
+	// 최소 우선순위 id
+	public int peek() {
+		if (size == 0) {
+			throw new NoSuchElementException("힙이 비어있습니다.");
+		}
+		return heap[0];
+	}
+
+	public long peekKey() {
+		if (size == 0) {
+			throw new NoSuchElementException("힙이 비어있습니다.");
+		}
+		return heapKeys[0];
+	}
+
+	// 최소 우선순위 id를 꺼낸다 - O(d log_d n)
+	public int poll() {
+		int id = peek();
+		removeAt(0);
+		return id;
+	}
+
+	// 임의의 id 삭제 - O(d log_d n). 없으면 false
+	public boolean remove(int id) {
+		checkId(id);
+		int p = pos[id];
+		if (p < 0) {
+			return false;
+		}
+		removeAt(p);
+		return true;
+	}
+
+	// 힙에 남은 id만 초기화 - O(size)
+	public void clear() {
+		for (int i = 0; i < size; i++) {
+			pos[heap[i]] = -1;
+		}
+		size = 0;
+	}
+
+	private void removeAt(int p) {
+		int removed = heap[p];
+		pos[removed] = -1;
+		int last = --size;
+		if (p == last) {
+			return;
+		}
+		// 마지막 항목을 빈자리로 옮긴 뒤, 부모보다 작으면 위로, 아니면 아래로
+		heap[p] = heap[last];
+		heapKeys[p] = heapKeys[last];
+		pos[heap[p]] = p;
+		if (p > 0 && heapKeys[p] < heapKeys[(p - 1) / arity]) {
+			siftUp(p);
+		} else {
+			siftDown(p);
+		}
+	}
+
+	// 빈자리를 위로 올리면서 부모를 내려 쓰고, 마지막에 한 번만 기록한다 (swap보다 쓰기 횟수가 적다)
+	private void siftUp(int i) {
+		int id = heap[i];
+		long key = heapKeys[i];
+		while (i > 0) {
+			int parent = (i - 1) / arity;
+			if (heapKeys[parent] <= key) {
+				break;
+			}
+			heap[i] = heap[parent];
+			heapKeys[i] = heapKeys[parent];
+			pos[heap[i]] = i;
+			i = parent;
+		}
+		heap[i] = id;
+		heapKeys[i] = key;
+		pos[id] = i;
+	}
+
+	private void siftDown(int i) {
+		int id = heap[i];
+		long key = heapKeys[i];
+		while (true) {
+			int first = i * arity + 1;
+			if (first >= size) {
+				break;
+			}
+			// 자식들 중 최소
+			int last = Math.min(first + arity, size);
+			int min = first;
+			long minKey = heapKeys[first];
+			for (int c = first + 1; c < last; c++) {
+				if (heapKeys[c] < minKey) {
+					min = c;
+					minKey = heapKeys[c];
+				}
+			}
+			if (key <= minKey) {
+				break;
+			}
+			heap[i] = heap[min];
+			heapKeys[i] = minKey;
+			pos[heap[i]] = i;
+			i = min;
+		}
+		heap[i] = id;
+		heapKeys[i] = key;
+		pos[id] = i;
+	}
+
+	private void checkId(int id) {
+		if (id < 0 || id >= pos.length) {
+			throw new IndexOutOfBoundsException("Id: " + id + ", Capacity: " + pos.length);
+		}
+	}
+
+	public static void main(String[] args) {
+		IndexedLongMinHeap heap = new IndexedLongMinHeap(10);
+		heap.insert(3, 50);
+		heap.insert(1, 20);
+		heap.insert(7, 40);
+		heap.insert(5, 10);
+
+		// 7번의 우선순위를 40 → 5로 낮춘다.
+		heap.decreaseKey(7, 5);
+		// 1번 삭제
+		heap.remove(1);
+		// 3번의 우선순위를 50 → 1로, 다시 1 → 60으로
+		heap.updateKey(3, 1);
+		heap.updateKey(3, 60);
+		// 여러 항목 한 번에
+		heap.insertAll(new int[] {0, 9}, new long[] {30, 70});
+
+		// 7(5), 5(10), 0(30), 3(60), 9(70) 순서
+		while (!heap.isEmpty()) {
+			long key = heap.peekKey();
+			System.out.println("id " + heap.poll() + " (우선순위 " + key + ")");
+		}
+	}
+}
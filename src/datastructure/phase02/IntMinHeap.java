@@ -0,0 +1,241 @@
+package datastructure.phase02;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * int 전용 d-ary 최소 힙입니다. (PriorityQueue&lt;Integer&gt;의 박싱 없는 버전)
+ * <p>
+ * PriorityQueue&lt;Integer&gt;는 원소마다 Integer 객체를 만들고, 비교할 때마다
+ * Comparator(또는 compareTo)를 호출한다. IntMinHeap은 int[] 하나에 값을 그대로 담고 &lt;로 비교한다.
+ * <p>
+ * - d-ary(기본 4): 높이가 log_d n으로 낮아지고, 자식 d개가 연속된 캐시 라인에 있다
+ * - heapify / addAll: 아래에서부터 siftDown하는 O(n) 일괄 구성 (하나씩 add하면 O(n log n))
+ * - 최대 힙 모드: 값을 ~v(= -v - 1)로 바꿔 넣는다. ~는 전체 int 범위에서 순서를 정확히 뒤집으므로
+ *   (a, b) -&gt; b - a 비교자처럼 오버플로가 나지 않는다.
+ * <p>
+ * 시간 복잡도: add O(log_d n), poll O(d log_d n), peek O(1)
+ */
+public class IntMinHeap {
+
+	private static final int DEFAULT_ARITY = 4;
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private final int arity;
+	private final boolean max; // true면 저장된 값은 ~value
+	private int[] heap;
+	private int size;
+
+	public IntMinHeap() {
+		this(DEFAULT_CAPACITY, DEFAULT_ARITY, false);
+	}
+
+	public IntMinHeap(int initialCapacity) {
+		this(initialCapacity, DEFAULT_ARITY, false);
+	}
+
+	public IntMinHeap(int initialCapacity, int arity) {
+		this(initialCapacity, arity, false);
+	}
+
+	private IntMinHeap(int initialCapacity, int arity, boolean max) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("Capacity: " + initialCapacity);
+		}
+		if (arity < 2) {
+			throw new IllegalArgumentException("Arity: " + arity);
+		}
+		this.arity = arity;
+		this.max = max;
+		this.heap = new int[initialCapacity];
+	}
+
+	// 큰 값이 먼저 나오는 최대 힙
+	public static IntMinHeap maxHeap() {
+		return new IntMinHeap(DEFAULT_CAPACITY, DEFAULT_ARITY, true);
+	}
+
+	public static IntMinHeap maxHeap(int initialCapacity, int arity) {
+		return new IntMinHeap(initialCapacity, arity, true);
+	}
+
+	// values로 최소 힙을 O(n)에 만든다 (values는 복사되고 바뀌지 않는다)
+	public static IntMinHeap heapify(int[] values) {
+		IntMinHeap heap = new IntMinHeap(values.length);
+		heap.addAll(values);
+		return heap;
+	}
+
+	// 삽입 - O(log_d n)
+	public void add(int value) {
+		if (size == heap.length) {
+			grow(size + 1);
+		}
+		heap[size] = encode(value);
+		siftUp(size++);
+	}
+
+	public boolean offer(int value) {
+		add(value);
+		return true;
+	}
+
+	// 여러 값 삽입. 기존 원소보다 많이 넣을 때는 전체를 O(n + m)에 다시 구성하고,
+	// 적게 넣을 때는 하나씩 siftUp한다 (O(m log n)이 더 싸다).
+	public void addAll(int[] values) {
+		int m = values.length;
+		if (m == 0) {
+			return;
+		}
+		if (size + m > heap.length) {
+			grow(size + m);
+		}
+		if (m < size) {
+			for (int value : values) {
+				heap[size] = encode(value);
+				siftUp(size++);
+			}
+			return;
+		}
+		for (int i = 0; i < m; i++) {
+			heap[size + i] = encode(values[i]);
+		}
+		size += m;
+		// 마지막 내부 노드부터 루트까지 siftDown - 높이 h인 노드는 n / d^h개뿐이라 합이 O(n)
+		for (int i = (size - 2) / arity; i >= 0; i--) {
+			siftDown(i);
+		}
+	}
+
+	// 최솟값 (최대 힙이면 최댓값) - O(1)
+	public int peek() {
+		if (size == 0) {
+			throw new NoSuchElementException("힙이 비어있습니다.");
+		}
+		return decode(heap[0]);
+	}
+
+	// 최솟값 (최대 힙이면 최댓값)을 꺼낸다 - O(d log_d n)
+	public int poll() {
+		int top = peek();
+		int last = heap[--size];
+		if (size > 0) {
+			heap[0] = last;
+			siftDown(0);
+		}
+		return top;
+	}
+
+	// 우선순위 순서로 최대 dest.length개를 꺼낸다. 꺼낸 개수를 반환
+	public int drainTo(int[] dest) {
+		int count = Math.min(size, dest.length);
+		for (int i = 0; i < count; i++) {
+			dest[i] = poll();
+		}
+		return count;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public boolean isMaxHeap() {
+		return max;
+	}
+
+	public void clear() {
+		size = 0;
+	}
+
+	public void trimToSize() {
+		if (size < heap.length) {
+			heap = Arrays.copyOf(heap, size);
+		}
+	}
+
+	// 힙 배열 순서 그대로 (정렬되어 있지 않다)
+	public int[] toArray() {
+		int[] result = Arrays.copyOf(heap, size);
+		if (max) {
+			for (int i = 0; i < size; i++) {
+				result[i] = ~result[i];
+			}
+		}
+		return result;
+	}
+
+	private int encode(int value) {
+		return max ? ~value : value;
+	}
+
+	private int decode(int stored) {
+		return max ? ~stored : stored;
+	}
+
+	// 빈자리를 위로 올리면서 부모를 내려 쓰고, 마지막에 한 번만 기록한다 (swap보다 쓰기 횟수가 적다)
+	private void siftUp(int i) {
+		int value = heap[i];
+		while (i > 0) {
+			int parent = (i - 1) / arity;
+			if (heap[parent] <= value) {
+				break;
+			}
+			heap[i] = heap[parent];
+			i = parent;
+		}
+		heap[i] = value;
+	}
+
+	private void siftDown(int i) {
+		int value = heap[i];
+		while (true) {
+			int first = i * arity + 1;
+			if (first >= size) {
+				break;
+			}
+			// 자식들 중 최소
+			int last = Math.min(first + arity, size);
+			int min = first;
+			int minValue = heap[first];
+			for (int c = first + 1; c < last; c++) {
+				if (heap[c] < minValue) {
+					min = c;
+					minValue = heap[c];
+				}
+			}
+			if (value <= minValue) {
+				break;
+			}
+			heap[i] = minValue;
+			i = min;
+		}
+		heap[i] = value;
+	}
+
+	private void grow(int minCapacity) {
+		int newCapacity = Math.max(Math.max(minCapacity, DEFAULT_CAPACITY), heap.length + (heap.length >> 1));
+		heap = Arrays.copyOf(heap, newCapacity);
+	}
+
+	public static void main(String[] args) {
+		// PriorityQueueDemo와 같은 입력
+		IntMinHeap minHeap = IntMinHeap.heapify(new int[] {5, 1, 3, 2});
+		int[] sorted = new int[minHeap.size()];
+		minHeap.drainTo(sorted);
+		System.out.println("최소 힙: " + Arrays.toString(sorted)); // [1, 2, 3, 5]
+
+		// (a, b) -> b - a 비교자는 부호가 다른 큰 값에서 오버플로가 난다.
+		// 최대 힙 모드는 ~v로 순서를 뒤집으므로 int 전체 범위에서 안전하다.
+		IntMinHeap maxHeap = IntMinHeap.maxHeap();
+		maxHeap.addAll(new int[] {5, 1, 3, Integer.MIN_VALUE, Integer.MAX_VALUE, -7});
+		StringBuilder order = new StringBuilder();
+		while (!maxHeap.isEmpty()) {
+			order.append(maxHeap.poll()).append(' ');
+		}
+		System.out.println("최대 힙: " + order); // 2147483647 5 3 1 -7 -2147483648
+	}
+}
@@ -0,0 +1,289 @@
+package datastructure.phase02;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.LongConsumer;
+
+/**
+ * long 전용 원형 배열 덱입니다. (ArrayDeque&lt;Long&gt;의 박싱 없는 버전)
+ * <p>
+ * ArrayDeque&lt;Long&gt;은 원소마다 Long 객체(16바이트) + 참조(4~8바이트)를 쓰지만
+ * LongArrayDeque는 원소당 8바이트만 쓰고, 용량이 충분하면 push/poll에서 할당이 없다.
+ * 구조와 API는 IntArrayDeque와 같다.
+ * <p>
+ * 구조: 용량이 항상 2의 거듭제곱인 int[]와 head, size
+ * - i번째 원소 = elements[(head + i) &amp; mask] → 나머지 연산(%) 대신 비트 AND 한 번
+ * - 가득 차면 2배로 늘리고, trimToSize()로 줄일 수 있다
+ * <p>
+ * 박싱이 없으므로 비어있을 때 null을 돌려줄 수 없다.
+ * pop / poll / peek는 비어있으면 NoSuchElementException을 던지므로 isEmpty()로 먼저 확인한다.
+ * <p>
+ * 시간 복잡도: 양쪽 끝 삽입/삭제 O(1) 분할 상환, get(i) O(1)
+ */
+public class LongArrayDeque {
+
+	private static final int MIN_CAPACITY = 8;
+
+	private long[] elements;
+	private int mask;
+	private int head; // 첫 원소의 위치
+	private int size;
+
+	public LongArrayDeque() {
+		this(MIN_CAPACITY);
+	}
+
+	public LongArrayDeque(int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("Capacity: " + initialCapacity);
+		}
+		this.elements = new long[capacityFor(initialCapacity)];
+		this.mask = elements.length - 1;
+	}
+
+	// ========================================
+	// 앞쪽 (Stack: push / pop)
+	// ========================================
+
+	public void addFirst(long value) {
+		if (size == elements.length) {
+			resize(elements.length << 1);
+		}
+		head = (head - 1) & mask;
+		elements[head] = value;
+		size++;
+	}
+
+	public long removeFirst() {
+		checkNotEmpty();
+		long value = elements[head];
+		head = (head + 1) & mask;
+		size--;
+		return value;
+	}
+
+	public long peekFirst() {
+		checkNotEmpty();
+		return elements[head];
+	}
+
+	public void push(long value) {
+		addFirst(value);
+	}
+
+	public long pop() {
+		return removeFirst();
+	}
+
+	public long peek() {
+		return peekFirst();
+	}
+
+	public boolean offerFirst(long value) {
+		addFirst(value);
+		return true;
+	}
+
+	public long pollFirst() {
+		return removeFirst();
+	}
+
+	// ========================================
+	// 뒤쪽 (Queue: offer / poll은 뒤에 넣고 앞에서 꺼낸다)
+	// ========================================
+
+	public void addLast(long value) {
+		if (size == elements.length) {
+			resize(elements.length << 1);
+		}
+		elements[(head + size) & mask] = value;
+		size++;
+	}
+
+	public long removeLast() {
+		checkNotEmpty();
+		size--;
+		return elements[(head + size) & mask];
+	}
+
+	public long peekLast() {
+		checkNotEmpty();
+		return elements[(head + size - 1) & mask];
+	}
+
+	public boolean offerLast(long value) {
+		addLast(value);
+		return true;
+	}
+
+	public long pollLast() {
+		return removeLast();
+	}
+
+	public boolean offer(long value) {
+		addLast(value);
+		return true;
+	}
+
+	public long poll() {
+		return removeFirst();
+	}
+
+	// ========================================
+	// 조회 / 대량 연산
+	// ========================================
+
+	// 앞에서 index번째 원소 - O(1)
+	public long get(int index) {
+		checkIndex(index);
+		return elements[(head + index) & mask];
+	}
+
+	public void set(int index, long value) {
+		checkIndex(index);
+		elements[(head + index) & mask] = value;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public int capacity() {
+		return elements.length;
+	}
+
+	public boolean contains(long value) {
+		for (int i = 0; i < size; i++) {
+			if (elements[(head + i) & mask] == value) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// 앞에서부터 최대 dest.length개를 꺼내 dest에 담는다. 꺼낸 개수를 반환
+	public int drainTo(long[] dest) {
+		return drainTo(dest, 0, dest.length);
+	}
+
+	// 앞에서부터 최대 maxElements개를 꺼내 dest[offset..]에 담는다.
+	// 원형 배열이 끝에서 감겨 있어도 System.arraycopy 두 번이면 된다.
+	public int drainTo(long[] dest, int offset, int maxElements) {
+		if (offset < 0 || maxElements < 0 || offset > dest.length - maxElements) {
+			throw new IndexOutOfBoundsException("Offset: " + offset + ", Max: " + maxElements + ", Length: " + dest.length);
+		}
+		int count = Math.min(size, maxElements);
+		copyTo(dest, offset, count);
+		head = (head + count) & mask;
+		size -= count;
+		return count;
+	}
+
+	// 할당 없이 앞에서부터 순회
+	public void forEach(LongConsumer action) {
+		for (int i = 0; i < size; i++) {
+			action.accept(elements[(head + i) & mask]);
+		}
+	}
+
+	public long[] toArray() {
+		long[] result = new long[size];
+		copyTo(result, 0, size);
+		return result;
+	}
+
+	// 용량은 그대로 두고 비운다 - O(1)
+	public void clear() {
+		head = 0;
+		size = 0;
+	}
+
+	// size 이상인 가장 작은 2의 거듭제곱으로 줄인다 (최소 MIN_CAPACITY)
+	public void trimToSize() {
+		int capacity = capacityFor(size);
+		if (capacity < elements.length) {
+			resize(capacity);
+		}
+	}
+
+	public void ensureCapacity(int minCapacity) {
+		if (minCapacity > elements.length) {
+			resize(capacityFor(minCapacity));
+		}
+	}
+
+	// 앞에서부터 count개를 dest[offset..]에 복사
+	private void copyTo(long[] dest, int offset, int count) {
+		int firstPart = Math.min(count, elements.length - head);
+		System.arraycopy(elements, head, dest, offset, firstPart);
+		System.arraycopy(elements, 0, dest, offset + firstPart, count - firstPart);
+	}
+
+	// 새 배열의 0번부터 순서대로 펼쳐서 옮긴다.
+	private void resize(int newCapacity) {
+		if (newCapacity < 0) {
+			throw new OutOfMemoryError("Deque too large");
+		}
+		long[] newElements = new long[newCapacity];
+		copyTo(newElements, 0, size);
+		elements = newElements;
+		mask = newCapacity - 1;
+		head = 0;
+	}
+
+	private static int capacityFor(int minCapacity) {
+		if (minCapacity <= MIN_CAPACITY) {
+			return MIN_CAPACITY;
+		}
+		int capacity = Integer.highestOneBit(minCapacity - 1) << 1;
+		if (capacity < 0) {
+			throw new OutOfMemoryError("Deque too large");
+		}
+		return capacity;
+	}
+
+	private void checkNotEmpty() {
+		if (size == 0) {
+			throw new NoSuchElementException("덱이 비어있습니다.");
+		}
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+
+	public static void main(String[] args) {
+		// 되돌리기(undo) 스택: 작업 id와 시각을 하나의 long에 담아 쌓는다.
+		LongArrayDeque undo = new LongArrayDeque();
+		for (int task = 1; task <= 3; task++) {
+			long timestamp = 1_700_000_000L + task;
+			undo.push(((long)task << 40) | timestamp);
+		}
+		while (!undo.isEmpty()) {
+			long entry = undo.pop();
+			System.out.println("undo task " + (entry >>> 40) + " @" + (entry & ((1L << 40) - 1))); // 3, 2, 1
+		}
+
+		// 양쪽 끝을 모두 쓰는 덱
+		LongArrayDeque deque = new LongArrayDeque();
+		deque.offerLast(2);
+		deque.offerFirst(1);
+		deque.offerLast(3);
+		System.out.println("deque: " + deque + ", first: " + deque.peekFirst() + ", last: " + deque.peekLast()); // [1, 2, 3]
+
+		long[] drained = new long[deque.size()];
+		deque.drainTo(drained);
+		System.out.println("drainTo: " + Arrays.toString(drained) + ", 비었나? " + deque.isEmpty());
+	}
+}
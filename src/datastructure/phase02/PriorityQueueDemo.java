@@ -1,5 +1,6 @@
 package datastructure.phase02;
 
+import java.util.Comparator;
 import java.util.PriorityQueue;
 
 public class PriorityQueueDemo {
@@ -18,9 +19,8 @@ public class PriorityQueueDemo {
 		System.out.println(minHeap.poll()); // 3
 		System.out.println(minHeap.poll()); // 5
 
-		PriorityQueue<Integer> maxHeap = new PriorityQueue<>(
-			(a, b) -> b - a
-		);
+		// (a, b) -> b - a는 부호가 다른 큰 값(예: Integer.MIN_VALUE와 1)에서 오버플로가 나므로 reverseOrder로
+		PriorityQueue<Integer> maxHeap = new PriorityQueue<>(Comparator.reverseOrder());
 		maxHeap.offer(5);
 		maxHeap.offer(1);
 		maxHeap.offer(3);
@@ -28,5 +28,10 @@ public class PriorityQueueDemo {
 		System.out.println(maxHeap.poll()); // 5
 		System.out.println(maxHeap.poll()); // 3
 		System.out.println(maxHeap.poll()); // 1
+
+		// 박싱 없는 int 힙 (4-ary, 최대 힙 모드는 오버플로 없음)
+		IntMinHeap intMaxHeap = IntMinHeap.maxHeap();
+		intMaxHeap.addAll(new int[] {5, 1, 3});
+		System.out.println(intMaxHeap.poll() + ", " + intMaxHeap.poll() + ", " + intMaxHeap.poll()); // 5, 3, 1
 	}
 }
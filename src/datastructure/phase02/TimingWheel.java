@@ -0,0 +1,365 @@
+package datastructure.phase02;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * 계층형 해시 타이밍 휠 (hierarchical hashed timing wheel) 타이머입니다.
+ * <p>
+ * PriorityQueue로 타이머를 관리하면 등록/취소가 O(log n)이고, remove(Object)는 O(n)이다.
+ * 타이밍 휠은 시간을 tick 단위 칸(bucket)으로 나눈 원형 배열이라 등록/취소가 O(1)이다.
+ * <p>
+ * 계층 구조 (wheelSize = 256, levels = 4 예시):
+ * - 레벨 0: 1 tick짜리 칸 256개
+ * - 레벨 1: 256 tick짜리 칸 256개 ... 레벨 l의 칸 하나 = 256^l tick
+ * - 만료 tick을 wheelSize진법 숫자로 보고, 현재 tick과 달라지는 가장 높은 자리가 레벨이 된다.
+ * - 아래 레벨이 한 바퀴 돌 때마다 위 레벨의 칸 하나를 아래 레벨로 다시 나눠 넣는다 (cascade).
+ *   타이머 하나는 최대 levels번만 옮겨진다.
+ * - 최상위 레벨보다 먼 타이머는 최상위 레벨에 머물며 한 바퀴마다 다시 확인된다.
+ * <p>
+ * 타이머는 객체를 만들지 않고 슬롯 번호로 관리한다 (deadline / next / prev / bucket 병렬 배열).
+ * schedule은 (세대 &lt;&lt; 32 | 슬롯) 핸들을 돌려주므로, 이미 만료되어 재사용된 슬롯을
+ * 낡은 핸들로 취소하는 실수를 막는다.
+ * <p>
+ * 시간 진행: advance()를 직접 호출하거나 start()로 전용 데몬 스레드를 띄운다.
+ * (JDK 17에는 가상 스레드가 정식 기능이 아니므로 플랫폼 스레드 하나를 tick 구동에만 쓴다)
+ * 만료된 작업은 잠금을 푼 뒤 advance를 호출한 스레드에서 한꺼번에 실행된다.
+ */
+public class TimingWheel implements AutoCloseable {
+
+	private static final int NONE = -1;
+	private static final int INITIAL_TIMERS = 64;
+
+	private final long tickNanos;
+	private final int wheelBits;
+	private final int wheelMask;
+	private final int levels;
+	private final LongSupplier clock;
+	private final long origin;
+	private final Object lock = new Object(); // 휠 / 슬롯 상태
+	private final Object advanceLock = new Object(); // advance 호출끼리 expired 배열을 나눠 쓰지 않도록
+
+	// 칸마다 이중 연결 리스트의 첫 슬롯 - 레벨 l의 i번째 칸 = heads[l * wheelSize + i]
+	private final int[] heads;
+	private long currentTick;
+
+	// 타이머 슬롯 (병렬 배열)
+	private long[] deadlines; // 만료 tick
+	private int[] next;
+	private int[] prev;
+	private int[] bucketOf; // 들어있는 칸, 비어있는 슬롯이면 NONE
+	private int[] generations;
+	private Runnable[] tasks;
+	private int freeHead = NONE; // 빈 슬롯 목록 (next로 연결)
+	private int slotCount;
+	private int size;
+
+	private Runnable[] expired = new Runnable[INITIAL_TIMERS];
+	private Thread driver;
+	private volatile boolean running;
+
+	// tick 1ms, 칸 256개 x 4레벨 (약 49일까지 한 번도 다시 확인하지 않고 표현)
+	public TimingWheel() {
+		this(1, TimeUnit.MILLISECONDS, 256, 4);
+	}
+
+	public TimingWheel(long tickDuration, TimeUnit unit, int wheelSize, int levels) {
+		this(tickDuration, unit, wheelSize, levels, System::nanoTime);
+	}
+
+	// clock: 나노초 단위 시계 (테스트에서는 직접 움직이는 가짜 시계를 넣는다)
+	public TimingWheel(long tickDuration, TimeUnit unit, int wheelSize, int levels, LongSupplier clock) {
+		if (tickDuration <= 0) {
+			throw new IllegalArgumentException("TickDuration: " + tickDuration);
+		}
+		if (wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+			throw new IllegalArgumentException("WheelSize는 2 이상의 2의 거듭제곱이어야 합니다: " + wheelSize);
+		}
+		if (levels < 1 || (long)Integer.numberOfTrailingZeros(wheelSize) * levels > 62) {
+			throw new IllegalArgumentException("Levels: " + levels);
+		}
+		this.tickNanos = unit.toNanos(tickDuration);
+		this.wheelBits = Integer.numberOfTrailingZeros(wheelSize);
+		this.wheelMask = wheelSize - 1;
+		this.levels = levels;
+		this.clock = clock;
+		this.origin = clock.getAsLong();
+		this.heads = new int[levels * wheelSize];
+		Arrays.fill(heads, NONE);
+		allocateSlots(INITIAL_TIMERS);
+	}
+
+	// ========================================
+	// 등록 / 취소 - O(1)
+	// ========================================
+
+	// delay 뒤에 task를 실행하도록 등록하고 취소용 핸들을 돌려준다.
+	// 만료는 tick 단위로 올림되며, 최소 1 tick 뒤에 실행된다.
+	public long schedule(long delay, TimeUnit unit, Runnable task) {
+		if (delay < 0) {
+			throw new IllegalArgumentException("Delay: " + delay);
+		}
+		if (task == null) {
+			throw new NullPointerException("task");
+		}
+		long deadlineNanos = clock.getAsLong() - origin + unit.toNanos(delay);
+		long deadlineTick = (deadlineNanos + tickNanos - 1) / tickNanos;
+		synchronized (lock) {
+			int slot = allocateSlot();
+			deadlines[slot] = Math.max(deadlineTick, currentTick + 1);
+			tasks[slot] = task;
+			place(slot);
+			size++;
+			return ((long)generations[slot] << 32) | slot;
+		}
+	}
+
+	// 아직 만료되지 않은 타이머면 제거하고 true
+	public boolean cancel(long handle) {
+		int slot = (int)handle;
+		int generation = (int)(handle >>> 32);
+		synchronized (lock) {
+			if (slot < 0 || slot >= slotCount || generations[slot] != generation || bucketOf[slot] == NONE) {
+				return false;
+			}
+			unlink(slot);
+			release(slot);
+			size--;
+			return true;
+		}
+	}
+
+	public int size() {
+		synchronized (lock) {
+			return size;
+		}
+	}
+
+	// ========================================
+	// 시간 진행
+	// ========================================
+
+	// 시계의 현재 시각까지 tick을 진행하고 만료된 작업들을 실행한다. 실행한 개수를 반환
+	public int advance() {
+		synchronized (advanceLock) {
+			long targetTick = (clock.getAsLong() - origin) / tickNanos;
+			int count;
+			synchronized (lock) {
+				count = collectExpired(targetTick);
+			}
+			// 휠 잠금 밖에서 실행 - 작업 안에서 schedule / cancel을 불러도 된다.
+			for (int i = 0; i < count; i++) {
+				Runnable task = expired[i];
+				expired[i] = null;
+				try {
+					task.run();
+				} catch (RuntimeException e) {
+					// 작업 하나의 예외 때문에 나머지 작업이나 구동 스레드가 멈추지 않게 한다.
+					Thread current = Thread.currentThread();
+					current.getUncaughtExceptionHandler().uncaughtException(current, e);
+				}
+			}
+			return count;
+		}
+	}
+
+	// 전용 데몬 스레드가 tick마다 advance()를 호출한다.
+	public void start() {
+		synchronized (lock) {
+			if (driver != null) {
+				throw new IllegalStateException("이미 시작되었습니다.");
+			}
+			running = true;
+			driver = new Thread(this::drive, "timing-wheel");
+			driver.setDaemon(true);
+			driver.start();
+		}
+	}
+
+	// 구동 스레드를 멈추고 끝날 때까지 기다린다. 남은 타이머는 실행되지 않는다.
+	@Override
+	public void close() {
+		Thread thread;
+		synchronized (lock) {
+			thread = driver;
+			running = false;
+		}
+		if (thread == null || thread == Thread.currentThread()) {
+			return;
+		}
+		LockSupport.unpark(thread);
+		boolean interrupted = false;
+		while (thread.isAlive()) {
+			try {
+				thread.join();
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void drive() {
+		while (running) {
+			advance();
+			// 다음 tick 경계까지 잔다.
+			long elapsed = clock.getAsLong() - origin;
+			long untilNextTick = tickNanos - elapsed % tickNanos;
+			LockSupport.parkNanos(this, untilNextTick);
+		}
+	}
+
+	// currentTick + 1부터 targetTick까지 한 tick씩 진행하며 만료된 작업을 expired에 모은다.
+	private int collectExpired(long targetTick) {
+		int count = 0;
+		if (size == 0 && targetTick > currentTick) {
+			currentTick = targetTick; // 타이머가 없으면 빈 칸을 하나씩 볼 필요가 없다.
+			return 0;
+		}
+		while (currentTick < targetTick) {
+			long tick = ++currentTick;
+			// 아래 레벨이 한 바퀴 돈 레벨들을 위에서부터 다시 나눠 넣는다.
+			int wrapped = 0;
+			while (wrapped + 1 < levels && ((tick >>> (wheelBits * (wrapped + 1))) << (wheelBits * (wrapped + 1))) == tick) {
+				wrapped++;
+			}
+			for (int level = wrapped; level >= 1; level--) {
+				cascade(level, (int)(tick >>> (wheelBits * level)) & wheelMask);
+			}
+			// 레벨 0 칸의 타이머는 지금 만료된다.
+			// (levels가 1이면 한 바퀴보다 먼 타이머도 레벨 0에 있으므로 다시 넣는다)
+			int bucket = (int)tick & wheelMask;
+			int slot = heads[bucket];
+			heads[bucket] = NONE;
+			while (slot != NONE) {
+				int following = next[slot];
+				if (deadlines[slot] > tick) {
+					place(slot);
+				} else {
+					if (count == expired.length) {
+						expired = Arrays.copyOf(expired, count * 2);
+					}
+					expired[count++] = tasks[slot];
+					release(slot);
+					size--;
+				}
+				slot = following;
+			}
+		}
+		return count;
+	}
+
+	// 레벨 level의 index 칸을 떼어내 현재 tick 기준으로 다시 넣는다.
+	private void cascade(int level, int index) {
+		int bucket = level * (wheelMask + 1) + index;
+		int slot = heads[bucket];
+		heads[bucket] = NONE;
+		while (slot != NONE) {
+			int following = next[slot];
+			place(slot);
+			slot = following;
+		}
+	}
+
+	// 만료 tick과 현재 tick이 달라지는 가장 높은 자리(wheelSize진법)의 레벨에 넣는다.
+	private void place(int slot) {
+		long deadline = deadlines[slot];
+		long diff = deadline ^ currentTick;
+		int level = diff == 0 ? 0 : (63 - Long.numberOfLeadingZeros(diff)) / wheelBits;
+		if (level >= levels) {
+			level = levels - 1; // 최상위 레벨보다 멀면 최상위 레벨에서 한 바퀴마다 다시 확인
+		}
+		int bucket = level * (wheelMask + 1) + ((int)(deadline >>> (wheelBits * level)) & wheelMask);
+		int head = heads[bucket];
+		next[slot] = head;
+		prev[slot] = NONE;
+		if (head != NONE) {
+			prev[head] = slot;
+		}
+		heads[bucket] = slot;
+		bucketOf[slot] = bucket;
+	}
+
+	private void unlink(int slot) {
+		int p = prev[slot];
+		int n = next[slot];
+		if (p != NONE) {
+			next[p] = n;
+		} else {
+			heads[bucketOf[slot]] = n;
+		}
+		if (n != NONE) {
+			prev[n] = p;
+		}
+	}
+
+	// ========================================
+	// 슬롯 관리
+	// ========================================
+
+	private int allocateSlot() {
+		if (freeHead != NONE) {
+			int slot = freeHead;
+			freeHead = next[slot];
+			return slot;
+		}
+		if (slotCount == deadlines.length) {
+			allocateSlots(slotCount * 2);
+		}
+		return slotCount++;
+	}
+
+	// 슬롯을 빈 목록에 돌려주고 세대를 올려 낡은 핸들을 무효화한다.
+	private void release(int slot) {
+		bucketOf[slot] = NONE;
+		tasks[slot] = null;
+		generations[slot]++;
+		next[slot] = freeHead;
+		freeHead = slot;
+	}
+
+	private void allocateSlots(int capacity) {
+		int old = deadlines == null ? 0 : deadlines.length;
+		deadlines = deadlines == null ? new long[capacity] : Arrays.copyOf(deadlines, capacity);
+		next = next == null ? new int[capacity] : Arrays.copyOf(next, capacity);
+		prev = prev == null ? new int[capacity] : Arrays.copyOf(prev, capacity);
+		bucketOf = bucketOf == null ? new int[capacity] : Arrays.copyOf(bucketOf, capacity);
+		generations = generations == null ? new int[capacity] : Arrays.copyOf(generations, capacity);
+		tasks = tasks == null ? new Runnable[capacity] : Arrays.copyOf(tasks, capacity);
+		Arrays.fill(bucketOf, old, capacity, NONE);
+	}
+
+	public static void main(String[] args) {
+		// 가짜 시계로 시간을 직접 움직이기 (tick 1ms, 칸 8개 x 3레벨 = 512ms까지 한 번에 표현)
+		long[] now = {0};
+		TimingWheel wheel = new TimingWheel(1, TimeUnit.MILLISECONDS, 8, 3, () -> now[0]);
+		wheel.schedule(5, TimeUnit.MILLISECONDS, () -> System.out.println("5ms 타이머"));
+		wheel.schedule(100, TimeUnit.MILLISECONDS, () -> System.out.println("100ms 타이머 (레벨 2 → cascade)"));
+		wheel.schedule(1000, TimeUnit.MILLISECONDS, () -> System.out.println("1000ms 타이머 (최상위 레벨보다 멈)"));
+		long connectionTimeout = wheel.schedule(30, TimeUnit.MILLISECONDS, () -> System.out.println("실행되면 안 됨"));
+
+		// 연결이 정상적으로 끝나서 타임아웃 취소 - O(1)
+		System.out.println("취소: " + wheel.cancel(connectionTimeout) + ", 다시 취소: " + wheel.cancel(connectionTimeout));
+
+		for (long t : new long[] {4, 5, 99, 100, 999, 1000}) {
+			now[0] = TimeUnit.MILLISECONDS.toNanos(t);
+			System.out.println(t + "ms: 만료 " + wheel.advance() + "개, 남은 타이머 " + wheel.size());
+		}
+
+		// 전용 스레드로 실제 시간 구동
+		try (TimingWheel realtime = new TimingWheel()) {
+			realtime.start();
+			long begin = System.nanoTime();
+			Thread main = Thread.currentThread();
+			realtime.schedule(20, TimeUnit.MILLISECONDS, () -> {
+				System.out.printf("실제 시간 타이머: %.1fms 뒤 실행%n", (System.nanoTime() - begin) / 1e6);
+				LockSupport.unpark(main);
+			});
+			LockSupport.parkNanos(TimeUnit.SECONDS.toNanos(1));
+		}
+	}
+}
@@ -0,0 +1,426 @@
+package datastructure.phase03;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+
+import datastructure.phase01.array.RadixSort;
+
+/**
+ * 키들이 HashMap의 버킷에 얼마나 고르게 퍼지는지 측정하는 도구입니다.
+ * <p>
+ * HashMap의 내부 배열(table)은 java.util 모듈 밖에서 리플렉션으로 읽을 수 없으므로(JDK 16+),
+ * 키의 hashCode만으로 HashMap과 같은 규칙을 재연한다. (해시.md 3~6장)
+ * - 버킷 번호: (h ^ (h &gt;&gt;&gt; 16)) &amp; (capacity - 1)
+ * - 크기가 capacity * loadFactor를 넘으면 2배로 리사이즈
+ * - 체인이 TREEIFY_THRESHOLD(8)개인 버킷에 하나가 더 들어오면 트리화.
+ *   단 capacity가 64 미만이면 트리화 대신 리사이즈한다
+ * - 리사이즈로 나뉜 트리 버킷이 6개 이하가 되면 다시 리스트로 돌아간다
+ * <p>
+ * 보고 내용: 체인 길이별 버킷 수(히스토그램), 가장 긴 체인, 트리화됐을 버킷 수, 리사이즈 횟수,
+ * 평균 탐사 길이(찾는 키가 있을 때 / 없을 때), hashCode 자체가 같은 키 수.
+ * 마지막 값은 테이블 크기와 상관없이 항상 같은 버킷에 모이는 키라 hashCode 구현이 나쁘다는 가장 직접적인 신호다.
+ * <p>
+ * 비용은 키 수 n에 대해 O(n) 시간(리사이즈 재연 포함, 2배씩 늘어나므로 합이 O(n))과 int[] 몇 개다.
+ * 운영 중에는 sample()로 최대 maxKeys개만 골라 재서 비용을 제한한다.
+ * 키는 서로 달라야 한다 (Map.keySet() 또는 Set).
+ */
+public final class HashBucketProfiler {
+
+	public static final int TREEIFY_THRESHOLD = 8;
+	public static final int UNTREEIFY_THRESHOLD = 6;
+	public static final int MIN_TREEIFY_CAPACITY = 64;
+
+	private static final int DEFAULT_CAPACITY = 16;
+	private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+	private static final int MAX_CAPACITY = 1 << 30;
+
+	// 히스토그램의 마지막 칸은 "이 길이 이상"
+	private static final int HISTOGRAM_MAX = 16;
+
+	private HashBucketProfiler() {
+	}
+
+	/**
+	 * 프로파일 결과 - 기본 생성자로 만든 HashMap에 키를 순서대로 넣었을 때의 모습
+	 */
+	public static final class Report {
+		private final int keyCount;
+		private final int populationSize;
+		private final int capacity;
+		private final int[] histogram;
+		private final int longestChain;
+		private final int treeBins;
+		private final int resizes;
+		private final int treeifyResizes;
+		private final double averageHitProbes;
+		private final double averageMissProbes;
+		private final int sameHashKeys;
+		private final int largestSameHashGroup;
+
+		private Report(int keyCount, int populationSize, int capacity, int[] histogram, int longestChain, int treeBins,
+			int resizes, int treeifyResizes, double averageHitProbes, double averageMissProbes, int sameHashKeys,
+			int largestSameHashGroup) {
+			this.keyCount = keyCount;
+			this.populationSize = populationSize;
+			this.capacity = capacity;
+			this.histogram = histogram;
+			this.longestChain = longestChain;
+			this.treeBins = treeBins;
+			this.resizes = resizes;
+			this.treeifyResizes = treeifyResizes;
+			this.averageHitProbes = averageHitProbes;
+			this.averageMissProbes = averageMissProbes;
+			this.sameHashKeys = sameHashKeys;
+			this.largestSameHashGroup = largestSameHashGroup;
+		}
+
+		// 잰 키 수 (sample이면 고른 키 수)
+		public int keyCount() {
+			return keyCount;
+		}
+
+		// 전체 키 수 (sample이 아니면 keyCount와 같다)
+		public int populationSize() {
+			return populationSize;
+		}
+
+		public boolean isSampled() {
+			return keyCount < populationSize;
+		}
+
+		// 재연이 끝났을 때의 버킷 수
+		public int capacity() {
+			return capacity;
+		}
+
+		// histogram()[k] = 체인 길이가 k인 버킷 수 (마지막 칸은 그 이상 전부)
+		public int[] histogram() {
+			return histogram.clone();
+		}
+
+		public int occupiedBuckets() {
+			return capacity - histogram[0];
+		}
+
+		public int longestChain() {
+			return longestChain;
+		}
+
+		// 레드-블랙 트리가 되어 있을 버킷 수
+		public int treeBins() {
+			return treeBins;
+		}
+
+		// 처음 할당(16칸) 이후의 리사이즈 횟수 (treeifyResizes 포함)
+		public int resizes() {
+			return resizes;
+		}
+
+		// 그중 capacity &lt; 64에서 긴 체인 때문에 일어난 리사이즈
+		public int treeifyResizes() {
+			return treeifyResizes;
+		}
+
+		// 있는 키를 찾을 때 평균으로 비교하는 노드 수
+		public double averageHitProbes() {
+			return averageHitProbes;
+		}
+
+		// 없는 키를 찾을 때 평균으로 비교하는 노드 수 (버킷을 고르게 골랐을 때)
+		public double averageMissProbes() {
+			return averageMissProbes;
+		}
+
+		// hashCode가 다른 키와 완전히 같은 키 수
+		public int sameHashKeys() {
+			return sameHashKeys;
+		}
+
+		// hashCode가 같은 키들 중 가장 큰 묶음의 크기 (1이면 완전 충돌 없음)
+		public int largestSameHashGroup() {
+			return largestSameHashGroup;
+		}
+
+		/**
+		 * 메트릭 레지스트리에 그대로 등록할 수 있는 이름 → 값 맵 (prefix.chain.max 같은 점 표기)
+		 */
+		public Map<String, Number> toMetrics(String prefix) {
+			Map<String, Number> metrics = new LinkedHashMap<>();
+			metrics.put(prefix + ".keys", keyCount);
+			metrics.put(prefix + ".population", populationSize);
+			metrics.put(prefix + ".capacity", capacity);
+			metrics.put(prefix + ".buckets.occupied", occupiedBuckets());
+			metrics.put(prefix + ".chain.max", longestChain);
+			for (int k = 0; k < histogram.length; k++) {
+				String name = k == HISTOGRAM_MAX ? HISTOGRAM_MAX + "plus" : String.valueOf(k);
+				metrics.put(prefix + ".chain.length." + name, histogram[k]);
+			}
+			metrics.put(prefix + ".bins.tree", treeBins);
+			metrics.put(prefix + ".resizes", resizes);
+			metrics.put(prefix + ".resizes.treeify", treeifyResizes);
+			metrics.put(prefix + ".probes.hit.avg", averageHitProbes);
+			metrics.put(prefix + ".probes.miss.avg", averageMissProbes);
+			metrics.put(prefix + ".hash.same.keys", sameHashKeys);
+			metrics.put(prefix + ".hash.same.maxGroup", largestSameHashGroup);
+			return metrics;
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder sb = new StringBuilder();
+			sb.append("keys=").append(keyCount);
+			if (isSampled()) {
+				sb.append("/").append(populationSize).append(" (sampled)");
+			}
+			sb.append(", capacity=").append(capacity)
+				.append(", occupied=").append(occupiedBuckets())
+				.append(", longestChain=").append(longestChain)
+				.append(", treeBins=").append(treeBins)
+				.append(", resizes=").append(resizes).append(" (treeify ").append(treeifyResizes).append(")")
+				.append(String.format(", probes hit=%.2f miss=%.2f", averageHitProbes, averageMissProbes))
+				.append(", sameHashKeys=").append(sameHashKeys)
+				.append(", histogram=").append(Arrays.toString(histogram));
+			return sb.toString();
+		}
+	}
+
+	// ========================================
+	// 진입점
+	// ========================================
+
+	// map의 키를 hashCode로 잰다 (키 순서는 map의 순회 순서)
+	public static Report profile(Map<?, ?> map) {
+		return profile(map.keySet(), Objects::hashCode);
+	}
+
+	// 서로 다른 keys를 hashFunction으로 잰다. hashFunction을 바꿔 가며 새 hashCode 구현을 미리 비교할 수 있다.
+	public static <K> Report profile(Collection<? extends K> keys, ToIntFunction<? super K> hashFunction) {
+		return run(hashes(keys, hashFunction, keys.size()), keys.size(), DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+	}
+
+	// new HashMap&lt;&gt;(initialCapacity, loadFactor)로 만든 맵이라고 보고 잰다.
+	public static <K> Report profile(Collection<? extends K> keys, ToIntFunction<? super K> hashFunction,
+		int initialCapacity, float loadFactor) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("Capacity: " + initialCapacity);
+		}
+		if (!(loadFactor > 0)) {
+			throw new IllegalArgumentException("LoadFactor: " + loadFactor);
+		}
+		return run(hashes(keys, hashFunction, keys.size()), keys.size(), tableSizeFor(initialCapacity), loadFactor);
+	}
+
+	// 키가 maxKeys개보다 많으면 일정 간격으로 maxKeys개만 골라 잰다.
+	// 키 순회 외의 비용(hashCode 호출, 재연, 정렬)과 메모리가 O(maxKeys)로 묶인다.
+	// 고른 키로 다시 만든 (더 작은) 맵의 모습이지만, 적재율이 같으므로 체인 길이 분포와
+	// 같은 hashCode 묶음은 전체 맵의 경향을 그대로 보여준다.
+	public static <K> Report sample(Collection<? extends K> keys, ToIntFunction<? super K> hashFunction, int maxKeys) {
+		if (maxKeys <= 0) {
+			throw new IllegalArgumentException("MaxKeys: " + maxKeys);
+		}
+		return run(hashes(keys, hashFunction, maxKeys), keys.size(), DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+	}
+
+	// ========================================
+	// 재연
+	// ========================================
+
+	// keys에서 최대 limit개의 hashCode를 고르게 뽑는다.
+	private static <K> int[] hashes(Collection<? extends K> keys, ToIntFunction<? super K> hashFunction, int limit) {
+		int n = keys.size();
+		int count = Math.min(n, limit);
+		int[] hashes = new int[count];
+		if (count == 0) {
+			return hashes;
+		}
+		// i번째로 뽑을 원소의 위치 = i * n / count (count == n이면 전부)
+		int taken = 0;
+		long index = 0;
+		long nextPick = 0;
+		for (K key : keys) {
+			if (index == nextPick) {
+				hashes[taken++] = hashFunction.applyAsInt(key);
+				if (taken == count) {
+					break;
+				}
+				nextPick = (long)taken * n / count;
+			}
+			index++;
+		}
+		return hashes;
+	}
+
+	private static Report run(int[] hashes, int populationSize, int initialCapacity, float loadFactor) {
+		int n = hashes.length;
+		int[] spread = new int[n];
+		for (int i = 0; i < n; i++) {
+			spread[i] = hashes[i] ^ (hashes[i] >>> 16);
+		}
+
+		// HashMap.putVal을 키 순서대로 재연한다.
+		int capacity = initialCapacity;
+		int threshold = threshold(capacity, loadFactor);
+		int[] counts = new int[capacity];
+		boolean[] tree = new boolean[capacity];
+		int resizes = 0;
+		int treeifyResizes = 0;
+		for (int i = 0; i < n; i++) {
+			int b = spread[i] & (capacity - 1);
+			counts[b]++;
+			// 리스트 버킷에 9번째 노드가 붙는 순간 treeifyBin이 불린다 (putVal의 binCount &gt;= TREEIFY_THRESHOLD - 1)
+			if (!tree[b] && counts[b] > TREEIFY_THRESHOLD) {
+				if (capacity < MIN_TREEIFY_CAPACITY) {
+					capacity <<= 1;
+					threshold = threshold(capacity, loadFactor);
+					tree = splitTrees(tree, counts, spread, i + 1, capacity);
+					counts = recount(spread, i + 1, capacity);
+					resizes++;
+					treeifyResizes++;
+				} else {
+					tree[b] = true;
+				}
+			}
+			if (i + 1 > threshold && capacity < MAX_CAPACITY) {
+				capacity <<= 1;
+				threshold = threshold(capacity, loadFactor);
+				tree = splitTrees(tree, counts, spread, i + 1, capacity);
+				counts = recount(spread, i + 1, capacity);
+				resizes++;
+			}
+		}
+
+		// 최종 테이블의 분포
+		int[] histogram = new int[HISTOGRAM_MAX + 1];
+		int longest = 0;
+		int treeBins = 0;
+		double hitProbes = 0;
+		double missProbes = 0;
+		for (int b = 0; b < capacity; b++) {
+			int length = counts[b];
+			histogram[Math.min(length, HISTOGRAM_MAX)]++;
+			longest = Math.max(longest, length);
+			if (tree[b]) {
+				// 트리는 깊이만큼만 비교한다 (균형 트리 높이 ≈ log2(length + 1))
+				double depth = Math.ceil(Math.log(length + 1) / Math.log(2));
+				treeBins++;
+				hitProbes += length * depth;
+				missProbes += depth;
+			} else {
+				// 리스트의 k번째 노드는 k번 비교한다 → 1 + 2 + ... + length
+				hitProbes += length * (length + 1) / 2.0;
+				missProbes += length;
+			}
+		}
+
+		// hashCode 자체가 같은 키 - 정렬 후 같은 값이 이어지는 구간
+		int[] sorted = hashes.clone();
+		RadixSort.sort(sorted);
+		int sameHashKeys = 0;
+		int largestGroup = n == 0 ? 0 : 1;
+		for (int i = 0; i < n; ) {
+			int j = i + 1;
+			while (j < n && sorted[j] == sorted[i]) {
+				j++;
+			}
+			if (j - i > 1) {
+				sameHashKeys += j - i;
+				largestGroup = Math.max(largestGroup, j - i);
+			}
+			i = j;
+		}
+
+		return new Report(n, populationSize, capacity, histogram, longest, treeBins, resizes, treeifyResizes,
+			n == 0 ? 0 : hitProbes / n, missProbes / capacity, sameHashKeys, largestGroup);
+	}
+
+	// 앞의 inserted개 키로 새 capacity의 버킷별 개수를 센다.
+	private static int[] recount(int[] spread, int inserted, int capacity) {
+		int[] counts = new int[capacity];
+		for (int i = 0; i < inserted; i++) {
+			counts[spread[i] & (capacity - 1)]++;
+		}
+		return counts;
+	}
+
+	// 리사이즈 때 트리 버킷 b는 b와 b + oldCapacity로 나뉘고, 나뉜 쪽이 UNTREEIFY_THRESHOLD 이하이면 리스트가 된다.
+	private static boolean[] splitTrees(boolean[] tree, int[] oldCounts, int[] spread, int inserted, int capacity) {
+		boolean[] result = new boolean[capacity];
+		int oldCapacity = tree.length;
+		boolean any = false;
+		for (boolean t : tree) {
+			any |= t;
+		}
+		if (!any) {
+			return result;
+		}
+		int[] newCounts = recount(spread, inserted, capacity);
+		for (int b = 0; b < oldCapacity; b++) {
+			if (tree[b] && oldCounts[b] > 0) {
+				result[b] = newCounts[b] > UNTREEIFY_THRESHOLD;
+				result[b + oldCapacity] = newCounts[b + oldCapacity] > UNTREEIFY_THRESHOLD;
+			}
+		}
+		return result;
+	}
+
+	private static int threshold(int capacity, float loadFactor) {
+		return capacity < MAX_CAPACITY ? (int)(capacity * loadFactor) : Integer.MAX_VALUE;
+	}
+
+	// HashMap.tableSizeFor와 같다 (0이면 첫 put에서 1칸으로 시작하므로 1)
+	private static int tableSizeFor(int capacity) {
+		int n = -1 >>> Integer.numberOfLeadingZeros(Math.max(capacity, 1) - 1);
+		return n < 0 ? 1 : n >= MAX_CAPACITY ? MAX_CAPACITY : n + 1;
+	}
+
+	public static void main(String[] args) {
+		// 1. Person.hashCode (이름, 나이 모두 사용) vs 나이만 쓰는 나쁜 hashCode
+		List<Person> people = new ArrayList<>();
+		List<Integer> ages = new ArrayList<>();
+		for (int i = 0; i < 10_000; i++) {
+			people.add(new Person("user" + i, i % 80));
+			ages.add(i % 80);
+		}
+		System.out.println("Person.hashCode: " + profile(people, Person::hashCode));
+		List<Integer> rows = new ArrayList<>();
+		for (int i = 0; i < people.size(); i++) {
+			rows.add(i);
+		}
+		System.out.println("나이만 쓰는 hashCode: " + profile(rows, ages::get));
+
+		// 2. Hash DoS: "Aa"와 "BB"는 hashCode가 같으므로, 둘을 이어 붙인 문자열 2^k개는 전부 충돌한다.
+		List<String> attack = new ArrayList<>();
+		attack.add("");
+		for (int round = 0; round < 10; round++) {
+			List<String> next = new ArrayList<>();
+			for (String s : attack) {
+				next.add(s + "Aa");
+				next.add(s + "BB");
+			}
+			attack = next;
+		}
+		Report dos = profile(attack, String::hashCode);
+		System.out.println("Hash DoS 키 " + attack.size() + "개: longestChain=" + dos.longestChain()
+			+ ", treeBins=" + dos.treeBins() + ", sameHashKeys=" + dos.sameHashKeys());
+
+		// 3. 운영 중 샘플링 + 메트릭 내보내기
+		Map<String, Integer> wordCount = new HashMap<>();
+		for (int i = 0; i < 1_000_000; i++) {
+			wordCount.put("word" + i, i);
+		}
+		Report sampled = sample(wordCount.keySet(), String::hashCode, 50_000);
+		System.out.println("샘플 " + sampled.keyCount() + " / " + sampled.populationSize() + "개");
+		sampled.toMetrics("app.wordCount").forEach((name, value) -> {
+			if (!name.contains(".chain.length.")) {
+				System.out.println("  " + name + " = " + value);
+			}
+		});
+	}
+}
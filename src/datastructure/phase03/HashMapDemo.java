@@ -179,6 +179,15 @@ public class HashMapDemo {
 		System.out.println("단어 카운팅: " + wordCount);
 		// {banana=2, apple=3, cherry=1}
 
+		// 키가 수천만 개인 카운터라면 merge는 항목마다 Node + Integer를 만들고 증가할 때마다 Integer를 새로 만든다.
+		// ObjectIntHashMap.addTo는 값을 int[]에 제자리로 더한다.
+		ObjectIntHashMap<String> primitiveCount = new ObjectIntHashMap<>();
+		for (String word : words) {
+			primitiveCount.addTo(word, 1);
+		}
+		System.out.println("ObjectIntHashMap 카운팅: " + primitiveCount);
+		// 입력이 큰 파일이면 WordCounter가 String을 만들지 않고 바이트에서 바로 병렬로 센다.
+
 
 		// ========================================
 		// 8. 실무 패턴: 그룹핑
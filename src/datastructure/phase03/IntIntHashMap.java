@@ -0,0 +1,329 @@
+package datastructure.phase03;
+
+import java.util.Arrays;
+
+/**
+ * int 키 → int 값 전용 해시 맵입니다. (HashMap&lt;Integer, Integer&gt;의 박싱 없는 버전)
+ * <p>
+ * HashMap&lt;Integer, Integer&gt;는 항목마다 Node(32바이트) + 키 Integer + 값 Integer를 만들지만
+ * IntIntHashMap은 int[] 두 개에 키와 값을 나란히 담아 항목당 8바이트만 쓴다.
+ * <p>
+ * 충돌 처리는 ObjectIntHashMap과 같은 Robin Hood 선형 탐사 + backward shift 삭제다.
+ * int 키는 해시를 매번 섞어도 싸므로 해시 배열을 따로 두지 않는다.
+ * <p>
+ * 빈 칸 표시: 키 배열의 0을 "비어있음"으로 쓰고, 실제 키 0은 배열 밖의 필드(hasZeroKey, zeroValue)에 따로 둔다.
+ * (boolean[] 점유 표시를 두면 조회마다 배열 하나를 더 읽어야 한다)
+ */
+public class IntIntHashMap {
+
+	private static final int MIN_CAPACITY = 16;
+	private static final int MAX_CAPACITY = 1 << 30;
+	private static final float LOAD_FACTOR = 0.8f;
+	private static final int EMPTY = 0;
+
+	private int[] keys;
+	private int[] values;
+	private int mask;
+	private int size; // 배열에 든 항목 수 (키 0 제외)
+	private int threshold;
+
+	private boolean hasZeroKey;
+	private int zeroValue;
+
+	public IntIntHashMap() {
+		this(MIN_CAPACITY);
+	}
+
+	// expectedSize개를 넣어도 크기를 늘리지 않도록 용량을 잡는다.
+	public IntIntHashMap(int expectedSize) {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("ExpectedSize: " + expectedSize);
+		}
+		allocate(capacityFor(expectedSize));
+	}
+
+	/**
+	 * forEach가 키와 값을 Integer로 박싱하지 않고 넘기는 콜백
+	 */
+	@FunctionalInterface
+	public interface IntIntConsumer {
+		void accept(int key, int value);
+	}
+
+	// ========================================
+	// 조회
+	// ========================================
+
+	public int getOrDefault(int key, int defaultValue) {
+		if (key == EMPTY) {
+			return hasZeroKey ? zeroValue : defaultValue;
+		}
+		int slot = find(key);
+		return slot < 0 ? defaultValue : values[slot];
+	}
+
+	public boolean containsKey(int key) {
+		return key == EMPTY ? hasZeroKey : find(key) >= 0;
+	}
+
+	public int size() {
+		return hasZeroKey ? size + 1 : size;
+	}
+
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	// ========================================
+	// 수정
+	// ========================================
+
+	public void put(int key, int value) {
+		if (key == EMPTY) {
+			hasZeroKey = true;
+			zeroValue = value;
+			return;
+		}
+		int slot = findOrInsert(key); // values는 findOrInsert 안에서 바뀔 수 있으므로 먼저 호출한다.
+		values[slot] = value;
+	}
+
+	// 키의 값에 delta를 더하고 새 값을 반환한다. 키가 없으면 0에서 시작 - merge(key, delta, Integer::sum)와 같다.
+	public int addTo(int key, int delta) {
+		if (key == EMPTY) {
+			if (!hasZeroKey) {
+				hasZeroKey = true;
+				zeroValue = 0;
+			}
+			return zeroValue += delta;
+		}
+		int slot = findOrInsert(key);
+		return values[slot] += delta;
+	}
+
+	// 키를 지우고 true, 없으면 false
+	public boolean remove(int key) {
+		if (key == EMPTY) {
+			boolean had = hasZeroKey;
+			hasZeroKey = false;
+			return had;
+		}
+		int slot = find(key);
+		if (slot < 0) {
+			return false;
+		}
+		// backward shift: 뒤에서 밀려나 있던 항목들을 한 칸씩 당긴다.
+		int next = (slot + 1) & mask;
+		while (keys[next] != EMPTY && distance(keys[next], next) > 0) {
+			keys[slot] = keys[next];
+			values[slot] = values[next];
+			slot = next;
+			next = (next + 1) & mask;
+		}
+		keys[slot] = EMPTY;
+		size--;
+		return true;
+	}
+
+	// 용량은 그대로 두고 비운다.
+	public void clear() {
+		Arrays.fill(keys, EMPTY);
+		size = 0;
+		hasZeroKey = false;
+	}
+
+	// 할당 없이 모든 (키, 값)을 순회 (순서는 정해져 있지 않다)
+	public void forEach(IntIntConsumer action) {
+		if (hasZeroKey) {
+			action.accept(EMPTY, zeroValue);
+		}
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != EMPTY) {
+				action.accept(keys[i], values[i]);
+			}
+		}
+	}
+
+	// 가장 멀리 밀려난 항목의 탐사 거리 (해시 분포 확인용)
+	public int maxProbeLength() {
+		int max = 0;
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != EMPTY) {
+				max = Math.max(max, distance(keys[i], i));
+			}
+		}
+		return max;
+	}
+
+	// ========================================
+	// 내부 구현
+	// ========================================
+
+	// 키가 있는 칸, 없으면 -1 (key != 0)
+	private int find(int key) {
+		int slot = hash(key) & mask;
+		for (int dist = 0; ; dist++) {
+			int k = keys[slot];
+			if (k == key) {
+				return slot;
+			}
+			// 빈 칸이거나, 여기 있는 항목이 찾는 키보다 덜 밀려났다면 찾는 키는 없다.
+			if (k == EMPTY || distance(k, slot) < dist) {
+				return -1;
+			}
+			slot = (slot + 1) & mask;
+		}
+	}
+
+	// 키가 있는 칸을 찾거나, 없으면 값 0으로 삽입하고 그 칸을 반환한다. (key != 0)
+	private int findOrInsert(int key) {
+		int slot = hash(key) & mask;
+		for (int dist = 0; ; dist++) {
+			int k = keys[slot];
+			if (k == key) {
+				return slot;
+			}
+			if (k == EMPTY || distance(k, slot) < dist) {
+				break;
+			}
+			slot = (slot + 1) & mask;
+		}
+		// 새 키일 때만 늘린다 (있는 키를 갱신할 때는 늘리지 않는다). 늘렸으면 새 테이블에서 다시 찾는다.
+		if (size >= threshold) {
+			if (keys.length == MAX_CAPACITY) {
+				throw new OutOfMemoryError("Map too large");
+			}
+			resize(keys.length << 1);
+			return findOrInsert(key);
+		}
+		if (keys[slot] == EMPTY) {
+			keys[slot] = key;
+			values[slot] = 0;
+		} else {
+			// 더 부유한 항목의 자리를 빼앗고, 밀려난 항목은 뒤로 보낸다.
+			insertAt(slot, key, 0);
+		}
+		size++;
+		return slot;
+	}
+
+	// slot에 (key, value)를 넣고, 원래 있던 항목들을 Robin Hood 규칙으로 뒤로 밀어낸다.
+	private void insertAt(int slot, int key, int value) {
+		int carriedKey = keys[slot];
+		int carriedValue = values[slot];
+		int carriedDist = distance(carriedKey, slot);
+		keys[slot] = key;
+		values[slot] = value;
+
+		int i = slot;
+		while (true) {
+			i = (i + 1) & mask;
+			carriedDist++;
+			int k = keys[i];
+			if (k == EMPTY) {
+				keys[i] = carriedKey;
+				values[i] = carriedValue;
+				return;
+			}
+			int existingDist = distance(k, i);
+			if (existingDist < carriedDist) {
+				int v = values[i];
+				keys[i] = carriedKey;
+				values[i] = carriedValue;
+				carriedKey = k;
+				carriedValue = v;
+				carriedDist = existingDist;
+			}
+		}
+	}
+
+	// slot에 있는 key가 원래 자리에서 얼마나 밀려났는지
+	private int distance(int key, int slot) {
+		return (slot - (hash(key) & mask)) & mask;
+	}
+
+	private void resize(int newCapacity) {
+		int[] oldKeys = keys;
+		int[] oldValues = values;
+		allocate(newCapacity);
+		for (int i = 0; i < oldKeys.length; i++) {
+			int key = oldKeys[i];
+			if (key != EMPTY) {
+				// 새 테이블에는 같은 키가 없으므로 비교 없이 Robin Hood 삽입만 한다.
+				int slot = hash(key) & mask;
+				for (int dist = 0; ; dist++) {
+					if (keys[slot] == EMPTY) {
+						keys[slot] = key;
+						values[slot] = oldValues[i];
+						break;
+					}
+					if (distance(keys[slot], slot) < dist) {
+						insertAt(slot, key, oldValues[i]);
+						break;
+					}
+					slot = (slot + 1) & mask;
+				}
+			}
+		}
+	}
+
+	private void allocate(int capacity) {
+		keys = new int[capacity];
+		values = new int[capacity];
+		mask = capacity - 1;
+		threshold = (int)(capacity * LOAD_FACTOR);
+	}
+
+	private static int capacityFor(int expectedSize) {
+		long needed = (long)Math.ceil(expectedSize / (double)LOAD_FACTOR) + 1;
+		if (needed > MAX_CAPACITY) {
+			throw new IllegalArgumentException("ExpectedSize too large: " + expectedSize);
+		}
+		return Math.max(MIN_CAPACITY, Integer.highestOneBit((int)needed - 1) << 1);
+	}
+
+	// 연속된 int 키(1, 2, 3...)가 인접한 칸에 몰리지 않도록 섞는다.
+	private static int hash(int key) {
+		int h = key * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("{");
+		forEach((key, value) -> {
+			if (sb.length() > 1) {
+				sb.append(", ");
+			}
+			sb.append(key).append('=').append(value);
+		});
+		return sb.append('}').toString();
+	}
+
+	public static void main(String[] args) {
+		// 주사위 눈 빈도 세기
+		IntIntHashMap histogram = new IntIntHashMap();
+		int[] rolls = {3, 1, 4, 1, 5, 0, 2, 6, 5, 3, 5, 0};
+		for (int roll : rolls) {
+			histogram.addTo(roll, 1);
+		}
+		System.out.println("빈도: " + histogram); // 키 0도 일반 키처럼 동작한다
+		System.out.println("5: " + histogram.getOrDefault(5, 0) + ", 0: " + histogram.getOrDefault(0, 0)
+			+ ", 9: " + histogram.getOrDefault(9, -1)); // 3, 2, -1
+
+		histogram.remove(1);
+		histogram.remove(0);
+		System.out.println("1, 0 삭제 후: " + histogram + ", size: " + histogram.size());
+
+		// forEach는 람다 하나 외에 할당이 없다.
+		long[] total = {0};
+		histogram.forEach((key, value) -> total[0] += (long)key * value);
+		System.out.println("눈의 합: " + total[0]);
+
+		IntIntHashMap large = new IntIntHashMap(1_000_000);
+		for (int i = 0; i < 2_000_000; i++) {
+			large.addTo(i % 1_000_000, 1);
+		}
+		System.out.println("size: " + large.size() + ", 최대 탐사 거리: " + large.maxProbeLength());
+	}
+}
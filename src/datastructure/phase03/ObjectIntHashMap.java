@@ -0,0 +1,321 @@
+package datastructure.phase03;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * 객체 키 → int 값 전용 해시 맵입니다. (카운팅용 HashMap&lt;String, Integer&gt; 대체)
+ * <p>
+ * HashMap&lt;String, Integer&gt;는 항목마다 Node 객체(32바이트)와 Integer 객체(16바이트)를 만들고,
+ * merge(word, 1, Integer::sum)는 값이 바뀔 때마다 새 Integer를 만든다 (-128~127 캐시 밖).
+ * ObjectIntHashMap은 키 / 해시 / 값을 세 개의 배열에 나란히 저장하는 오픈 어드레싱 맵이라
+ * 항목당 12바이트(키 참조 + int 해시 + int 값)만 쓰고, addTo는 할당 없이 값을 제자리에서 바꾼다.
+ * <p>
+ * 충돌 처리: Robin Hood 선형 탐사
+ * - 새 항목이 자리를 찾아 밀려가다가, 자기 자리에서 덜 밀려난(더 "부유한") 항목을 만나면 자리를 빼앗고
+ *   그 항목을 대신 뒤로 밀어낸다 → 탐사 거리의 편차가 작아져 최악의 경우가 줄어든다
+ * - 조회는 찾는 키의 탐사 거리보다 덜 밀려난 항목을 만나면 "없음"으로 일찍 끝낼 수 있다
+ * - 삭제는 뒤의 항목들을 한 칸씩 당기는 backward shift라 묘비(tombstone)가 없다
+ * <p>
+ * 해시를 저장해 두므로 equals 호출은 해시가 같을 때만 일어나고, 크기를 늘릴 때 hashCode를 다시 부르지 않는다.
+ * 빈 칸도 해시 배열(0)로 표시하므로, 탐사는 촘촘한 int[]만 훑다가 해시가 같을 때만 키 배열을 읽는다.
+ * null 키는 허용하지 않는다.
+ */
+public class ObjectIntHashMap<K> {
+
+	private static final int MIN_CAPACITY = 16;
+	private static final int MAX_CAPACITY = 1 << 30;
+	private static final float LOAD_FACTOR = 0.8f;
+	private static final int EMPTY = 0;
+
+	private Object[] keys;
+	private int[] hashes; // 0이면 빈 칸 (저장하는 해시는 0이 되지 않게 만든다)
+	private int[] values;
+	private int mask;
+	private int size;
+	private int threshold;
+
+	public ObjectIntHashMap() {
+		this(MIN_CAPACITY);
+	}
+
+	// expectedSize개를 넣어도 크기를 늘리지 않도록 용량을 잡는다.
+	public ObjectIntHashMap(int expectedSize) {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("ExpectedSize: " + expectedSize);
+		}
+		allocate(capacityFor(expectedSize));
+	}
+
+	// ========================================
+	// 조회
+	// ========================================
+
+	public int getOrDefault(K key, int defaultValue) {
+		int slot = find(key);
+		return slot < 0 ? defaultValue : values[slot];
+	}
+
+	public boolean containsKey(K key) {
+		return find(key) >= 0;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	// ========================================
+	// 수정
+	// ========================================
+
+	public void put(K key, int value) {
+		int slot = findOrInsert(key);
+		values[slot] = value;
+	}
+
+	// 키의 값에 delta를 더하고 새 값을 반환한다. 키가 없으면 0에서 시작 - merge(key, delta, Integer::sum)와 같다.
+	public int addTo(K key, int delta) {
+		int slot = findOrInsert(key);
+		return values[slot] += delta;
+	}
+
+	// 키를 지우고 true, 없으면 false
+	public boolean remove(K key) {
+		int slot = find(key);
+		if (slot < 0) {
+			return false;
+		}
+		// backward shift: 뒤에서 밀려나 있던 항목들을 한 칸씩 당긴다.
+		int next = (slot + 1) & mask;
+		while (hashes[next] != EMPTY && distance(next) > 0) {
+			keys[slot] = keys[next];
+			hashes[slot] = hashes[next];
+			values[slot] = values[next];
+			slot = next;
+			next = (next + 1) & mask;
+		}
+		keys[slot] = null;
+		hashes[slot] = EMPTY;
+		size--;
+		return true;
+	}
+
+	// 용량은 그대로 두고 비운다.
+	public void clear() {
+		Arrays.fill(keys, null);
+		Arrays.fill(hashes, EMPTY);
+		size = 0;
+	}
+
+	// 할당 없이 모든 (키, 값)을 순회 (순서는 정해져 있지 않다)
+	@SuppressWarnings("unchecked")
+	public void forEach(ObjIntConsumer<? super K> action) {
+		for (int i = 0; i < hashes.length; i++) {
+			if (hashes[i] != EMPTY) {
+				action.accept((K)keys[i], values[i]);
+			}
+		}
+	}
+
+	// 가장 멀리 밀려난 항목의 탐사 거리 (해시 분포 확인용)
+	public int maxProbeLength() {
+		int max = 0;
+		for (int i = 0; i < hashes.length; i++) {
+			if (hashes[i] != EMPTY) {
+				max = Math.max(max, distance(i));
+			}
+		}
+		return max;
+	}
+
+	// ========================================
+	// 내부 구현
+	// ========================================
+
+	// 키가 있는 칸, 없으면 -1
+	private int find(Object key) {
+		int hash = hash(key);
+		int slot = hash & mask;
+		for (int dist = 0; ; dist++) {
+			int h = hashes[slot];
+			// 빈 칸이거나, 여기 있는 항목이 찾는 키보다 덜 밀려났다면 찾는 키는 없다.
+			if (h == EMPTY || distance(slot) < dist) {
+				return -1;
+			}
+			if (h == hash && equal(keys[slot], key)) {
+				return slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+	}
+
+	// 키가 있는 칸을 찾거나, 없으면 값 0으로 삽입하고 그 칸을 반환한다.
+	private int findOrInsert(Object key) {
+		int hash = hash(key);
+		int slot = hash & mask;
+		for (int dist = 0; ; dist++) {
+			int h = hashes[slot];
+			if (h == EMPTY || distance(slot) < dist) {
+				break;
+			}
+			if (h == hash && equal(keys[slot], key)) {
+				return slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+		// 새 키일 때만 늘린다 (있는 키를 갱신할 때는 늘리지 않는다). 늘렸으면 새 테이블에서 다시 찾는다.
+		if (size >= threshold) {
+			if (keys.length == MAX_CAPACITY) {
+				throw new OutOfMemoryError("Map too large");
+			}
+			resize(keys.length << 1);
+			return findOrInsert(key);
+		}
+		if (hashes[slot] == EMPTY) {
+			keys[slot] = key;
+			hashes[slot] = hash;
+			values[slot] = 0;
+		} else {
+			// 더 부유한 항목의 자리를 빼앗고, 밀려난 항목은 뒤로 보낸다.
+			insertAt(slot, key, hash);
+		}
+		size++;
+		return slot;
+	}
+
+	// slot에 새 키(값 0)를 넣고, 원래 있던 항목들을 Robin Hood 규칙으로 뒤로 밀어낸다.
+	private void insertAt(int slot, Object key, int hash) {
+		Object carriedKey = keys[slot];
+		int carriedHash = hashes[slot];
+		int carriedValue = values[slot];
+		int carriedDist = distance(slot);
+		keys[slot] = key;
+		hashes[slot] = hash;
+		values[slot] = 0;
+
+		int i = slot;
+		while (true) {
+			i = (i + 1) & mask;
+			carriedDist++;
+			if (hashes[i] == EMPTY) {
+				keys[i] = carriedKey;
+				hashes[i] = carriedHash;
+				values[i] = carriedValue;
+				return;
+			}
+			int existingDist = distance(i);
+			if (existingDist < carriedDist) {
+				Object k = keys[i];
+				int h = hashes[i];
+				int v = values[i];
+				keys[i] = carriedKey;
+				hashes[i] = carriedHash;
+				values[i] = carriedValue;
+				carriedKey = k;
+				carriedHash = h;
+				carriedValue = v;
+				carriedDist = existingDist;
+			}
+		}
+	}
+
+	// slot에 있는 항목이 원래 자리에서 얼마나 밀려났는지
+	private int distance(int slot) {
+		return (slot - (hashes[slot] & mask)) & mask;
+	}
+
+	private void resize(int newCapacity) {
+		Object[] oldKeys = keys;
+		int[] oldHashes = hashes;
+		int[] oldValues = values;
+		allocate(newCapacity);
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldHashes[i] != EMPTY) {
+				// 새 테이블에는 같은 키가 없으므로 equals 없이 Robin Hood 삽입만 한다.
+				int slot = oldHashes[i] & mask;
+				for (int dist = 0; ; dist++) {
+					if (hashes[slot] == EMPTY) {
+						keys[slot] = oldKeys[i];
+						hashes[slot] = oldHashes[i];
+						values[slot] = oldValues[i];
+						break;
+					}
+					if (distance(slot) < dist) {
+						insertAt(slot, oldKeys[i], oldHashes[i]);
+						values[slot] = oldValues[i];
+						break;
+					}
+					slot = (slot + 1) & mask;
+				}
+			}
+		}
+	}
+
+	private void allocate(int capacity) {
+		keys = new Object[capacity];
+		hashes = new int[capacity];
+		values = new int[capacity];
+		mask = capacity - 1;
+		threshold = (int)(capacity * LOAD_FACTOR);
+	}
+
+	private static int capacityFor(int expectedSize) {
+		long needed = (long)Math.ceil(expectedSize / (double)LOAD_FACTOR) + 1;
+		if (needed > MAX_CAPACITY) {
+			throw new IllegalArgumentException("ExpectedSize too large: " + expectedSize);
+		}
+		return Math.max(MIN_CAPACITY, Integer.highestOneBit((int)needed - 1) << 1);
+	}
+
+	// hashCode의 하위 비트가 고르지 않아도 마스크한 값이 고르게 퍼지도록 섞는다. 0은 빈 칸 표시라 1로 바꾼다.
+	private static int hash(Object key) {
+		int h = Objects.requireNonNull(key, "key").hashCode() * 0x9E3779B9;
+		h ^= h >>> 16;
+		return h == EMPTY ? 1 : h;
+	}
+
+	// 같은 객체면 equals를 부르지 않는다 (토크나이저가 intern한 문자열처럼 대부분 이 경우다)
+	private static boolean equal(Object stored, Object key) {
+		return stored == key || key.equals(stored);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("{");
+		forEach((key, value) -> {
+			if (sb.length() > 1) {
+				sb.append(", ");
+			}
+			sb.append(key).append('=').append(value);
+		});
+		return sb.append('}').toString();
+	}
+
+	public static void main(String[] args) {
+		// HashMapDemo의 merge 카운팅과 같은 입력
+		ObjectIntHashMap<String> wordCount = new ObjectIntHashMap<>();
+		String[] words = {"apple", "banana", "apple", "cherry", "apple", "banana"};
+		for (String word : words) {
+			wordCount.addTo(word, 1); // Integer 할당 없음
+		}
+		System.out.println("단어 카운팅: " + wordCount); // apple=3, banana=2, cherry=1 (순서 무관)
+		System.out.println("apple: " + wordCount.getOrDefault("apple", 0)); // 3
+		System.out.println("grape: " + wordCount.getOrDefault("grape", 0)); // 0
+
+		wordCount.remove("banana");
+		System.out.println("banana 삭제 후: " + wordCount + ", size: " + wordCount.size());
+
+		// 많이 넣어도 탐사 거리는 짧게 유지된다.
+		ObjectIntHashMap<String> large = new ObjectIntHashMap<>();
+		for (int i = 0; i < 1_000_000; i++) {
+			large.addTo("key" + (i % 500_000), 1);
+		}
+		System.out.println("size: " + large.size() + ", key7: " + large.getOrDefault("key7", 0)
+			+ ", 최대 탐사 거리: " + large.maxProbeLength());
+	}
+}
@@ -4,8 +4,9 @@ import java.util.Objects;
 
 public class Person {
 
-	private String name;
-	private int age;
+	private final String name;
+	private final int age;
+	private int hash; // 0이면 아직 계산 전 (String.hashCode와 같은 캐싱)
 
 	public Person(String name, int age) {
 		this.name = name;
@@ -27,8 +28,20 @@ public class Person {
 		return age == person.age && Objects.equals(name, person.name);
 	}
 
+	// Objects.hash(name, age)는 호출마다 가변 인자 배열(Object[])을 만들고 age를 Integer로 박싱한다.
+	// 같은 값을 직접 계산하고, 필드가 final이므로 한 번 계산한 값을 캐시한다.
 	@Override
 	public int hashCode() {
-		return Objects.hash(name, age);
+		int h = hash;
+		if (h == 0) {
+			h = hash(name, age);
+			hash = h;
+		}
+		return h;
+	}
+
+	// Objects.hash(name, age)와 같은 값 (PersonTable의 해시 열도 이 값을 쓴다)
+	public static int hash(String name, int age) {
+		return 31 * (31 + Objects.hashCode(name)) + age;
 	}
 }
@@ -0,0 +1,322 @@
+package datastructure.phase03;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * (이름, 나이) 사람 레코드를 열(column) 단위로 저장하는 테이블입니다.
+ * <p>
+ * 행마다 Person 객체를 만들고 HashMap&lt;Person, ...&gt;에 넣으면 한 사람당
+ * Person(24바이트) + String + HashMap.Node(32바이트) + 테이블 칸을 쓰고,
+ * 같은 이름도 행마다 따로 String을 가진다. PersonTable은 행 번호(0부터)를 기준으로
+ * - 이름 열: 이름 사전(중복 제거된 String[])의 번호 int[]
+ * - 나이 열: byte[] (0~255)
+ * - 해시 열: Person.hashCode()와 같은 값을 미리 계산한 int[]
+ * 를 나란히 두고, 두 개의 인덱스를 둔다.
+ * - 기본 인덱스 (이름, 나이) → 행: 오픈 어드레싱(선형 탐사) int[]. 칸에는 행 번호 + 1만 넣고,
+ *   해시 열과 나이로 먼저 거른 뒤 둘 다 같을 때만 이름을 비교한다
+ * - 보조 인덱스 나이 → 행들: 나이별 버킷(계수 정렬). 나이 범위 조회가 버킷 몇 개를 잇는 것으로 끝난다
+ * <p>
+ * 행은 추가만 할 수 있다. 나이 인덱스는 행이 추가된 뒤 처음 범위 조회할 때 O(n)에 다시 만든다
+ * (대량 적재 → 조회 순서로 쓰는 경우를 가정).
+ */
+public class PersonTable {
+
+	public static final int MAX_AGE = 255;
+
+	private static final int DEFAULT_CAPACITY = 16;
+	private static final float LOAD_FACTOR = 0.75f;
+	private static final int EMPTY = 0;
+
+	// 이름 사전
+	private String[] names;
+	private int nameCount;
+	private final ObjectIntHashMap<String> nameIds;
+
+	// 열
+	private int[] nameColumn;
+	private byte[] ageColumn;
+	private int[] hashColumn;
+	private int size;
+
+	// 기본 인덱스: 칸 → 행 번호 + 1 (0이면 빈 칸)
+	private int[] slots;
+	private int mask;
+
+	// 보조 인덱스: 나이 a인 행들 = rowsByAge[ageStart[a] .. ageStart[a + 1])
+	private final int[] ageStart = new int[MAX_AGE + 2];
+	private int[] rowsByAge = new int[0];
+	private boolean ageIndexStale;
+
+	public PersonTable() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	// expectedRows개를 넣어도 배열과 인덱스를 늘리지 않도록 용량을 잡는다.
+	public PersonTable(int expectedRows) {
+		if (expectedRows < 0) {
+			throw new IllegalArgumentException("ExpectedRows: " + expectedRows);
+		}
+		int capacity = Math.max(DEFAULT_CAPACITY, expectedRows);
+		names = new String[DEFAULT_CAPACITY];
+		nameIds = new ObjectIntHashMap<>();
+		nameColumn = new int[capacity];
+		ageColumn = new byte[capacity];
+		hashColumn = new int[capacity];
+		allocateSlots(slotCapacityFor(capacity));
+	}
+
+	// ========================================
+	// 추가 / 기본 인덱스 조회
+	// ========================================
+
+	// 사람을 추가하고 행 번호를 반환한다. 이미 있는 (이름, 나이)면 IllegalArgumentException
+	public int add(String name, int age) {
+		checkAge(age);
+		int hash = Person.hash(name, age);
+		if (findRow(hash, name, age) >= 0) {
+			throw new IllegalArgumentException("Duplicate person: " + name + ", " + age);
+		}
+		int nameId = nameIds.getOrDefault(name, -1);
+		if (nameId < 0) {
+			nameId = addName(name);
+		}
+		if (size == nameColumn.length) {
+			growColumns();
+		}
+		if ((size + 1) > (int)(slots.length * LOAD_FACTOR)) {
+			rehash(slots.length << 1);
+		}
+		int row = size++;
+		nameColumn[row] = nameId;
+		ageColumn[row] = (byte)age;
+		hashColumn[row] = hash;
+		insertSlot(row);
+		ageIndexStale = true;
+		return row;
+	}
+
+	// (이름, 나이)의 행 번호, 없으면 -1 - 기본 인덱스 한 번만 탐사한다.
+	public int rowOf(String name, int age) {
+		if (age < 0 || age > MAX_AGE) {
+			return -1;
+		}
+		return findRow(Person.hash(name, age), name, age);
+	}
+
+	public boolean contains(String name, int age) {
+		return rowOf(name, age) >= 0;
+	}
+
+	// ========================================
+	// 열 읽기
+	// ========================================
+
+	public String name(int row) {
+		checkRow(row);
+		return names[nameColumn[row]];
+	}
+
+	public int age(int row) {
+		checkRow(row);
+		return ageColumn[row] & 0xFF;
+	}
+
+	// Person(name(row), age(row)).hashCode()와 같은 값 - 다시 계산하지 않는다.
+	public int hash(int row) {
+		checkRow(row);
+		return hashColumn[row];
+	}
+
+	// 필요할 때만 행 하나를 객체로 만든다.
+	public Person person(int row) {
+		return new Person(name(row), age(row));
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	// 서로 다른 이름의 수 (이름 사전 크기)
+	public int distinctNameCount() {
+		return nameCount;
+	}
+
+	// ========================================
+	// 보조 인덱스 (나이 범위)
+	// ========================================
+
+	// minAge 이상 maxAge 이하인 행의 수 - 인덱스가 최신이면 O(1)
+	public int countInAgeRange(int minAge, int maxAge) {
+		ensureAgeIndex();
+		int from = Math.max(minAge, 0);
+		int to = Math.min(maxAge, MAX_AGE);
+		return from > to ? 0 : ageStart[to + 1] - ageStart[from];
+	}
+
+	// minAge 이상 maxAge 이하인 행 번호를 나이 오름차순(같은 나이는 행 번호 오름차순)으로 넘긴다.
+	public void forEachInAgeRange(int minAge, int maxAge, IntConsumer action) {
+		ensureAgeIndex();
+		int from = Math.max(minAge, 0);
+		int to = Math.min(maxAge, MAX_AGE);
+		if (from > to) {
+			return;
+		}
+		for (int i = ageStart[from]; i < ageStart[to + 1]; i++) {
+			action.accept(rowsByAge[i]);
+		}
+	}
+
+	public int[] rowsInAgeRange(int minAge, int maxAge) {
+		ensureAgeIndex();
+		int from = Math.max(minAge, 0);
+		int to = Math.min(maxAge, MAX_AGE);
+		return from > to ? new int[0] : Arrays.copyOfRange(rowsByAge, ageStart[from], ageStart[to + 1]);
+	}
+
+	// ========================================
+	// 내부 구현
+	// ========================================
+
+	// 해시 열과 나이로 먼저 거르고, 둘 다 같을 때만 사전의 이름과 비교한다 (대개 같은 String 객체라 == 로 끝난다)
+	private int findRow(int hash, String name, int age) {
+		int slot = mix(hash) & mask;
+		for (int entry = slots[slot]; entry != EMPTY; entry = slots[slot]) {
+			int row = entry - 1;
+			if (hashColumn[row] == hash && (ageColumn[row] & 0xFF) == age) {
+				String stored = names[nameColumn[row]];
+				if (stored == name || stored.equals(name)) {
+					return row;
+				}
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+	private void insertSlot(int row) {
+		int slot = mix(hashColumn[row]) & mask;
+		while (slots[slot] != EMPTY) {
+			slot = (slot + 1) & mask;
+		}
+		slots[slot] = row + 1;
+	}
+
+	// 해시 열이 있으므로 String.hashCode를 다시 부르지 않고 칸만 옮긴다.
+	private void rehash(int capacity) {
+		allocateSlots(capacity);
+		for (int row = 0; row < size; row++) {
+			insertSlot(row);
+		}
+	}
+
+	private void allocateSlots(int capacity) {
+		slots = new int[capacity];
+		mask = capacity - 1;
+	}
+
+	private static int slotCapacityFor(int rows) {
+		long needed = (long)Math.ceil(rows / (double)LOAD_FACTOR) + 1;
+		if (needed > 1 << 30) {
+			throw new IllegalArgumentException("Rows too large: " + rows);
+		}
+		return Integer.highestOneBit((int)needed - 1) << 1;
+	}
+
+	private int addName(String name) {
+		if (nameCount == names.length) {
+			names = Arrays.copyOf(names, nameCount + (nameCount >> 1));
+		}
+		names[nameCount] = name;
+		nameIds.put(name, nameCount);
+		return nameCount++;
+	}
+
+	private void growColumns() {
+		int capacity = size + (size >> 1);
+		if (capacity < 0) {
+			throw new OutOfMemoryError("Table too large");
+		}
+		nameColumn = Arrays.copyOf(nameColumn, capacity);
+		ageColumn = Arrays.copyOf(ageColumn, capacity);
+		hashColumn = Arrays.copyOf(hashColumn, capacity);
+	}
+
+	// 나이별 개수 → 누적 합 → 제자리 배치 (계수 정렬) - O(n + MAX_AGE)
+	private void ensureAgeIndex() {
+		if (!ageIndexStale) {
+			return;
+		}
+		Arrays.fill(ageStart, 0);
+		for (int row = 0; row < size; row++) {
+			ageStart[(ageColumn[row] & 0xFF) + 1]++;
+		}
+		for (int a = 0; a <= MAX_AGE; a++) {
+			ageStart[a + 1] += ageStart[a];
+		}
+		if (rowsByAge.length < size) {
+			rowsByAge = new int[nameColumn.length];
+		}
+		int[] next = Arrays.copyOf(ageStart, MAX_AGE + 1);
+		for (int row = 0; row < size; row++) {
+			rowsByAge[next[ageColumn[row] & 0xFF]++] = row;
+		}
+		ageIndexStale = false;
+	}
+
+	private static int mix(int h) {
+		h *= 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	private static void checkAge(int age) {
+		if (age < 0 || age > MAX_AGE) {
+			throw new IllegalArgumentException("Age: " + age);
+		}
+	}
+
+	private void checkRow(int row) {
+		if (row < 0 || row >= size) {
+			throw new IndexOutOfBoundsException("Index: " + row + ", Size: " + size);
+		}
+	}
+
+	public static void main(String[] args) {
+		PersonTable table = new PersonTable();
+		table.add("홍길동", 30);
+		table.add("김철수", 25);
+		table.add("홍길동", 41); // 같은 이름은 사전에 한 번만 저장된다
+		table.add("이영희", 30);
+		table.add("김철수", 33);
+
+		System.out.println("행 수: " + table.size() + ", 서로 다른 이름: " + table.distinctNameCount()); // 5, 3
+		int row = table.rowOf("홍길동", 41);
+		System.out.println("(홍길동, 41) → 행 " + row + ", 해시 열 = Person.hashCode(): "
+			+ (table.hash(row) == new Person("홍길동", 41).hashCode())); // 행 2, true
+		System.out.println("(홍길동, 29) 있음? " + table.contains("홍길동", 29)); // false
+
+		try {
+			table.add("이영희", 30);
+		} catch (IllegalArgumentException e) {
+			System.out.println("중복 추가: " + e.getMessage());
+		}
+
+		// 30대 (30 ~ 39세)
+		System.out.println("30대: " + table.countInAgeRange(30, 39) + "명"); // 3
+		table.forEachInAgeRange(30, 39, r -> System.out.println("  " + table.name(r) + ", " + table.age(r)));
+
+		// 대량 적재: 이름 1만 개 x 나이 100개 = 100만 행
+		PersonTable large = new PersonTable(1_000_000);
+		for (int age = 0; age < 100; age++) {
+			for (int n = 0; n < 10_000; n++) {
+				large.add("name" + n, age);
+			}
+		}
+		System.out.println("100만 행, 서로 다른 이름: " + large.distinctNameCount()
+			+ ", 20~29세: " + large.countInAgeRange(20, 29) + "명, (name42, 77) → 행 " + large.rowOf("name42", 77));
+	}
+}
@@ -0,0 +1,336 @@
+package datastructure.phase03;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import datastructure.phase01.arraylist.SegmentedScan;
+
+/**
+ * 큰 텍스트(로그) 파일의 토큰 빈도를 세는 멀티코어 파이프라인입니다.
+ * <p>
+ * HashMapDemo 7번 예제는 String[]을 HashMap.merge로 센다. 파일이라면 보통
+ * readLine → split → String → HashMap 경로가 되어, 모든 토큰마다 String(+ byte[])을 만들고
+ * 디코딩(바이트 → char)과 해시 계산을 따로 한다. 여기서는
+ * - 파일을 세그먼트 단위로 메모리 매핑(FileChannel.map)해서 커널 → 힙 복사 없이 읽고 (SegmentedScan)
+ * - 토큰을 바이트 그대로 자르면서 해시를 함께 계산하고 (String 생성 없음)
+ * - 워커(스레드)마다 자기 테이블에 세고, 마지막에 한 번 병합한 뒤 상위 N개만 String으로 만든다.
+ * <p>
+ * 토큰은 연속된 ASCII 영문자/숫자/'_' 또는 0x80 이상의 바이트(UTF-8 멀티바이트 문자)이고,
+ * 나머지 바이트는 모두 구분자다. UTF-8 문자는 모든 바이트가 0x80 이상이라 한글 단어도 하나의 토큰이 되고
+ * 세그먼트 경계가 문자 중간에 생기지 않는다. 대소문자는 구분한다.
+ */
+public final class WordCounter {
+
+	private static final boolean[] TOKEN_BYTE = new boolean[256];
+
+	static {
+		for (int b = 0; b < 256; b++) {
+			TOKEN_BYTE[b] = (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z') || (b >= '0' && b <= '9')
+				|| b == '_' || b >= 0x80;
+		}
+	}
+
+	// 세그먼트 분할, 파일 매핑, 워커 실행과 병합은 SegmentedScan이 맡는다.
+	private static final SegmentedScan<CountTable> SCAN =
+		new SegmentedScan<>(b -> TOKEN_BYTE[b], CountTable::new, WordCounter::scan, CountTable::mergeFrom);
+
+	private WordCounter() {
+	}
+
+	/**
+	 * 토큰 하나와 등장 횟수
+	 */
+	public record Entry(String word, long count) {
+	}
+
+	/**
+	 * 집계 결과 - top은 등장 횟수 내림차순(같으면 바이트 사전순)
+	 */
+	public static final class Result {
+		private final List<Entry> top;
+		private final long tokenCount;
+		private final int distinctCount;
+
+		private Result(List<Entry> top, long tokenCount, int distinctCount) {
+			this.top = top;
+			this.tokenCount = tokenCount;
+			this.distinctCount = distinctCount;
+		}
+
+		public List<Entry> top() {
+			return top;
+		}
+
+		public long tokenCount() {
+			return tokenCount;
+		}
+
+		public int distinctCount() {
+			return distinctCount;
+		}
+	}
+
+	// ========================================
+	// 진입점
+	// ========================================
+
+	public static Result count(byte[] text, int topN) {
+		checkTopN(topN);
+		return SCAN.run(text, 1).toResult(topN);
+	}
+
+	public static Result parallelCount(byte[] text, int topN) {
+		checkTopN(topN);
+		return SCAN.run(text, ForkJoinPool.getCommonPoolParallelism()).toResult(topN);
+	}
+
+	public static Result count(Path file, int topN) throws IOException {
+		checkTopN(topN);
+		return SCAN.run(file, 1).toResult(topN);
+	}
+
+	public static Result parallelCount(Path file, int topN) throws IOException {
+		checkTopN(topN);
+		return SCAN.run(file, ForkJoinPool.getCommonPoolParallelism()).toResult(topN);
+	}
+
+	private static void checkTopN(int topN) {
+		if (topN < 0) {
+			throw new IllegalArgumentException("TopN: " + topN);
+		}
+	}
+
+	// 세그먼트 하나를 읽으며 토큰마다 해시를 계산해 테이블에 센다 - 할당 없음
+	private static void scan(ByteBuffer buffer, CountTable table) {
+		int limit = buffer.limit();
+		int i = 0;
+		while (i < limit) {
+			int start = i;
+			int hash = 0x811C9DC5; // FNV-1a 32비트 오프셋 기준값
+			while (i < limit) {
+				int b = buffer.get(i) & 0xFF;
+				if (!TOKEN_BYTE[b]) {
+					break;
+				}
+				hash = (hash ^ b) * 0x01000193; // FNV-1a
+				i++;
+			}
+			if (i == start) {
+				i++; // 구분자
+				continue;
+			}
+			table.add(hash, buffer, start, i - start, 1);
+		}
+	}
+
+	// ========================================
+	// 카운트 테이블
+	// ========================================
+
+	/**
+	 * 토큰 바이트 → 등장 횟수 (오픈 어드레싱, 선형 탐사)
+	 * <p>
+	 * - hashes: 칸마다 토큰 해시 (0이면 빈 칸, 저장하는 해시는 0이 되지 않게 만든다)
+	 * - offsets / lengths: 토큰 바이트의 arena 위치. 서로 다른 토큰만 처음 나왔을 때 한 번 복사한다.
+	 *   입력 버퍼를 가리키면 세그먼트 매핑이 풀린 뒤 읽을 수 없고, 비교할 때마다 먼 곳을 읽게 된다.
+	 * - counts: 칸마다 등장 횟수
+	 * 배열이 커질 때만 할당이 일어난다.
+	 */
+	private static final class CountTable {
+		private static final int INITIAL_CAPACITY = 1024;
+		private static final int EMPTY = 0;
+
+		private int[] hashes = new int[INITIAL_CAPACITY];
+		private int[] offsets = new int[INITIAL_CAPACITY];
+		private int[] lengths = new int[INITIAL_CAPACITY];
+		private long[] counts = new long[INITIAL_CAPACITY];
+		private int size;
+		private byte[] arena = new byte[INITIAL_CAPACITY * 8];
+		private int arenaSize;
+
+		// 토큰 하나(또는 병합 시 count번)를 센다.
+		void add(int hash, ByteBuffer buffer, int offset, int length, long count) {
+			if (hash == EMPTY) {
+				hash = 1;
+			}
+			int mask = hashes.length - 1;
+			int slot = mix(hash) & mask;
+			while (hashes[slot] != EMPTY) {
+				if (hashes[slot] == hash && lengths[slot] == length && sameBytes(offsets[slot], buffer, offset, length)) {
+					counts[slot] += count;
+					return;
+				}
+				slot = (slot + 1) & mask;
+			}
+			// 적재율 50% 이하 유지
+			if ((size + 1) * 2 > hashes.length) {
+				rehash(hashes.length * 2);
+				add(hash, buffer, offset, length, count);
+				return;
+			}
+			if (arenaSize + length > arena.length) {
+				long capacity = Math.max(arena.length * 2L, (long)arenaSize + length);
+				if (capacity > Integer.MAX_VALUE - 8) {
+					throw new OutOfMemoryError("Token arena too large");
+				}
+				arena = Arrays.copyOf(arena, (int)capacity);
+			}
+			buffer.get(offset, arena, arenaSize, length);
+			hashes[slot] = hash;
+			offsets[slot] = arenaSize;
+			lengths[slot] = length;
+			counts[slot] = count;
+			arenaSize += length;
+			size++;
+		}
+
+		void mergeFrom(CountTable other) {
+			ByteBuffer otherArena = ByteBuffer.wrap(other.arena);
+			for (int slot = 0; slot < other.hashes.length; slot++) {
+				if (other.hashes[slot] != EMPTY) {
+					add(other.hashes[slot], otherArena, other.offsets[slot], other.lengths[slot], other.counts[slot]);
+				}
+			}
+		}
+
+		private void rehash(int capacity) {
+			int[] oldHashes = hashes;
+			int[] oldOffsets = offsets;
+			int[] oldLengths = lengths;
+			long[] oldCounts = counts;
+			hashes = new int[capacity];
+			offsets = new int[capacity];
+			lengths = new int[capacity];
+			counts = new long[capacity];
+			int mask = capacity - 1;
+			for (int old = 0; old < oldHashes.length; old++) {
+				if (oldHashes[old] == EMPTY) {
+					continue;
+				}
+				int slot = mix(oldHashes[old]) & mask;
+				while (hashes[slot] != EMPTY) {
+					slot = (slot + 1) & mask;
+				}
+				hashes[slot] = oldHashes[old];
+				offsets[slot] = oldOffsets[old];
+				lengths[slot] = oldLengths[old];
+				counts[slot] = oldCounts[old];
+			}
+		}
+
+		private boolean sameBytes(int arenaOffset, ByteBuffer buffer, int offset, int length) {
+			for (int i = 0; i < length; i++) {
+				if (arena[arenaOffset + i] != buffer.get(offset + i)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		// a가 b보다 순위가 낮으면 true (횟수가 적거나, 같으면 바이트 사전순으로 뒤)
+		private boolean lower(int a, int b) {
+			if (counts[a] != counts[b]) {
+				return counts[a] < counts[b];
+			}
+			return Arrays.compareUnsigned(arena, offsets[a], offsets[a] + lengths[a],
+				arena, offsets[b], offsets[b] + lengths[b]) > 0;
+		}
+
+		// 크기 topN의 최소 힙(가장 낮은 순위가 루트)으로 상위 N개만 고른다 - O(distinct log N)
+		// 결과를 만들 때 처음으로 String을 만든다 (N개만)
+		Result toResult(int topN) {
+			int[] heap = new int[Math.min(topN, size)];
+			int heapSize = 0;
+			long tokens = 0;
+			for (int slot = 0; slot < hashes.length; slot++) {
+				if (hashes[slot] == EMPTY) {
+					continue;
+				}
+				tokens += counts[slot];
+				if (heapSize < heap.length) {
+					// siftUp
+					int i = heapSize++;
+					while (i > 0 && lower(slot, heap[(i - 1) >> 1])) {
+						heap[i] = heap[(i - 1) >> 1];
+						i = (i - 1) >> 1;
+					}
+					heap[i] = slot;
+				} else if (heapSize > 0 && lower(heap[0], slot)) {
+					siftDown(heap, heapSize, slot);
+				}
+			}
+			// 루트(가장 낮은 순위)를 하나씩 꺼내 뒤에서부터 채운다.
+			Entry[] top = new Entry[heapSize];
+			for (int n = heapSize; n > 0; n--) {
+				int slot = heap[0];
+				top[n - 1] = new Entry(new String(arena, offsets[slot], lengths[slot], StandardCharsets.UTF_8), counts[slot]);
+				if (n > 1) {
+					siftDown(heap, n - 1, heap[n - 1]);
+				}
+			}
+			return new Result(Collections.unmodifiableList(Arrays.asList(top)), tokens, size);
+		}
+
+		// 루트 자리에 slot을 넣고 내려보낸다.
+		private void siftDown(int[] heap, int heapSize, int slot) {
+			int i = 0;
+			while (true) {
+				int child = 2 * i + 1;
+				if (child >= heapSize) {
+					break;
+				}
+				if (child + 1 < heapSize && lower(heap[child + 1], heap[child])) {
+					child++;
+				}
+				if (!lower(heap[child], slot)) {
+					break;
+				}
+				heap[i] = heap[child];
+				i = child;
+			}
+			heap[i] = slot;
+		}
+
+		private static int mix(int h) {
+			h *= 0x9E3779B9;
+			return h ^ (h >>> 16);
+		}
+	}
+
+	public static void main(String[] args) throws IOException {
+		// HashMapDemo 7번과 같은 입력
+		byte[] text = "apple banana apple cherry apple banana".getBytes(StandardCharsets.US_ASCII);
+		Result result = WordCounter.count(text, 2);
+		System.out.println("상위 2개: " + result.top()); // apple=3, banana=2
+		System.out.println("토큰 수: " + result.tokenCount() + ", 서로 다른 토큰: " + result.distinctCount()); // 6, 3
+
+		// 로그 파일을 메모리 매핑해서 병렬로 집계
+		Path file = Files.createTempFile("access", ".log");
+		try {
+			StringBuilder sb = new StringBuilder();
+			String[] levels = {"INFO", "INFO", "INFO", "WARN", "ERROR"};
+			String[] paths = {"/api/users", "/api/orders", "/health", "/api/주문"};
+			for (int i = 0; i < 200_000; i++) {
+				sb.append("2024-05-01T12:00:").append(i % 60).append(' ')
+					.append(levels[i % levels.length]).append(" GET ")
+					.append(paths[i % paths.length]).append(" status=").append(i % 13 == 0 ? 500 : 200).append('\n');
+			}
+			Files.writeString(file, sb, StandardCharsets.UTF_8);
+
+			Result parallel = WordCounter.parallelCount(file, 8);
+			System.out.println("토큰 수: " + parallel.tokenCount() + ", 서로 다른 토큰: " + parallel.distinctCount());
+			for (Entry entry : parallel.top()) {
+				System.out.println(entry.word() + " - " + entry.count() + "회");
+			}
+		} finally {
+			Files.delete(file);
+		}
+	}
+}
@@ -0,0 +1,967 @@
+package datastructure.phase04;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+
+import jdk.incubator.foreign.MemorySegment;
+import jdk.incubator.foreign.ResourceScope;
+
+/**
+ * 디스크에 두는 정렬된 byte[] 키 → byte[] 값 인덱스입니다. (SSTable / LSM 방식)
+ * <p>
+ * TreeMap은 힙에만 있어서 재시작하면 사라지고, 힙보다 큰 인덱스는 담을 수 없다.
+ * DiskSortedMap은
+ * - 쓰기: 작은 메모리 테이블(memtable, TreeMap)에 모았다가 가득 차면 정렬된 세그먼트 파일 하나로 내린다(flush).
+ *   세그먼트는 한 번 쓰면 바뀌지 않는다. 지우기는 값 대신 삭제 표시(tombstone)를 쓴다.
+ * - 세그먼트 파일: [데이터 블록들][블록 인덱스][첫 키][마지막 키][footer]
+ *   엔트리는 (키 길이 int, 값 길이 int(-1이면 삭제 표시), 키, 값)이고, 약 BLOCK_SIZE마다 블록을 나눈다.
+ *   블록 인덱스는 블록 시작 위치(int)만 담은 희소 인덱스다. 블록의 첫 키는 파일 안의 것을 그대로 읽는다.
+ *   세그먼트의 첫 키와 마지막 키는 열 때 힙에 올려 두고, 키 범위 밖의 세그먼트는 탐색하지 않는다.
+ *   compact 결과처럼 세그먼트들의 키 범위가 겹치지 않으면 조회마다 실제로 탐색하는 세그먼트는 하나뿐이다.
+ * - 읽기: 세그먼트를 통째로 메모리 매핑하고, 블록 인덱스 이진 탐색 → 블록 안 순차 탐색을 한다.
+ *   키 비교는 매핑된 버퍼와 질의 키를 8바이트씩 직접 비교하므로 복사가 없고, 힙에는 세그먼트마다 몇 개의 필드뿐이다.
+ *   열기는 footer만 읽으므로 인덱스 크기와 상관없이 세그먼트 수에 비례한다 (재구축 없음).
+ * - 여러 세그먼트와 memtable에 같은 키가 있으면 가장 최근 것이 이긴다. compact()는 모든 세그먼트를
+ *   하나의 정렬된 흐름으로 병합해 삭제 표시와 덮어쓴 값을 없앤 새 세그먼트들로 바꾼다.
+ * <p>
+ * 키는 부호 없는 바이트 사전순(Arrays.compareUnsigned)으로 정렬한다.
+ * 스레드 안전하지 않다. flush 전의 memtable은 로그(WAL)가 없으므로 close 없이 프로세스가 죽으면 사라진다.
+ * 세그먼트는 임시 파일에 쓰고 fsync 후 이름을 바꿔 공개하므로, 중간에 죽어도 반쯤 쓴 세그먼트는 보이지 않는다.
+ * <p>
+ * compact()와 close()는 옛 세그먼트의 매핑을 바로 푼다. GC가 버퍼를 회수할 때까지 기다리면 Linux에서는
+ * 지운 파일의 디스크 공간이 그동안 남고 (compact 직후 최대 2배), Windows에서는 매핑된 파일을 지울 수 없다.
+ * 세그먼트는 MemorySegment.mapFile로 세그먼트마다의 ResourceScope에 묶어 매핑하므로, 풀린 매핑에 접근하면
+ * (예: 범위 순회 콜백 안에서 compact / close) JVM이 죽지 않고 IllegalStateException이 난다.
+ * JDK 17에서는 인큐베이터 모듈이므로 컴파일/실행 시 --add-modules jdk.incubator.foreign 옵션이 필요하다.
+ * <p>
+ * 시간 복잡도: get / floor / ceiling O(세그먼트 수 + 범위가 겹치는 세그먼트 수 x (log 블록 수 + 블록 크기)),
+ * 범위 순회 O(위 + k)
+ */
+public class DiskSortedMap implements Closeable {
+
+	private static final int DEFAULT_MEMTABLE_BYTES = 4 << 20;
+	private static final int BLOCK_SIZE = 4096;
+	private static final int MAX_SEGMENT_BYTES = 1 << 30; // 매핑 하나(int 위치)로 읽을 수 있도록 2GB 미만
+	private static final int MAX_KEY_LENGTH = 1 << 16;
+	private static final int MAX_VALUE_LENGTH = 1 << 24;
+	private static final int ENTRY_OVERHEAD = 32; // memtable 크기 추정용 (TreeMap 엔트리 + 배열 헤더)
+	// 세그먼트 데이터가 이만큼 차면 다음 세그먼트로 넘긴다. 엔트리 하나를 더 써도 MAX_SEGMENT_BYTES를 넘지 않는다.
+	// memtable도 이보다 크게 둘 수 없다 (flush는 세그먼트 하나로 내린다).
+	private static final int SEGMENT_ROLL_BYTES = MAX_SEGMENT_BYTES - MAX_KEY_LENGTH - MAX_VALUE_LENGTH - ENTRY_OVERHEAD;
+
+	private static final int TOMBSTONE_LENGTH = -1;
+	// 인덱스 위치, 블록 수, 엔트리 수, 삭제 표시 수, 마지막 엔트리 위치, 첫 키 길이, 마지막 키 길이, MAGIC
+	private static final int FOOTER_BYTES = 4 + 4 + 8 + 8 + 4 + 4 + 4 + 4;
+	private static final int MAGIC = 0x53535443; // "SSTC"
+	private static final String PREFIX = "segment-";
+	private static final String SUFFIX = ".sst";
+
+	private static final byte[] TOMBSTONE = new byte[0]; // memtable 안의 삭제 표시 (참조로 구분)
+	private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+	private final Path directory;
+	private final int memtableBytes;
+	private final TreeMap<byte[], byte[]> memtable = new TreeMap<>(Arrays::compareUnsigned);
+	private int memtableSize;
+	private final List<Segment> segments = new ArrayList<>(); // 오래된 것부터
+	private long nextSequence = 1;
+
+	public DiskSortedMap(Path directory) throws IOException {
+		this(directory, DEFAULT_MEMTABLE_BYTES);
+	}
+
+	// directory의 세그먼트들을 연다 (없으면 만든다). memtable이 memtableBytes를 넘으면 flush한다.
+	// memtableBytes는 세그먼트 하나의 크기(약 1GB) 이하여야 한다.
+	public DiskSortedMap(Path directory, int memtableBytes) throws IOException {
+		if (memtableBytes <= 0 || memtableBytes > SEGMENT_ROLL_BYTES) {
+			throw new IllegalArgumentException("MemtableBytes: " + memtableBytes);
+		}
+		this.directory = Files.createDirectories(directory);
+		this.memtableBytes = memtableBytes;
+		List<Path> files = new ArrayList<>();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, PREFIX + "*")) {
+			for (Path file : stream) {
+				if (file.getFileName().toString().endsWith(SUFFIX)) {
+					files.add(file);
+				} else {
+					Files.delete(file); // 공개되지 못한 임시 파일
+				}
+			}
+		}
+		files.sort(null); // 번호를 0으로 채운 이름이라 이름순 = 오래된 순
+		for (Path file : files) {
+			segments.add(Segment.open(file));
+		}
+		if (!segments.isEmpty()) {
+			nextSequence = sequenceOf(files.get(files.size() - 1)) + 1;
+		}
+	}
+
+	// ========================================
+	// 쓰기
+	// ========================================
+
+	public void put(byte[] key, byte[] value) throws IOException {
+		checkKey(key);
+		if (value.length > MAX_VALUE_LENGTH) {
+			throw new IllegalArgumentException("Value length: " + value.length);
+		}
+		write(key, value);
+	}
+
+	// 삭제 표시를 남긴다 (이전 세그먼트의 값을 가리기 위해)
+	public void remove(byte[] key) throws IOException {
+		checkKey(key);
+		write(key, TOMBSTONE);
+	}
+
+	// memtable을 새 세그먼트로 내린다 (비어 있으면 아무것도 하지 않는다).
+	public void flush() throws IOException {
+		if (memtable.isEmpty()) {
+			return;
+		}
+		try (SegmentWriter writer = new SegmentWriter(segmentPath(nextSequence++))) {
+			for (Map.Entry<byte[], byte[]> entry : memtable.entrySet()) {
+				writer.add(entry.getKey(), entry.getValue() == TOMBSTONE ? null : entry.getValue());
+			}
+			segments.add(writer.finish());
+		}
+		memtable.clear();
+		memtableSize = 0;
+	}
+
+	// 모든 세그먼트를 병합해 최신 값만 남긴 새 세그먼트들로 바꾼다.
+	// 새 세그먼트가 모두 공개된 뒤에 옛 파일을 지우므로, 중간에 죽어도 보이는 내용은 같다.
+	public void compact() throws IOException {
+		flush();
+		if (segments.size() <= 1 && (segments.isEmpty() || segments.get(0).tombstones == 0)) {
+			return;
+		}
+		List<Segment> compacted = new ArrayList<>();
+		MergedCursor cursor = new MergedCursor(segmentSources(null, true, false), false);
+		SegmentWriter writer = null;
+		try {
+			while (cursor.next()) {
+				if (writer != null && writer.position >= SEGMENT_ROLL_BYTES) {
+					compacted.add(writer.finish());
+					writer.close();
+					writer = null;
+				}
+				if (writer == null) {
+					writer = new SegmentWriter(segmentPath(nextSequence++));
+				}
+				writer.add(cursor.key, cursor.value);
+			}
+			if (writer != null) {
+				compacted.add(writer.finish());
+			}
+		} finally {
+			if (writer != null) {
+				writer.close();
+			}
+		}
+		for (Segment segment : segments) {
+			segment.close();
+			Files.delete(segment.path);
+		}
+		segments.clear();
+		segments.addAll(compacted);
+	}
+
+	// memtable을 내리고 매핑을 풀고 닫는다.
+	@Override
+	public void close() throws IOException {
+		flush();
+		for (Segment segment : segments) {
+			segment.close();
+		}
+		segments.clear();
+	}
+
+	// ========================================
+	// 조회 (NavigableMap과 같은 의미, 없으면 null)
+	// ========================================
+
+	public byte[] get(byte[] key) {
+		byte[] value = memtable.get(key);
+		if (value != null) {
+			return value == TOMBSTONE ? null : value.clone();
+		}
+		for (int s = segments.size() - 1; s >= 0; s--) {
+			Segment segment = segments.get(s);
+			if (!segment.covers(key)) {
+				continue;
+			}
+			int position = segment.find(key);
+			if (position >= 0) {
+				return segment.valueLength(position) == TOMBSTONE_LENGTH ? null : segment.value(position);
+			}
+		}
+		return null;
+	}
+
+	public boolean containsKey(byte[] key) {
+		return get(key) != null;
+	}
+
+	// key 이하 중 가장 큰 엔트리
+	public Map.Entry<byte[], byte[]> floorEntry(byte[] key) {
+		return first(key, true, true);
+	}
+
+	// key 이상 중 가장 작은 엔트리
+	public Map.Entry<byte[], byte[]> ceilingEntry(byte[] key) {
+		return first(key, true, false);
+	}
+
+	// key 미만 중 가장 큰 엔트리
+	public Map.Entry<byte[], byte[]> lowerEntry(byte[] key) {
+		return first(key, false, true);
+	}
+
+	// key 초과 중 가장 작은 엔트리
+	public Map.Entry<byte[], byte[]> higherEntry(byte[] key) {
+		return first(key, false, false);
+	}
+
+	public byte[] floorKey(byte[] key) {
+		return keyOf(floorEntry(key));
+	}
+
+	public byte[] ceilingKey(byte[] key) {
+		return keyOf(ceilingEntry(key));
+	}
+
+	public Map.Entry<byte[], byte[]> firstEntry() {
+		return first(null, true, false);
+	}
+
+	public Map.Entry<byte[], byte[]> lastEntry() {
+		return first(null, true, true);
+	}
+
+	// from ~ to 범위를 키 오름차순으로 순회 - subMap(from, fromInclusive, to, toInclusive). null이면 끝까지
+	public void forEachInRange(byte[] from, boolean fromInclusive, byte[] to, boolean toInclusive,
+		BiConsumer<byte[], byte[]> action) {
+		MergedCursor cursor = new MergedCursor(sources(from, fromInclusive, false), false);
+		while (cursor.next()) {
+			if (to != null) {
+				int c = Arrays.compareUnsigned(cursor.key, to);
+				if (c > 0 || (c == 0 && !toInclusive)) {
+					return;
+				}
+			}
+			action.accept(cursor.key, cursor.value);
+		}
+	}
+
+	// 같은 범위를 키 내림차순으로 순회 - subMap(...).descendingMap(). from이 큰 쪽 끝이다.
+	public void forEachInRangeDescending(byte[] from, boolean fromInclusive, byte[] to, boolean toInclusive,
+		BiConsumer<byte[], byte[]> action) {
+		MergedCursor cursor = new MergedCursor(sources(from, fromInclusive, true), true);
+		while (cursor.next()) {
+			if (to != null) {
+				int c = Arrays.compareUnsigned(cursor.key, to);
+				if (c < 0 || (c == 0 && !toInclusive)) {
+					return;
+				}
+			}
+			action.accept(cursor.key, cursor.value);
+		}
+	}
+
+	public int segmentCount() {
+		return segments.size();
+	}
+
+	// ========================================
+	// 내부 구현 - 병합 커서
+	// ========================================
+
+	// key 쪽에서 가장 가까운 엔트리 하나 (descending이면 floor/lower, 아니면 ceiling/higher, key가 null이면 last/first).
+	// 커서를 만들지 않고 소스마다 한 번씩 찾는다. 가장 가까운 키가 삭제 표시면 그 키를 빼고 다시 찾는다.
+	private Map.Entry<byte[], byte[]> first(byte[] key, boolean inclusive, boolean descending) {
+		while (true) {
+			Map.Entry<byte[], byte[]> candidate = memtableNearest(key, inclusive, descending);
+			byte[] bestKey = candidate == null ? null : candidate.getKey();
+			byte[] bestValue = candidate == null ? null : candidate.getValue();
+			boolean inMemtable = candidate != null; // memtable의 배열이면 돌려주기 전에 복사한다
+			for (int s = segments.size() - 1; s >= 0; s--) {
+				Segment segment = segments.get(s);
+				int position = descending
+					? segmentFloor(segment, key, inclusive, bestKey)
+					: segmentCeiling(segment, key, inclusive, bestKey);
+				if (position < 0) {
+					continue;
+				}
+				// 같은 키면 앞서 본 최신 것이 이기므로 더 가까울 때만 바꾼다.
+				int c = bestKey == null ? 0 : segment.compare(position, bestKey);
+				if (bestKey == null || (descending ? c > 0 : c < 0)) {
+					bestKey = segment.key(position);
+					bestValue = segment.valueLength(position) == TOMBSTONE_LENGTH ? TOMBSTONE : segment.value(position);
+					inMemtable = false;
+				}
+			}
+			if (bestKey == null) {
+				return null;
+			}
+			if (bestValue != TOMBSTONE) {
+				return inMemtable ? Map.entry(bestKey.clone(), bestValue.clone()) : Map.entry(bestKey, bestValue);
+			}
+			key = bestKey;
+			inclusive = false;
+		}
+	}
+
+	// 세그먼트의 floor 후보 위치, 없거나 bestKey보다 가깝지 않으면 -1.
+	// 첫 키 / 마지막 키로 먼저 걸러서, key가 세그먼트 뒤에 있으면 탐색 없이 마지막 엔트리를 쓴다.
+	private static int segmentFloor(Segment segment, byte[] key, boolean inclusive, byte[] bestKey) {
+		if (bestKey != null && Arrays.compareUnsigned(segment.lastKey, bestKey) <= 0) {
+			return -1;
+		}
+		if (key == null) {
+			return segment.lastPosition;
+		}
+		int first = Arrays.compareUnsigned(segment.firstKey, key);
+		if (first > 0 || (first == 0 && !inclusive)) {
+			return -1;
+		}
+		int last = Arrays.compareUnsigned(segment.lastKey, key);
+		return last < 0 || (last == 0 && inclusive) ? segment.lastPosition : segment.floor(key, inclusive);
+	}
+
+	// 세그먼트의 ceiling 후보 위치, 없거나 bestKey보다 가깝지 않으면 -1
+	private static int segmentCeiling(Segment segment, byte[] key, boolean inclusive, byte[] bestKey) {
+		if (bestKey != null && Arrays.compareUnsigned(segment.firstKey, bestKey) >= 0) {
+			return -1;
+		}
+		if (key == null) {
+			return 0;
+		}
+		int last = Arrays.compareUnsigned(segment.lastKey, key);
+		if (last < 0 || (last == 0 && !inclusive)) {
+			return -1;
+		}
+		int first = Arrays.compareUnsigned(segment.firstKey, key);
+		return first > 0 || (first == 0 && inclusive) ? 0 : segment.ceiling(key, inclusive);
+	}
+
+	private Map.Entry<byte[], byte[]> memtableNearest(byte[] key, boolean inclusive, boolean descending) {
+		if (key == null) {
+			return descending ? memtable.lastEntry() : memtable.firstEntry();
+		}
+		if (descending) {
+			return inclusive ? memtable.floorEntry(key) : memtable.lowerEntry(key);
+		}
+		return inclusive ? memtable.ceilingEntry(key) : memtable.higherEntry(key);
+	}
+
+	private static byte[] keyOf(Map.Entry<byte[], byte[]> entry) {
+		return entry == null ? null : entry.getKey();
+	}
+
+	// 최신 것부터: memtable, 가장 최근 세그먼트, ..., 가장 오래된 세그먼트
+	private Source[] sources(byte[] from, boolean inclusive, boolean descending) {
+		Source[] segmentSources = segmentSources(from, inclusive, descending);
+		Source[] sources = new Source[segmentSources.length + 1];
+		sources[0] = new MemtableSource(from, inclusive, descending);
+		System.arraycopy(segmentSources, 0, sources, 1, segmentSources.length);
+		return sources;
+	}
+
+	// 시작 키 쪽으로 엔트리가 남지 않은 세그먼트는 뺀다 (오름차순이면 마지막 키가 from보다 작은 것).
+	private Source[] segmentSources(byte[] from, boolean inclusive, boolean descending) {
+		List<Source> sources = new ArrayList<>(segments.size());
+		for (int s = segments.size() - 1; s >= 0; s--) {
+			Segment segment = segments.get(s);
+			if (from != null) {
+				int c = Arrays.compareUnsigned(descending ? segment.firstKey : segment.lastKey, from);
+				if ((descending ? c > 0 : c < 0) || (c == 0 && !inclusive)) {
+					continue;
+				}
+			}
+			sources.add(new SegmentSource(segment, from, inclusive, descending));
+		}
+		return sources.toArray(new Source[0]);
+	}
+
+	// 한 방향으로 움직이는 정렬된 엔트리 흐름 (value가 null이면 삭제 표시)
+	private interface Source {
+		boolean valid();
+
+		byte[] key();
+
+		byte[] value();
+
+		void next();
+	}
+
+	/**
+	 * 여러 Source를 하나의 정렬된 흐름으로 합친다.
+	 * 같은 키가 여럿이면 앞(최신) Source의 것만 남기고, 그것이 삭제 표시면 건너뛴다.
+	 */
+	private static final class MergedCursor {
+		private final Source[] sources;
+		private final boolean descending;
+		byte[] key;
+		byte[] value;
+
+		MergedCursor(Source[] sources, boolean descending) {
+			this.sources = sources;
+			this.descending = descending;
+		}
+
+		boolean next() {
+			while (true) {
+				int best = -1;
+				for (int s = 0; s < sources.length; s++) {
+					if (sources[s].valid()) {
+						if (best < 0) {
+							best = s;
+						} else {
+							int c = Arrays.compareUnsigned(sources[s].key(), sources[best].key());
+							if (descending ? c > 0 : c < 0) {
+								best = s;
+							}
+						}
+					}
+				}
+				if (best < 0) {
+					return false;
+				}
+				byte[] bestKey = sources[best].key();
+				byte[] bestValue = sources[best].value();
+				for (int s = best; s < sources.length; s++) {
+					if (sources[s].valid() && Arrays.equals(sources[s].key(), bestKey)) {
+						sources[s].next();
+					}
+				}
+				if (bestValue != null) {
+					key = bestKey;
+					value = bestValue;
+					return true;
+				}
+			}
+		}
+	}
+
+	// 호출하는 쪽이 memtable의 배열을 바꾸지 못하도록 엔트리마다 복사해서 내준다.
+	private final class MemtableSource implements Source {
+		private final Iterator<Map.Entry<byte[], byte[]>> iterator;
+		private byte[] key;
+		private byte[] value;
+
+		MemtableSource(byte[] from, boolean inclusive, boolean descending) {
+			Map<byte[], byte[]> view;
+			if (from == null) {
+				view = descending ? memtable.descendingMap() : memtable;
+			} else {
+				view = descending ? memtable.headMap(from, inclusive).descendingMap() : memtable.tailMap(from, inclusive);
+			}
+			iterator = view.entrySet().iterator();
+			next();
+		}
+
+		@Override
+		public boolean valid() {
+			return key != null;
+		}
+
+		@Override
+		public byte[] key() {
+			return key;
+		}
+
+		@Override
+		public byte[] value() {
+			return value;
+		}
+
+		@Override
+		public void next() {
+			if (!iterator.hasNext()) {
+				key = null;
+				return;
+			}
+			Map.Entry<byte[], byte[]> entry = iterator.next();
+			key = entry.getKey().clone();
+			value = entry.getValue() == TOMBSTONE ? null : entry.getValue().clone();
+		}
+	}
+
+	/**
+	 * 세그먼트 안의 커서. 오름차순은 엔트리가 파일에 연속이라 다음 위치만 계산하면 되고,
+	 * 내림차순은 엔트리 길이가 제각각이라 블록 하나의 엔트리 위치를 모아 두고 거꾸로 걷는다.
+	 */
+	private static final class SegmentSource implements Source {
+		private final Segment segment;
+		private final boolean descending;
+		private int position = -1; // 현재 엔트리 위치, -1이면 끝
+		private int block;
+		private int[] blockPositions = new int[64];
+		private int blockIndex;
+		private byte[] key; // 현재 키 (필요할 때 한 번만 복사)
+
+		SegmentSource(Segment segment, byte[] from, boolean inclusive, boolean descending) {
+			this.segment = segment;
+			this.descending = descending;
+			if (segment.blockCount == 0) {
+				return;
+			}
+			if (!descending) {
+				position = segment.ceiling(from, inclusive);
+				return;
+			}
+			block = from == null ? segment.blockCount - 1 : segment.floorBlock(from);
+			if (block < 0) {
+				return;
+			}
+			loadBlock();
+			blockIndex--;
+			while (from != null && blockIndex >= 0) {
+				int c = segment.compare(blockPositions[blockIndex], from);
+				if (c < 0 || (c == 0 && inclusive)) {
+					break;
+				}
+				blockIndex--;
+			}
+			if (blockIndex >= 0) {
+				position = blockPositions[blockIndex];
+			} else {
+				previousBlock();
+			}
+		}
+
+		@Override
+		public boolean valid() {
+			return position >= 0;
+		}
+
+		@Override
+		public byte[] key() {
+			if (key == null) {
+				key = segment.key(position);
+			}
+			return key;
+		}
+
+		@Override
+		public byte[] value() {
+			return segment.valueLength(position) == TOMBSTONE_LENGTH ? null : segment.value(position);
+		}
+
+		@Override
+		public void next() {
+			key = null;
+			if (!descending) {
+				position = segment.nextPosition(position);
+				if (position >= segment.dataEnd) {
+					position = -1;
+				}
+			} else if (--blockIndex >= 0) {
+				position = blockPositions[blockIndex];
+			} else {
+				previousBlock();
+			}
+		}
+
+		// 블록의 엔트리 위치를 모으고 blockIndex를 개수로 둔다.
+		private void loadBlock() {
+			int end = block + 1 < segment.blockCount ? segment.blockStart(block + 1) : segment.dataEnd;
+			int count = 0;
+			for (int p = segment.blockStart(block); p < end; p = segment.nextPosition(p)) {
+				if (count == blockPositions.length) {
+					blockPositions = Arrays.copyOf(blockPositions, count * 2);
+				}
+				blockPositions[count++] = p;
+			}
+			blockIndex = count;
+		}
+
+		private void previousBlock() {
+			if (--block < 0) {
+				position = -1;
+				return;
+			}
+			loadBlock();
+			position = blockPositions[--blockIndex];
+		}
+	}
+
+	// ========================================
+	// 내부 구현 - 세그먼트 파일
+	// ========================================
+
+	private static final class Segment {
+		final Path path;
+		final ResourceScope scope;
+		final ByteBuffer buffer; // scope를 닫은 뒤 접근하면 IllegalStateException
+		final int dataEnd; // 블록 인덱스 시작 위치
+		final int blockCount;
+		final long entryCount;
+		final long tombstones;
+		final int lastPosition; // 마지막 엔트리 위치
+		final byte[] firstKey;
+		final byte[] lastKey;
+
+		private Segment(Path path, ResourceScope scope, ByteBuffer buffer) throws IOException {
+			this.path = path;
+			this.scope = scope;
+			this.buffer = buffer;
+			int footer = buffer.capacity() - FOOTER_BYTES;
+			if (footer < 0 || buffer.getInt(footer + 36) != MAGIC) {
+				throw new IOException("세그먼트 파일이 손상되었습니다: " + path);
+			}
+			this.dataEnd = buffer.getInt(footer);
+			this.blockCount = buffer.getInt(footer + 4);
+			this.entryCount = buffer.getLong(footer + 8);
+			this.tombstones = buffer.getLong(footer + 16);
+			this.lastPosition = buffer.getInt(footer + 24);
+			this.firstKey = new byte[buffer.getInt(footer + 28)];
+			this.lastKey = new byte[buffer.getInt(footer + 32)];
+			buffer.get(footer - lastKey.length - firstKey.length, firstKey);
+			buffer.get(footer - lastKey.length, lastKey);
+		}
+
+		// key가 이 세그먼트의 [첫 키, 마지막 키] 안에 있을 수 있는지
+		boolean covers(byte[] key) {
+			return Arrays.compareUnsigned(firstKey, key) <= 0 && Arrays.compareUnsigned(lastKey, key) >= 0;
+		}
+
+		// 공유 scope라서 다른 스레드가 읽는 도중에 닫혀도 그 스레드는 IllegalStateException으로 끝난다.
+		static Segment open(Path path) throws IOException {
+			long size = Files.size(path);
+			if (size > Integer.MAX_VALUE) {
+				throw new IOException("세그먼트가 너무 큽니다: " + path);
+			}
+			ResourceScope scope = ResourceScope.newSharedScope();
+			try {
+				MemorySegment mapped = MemorySegment.mapFile(path, 0, size, FileChannel.MapMode.READ_ONLY, scope);
+				return new Segment(path, scope, mapped.asByteBuffer());
+			} catch (IOException | RuntimeException e) {
+				scope.close();
+				throw e;
+			}
+		}
+
+		// 매핑을 바로 푼다.
+		void close() {
+			scope.close();
+		}
+
+		int blockStart(int block) {
+			return buffer.getInt(dataEnd + block * 4);
+		}
+
+		int keyLength(int position) {
+			return buffer.getInt(position);
+		}
+
+		int valueLength(int position) {
+			return buffer.getInt(position + 4);
+		}
+
+		int nextPosition(int position) {
+			return position + 8 + keyLength(position) + Math.max(valueLength(position), 0);
+		}
+
+		byte[] key(int position) {
+			byte[] key = new byte[keyLength(position)];
+			buffer.get(position + 8, key);
+			return key;
+		}
+
+		byte[] value(int position) {
+			byte[] value = new byte[valueLength(position)];
+			buffer.get(position + 8 + keyLength(position), value);
+			return value;
+		}
+
+		// 위치의 키와 key를 부호 없는 사전순으로 비교한다. 매핑된 버퍼에서 8바이트씩 바로 읽는다 (복사 없음).
+		int compare(int position, byte[] key) {
+			int length = keyLength(position);
+			int start = position + 8;
+			int common = Math.min(length, key.length);
+			int i = 0;
+			for (; i + 8 <= common; i += 8) {
+				long a = buffer.getLong(start + i);
+				long b = (long)LONGS.get(key, i);
+				if (a != b) {
+					return Long.compareUnsigned(a, b);
+				}
+			}
+			for (; i < common; i++) {
+				int c = Byte.toUnsignedInt(buffer.get(start + i)) - Byte.toUnsignedInt(key[i]);
+				if (c != 0) {
+					return c;
+				}
+			}
+			return length - key.length;
+		}
+
+		// 첫 키가 key 이하인 마지막 블록, 없으면 -1 (희소 인덱스 이진 탐색)
+		int floorBlock(byte[] key) {
+			int lo = 0;
+			int hi = blockCount;
+			while (lo < hi) {
+				int mid = (lo + hi) >>> 1;
+				if (compare(blockStart(mid), key) <= 0) {
+					lo = mid + 1;
+				} else {
+					hi = mid;
+				}
+			}
+			return lo - 1;
+		}
+
+		// key 엔트리(삭제 표시 포함)의 위치, 없으면 -1
+		int find(byte[] key) {
+			int block = floorBlock(key);
+			if (block < 0) {
+				return -1;
+			}
+			int end = block + 1 < blockCount ? blockStart(block + 1) : dataEnd;
+			for (int p = blockStart(block); p < end; p = nextPosition(p)) {
+				int c = compare(p, key);
+				if (c >= 0) {
+					return c == 0 ? p : -1;
+				}
+			}
+			return -1;
+		}
+
+		// key 이하(inclusive가 아니면 미만)인 마지막 엔트리 위치, 없으면 -1. key가 null이면 마지막 엔트리
+		int floor(byte[] key, boolean inclusive) {
+			for (int block = key == null ? blockCount - 1 : floorBlock(key); block >= 0; block--) {
+				int end = block + 1 < blockCount ? blockStart(block + 1) : dataEnd;
+				int found = -1;
+				for (int p = blockStart(block); p < end; p = nextPosition(p)) {
+					if (key != null) {
+						int c = compare(p, key);
+						if (c > 0 || (c == 0 && !inclusive)) {
+							break;
+						}
+					}
+					found = p;
+				}
+				if (found >= 0) {
+					return found;
+				}
+			}
+			return -1;
+		}
+
+		// key 이상(inclusive가 아니면 초과)인 첫 엔트리 위치, 없으면 -1. key가 null이면 첫 엔트리
+		int ceiling(byte[] key, boolean inclusive) {
+			if (blockCount == 0) {
+				return -1;
+			}
+			for (int p = key == null ? 0 : blockStart(Math.max(floorBlock(key), 0)); p < dataEnd; p = nextPosition(p)) {
+				if (key == null) {
+					return p;
+				}
+				int c = compare(p, key);
+				if (c > 0 || (c == 0 && inclusive)) {
+					return p;
+				}
+			}
+			return -1;
+		}
+	}
+
+	// 세그먼트 하나를 임시 파일에 쓰고, finish에서 fsync 후 이름을 바꿔 공개한다.
+	private static final class SegmentWriter implements Closeable {
+		private final Path path;
+		private final Path temp;
+		private final FileOutputStream file;
+		private final DataOutputStream out;
+		private int[] blockStarts = new int[64];
+		private int blockCount;
+		private long entryCount;
+		private long tombstones;
+		private int lastPosition;
+		private byte[] firstKey;
+		private byte[] lastKey;
+		int position;
+		private boolean finished;
+
+		SegmentWriter(Path path) throws IOException {
+			this.path = path;
+			this.temp = path.resolveSibling(path.getFileName() + ".tmp");
+			this.file = new FileOutputStream(temp.toFile());
+			this.out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16));
+		}
+
+		// 키 순서대로 넣어야 한다. value가 null이면 삭제 표시
+		void add(byte[] key, byte[] value) throws IOException {
+			if (blockCount == 0 || position - blockStarts[blockCount - 1] >= BLOCK_SIZE) {
+				if (blockCount == blockStarts.length) {
+					blockStarts = Arrays.copyOf(blockStarts, blockCount * 2);
+				}
+				blockStarts[blockCount++] = position;
+			}
+			if (firstKey == null) {
+				firstKey = key;
+			}
+			lastKey = key;
+			lastPosition = position;
+			out.writeInt(key.length);
+			out.writeInt(value == null ? TOMBSTONE_LENGTH : value.length);
+			out.write(key);
+			if (value != null) {
+				out.write(value);
+			}
+			position += 8 + key.length + (value == null ? 0 : value.length);
+			entryCount++;
+			if (value == null) {
+				tombstones++;
+			}
+		}
+
+		Segment finish() throws IOException {
+			for (int b = 0; b < blockCount; b++) {
+				out.writeInt(blockStarts[b]);
+			}
+			out.write(firstKey);
+			out.write(lastKey);
+			out.writeInt(position);
+			out.writeInt(blockCount);
+			out.writeLong(entryCount);
+			out.writeLong(tombstones);
+			out.writeInt(lastPosition);
+			out.writeInt(firstKey.length);
+			out.writeInt(lastKey.length);
+			out.writeInt(MAGIC);
+			out.flush();
+			file.getFD().sync();
+			out.close();
+			finished = true;
+			Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+			return Segment.open(path);
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (!finished) {
+				out.close();
+				Files.deleteIfExists(temp);
+			}
+		}
+	}
+
+	// ========================================
+	// 내부 구현 - 기타
+	// ========================================
+
+	// 호출하는 쪽이 key / value 버퍼를 다시 써도 memtable의 순서가 깨지지 않도록 복사해서 넣는다.
+	private void write(byte[] key, byte[] value) throws IOException {
+		byte[] previous = memtable.put(key.clone(), value == TOMBSTONE ? TOMBSTONE : value.clone());
+		memtableSize += value.length - (previous == null ? -key.length - ENTRY_OVERHEAD : previous.length);
+		if (memtableSize >= memtableBytes) {
+			flush();
+		}
+	}
+
+	private static void checkKey(byte[] key) {
+		if (key.length > MAX_KEY_LENGTH) {
+			throw new IllegalArgumentException("Key length: " + key.length);
+		}
+	}
+
+	private Path segmentPath(long sequence) {
+		return directory.resolve(String.format("%s%012d%s", PREFIX, sequence, SUFFIX));
+	}
+
+	private static long sequenceOf(Path file) {
+		String name = file.getFileName().toString();
+		return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+	}
+
+	private static byte[] utf8(String s) {
+		return s.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static String text(byte[] bytes) {
+		return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static String text(Map.Entry<byte[], byte[]> entry) {
+		return entry == null ? null : text(entry.getKey()) + "=" + text(entry.getValue());
+	}
+
+	public static void main(String[] args) throws IOException {
+		Path directory = Files.createTempDirectory("disk-sorted-map");
+		try {
+			// TreeMapDemo의 점수. 키는 사전순 = 숫자순이 되도록 자릿수를 맞춘다.
+			try (DiskSortedMap scores = new DiskSortedMap(directory)) {
+				scores.put(utf8("score:085"), utf8("홍길동"));
+				scores.put(utf8("score:092"), utf8("이순신"));
+				scores.put(utf8("score:078"), utf8("강감찬"));
+				scores.flush(); // 첫 세그먼트
+				scores.put(utf8("score:095"), utf8("유관순"));
+				scores.put(utf8("score:088"), utf8("신사임당"));
+				scores.remove(utf8("score:078")); // 세그먼트에 있는 키를 memtable의 삭제 표시가 가린다
+				System.out.println("90 이하: " + text(scores.floorEntry(utf8("score:090")))); // score:088=신사임당
+				System.out.println("90 이상: " + text(scores.ceilingEntry(utf8("score:090")))); // score:092=이순신
+				System.out.println("첫 엔트리: " + text(scores.firstEntry())); // score:085=홍길동 (078은 지워짐)
+			}
+
+			// 다시 열면 close 때 내린 세그먼트에서 그대로 읽는다.
+			try (DiskSortedMap scores = new DiskSortedMap(directory)) {
+				System.out.println("다시 연 뒤 세그먼트 수: " + scores.segmentCount()); // 2
+				StringBuilder range = new StringBuilder();
+				scores.forEachInRange(utf8("score:080"), true, utf8("score:093"), false,
+					(key, value) -> range.append(text(key)).append(' '));
+				System.out.println("80~93: " + range); // score:085 score:088 score:092
+				StringBuilder descending = new StringBuilder();
+				scores.forEachInRangeDescending(null, true, null, true, (key, value) -> descending.append(text(value)).append(' '));
+				System.out.println("내림차순: " + descending); // 유관순 이순신 신사임당 홍길동
+			}
+
+			// 대량 적재: 작은 memtable(1MB)로 100만 개를 넣으면 세그먼트가 여러 개 생긴다.
+			Path large = directory.resolve("large");
+			try (DiskSortedMap index = new DiskSortedMap(large, 1 << 20)) {
+				for (int i = 0; i < 1_000_000; i++) {
+					int id = (int)((i * 2_654_435_761L) % 1_000_000); // 0~999999를 뒤섞은 순서
+					index.put(utf8(String.format("user:%07d", id)), utf8("v" + id));
+				}
+				for (int id = 0; id < 1_000_000; id += 2) {
+					index.remove(utf8(String.format("user:%07d", id)));
+				}
+				System.out.println("compact 전 세그먼트 수: " + index.segmentCount());
+				index.compact();
+				System.out.println("compact 후 세그먼트 수: " + index.segmentCount());
+			}
+			long start = System.nanoTime();
+			try (DiskSortedMap index = new DiskSortedMap(large)) {
+				long opened = System.nanoTime();
+				System.out.println("열기: " + (opened - start) / 1_000 + "us, user:0500000 이하: "
+					+ text(index.floorEntry(utf8("user:0500000")))); // user:0499999=v499999
+			}
+		} finally {
+			try (var files = Files.walk(directory)) {
+				files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+			}
+		}
+	}
+}
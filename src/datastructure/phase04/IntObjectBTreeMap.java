@@ -0,0 +1,786 @@
+package datastructure.phase04;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * int 키 → 객체 값 B+트리 정렬 맵입니다. (TreeMap&lt;Integer, V&gt;의 캐시 친화 버전)
+ * <p>
+ * TreeMap은 원소마다 Entry 객체(키 Integer, 값, left/right/parent, color)를 하나씩 만들고,
+ * floorKey 한 번에 높이(≈ 1.4 log2 n)만큼 흩어진 노드를 따라간다 → 노드마다 캐시 미스.
+ * B+트리는 노드 하나에 정렬된 int[] 키를 최대 MAX_KEYS(64)개 담는다.
+ * - 높이가 log_64 n이라 100만 개도 3~4단계, 각 단계는 연속된 int[] 안의 이진 탐색
+ * - 값은 리프에만 있고, 리프끼리 prev/next로 이어져 범위 순회가 배열을 차례로 읽는 것이 된다
+ * - 정렬된 입력은 fromSorted로 O(n)에 한 번에 쌓는다 (하나씩 넣으면 O(n log n) + 분할)
+ * <p>
+ * 박싱이 없으므로 키가 없을 때 null 키를 돌려줄 수 없다.
+ * floorKey 등은 해당 키가 없으면 NoSuchElementException을 던지고, floorValue 등은 null을 돌려준다.
+ * 그래서 null 값은 넣을 수 없다.
+ * <p>
+ * 시간 복잡도: get / put / remove / floor / ceiling O(log n), 범위 순회 O(log n + k)
+ */
+public class IntObjectBTreeMap<V> {
+
+	private static final int MAX_KEYS = 64;
+	private static final int MIN_KEYS = MAX_KEYS / 2; // 루트가 아닌 노드의 최소 키 수
+
+	/**
+	 * forEach / 범위 순회가 엔트리 객체 없이 int 키와 값을 넘기는 콜백
+	 */
+	@FunctionalInterface
+	public interface IntObjectConsumer<V> {
+		void accept(int key, V value);
+	}
+
+	// 노드 배열은 한 칸 여유를 두어, 먼저 넣고 넘치면 나눈다.
+	private abstract static class Node {
+		final int[] keys = new int[MAX_KEYS + 1];
+		int size;
+	}
+
+	private static final class Leaf extends Node {
+		final Object[] values = new Object[MAX_KEYS + 1];
+		Leaf prev;
+		Leaf next;
+	}
+
+	// children[i]의 키 &lt; keys[i] &lt;= children[i + 1]의 키
+	private static final class Inner extends Node {
+		final Node[] children = new Node[MAX_KEYS + 2];
+	}
+
+	private Node root = new Leaf();
+	private int height; // 0이면 root가 리프
+	private int size;
+	private int modCount;
+
+	// put / remove가 내려온 경로 (재사용해서 할당을 피한다)
+	private Inner[] pathNodes = new Inner[8];
+	private int[] pathIndexes = new int[8];
+
+	public IntObjectBTreeMap() {
+	}
+
+	// 정렬된(순증가) keys와 values로 O(n)에 만든다. 리프는 거의 가득 채운다.
+	public static <V> IntObjectBTreeMap<V> fromSorted(int[] keys, V[] values) {
+		if (keys.length != values.length) {
+			throw new IllegalArgumentException("Keys: " + keys.length + ", Values: " + values.length);
+		}
+		int n = keys.length;
+		for (int i = 0; i < n; i++) {
+			Objects.requireNonNull(values[i], "value");
+			if (i > 0 && keys[i - 1] >= keys[i]) {
+				throw new IllegalArgumentException("Keys not strictly increasing at " + i);
+			}
+		}
+		IntObjectBTreeMap<V> map = new IntObjectBTreeMap<>();
+		if (n == 0) {
+			return map;
+		}
+
+		// 리프: 개수를 고르게 나눠 모든 리프가 MIN_KEYS 이상이 되게 한다.
+		int count = (n + MAX_KEYS - 1) / MAX_KEYS;
+		Node[] level = new Node[count];
+		int[] mins = new int[count];
+		Leaf prev = null;
+		for (int l = 0, offset = 0; l < count; l++) {
+			int length = n / count + (l < n % count ? 1 : 0);
+			Leaf leaf = new Leaf();
+			System.arraycopy(keys, offset, leaf.keys, 0, length);
+			System.arraycopy(values, offset, leaf.values, 0, length);
+			leaf.size = length;
+			leaf.prev = prev;
+			if (prev != null) {
+				prev.next = leaf;
+			}
+			prev = leaf;
+			level[l] = leaf;
+			mins[l] = keys[offset];
+			offset += length;
+		}
+
+		// 내부 노드: 자식들을 고르게 나눠 한 단계씩 올린다.
+		int height = 0;
+		while (count > 1) {
+			int parents = (count + MAX_KEYS) / (MAX_KEYS + 1);
+			Node[] upper = new Node[parents];
+			int[] upperMins = new int[parents];
+			for (int p = 0, child = 0; p < parents; p++) {
+				int children = count / parents + (p < count % parents ? 1 : 0);
+				Inner inner = new Inner();
+				for (int c = 0; c < children; c++) {
+					inner.children[c] = level[child + c];
+					if (c > 0) {
+						inner.keys[c - 1] = mins[child + c];
+					}
+				}
+				inner.size = children - 1;
+				upper[p] = inner;
+				upperMins[p] = mins[child];
+				child += children;
+			}
+			level = upper;
+			mins = upperMins;
+			count = parents;
+			height++;
+		}
+		map.root = level[0];
+		map.height = height;
+		map.size = n;
+		return map;
+	}
+
+	// ========================================
+	// 조회
+	// ========================================
+
+	@SuppressWarnings("unchecked")
+	public V get(int key) {
+		Leaf leaf = findLeaf(key);
+		int i = lowerBound(leaf.keys, leaf.size, key);
+		return i < leaf.size && leaf.keys[i] == key ? (V)leaf.values[i] : null;
+	}
+
+	public boolean containsKey(int key) {
+		return get(key) != null;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public int firstKey() {
+		checkNotEmpty();
+		return leftmostLeaf().keys[0];
+	}
+
+	public int lastKey() {
+		checkNotEmpty();
+		Leaf leaf = rightmostLeaf();
+		return leaf.keys[leaf.size - 1];
+	}
+
+	// ========================================
+	// 근접 값 검색 (floor, ceiling, lower, higher)
+	// ========================================
+
+	// 키를 지우면 구분 키가 리프의 실제 최솟값보다 작아질 수 있어서,
+	// 찾은 리프에 답이 없으면 이웃 리프의 끝 키가 답이다 (리프 탐색은 한 번).
+	// key 이하 중 가장 큰 키 - 없으면 NoSuchElementException
+	public int floorKey(int key) {
+		Leaf leaf = findLeaf(key);
+		int i = upperBound(leaf.keys, leaf.size, key) - 1;
+		if (i < 0) {
+			leaf = leaf.prev;
+			if (leaf == null) {
+				throw new NoSuchElementException("이하인 키가 없습니다: " + key);
+			}
+			i = leaf.size - 1;
+		}
+		return leaf.keys[i];
+	}
+
+	// key 이상 중 가장 작은 키
+	public int ceilingKey(int key) {
+		Leaf leaf = findLeaf(key);
+		int i = lowerBound(leaf.keys, leaf.size, key);
+		if (i == leaf.size) {
+			leaf = leaf.next;
+			if (leaf == null) {
+				throw new NoSuchElementException("이상인 키가 없습니다: " + key);
+			}
+			i = 0;
+		}
+		return leaf.keys[i];
+	}
+
+	// key 미만 중 가장 큰 키
+	public int lowerKey(int key) {
+		Leaf leaf = findLeaf(key);
+		int i = lowerBound(leaf.keys, leaf.size, key) - 1;
+		if (i < 0) {
+			leaf = leaf.prev;
+			if (leaf == null) {
+				throw new NoSuchElementException("미만인 키가 없습니다: " + key);
+			}
+			i = leaf.size - 1;
+		}
+		return leaf.keys[i];
+	}
+
+	// key 초과 중 가장 작은 키
+	public int higherKey(int key) {
+		Leaf leaf = findLeaf(key);
+		int i = upperBound(leaf.keys, leaf.size, key);
+		if (i == leaf.size) {
+			leaf = leaf.next;
+			if (leaf == null) {
+				throw new NoSuchElementException("초과인 키가 없습니다: " + key);
+			}
+			i = 0;
+		}
+		return leaf.keys[i];
+	}
+
+	// floorKey(key)의 값 - 없으면 null
+	@SuppressWarnings("unchecked")
+	public V floorValue(int key) {
+		Leaf leaf = findLeaf(key);
+		int i = upperBound(leaf.keys, leaf.size, key) - 1;
+		if (i < 0) {
+			leaf = leaf.prev;
+			if (leaf == null) {
+				return null;
+			}
+			i = leaf.size - 1;
+		}
+		return (V)leaf.values[i];
+	}
+
+	@SuppressWarnings("unchecked")
+	public V ceilingValue(int key) {
+		Leaf leaf = findLeaf(key);
+		int i = lowerBound(leaf.keys, leaf.size, key);
+		if (i == leaf.size) {
+			leaf = leaf.next;
+			if (leaf == null) {
+				return null;
+			}
+			i = 0;
+		}
+		return (V)leaf.values[i];
+	}
+
+	@SuppressWarnings("unchecked")
+	public V lowerValue(int key) {
+		Leaf leaf = findLeaf(key);
+		int i = lowerBound(leaf.keys, leaf.size, key) - 1;
+		if (i < 0) {
+			leaf = leaf.prev;
+			if (leaf == null) {
+				return null;
+			}
+			i = leaf.size - 1;
+		}
+		return (V)leaf.values[i];
+	}
+
+	@SuppressWarnings("unchecked")
+	public V higherValue(int key) {
+		Leaf leaf = findLeaf(key);
+		int i = upperBound(leaf.keys, leaf.size, key);
+		if (i == leaf.size) {
+			leaf = leaf.next;
+			if (leaf == null) {
+				return null;
+			}
+			i = 0;
+		}
+		return (V)leaf.values[i];
+	}
+
+	// ========================================
+	// 수정
+	// ========================================
+
+	// 값을 넣고 이전 값을 반환한다 (없었으면 null)
+	@SuppressWarnings("unchecked")
+	public V put(int key, V value) {
+		Objects.requireNonNull(value, "value");
+		Leaf leaf = descend(key);
+		int i = lowerBound(leaf.keys, leaf.size, key);
+		if (i < leaf.size && leaf.keys[i] == key) {
+			V old = (V)leaf.values[i];
+			leaf.values[i] = value;
+			return old;
+		}
+		System.arraycopy(leaf.keys, i, leaf.keys, i + 1, leaf.size - i);
+		System.arraycopy(leaf.values, i, leaf.values, i + 1, leaf.size - i);
+		leaf.keys[i] = key;
+		leaf.values[i] = value;
+		leaf.size++;
+		size++;
+		modCount++;
+		if (leaf.size > MAX_KEYS) {
+			splitLeaf(leaf);
+		}
+		return null;
+	}
+
+	// 키를 지우고 값을 반환한다 (없었으면 null)
+	@SuppressWarnings("unchecked")
+	public V remove(int key) {
+		Leaf leaf = descend(key);
+		int i = lowerBound(leaf.keys, leaf.size, key);
+		if (i == leaf.size || leaf.keys[i] != key) {
+			return null;
+		}
+		V old = (V)leaf.values[i];
+		System.arraycopy(leaf.keys, i + 1, leaf.keys, i, leaf.size - i - 1);
+		System.arraycopy(leaf.values, i + 1, leaf.values, i, leaf.size - i - 1);
+		leaf.values[--leaf.size] = null;
+		size--;
+		modCount++;
+		if (height > 0 && leaf.size < MIN_KEYS) {
+			rebalanceLeaf(leaf, height - 1);
+		}
+		return old;
+	}
+
+	public void clear() {
+		root = new Leaf();
+		height = 0;
+		size = 0;
+		modCount++;
+	}
+
+	// ========================================
+	// 순회
+	// ========================================
+
+	// 할당 없이 키 오름차순으로 순회
+	@SuppressWarnings("unchecked")
+	public void forEach(IntObjectConsumer<? super V> action) {
+		for (Leaf leaf = leftmostLeaf(); leaf != null; leaf = leaf.next) {
+			for (int i = 0; i < leaf.size; i++) {
+				action.accept(leaf.keys[i], (V)leaf.values[i]);
+			}
+		}
+	}
+
+	// from ~ to 범위를 키 오름차순으로 순회 (subMap(from, fromInclusive, to, toInclusive)와 같은 범위)
+	@SuppressWarnings("unchecked")
+	public void forEachInRange(int from, boolean fromInclusive, int to, boolean toInclusive,
+		IntObjectConsumer<? super V> action) {
+		Leaf leaf = ceilingLeafOrNull(from, fromInclusive);
+		if (leaf == null) {
+			return;
+		}
+		int i = fromInclusive ? lowerBound(leaf.keys, leaf.size, from) : upperBound(leaf.keys, leaf.size, from);
+		for (; leaf != null; leaf = leaf.next, i = 0) {
+			for (; i < leaf.size; i++) {
+				int key = leaf.keys[i];
+				if (key > to || (key == to && !toInclusive)) {
+					return;
+				}
+				action.accept(key, (V)leaf.values[i]);
+			}
+		}
+	}
+
+	// 첫 키부터 오름차순
+	public Cursor cursor() {
+		return isEmpty() ? new Cursor(null, 0, false) : new Cursor(leftmostLeaf(), 0, false);
+	}
+
+	// from 이상(inclusive) 또는 초과부터 오름차순 - tailMap(from, inclusive)
+	public Cursor cursor(int from, boolean inclusive) {
+		Leaf leaf = ceilingLeafOrNull(from, inclusive);
+		if (leaf == null) {
+			return new Cursor(null, 0, false);
+		}
+		int i = inclusive ? lowerBound(leaf.keys, leaf.size, from) : upperBound(leaf.keys, leaf.size, from);
+		return new Cursor(leaf, i, false);
+	}
+
+	// 마지막 키부터 내림차순 - descendingMap()
+	public Cursor descendingCursor() {
+		if (isEmpty()) {
+			return new Cursor(null, 0, true);
+		}
+		Leaf leaf = rightmostLeaf();
+		return new Cursor(leaf, leaf.size - 1, true);
+	}
+
+	// from 이하(inclusive) 또는 미만부터 내림차순 - headMap(from, inclusive).descendingMap()
+	public Cursor descendingCursor(int from, boolean inclusive) {
+		Leaf leaf = floorLeafOrNull(from, inclusive);
+		if (leaf == null) {
+			return new Cursor(null, 0, true);
+		}
+		int i = (inclusive ? upperBound(leaf.keys, leaf.size, from) : lowerBound(leaf.keys, leaf.size, from)) - 1;
+		return new Cursor(leaf, i, true);
+	}
+
+	/**
+	 * 리프를 따라 한 방향으로 움직이는 커서 (Iterator와 달리 엔트리 객체를 만들지 않는다)
+	 * <p>
+	 * while (cursor.next()) { cursor.key(); cursor.value(); } 형태로 쓰고,
+	 * 범위의 끝은 호출하는 쪽에서 key()로 판단한다. 맵이 바뀌면 ConcurrentModificationException
+	 */
+	public final class Cursor {
+		private Leaf nextLeaf;
+		private int nextIndex;
+		private final boolean descending;
+		private final int expectedModCount = modCount;
+		private int key;
+		private V value;
+
+		private Cursor(Leaf leaf, int index, boolean descending) {
+			this.descending = descending;
+			// 시작 위치가 리프 밖이면 이웃 리프로 옮겨 둔다.
+			if (leaf != null && !descending && index >= leaf.size) {
+				leaf = leaf.next;
+				index = 0;
+			} else if (leaf != null && descending && index < 0) {
+				leaf = leaf.prev;
+				index = leaf == null ? 0 : leaf.size - 1;
+			}
+			this.nextLeaf = leaf;
+			this.nextIndex = index;
+		}
+
+		// 다음 엔트리로 이동. 더 없으면 false
+		@SuppressWarnings("unchecked")
+		public boolean next() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			Leaf leaf = nextLeaf;
+			if (leaf == null) {
+				return false;
+			}
+			key = leaf.keys[nextIndex];
+			value = (V)leaf.values[nextIndex];
+			if (descending) {
+				if (--nextIndex < 0) {
+					nextLeaf = leaf.prev;
+					nextIndex = nextLeaf == null ? 0 : nextLeaf.size - 1;
+				}
+			} else if (++nextIndex == leaf.size) {
+				nextLeaf = leaf.next;
+				nextIndex = 0;
+			}
+			return true;
+		}
+
+		public int key() {
+			return key;
+		}
+
+		public V value() {
+			return value;
+		}
+	}
+
+	// ========================================
+	// 내부 구현 - 탐색
+	// ========================================
+
+	// keys[0..size)에서 key 이상인 첫 위치
+	private static int lowerBound(int[] keys, int size, int key) {
+		int lo = 0;
+		int hi = size;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (keys[mid] < key) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	// keys[0..size)에서 key 초과인 첫 위치 (내부 노드에서는 내려갈 자식 번호)
+	private static int upperBound(int[] keys, int size, int key) {
+		int lo = 0;
+		int hi = size;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (keys[mid] <= key) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	private Leaf findLeaf(int key) {
+		Node node = root;
+		for (int h = height; h > 0; h--) {
+			Inner inner = (Inner)node;
+			node = inner.children[upperBound(inner.keys, inner.size, key)];
+		}
+		return (Leaf)node;
+	}
+
+	// findLeaf와 같지만 지나온 내부 노드와 자식 번호를 기록한다 (put / remove용)
+	private Leaf descend(int key) {
+		if (pathNodes.length <= height) {
+			pathNodes = new Inner[height * 2];
+			pathIndexes = new int[height * 2];
+		}
+		Node node = root;
+		for (int level = 0; level < height; level++) {
+			Inner inner = (Inner)node;
+			int child = upperBound(inner.keys, inner.size, key);
+			pathNodes[level] = inner;
+			pathIndexes[level] = child;
+			node = inner.children[child];
+		}
+		return (Leaf)node;
+	}
+
+	private Leaf leftmostLeaf() {
+		Node node = root;
+		for (int h = height; h > 0; h--) {
+			node = ((Inner)node).children[0];
+		}
+		return (Leaf)node;
+	}
+
+	private Leaf rightmostLeaf() {
+		Node node = root;
+		for (int h = height; h > 0; h--) {
+			Inner inner = (Inner)node;
+			node = inner.children[inner.size];
+		}
+		return (Leaf)node;
+	}
+
+	// key 이하(inclusive) / 미만인 가장 큰 키가 있는 리프, 없으면 null (커서와 범위 순회의 시작점)
+	private Leaf floorLeafOrNull(int key, boolean inclusive) {
+		Leaf leaf = findLeaf(key);
+		int i = inclusive ? upperBound(leaf.keys, leaf.size, key) : lowerBound(leaf.keys, leaf.size, key);
+		return i > 0 ? leaf : leaf.prev;
+	}
+
+	// key 이상(inclusive) / 초과인 가장 작은 키가 있는 리프, 없으면 null
+	private Leaf ceilingLeafOrNull(int key, boolean inclusive) {
+		Leaf leaf = findLeaf(key);
+		int i = inclusive ? lowerBound(leaf.keys, leaf.size, key) : upperBound(leaf.keys, leaf.size, key);
+		return i < leaf.size ? leaf : leaf.next;
+	}
+
+	// ========================================
+	// 내부 구현 - 분할 / 병합
+	// ========================================
+
+	// 넘친 리프(MAX_KEYS + 1개)를 반으로 나누고, 오른쪽 리프의 첫 키를 부모에 올린다.
+	private void splitLeaf(Leaf leaf) {
+		Leaf right = new Leaf();
+		int leftSize = leaf.size / 2;
+		right.size = leaf.size - leftSize;
+		System.arraycopy(leaf.keys, leftSize, right.keys, 0, right.size);
+		System.arraycopy(leaf.values, leftSize, right.values, 0, right.size);
+		for (int i = leftSize; i < leaf.size; i++) {
+			leaf.values[i] = null;
+		}
+		leaf.size = leftSize;
+		right.next = leaf.next;
+		if (right.next != null) {
+			right.next.prev = right;
+		}
+		right.prev = leaf;
+		leaf.next = right;
+		insertIntoParent(height - 1, right.keys[0], right);
+	}
+
+	// level의 내부 노드에 (구분 키, 오른쪽 자식)을 넣는다. level &lt; 0이면 루트가 나뉜 것이다.
+	private void insertIntoParent(int level, int separator, Node right) {
+		if (level < 0) {
+			Inner newRoot = new Inner();
+			newRoot.keys[0] = separator;
+			newRoot.children[0] = root;
+			newRoot.children[1] = right;
+			newRoot.size = 1;
+			root = newRoot;
+			height++;
+			return;
+		}
+		Inner parent = pathNodes[level];
+		int i = pathIndexes[level];
+		System.arraycopy(parent.keys, i, parent.keys, i + 1, parent.size - i);
+		System.arraycopy(parent.children, i + 1, parent.children, i + 2, parent.size - i);
+		parent.keys[i] = separator;
+		parent.children[i + 1] = right;
+		parent.size++;
+		if (parent.size > MAX_KEYS) {
+			// 가운데 키는 위로 올라가고 양쪽에는 남지 않는다.
+			Inner sibling = new Inner();
+			int leftSize = parent.size / 2;
+			int promoted = parent.keys[leftSize];
+			sibling.size = parent.size - leftSize - 1;
+			System.arraycopy(parent.keys, leftSize + 1, sibling.keys, 0, sibling.size);
+			System.arraycopy(parent.children, leftSize + 1, sibling.children, 0, sibling.size + 1);
+			for (int c = leftSize + 1; c <= parent.size; c++) {
+				parent.children[c] = null;
+			}
+			parent.size = leftSize;
+			insertIntoParent(level - 1, promoted, sibling);
+		}
+	}
+
+	// 모자란 리프를 형제에게서 하나 빌리거나, 형제와 합친다.
+	private void rebalanceLeaf(Leaf leaf, int level) {
+		Inner parent = pathNodes[level];
+		int index = pathIndexes[level];
+		Leaf left = index > 0 ? (Leaf)parent.children[index - 1] : null;
+		Leaf right = index < parent.size ? (Leaf)parent.children[index + 1] : null;
+
+		if (left != null && left.size > MIN_KEYS) {
+			System.arraycopy(leaf.keys, 0, leaf.keys, 1, leaf.size);
+			System.arraycopy(leaf.values, 0, leaf.values, 1, leaf.size);
+			leaf.keys[0] = left.keys[left.size - 1];
+			leaf.values[0] = left.values[left.size - 1];
+			left.values[--left.size] = null;
+			leaf.size++;
+			parent.keys[index - 1] = leaf.keys[0];
+		} else if (right != null && right.size > MIN_KEYS) {
+			leaf.keys[leaf.size] = right.keys[0];
+			leaf.values[leaf.size] = right.values[0];
+			leaf.size++;
+			System.arraycopy(right.keys, 1, right.keys, 0, right.size - 1);
+			System.arraycopy(right.values, 1, right.values, 0, right.size - 1);
+			right.values[--right.size] = null;
+			parent.keys[index] = right.keys[0];
+		} else if (left != null) {
+			mergeLeaves(left, leaf);
+			removeFromInner(level, index - 1);
+		} else {
+			mergeLeaves(leaf, right);
+			removeFromInner(level, index);
+		}
+	}
+
+	// right의 엔트리를 left 뒤에 붙이고 right를 리프 목록에서 뺀다.
+	private static void mergeLeaves(Leaf left, Leaf right) {
+		System.arraycopy(right.keys, 0, left.keys, left.size, right.size);
+		System.arraycopy(right.values, 0, left.values, left.size, right.size);
+		left.size += right.size;
+		left.next = right.next;
+		if (left.next != null) {
+			left.next.prev = left;
+		}
+	}
+
+	// level의 내부 노드에서 keys[keyIndex]와 그 오른쪽 자식을 지운다.
+	private void removeFromInner(int level, int keyIndex) {
+		Inner node = pathNodes[level];
+		System.arraycopy(node.keys, keyIndex + 1, node.keys, keyIndex, node.size - keyIndex - 1);
+		System.arraycopy(node.children, keyIndex + 2, node.children, keyIndex + 1, node.size - keyIndex - 1);
+		node.children[node.size] = null;
+		node.size--;
+		if (level == 0) {
+			if (node.size == 0) {
+				// 루트에 자식이 하나만 남으면 한 단계 낮아진다.
+				root = node.children[0];
+				height--;
+			}
+		} else if (node.size < MIN_KEYS) {
+			rebalanceInner(node, level);
+		}
+	}
+
+	// 모자란 내부 노드를 부모를 거쳐 형제에게서 하나 빌리거나(회전), 부모의 구분 키를 끼워 합친다.
+	private void rebalanceInner(Inner node, int level) {
+		Inner parent = pathNodes[level - 1];
+		int index = pathIndexes[level - 1];
+		Inner left = index > 0 ? (Inner)parent.children[index - 1] : null;
+		Inner right = index < parent.size ? (Inner)parent.children[index + 1] : null;
+
+		if (left != null && left.size > MIN_KEYS) {
+			System.arraycopy(node.keys, 0, node.keys, 1, node.size);
+			System.arraycopy(node.children, 0, node.children, 1, node.size + 1);
+			node.keys[0] = parent.keys[index - 1];
+			node.children[0] = left.children[left.size];
+			node.size++;
+			parent.keys[index - 1] = left.keys[left.size - 1];
+			left.children[left.size] = null;
+			left.size--;
+		} else if (right != null && right.size > MIN_KEYS) {
+			node.keys[node.size] = parent.keys[index];
+			node.children[node.size + 1] = right.children[0];
+			node.size++;
+			parent.keys[index] = right.keys[0];
+			System.arraycopy(right.keys, 1, right.keys, 0, right.size - 1);
+			System.arraycopy(right.children, 1, right.children, 0, right.size);
+			right.children[right.size] = null;
+			right.size--;
+		} else if (left != null) {
+			mergeInner(left, parent.keys[index - 1], node);
+			removeFromInner(level - 1, index - 1);
+		} else {
+			mergeInner(node, parent.keys[index], right);
+			removeFromInner(level - 1, index);
+		}
+	}
+
+	private static void mergeInner(Inner left, int separator, Inner right) {
+		left.keys[left.size] = separator;
+		System.arraycopy(right.keys, 0, left.keys, left.size + 1, right.size);
+		System.arraycopy(right.children, 0, left.children, left.size + 1, right.size + 1);
+		left.size += 1 + right.size;
+	}
+
+	private void checkNotEmpty() {
+		if (size == 0) {
+			throw new NoSuchElementException("맵이 비어있습니다.");
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("{");
+		forEach((key, value) -> {
+			if (sb.length() > 1) {
+				sb.append(", ");
+			}
+			sb.append(key).append('=').append(value);
+		});
+		return sb.append('}').toString();
+	}
+
+	public static void main(String[] args) {
+		// TreeMapDemo와 같은 입력
+		IntObjectBTreeMap<String> scores = new IntObjectBTreeMap<>();
+		scores.put(85, "홍길동");
+		scores.put(92, "이순신");
+		scores.put(78, "강감찬");
+		scores.put(95, "유관순");
+		scores.put(88, "신사임당");
+		System.out.println("오름차순: " + scores);
+
+		// 근접 값 검색
+		System.out.println("90 이하 중 최대: " + scores.floorKey(90) + " (" + scores.floorValue(90) + ")"); // 88
+		System.out.println("90 이상 중 최소: " + scores.ceilingKey(90)); // 92
+		System.out.println("88 미만 중 최대: " + scores.lowerKey(88)); // 85
+		System.out.println("88 초과 중 최소: " + scores.higherKey(88)); // 92
+		System.out.println("70 이하: " + scores.floorValue(70)); // null (floorKey는 예외)
+
+		// 범위 검색: subMap(80, true, 93, false)
+		StringBuilder middle = new StringBuilder();
+		scores.forEachInRange(80, true, 93, false, (key, name) -> middle.append(key).append('=').append(name).append(' '));
+		System.out.println("80~93 범위: " + middle); // 85=홍길동 88=신사임당 92=이순신
+
+		// 역순: descendingMap()
+		StringBuilder descending = new StringBuilder();
+		for (IntObjectBTreeMap<String>.Cursor cursor = scores.descendingCursor(); cursor.next(); ) {
+			descending.append(cursor.key()).append(' ');
+		}
+		System.out.println("내림차순 키: " + descending); // 95 92 88 85 78
+
+		// 정렬된 입력으로 대량 적재 → 시각 인덱스에서 floor 조회
+		int n = 1_000_000;
+		int[] times = new int[n];
+		String[] events = new String[n];
+		for (int i = 0; i < n; i++) {
+			times[i] = i * 10; // 10ms 간격
+			events[i] = "event-" + i;
+		}
+		IntObjectBTreeMap<String> timeline = IntObjectBTreeMap.fromSorted(times, events);
+		System.out.println("크기: " + timeline.size() + ", 12345ms 시점의 이벤트: " + timeline.floorValue(12_345)); // event-1234
+		for (int i = 0; i < n; i += 2) {
+			timeline.remove(i * 10);
+		}
+		System.out.println("절반 삭제 후: " + timeline.size() + ", 12345ms: " + timeline.floorValue(12_345)
+			+ ", 첫 키: " + timeline.firstKey() + ", 마지막 키: " + timeline.lastKey()); // event-1233, 10, 9999990
+	}
+}
@@ -0,0 +1,482 @@
+package datastructure.phase04;
+
+import java.util.NoSuchElementException;
+
+/**
+ * long 키 → long 값 B+트리 맵들의 공통 뼈대입니다.
+ * <p>
+ * 노드 구조, 탐색, 정렬된 배열로 한 번에 만들기, 삽입 / 삭제 뒤의 분할 · 빌리기 · 병합을 맡는다.
+ * 내부 노드에 자식마다의 집계(키 수, 값 합 등)를 두는 하위 클래스는 훅 세 개를 재정의한다.
+ * - newInner(): 집계 배열을 가진 내부 노드를 만든다.
+ * - copyChildren(): 자식을 옮길 때 집계도 같이 옮긴다. 자식 배열은 이 메서드로만 옮긴다.
+ * - childChanged(): 분할 · 빌리기 · 병합으로 내용이 바뀐 자식 하나의 집계를 다시 구한다.
+ * 삽입 / 삭제 한 번으로 바뀌는 경로의 집계는 하위 클래스가 insertAt / removeAt 전에 직접 고친다.
+ */
+abstract class LongLongBTree {
+
+	static final int MAX_KEYS = 64;
+	static final int MIN_KEYS = MAX_KEYS / 2; // 루트가 아닌 노드의 최소 키 수
+
+	// 노드 배열은 한 칸 여유를 두어, 먼저 넣고 넘치면 나눈다.
+	abstract static class Node {
+		final long[] keys = new long[MAX_KEYS + 1];
+		int size;
+	}
+
+	static final class Leaf extends Node {
+		final long[] values = new long[MAX_KEYS + 1];
+		Leaf prev;
+		Leaf next;
+	}
+
+	// children[i]의 키 &lt; keys[i] &lt;= children[i + 1]의 키
+	static class Inner extends Node {
+		final Node[] children = new Node[MAX_KEYS + 2];
+	}
+
+	Node root = new Leaf();
+	int height; // 0이면 root가 리프
+	int size;
+
+	// 수정이 내려온 경로 (재사용해서 할당을 피한다)
+	Inner[] pathNodes = new Inner[8];
+	int[] pathIndexes = new int[8];
+
+	// ========================================
+	// 훅 (자식별 집계가 있는 하위 클래스용)
+	// ========================================
+
+	Inner newInner() {
+		return new Inner();
+	}
+
+	void copyChildren(Inner src, int srcPos, Inner dst, int dstPos, int length) {
+		System.arraycopy(src.children, srcPos, dst.children, dstPos, length);
+	}
+
+	void childChanged(Inner parent, int child) {
+	}
+
+	// ========================================
+	// 조회
+	// ========================================
+
+	public long getOrDefault(long key, long defaultValue) {
+		Leaf leaf = findLeaf(key);
+		int i = lowerBound(leaf.keys, leaf.size, key);
+		return i < leaf.size && leaf.keys[i] == key ? leaf.values[i] : defaultValue;
+	}
+
+	public boolean containsKey(long key) {
+		Leaf leaf = findLeaf(key);
+		int i = lowerBound(leaf.keys, leaf.size, key);
+		return i < leaf.size && leaf.keys[i] == key;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public void clear() {
+		root = new Leaf();
+		height = 0;
+		size = 0;
+	}
+
+	// 할당 없이 키 오름차순으로 순회
+	public void forEach(LongLongConsumer action) {
+		for (Leaf leaf = leftmostLeaf(); leaf != null; leaf = leaf.next) {
+			for (int i = 0; i < leaf.size; i++) {
+				action.accept(leaf.keys[i], leaf.values[i]);
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("{");
+		forEach((key, value) -> {
+			if (sb.length() > 1) {
+				sb.append(", ");
+			}
+			sb.append(key).append('=').append(value);
+		});
+		return sb.append('}').toString();
+	}
+
+	// ========================================
+	// 정렬된 배열로 만들기
+	// ========================================
+
+	// 빈 트리를 정렬된(순증가) keys와 values로 O(n)에 채운다. 리프는 거의 가득 채운다.
+	void load(long[] keys, long[] values) {
+		if (keys.length != values.length) {
+			throw new IllegalArgumentException("Keys: " + keys.length + ", Values: " + values.length);
+		}
+		int n = keys.length;
+		for (int i = 1; i < n; i++) {
+			if (keys[i - 1] >= keys[i]) {
+				throw new IllegalArgumentException("Keys not strictly increasing at " + i);
+			}
+		}
+		if (n == 0) {
+			return;
+		}
+
+		// 리프: 개수를 고르게 나눠 모든 리프가 MIN_KEYS 이상이 되게 한다.
+		int count = (n + MAX_KEYS - 1) / MAX_KEYS;
+		Node[] level = new Node[count];
+		long[] mins = new long[count];
+		Leaf prev = null;
+		for (int l = 0, offset = 0; l < count; l++) {
+			int length = n / count + (l < n % count ? 1 : 0);
+			Leaf leaf = new Leaf();
+			System.arraycopy(keys, offset, leaf.keys, 0, length);
+			System.arraycopy(values, offset, leaf.values, 0, length);
+			leaf.size = length;
+			leaf.prev = prev;
+			if (prev != null) {
+				prev.next = leaf;
+			}
+			prev = leaf;
+			level[l] = leaf;
+			mins[l] = keys[offset];
+			offset += length;
+		}
+
+		// 내부 노드: 자식들을 고르게 나눠 한 단계씩 올린다.
+		int levels = 0;
+		while (count > 1) {
+			int parents = (count + MAX_KEYS) / (MAX_KEYS + 1);
+			Node[] upper = new Node[parents];
+			long[] upperMins = new long[parents];
+			for (int p = 0, child = 0; p < parents; p++) {
+				int children = count / parents + (p < count % parents ? 1 : 0);
+				Inner inner = newInner();
+				for (int c = 0; c < children; c++) {
+					inner.children[c] = level[child + c];
+					if (c > 0) {
+						inner.keys[c - 1] = mins[child + c];
+					}
+					childChanged(inner, c);
+				}
+				inner.size = children - 1;
+				upper[p] = inner;
+				upperMins[p] = mins[child];
+				child += children;
+			}
+			level = upper;
+			mins = upperMins;
+			count = parents;
+			levels++;
+		}
+		root = level[0];
+		height = levels;
+		size = n;
+	}
+
+	// ========================================
+	// 탐색
+	// ========================================
+
+	// keys[0..size)에서 key 이상인 첫 위치
+	static int lowerBound(long[] keys, int size, long key) {
+		int lo = 0;
+		int hi = size;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (keys[mid] < key) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	// keys[0..size)에서 key 초과인 첫 위치 (내부 노드에서는 내려갈 자식 번호)
+	static int upperBound(long[] keys, int size, long key) {
+		int lo = 0;
+		int hi = size;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (keys[mid] <= key) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	Leaf findLeaf(long key) {
+		Node node = root;
+		for (int h = height; h > 0; h--) {
+			Inner inner = (Inner)node;
+			node = inner.children[upperBound(inner.keys, inner.size, key)];
+		}
+		return (Leaf)node;
+	}
+
+	// findLeaf와 같지만 지나온 내부 노드와 자식 번호를 pathNodes / pathIndexes에 기록한다 (수정용)
+	Leaf descend(long key) {
+		if (pathNodes.length <= height) {
+			pathNodes = new Inner[height * 2];
+			pathIndexes = new int[height * 2];
+		}
+		Node node = root;
+		for (int level = 0; level < height; level++) {
+			Inner inner = (Inner)node;
+			int child = upperBound(inner.keys, inner.size, key);
+			pathNodes[level] = inner;
+			pathIndexes[level] = child;
+			node = inner.children[child];
+		}
+		return (Leaf)node;
+	}
+
+	Leaf leftmostLeaf() {
+		Node node = root;
+		for (int h = height; h > 0; h--) {
+			node = ((Inner)node).children[0];
+		}
+		return (Leaf)node;
+	}
+
+	Leaf rightmostLeaf() {
+		Node node = root;
+		for (int h = height; h > 0; h--) {
+			Inner inner = (Inner)node;
+			node = inner.children[inner.size];
+		}
+		return (Leaf)node;
+	}
+
+	void checkNotEmpty() {
+		if (size == 0) {
+			throw new NoSuchElementException("맵이 비어있습니다.");
+		}
+	}
+
+	// ========================================
+	// 리프 수정 (descend로 내려온 리프에 쓴다)
+	// ========================================
+
+	// leaf의 i 위치에 넣고, 넘치면 나눈다.
+	void insertAt(Leaf leaf, int i, long key, long value) {
+		System.arraycopy(leaf.keys, i, leaf.keys, i + 1, leaf.size - i);
+		System.arraycopy(leaf.values, i, leaf.values, i + 1, leaf.size - i);
+		leaf.keys[i] = key;
+		leaf.values[i] = value;
+		leaf.size++;
+		size++;
+		if (leaf.size > MAX_KEYS) {
+			splitLeaf(leaf);
+		}
+	}
+
+	// leaf의 i 위치를 지우고, 모자라면 형제와 맞춘다.
+	void removeAt(Leaf leaf, int i) {
+		System.arraycopy(leaf.keys, i + 1, leaf.keys, i, leaf.size - i - 1);
+		System.arraycopy(leaf.values, i + 1, leaf.values, i, leaf.size - i - 1);
+		leaf.size--;
+		size--;
+		if (height > 0 && leaf.size < MIN_KEYS) {
+			rebalanceLeaf(leaf, height - 1);
+		}
+	}
+
+	// ========================================
+	// 분할 / 병합
+	// ========================================
+
+	// 넘친 리프(MAX_KEYS + 1개)를 반으로 나누고, 오른쪽 리프의 첫 키를 부모에 올린다.
+	private void splitLeaf(Leaf leaf) {
+		Leaf right = new Leaf();
+		int leftSize = leaf.size / 2;
+		right.size = leaf.size - leftSize;
+		System.arraycopy(leaf.keys, leftSize, right.keys, 0, right.size);
+		System.arraycopy(leaf.values, leftSize, right.values, 0, right.size);
+		leaf.size = leftSize;
+		right.next = leaf.next;
+		if (right.next != null) {
+			right.next.prev = right;
+		}
+		right.prev = leaf;
+		leaf.next = right;
+		insertIntoParent(height - 1, right.keys[0], right);
+	}
+
+	// level의 내부 노드에 (구분 키, 오른쪽 자식)을 넣는다. level &lt; 0이면 루트가 나뉜 것이다.
+	private void insertIntoParent(int level, long separator, Node right) {
+		if (level < 0) {
+			Inner newRoot = newInner();
+			newRoot.keys[0] = separator;
+			newRoot.children[0] = root;
+			newRoot.children[1] = right;
+			newRoot.size = 1;
+			childChanged(newRoot, 0);
+			childChanged(newRoot, 1);
+			root = newRoot;
+			height++;
+			return;
+		}
+		Inner parent = pathNodes[level];
+		int i = pathIndexes[level];
+		System.arraycopy(parent.keys, i, parent.keys, i + 1, parent.size - i);
+		copyChildren(parent, i + 1, parent, i + 2, parent.size - i);
+		parent.keys[i] = separator;
+		parent.children[i + 1] = right;
+		parent.size++;
+		childChanged(parent, i);
+		childChanged(parent, i + 1);
+		if (parent.size > MAX_KEYS) {
+			// 가운데 키는 위로 올라가고 양쪽에는 남지 않는다.
+			Inner sibling = newInner();
+			int leftSize = parent.size / 2;
+			long promoted = parent.keys[leftSize];
+			sibling.size = parent.size - leftSize - 1;
+			System.arraycopy(parent.keys, leftSize + 1, sibling.keys, 0, sibling.size);
+			copyChildren(parent, leftSize + 1, sibling, 0, sibling.size + 1);
+			for (int c = leftSize + 1; c <= parent.size; c++) {
+				parent.children[c] = null;
+			}
+			parent.size = leftSize;
+			insertIntoParent(level - 1, promoted, sibling);
+		}
+	}
+
+	// 모자란 리프를 형제에게서 하나 빌리거나, 형제와 합친다.
+	private void rebalanceLeaf(Leaf leaf, int level) {
+		Inner parent = pathNodes[level];
+		int index = pathIndexes[level];
+		Leaf left = index > 0 ? (Leaf)parent.children[index - 1] : null;
+		Leaf right = index < parent.size ? (Leaf)parent.children[index + 1] : null;
+
+		if (left != null && left.size > MIN_KEYS) {
+			System.arraycopy(leaf.keys, 0, leaf.keys, 1, leaf.size);
+			System.arraycopy(leaf.values, 0, leaf.values, 1, leaf.size);
+			leaf.keys[0] = left.keys[left.size - 1];
+			leaf.values[0] = left.values[left.size - 1];
+			left.size--;
+			leaf.size++;
+			parent.keys[index - 1] = leaf.keys[0];
+			childChanged(parent, index - 1);
+			childChanged(parent, index);
+		} else if (right != null && right.size > MIN_KEYS) {
+			leaf.keys[leaf.size] = right.keys[0];
+			leaf.values[leaf.size] = right.values[0];
+			leaf.size++;
+			System.arraycopy(right.keys, 1, right.keys, 0, right.size - 1);
+			System.arraycopy(right.values, 1, right.values, 0, right.size - 1);
+			right.size--;
+			parent.keys[index] = right.keys[0];
+			childChanged(parent, index);
+			childChanged(parent, index + 1);
+		} else if (left != null) {
+			mergeLeaves(left, leaf);
+			childChanged(parent, index - 1);
+			removeFromInner(level, index - 1);
+		} else {
+			mergeLeaves(leaf, right);
+			childChanged(parent, index);
+			removeFromInner(level, index);
+		}
+	}
+
+	// right의 엔트리를 left 뒤에 붙이고 right를 리프 목록에서 뺀다.
+	private static void mergeLeaves(Leaf left, Leaf right) {
+		System.arraycopy(right.keys, 0, left.keys, left.size, right.size);
+		System.arraycopy(right.values, 0, left.values, left.size, right.size);
+		left.size += right.size;
+		left.next = right.next;
+		if (left.next != null) {
+			left.next.prev = left;
+		}
+	}
+
+	// level의 내부 노드에서 keys[keyIndex]와 그 오른쪽 자식을 지운다.
+	private void removeFromInner(int level, int keyIndex) {
+		Inner node = pathNodes[level];
+		System.arraycopy(node.keys, keyIndex + 1, node.keys, keyIndex, node.size - keyIndex - 1);
+		copyChildren(node, keyIndex + 2, node, keyIndex + 1, node.size - keyIndex - 1);
+		node.children[node.size] = null;
+		node.size--;
+		if (level == 0) {
+			if (node.size == 0) {
+				// 루트에 자식이 하나만 남으면 한 단계 낮아진다.
+				root = node.children[0];
+				height--;
+			}
+		} else if (node.size < MIN_KEYS) {
+			rebalanceInner(node, level);
+		}
+	}
+
+	// 모자란 내부 노드를 부모를 거쳐 형제에게서 하나 빌리거나(회전), 부모의 구분 키를 끼워 합친다.
+	private void rebalanceInner(Inner node, int level) {
+		Inner parent = pathNodes[level - 1];
+		int index = pathIndexes[level - 1];
+		Inner left = index > 0 ? (Inner)parent.children[index - 1] : null;
+		Inner right = index < parent.size ? (Inner)parent.children[index + 1] : null;
+
+		if (left != null && left.size > MIN_KEYS) {
+			System.arraycopy(node.keys, 0, node.keys, 1, node.size);
+			copyChildren(node, 0, node, 1, node.size + 1);
+			node.keys[0] = parent.keys[index - 1];
+			copyChildren(left, left.size, node, 0, 1);
+			node.size++;
+			parent.keys[index - 1] = left.keys[left.size - 1];
+			left.children[left.size] = null;
+			left.size--;
+			childChanged(parent, index - 1);
+			childChanged(parent, index);
+		} else if (right != null && right.size > MIN_KEYS) {
+			node.keys[node.size] = parent.keys[index];
+			copyChildren(right, 0, node, node.size + 1, 1);
+			node.size++;
+			parent.keys[index] = right.keys[0];
+			System.arraycopy(right.keys, 1, right.keys, 0, right.size - 1);
+			copyChildren(right, 1, right, 0, right.size);
+			right.children[right.size] = null;
+			right.size--;
+			childChanged(parent, index);
+			childChanged(parent, index + 1);
+		} else if (left != null) {
+			mergeInner(left, parent.keys[index - 1], node);
+			childChanged(parent, index - 1);
+			removeFromInner(level - 1, index - 1);
+		} else {
+			mergeInner(node, parent.keys[index], right);
+			childChanged(parent, index);
+			removeFromInner(level - 1, index);
+		}
+	}
+
+	private void mergeInner(Inner left, long separator, Inner right) {
+		left.keys[left.size] = separator;
+		System.arraycopy(right.keys, 0, left.keys, left.size + 1, right.size);
+		copyChildren(right, 0, left, left.size + 1, right.size + 1);
+		left.size += 1 + right.size;
+	}
+
+	public static void main(String[] args) {
+		// 훅을 재정의하지 않은 가장 단순한 트리: 순서대로 넣으면 리프가 나뉘며 높이가 자란다.
+		LongLongBTree tree = new LongLongBTree() {
+		};
+		for (long key = 0; key < 10_000; key++) {
+			Leaf leaf = tree.descend(key);
+			tree.insertAt(leaf, leaf.size, key, key * key);
+		}
+		System.out.println("크기: " + tree.size() + ", 높이: " + tree.height); // 10000, 2
+		for (long key = 0; key < 9_990; key++) {
+			Leaf leaf = tree.descend(key);
+			tree.removeAt(leaf, lowerBound(leaf.keys, leaf.size, key));
+		}
+		System.out.println("남은 엔트리: " + tree + ", 높이: " + tree.height); // 9990=99800100 ... , 0
+	}
+}
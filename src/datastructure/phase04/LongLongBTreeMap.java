@@ -0,0 +1,371 @@
+package datastructure.phase04;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+/**
+ * long 키 → long 값 B+트리 정렬 맵입니다. (TreeMap&lt;Long, Long&gt;의 박싱 없는 버전)
+ * <p>
+ * 구조는 IntObjectBTreeMap과 같고, 리프의 값도 long[]이라 엔트리마다 객체가 하나도 없다.
+ * 노드, 탐색, 분할 / 병합은 공통 뼈대인 LongLongBTree에 있다.
+ * 시각(epoch ms / ns) → 오프셋, 가격 → 누적 수량처럼 키와 값이 모두 숫자인 인덱스용이다.
+ * <p>
+ * 값에는 null이 없으므로 get 대신 getOrDefault, floorValue 등은 없을 때 돌려줄 기본값을 받는다.
+ * floorKey 등은 해당 키가 없으면 NoSuchElementException을 던진다.
+ * <p>
+ * 시간 복잡도: get / put / remove / floor / ceiling O(log n), 범위 순회 O(log n + k)
+ */
+public class LongLongBTreeMap extends LongLongBTree {
+
+	private int modCount;
+
+	public LongLongBTreeMap() {
+	}
+
+	// 정렬된(순증가) keys와 values로 O(n)에 만든다. 리프는 거의 가득 채운다.
+	public static LongLongBTreeMap fromSorted(long[] keys, long[] values) {
+		LongLongBTreeMap map = new LongLongBTreeMap();
+		map.load(keys, values);
+		return map;
+	}
+
+	// ========================================
+	// 조회
+	// ========================================
+
+	public long firstKey() {
+		checkNotEmpty();
+		return leftmostLeaf().keys[0];
+	}
+
+	public long lastKey() {
+		checkNotEmpty();
+		Leaf leaf = rightmostLeaf();
+		return leaf.keys[leaf.size - 1];
+	}
+
+	// ========================================
+	// 근접 값 검색 (floor, ceiling, lower, higher)
+	// ========================================
+
+	// 키를 지우면 구분 키가 리프의 실제 최솟값보다 작아질 수 있어서,
+	// 찾은 리프에 답이 없으면 이웃 리프의 끝 키가 답이다 (리프 탐색은 한 번).
+	// key 이하 중 가장 큰 키 - 없으면 NoSuchElementException
+	public long floorKey(long key) {
+		Leaf leaf = findLeaf(key);
+		int i = upperBound(leaf.keys, leaf.size, key) - 1;
+		if (i < 0) {
+			leaf = leaf.prev;
+			if (leaf == null) {
+				throw new NoSuchElementException("이하인 키가 없습니다: " + key);
+			}
+			i = leaf.size - 1;
+		}
+		return leaf.keys[i];
+	}
+
+	// key 이상 중 가장 작은 키
+	public long ceilingKey(long key) {
+		Leaf leaf = findLeaf(key);
+		int i = lowerBound(leaf.keys, leaf.size, key);
+		if (i == leaf.size) {
+			leaf = leaf.next;
+			if (leaf == null) {
+				throw new NoSuchElementException("이상인 키가 없습니다: " + key);
+			}
+			i = 0;
+		}
+		return leaf.keys[i];
+	}
+
+	// key 미만 중 가장 큰 키
+	public long lowerKey(long key) {
+		Leaf leaf = findLeaf(key);
+		int i = lowerBound(leaf.keys, leaf.size, key) - 1;
+		if (i < 0) {
+			leaf = leaf.prev;
+			if (leaf == null) {
+				throw new NoSuchElementException("미만인 키가 없습니다: " + key);
+			}
+			i = leaf.size - 1;
+		}
+		return leaf.keys[i];
+	}
+
+	// key 초과 중 가장 작은 키
+	public long higherKey(long key) {
+		Leaf leaf = findLeaf(key);
+		int i = upperBound(leaf.keys, leaf.size, key);
+		if (i == leaf.size) {
+			leaf = leaf.next;
+			if (leaf == null) {
+				throw new NoSuchElementException("초과인 키가 없습니다: " + key);
+			}
+			i = 0;
+		}
+		return leaf.keys[i];
+	}
+
+	// floorKey(key)의 값 - 없으면 defaultValue
+	public long floorValue(long key, long defaultValue) {
+		Leaf leaf = findLeaf(key);
+		int i = upperBound(leaf.keys, leaf.size, key) - 1;
+		if (i < 0) {
+			leaf = leaf.prev;
+			if (leaf == null) {
+				return defaultValue;
+			}
+			i = leaf.size - 1;
+		}
+		return leaf.values[i];
+	}
+
+	public long ceilingValue(long key, long defaultValue) {
+		Leaf leaf = findLeaf(key);
+		int i = lowerBound(leaf.keys, leaf.size, key);
+		if (i == leaf.size) {
+			leaf = leaf.next;
+			if (leaf == null) {
+				return defaultValue;
+			}
+			i = 0;
+		}
+		return leaf.values[i];
+	}
+
+	public long lowerValue(long key, long defaultValue) {
+		Leaf leaf = findLeaf(key);
+		int i = lowerBound(leaf.keys, leaf.size, key) - 1;
+		if (i < 0) {
+			leaf = leaf.prev;
+			if (leaf == null) {
+				return defaultValue;
+			}
+			i = leaf.size - 1;
+		}
+		return leaf.values[i];
+	}
+
+	public long higherValue(long key, long defaultValue) {
+		Leaf leaf = findLeaf(key);
+		int i = upperBound(leaf.keys, leaf.size, key);
+		if (i == leaf.size) {
+			leaf = leaf.next;
+			if (leaf == null) {
+				return defaultValue;
+			}
+			i = 0;
+		}
+		return leaf.values[i];
+	}
+
+	// ========================================
+	// 수정
+	// ========================================
+
+	public void put(long key, long value) {
+		Leaf leaf = descend(key);
+		int i = lowerBound(leaf.keys, leaf.size, key);
+		if (i < leaf.size && leaf.keys[i] == key) {
+			leaf.values[i] = value;
+			return;
+		}
+		modCount++;
+		insertAt(leaf, i, key, value);
+	}
+
+	// 키가 있었으면 지우고 true
+	public boolean remove(long key) {
+		Leaf leaf = descend(key);
+		int i = lowerBound(leaf.keys, leaf.size, key);
+		if (i == leaf.size || leaf.keys[i] != key) {
+			return false;
+		}
+		modCount++;
+		removeAt(leaf, i);
+		return true;
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+		modCount++;
+	}
+
+	// ========================================
+	// 순회
+	// ========================================
+
+	// from ~ to 범위를 키 오름차순으로 순회 (subMap(from, fromInclusive, to, toInclusive)와 같은 범위)
+	public void forEachInRange(long from, boolean fromInclusive, long to, boolean toInclusive,
+		LongLongConsumer action) {
+		Leaf leaf = ceilingLeafOrNull(from, fromInclusive);
+		if (leaf == null) {
+			return;
+		}
+		int i = fromInclusive ? lowerBound(leaf.keys, leaf.size, from) : upperBound(leaf.keys, leaf.size, from);
+		for (; leaf != null; leaf = leaf.next, i = 0) {
+			for (; i < leaf.size; i++) {
+				long key = leaf.keys[i];
+				if (key > to || (key == to && !toInclusive)) {
+					return;
+				}
+				action.accept(key, leaf.values[i]);
+			}
+		}
+	}
+
+	// 첫 키부터 오름차순
+	public Cursor cursor() {
+		return isEmpty() ? new Cursor(null, 0, false) : new Cursor(leftmostLeaf(), 0, false);
+	}
+
+	// from 이상(inclusive) 또는 초과부터 오름차순 - tailMap(from, inclusive)
+	public Cursor cursor(long from, boolean inclusive) {
+		Leaf leaf = ceilingLeafOrNull(from, inclusive);
+		if (leaf == null) {
+			return new Cursor(null, 0, false);
+		}
+		int i = inclusive ? lowerBound(leaf.keys, leaf.size, from) : upperBound(leaf.keys, leaf.size, from);
+		return new Cursor(leaf, i, false);
+	}
+
+	// 마지막 키부터 내림차순 - descendingMap()
+	public Cursor descendingCursor() {
+		if (isEmpty()) {
+			return new Cursor(null, 0, true);
+		}
+		Leaf leaf = rightmostLeaf();
+		return new Cursor(leaf, leaf.size - 1, true);
+	}
+
+	// from 이하(inclusive) 또는 미만부터 내림차순 - headMap(from, inclusive).descendingMap()
+	public Cursor descendingCursor(long from, boolean inclusive) {
+		Leaf leaf = floorLeafOrNull(from, inclusive);
+		if (leaf == null) {
+			return new Cursor(null, 0, true);
+		}
+		int i = (inclusive ? upperBound(leaf.keys, leaf.size, from) : lowerBound(leaf.keys, leaf.size, from)) - 1;
+		return new Cursor(leaf, i, true);
+	}
+
+	/**
+	 * 리프를 따라 한 방향으로 움직이는 커서 (Iterator와 달리 엔트리 객체를 만들지 않는다)
+	 * <p>
+	 * while (cursor.next()) { cursor.key(); cursor.value(); } 형태로 쓰고,
+	 * 범위의 끝은 호출하는 쪽에서 key()로 판단한다. 맵이 바뀌면 ConcurrentModificationException
+	 */
+	public final class Cursor {
+		private Leaf nextLeaf;
+		private int nextIndex;
+		private final boolean descending;
+		private final int expectedModCount = modCount;
+		private long key;
+		private long value;
+
+		private Cursor(Leaf leaf, int index, boolean descending) {
+			this.descending = descending;
+			// 시작 위치가 리프 밖이면 이웃 리프로 옮겨 둔다.
+			if (leaf != null && !descending && index >= leaf.size) {
+				leaf = leaf.next;
+				index = 0;
+			} else if (leaf != null && descending && index < 0) {
+				leaf = leaf.prev;
+				index = leaf == null ? 0 : leaf.size - 1;
+			}
+			this.nextLeaf = leaf;
+			this.nextIndex = index;
+		}
+
+		// 다음 엔트리로 이동. 더 없으면 false
+		public boolean next() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			Leaf leaf = nextLeaf;
+			if (leaf == null) {
+				return false;
+			}
+			key = leaf.keys[nextIndex];
+			value = leaf.values[nextIndex];
+			if (descending) {
+				if (--nextIndex < 0) {
+					nextLeaf = leaf.prev;
+					nextIndex = nextLeaf == null ? 0 : nextLeaf.size - 1;
+				}
+			} else if (++nextIndex == leaf.size) {
+				nextLeaf = leaf.next;
+				nextIndex = 0;
+			}
+			return true;
+		}
+
+		public long key() {
+			return key;
+		}
+
+		public long value() {
+			return value;
+		}
+	}
+
+	// ========================================
+	// 내부 구현 - 탐색
+	// ========================================
+
+	// key 이하(inclusive) / 미만인 가장 큰 키가 있는 리프, 없으면 null (커서와 범위 순회의 시작점)
+	private Leaf floorLeafOrNull(long key, boolean inclusive) {
+		Leaf leaf = findLeaf(key);
+		int i = inclusive ? upperBound(leaf.keys, leaf.size, key) : lowerBound(leaf.keys, leaf.size, key);
+		return i > 0 ? leaf : leaf.prev;
+	}
+
+	// key 이상(inclusive) / 초과인 가장 작은 키가 있는 리프, 없으면 null
+	private Leaf ceilingLeafOrNull(long key, boolean inclusive) {
+		Leaf leaf = findLeaf(key);
+		int i = inclusive ? lowerBound(leaf.keys, leaf.size, key) : upperBound(leaf.keys, leaf.size, key);
+		return i < leaf.size ? leaf : leaf.next;
+	}
+
+	public static void main(String[] args) {
+		// 시각(ms) → 로그 파일 오프셋 인덱스: 1초마다 한 줄, 줄 길이는 100바이트
+		int n = 1_000_000;
+		long start = 1_700_000_000_000L;
+		long[] times = new long[n];
+		long[] offsets = new long[n];
+		for (int i = 0; i < n; i++) {
+			times[i] = start + i * 1_000L;
+			offsets[i] = i * 100L;
+		}
+		LongLongBTreeMap index = LongLongBTreeMap.fromSorted(times, offsets);
+		System.out.println("크기: " + index.size() + ", 첫 키: " + index.firstKey() + ", 마지막 키: " + index.lastKey());
+
+		// 어떤 시각의 줄이 시작하는 오프셋 = floor
+		long query = start + 12_345_678L;
+		System.out.println("floorKey: " + index.floorKey(query) + " → 오프셋 " + index.floorValue(query, -1)); // +12345000ms → 1234500
+		System.out.println("ceilingKey: " + index.ceilingKey(query)); // +12346000ms
+		System.out.println("시작 전 floorValue: " + index.floorValue(start - 1, -1)); // -1 (floorKey는 예외)
+
+		// 범위: 처음 5초
+		StringBuilder range = new StringBuilder();
+		index.forEachInRange(start, true, start + 5_000, false, (time, offset) -> range.append(offset).append(' '));
+		System.out.println("처음 5초의 오프셋: " + range); // 0 100 200 300 400
+
+		// 역순: 마지막 3개
+		StringBuilder last = new StringBuilder();
+		LongLongBTreeMap.Cursor cursor = index.descendingCursor();
+		for (int i = 0; i < 3 && cursor.next(); i++) {
+			last.append(cursor.value()).append(' ');
+		}
+		System.out.println("마지막 3개 (내림차순): " + last); // 99999900 99999800 99999700
+
+		// 수정: 가격 → 수량 (호가 단위)
+		LongLongBTreeMap bids = new LongLongBTreeMap();
+		bids.put(10_050, 300);
+		bids.put(10_000, 500);
+		bids.put(10_100, 100);
+		bids.put(10_050, 350); // 덮어쓰기
+		bids.remove(10_100);
+		System.out.println("호가: " + bids + ", 최우선 매수: " + bids.lastKey()); // {10000=500, 10050=350}, 10050
+	}
+}
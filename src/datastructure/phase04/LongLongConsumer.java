@@ -0,0 +1,28 @@
+package datastructure.phase04;
+
+/**
+ * long 키와 long 값을 박싱 없이 받는 콜백입니다.
+ * <p>
+ * BiConsumer&lt;Long, Long&gt;는 엔트리마다 Long 두 개를 만든다.
+ * long → long 맵들의 forEach와 범위 순회가 같이 쓴다.
+ */
+@FunctionalInterface
+public interface LongLongConsumer {
+
+	void accept(long key, long value);
+
+	static void main(String[] args) {
+		// 값 합과 가장 큰 키를 한 번의 순회로 모은다 - 상태는 배열에 두면 람다 안에서도 바꿀 수 있다.
+		long[] state = new long[2];
+		LongLongConsumer totals = (key, value) -> {
+			state[0] += value;
+			state[1] = Math.max(state[1], key);
+		};
+		LongLongBTreeMap map = new LongLongBTreeMap();
+		map.put(3, 30);
+		map.put(1, 10);
+		map.put(2, 20);
+		map.forEach(totals);
+		System.out.println("값 합: " + state[0] + ", 가장 큰 키: " + state[1]); // 60, 3
+	}
+}
@@ -0,0 +1,338 @@
+package datastructure.phase04;
+
+import java.util.Random;
+
+/**
+ * 순위(order statistic)를 O(log n)에 답하는 long 키 → long 값 정렬 맵입니다.
+ * <p>
+ * TreeMap에서 "80~93점은 몇 명?"은 subMap(80, true, 93, true).size(), "88점은 몇 등?"은
+ * headMap(88).size()인데, 이 size()는 범위를 처음부터 끝까지 세므로 O(k)다.
+ * 이 맵은 LongLongBTreeMap과 같은 B+트리(LongLongBTree)에 내부 노드의 자식마다
+ * - counts[c]: 자식 c 아래의 키 수
+ * - sums[c]: 자식 c 아래의 값 합
+ * 를 함께 둔다. 루트에서 리프로 내려가며 왼쪽 자식들의 counts를 더하면 순위가 되고,
+ * 반대로 counts를 빼 가며 내려가면 i번째 키를 찾는다. 값 합도 같은 방법으로 구간 합이 된다.
+ * 삽입/삭제 때는 지나온 경로의 counts, sums를 더하고 빼며, 분할 · 빌리기 · 병합으로 바뀐 자식은
+ * childChanged 훅에서 그 자식의 배열로 다시 구한다 (수정 B번에 한 번 꼴, O(B)).
+ * <p>
+ * 리더보드처럼 같은 점수가 여럿이면 키를 (점수 &lt;&lt; 32 | 사용자 번호)로 합쳐 유일하게 만든다.
+ * 값 합은 long 범위를 넘으면 long 덧셈처럼 넘친다.
+ * <p>
+ * 시간 복잡도: put / addTo / remove / rank / select / countInRange / sumInRange O(log n)
+ * (정확히는 단계마다 노드 하나의 counts를 훑으므로 O(B log_B n), B = 64)
+ */
+public class RankedLongLongBTreeMap extends LongLongBTree {
+
+	// children[c] 아래의 키 수와 값 합
+	private static final class RankedInner extends Inner {
+		final int[] counts = new int[MAX_KEYS + 2];
+		final long[] sums = new long[MAX_KEYS + 2];
+	}
+
+	private long totalSum;
+
+	public RankedLongLongBTreeMap() {
+	}
+
+	// 정렬된(순증가) keys와 values로 O(n)에 만든다. 리프는 거의 가득 채운다.
+	public static RankedLongLongBTreeMap fromSorted(long[] keys, long[] values) {
+		RankedLongLongBTreeMap map = new RankedLongLongBTreeMap();
+		map.load(keys, values);
+		map.totalSum = sumOf(values, 0, values.length);
+		return map;
+	}
+
+	// ========================================
+	// 조회
+	// ========================================
+
+	// 모든 값의 합
+	public long totalSum() {
+		return totalSum;
+	}
+
+	public long firstKey() {
+		checkNotEmpty();
+		return select(0);
+	}
+
+	public long lastKey() {
+		checkNotEmpty();
+		return select(size - 1);
+	}
+
+	// ========================================
+	// 순위 (rank, select, 구간 개수 / 합)
+	// ========================================
+
+	// key보다 작은 키의 수 (= key가 있다면 0부터 센 위치) - headMap(key).size()
+	public int rank(long key) {
+		return countBefore(key, false);
+	}
+
+	// 0부터 센 index번째로 작은 키
+	public long select(int index) {
+		checkIndex(index);
+		Node node = root;
+		for (int h = height; h > 0; h--) {
+			RankedInner inner = (RankedInner)node;
+			int c = 0;
+			while (index >= inner.counts[c]) {
+				index -= inner.counts[c++];
+			}
+			node = inner.children[c];
+		}
+		return node.keys[index];
+	}
+
+	// select(index) 키의 값
+	public long valueAt(int index) {
+		checkIndex(index);
+		Node node = root;
+		for (int h = height; h > 0; h--) {
+			RankedInner inner = (RankedInner)node;
+			int c = 0;
+			while (index >= inner.counts[c]) {
+				index -= inner.counts[c++];
+			}
+			node = inner.children[c];
+		}
+		return ((Leaf)node).values[index];
+	}
+
+	// from 이상 to 이하인 키의 수 - subMap(from, true, to, true).size()
+	public int countInRange(long from, long to) {
+		return from > to ? 0 : countBefore(to, true) - countBefore(from, false);
+	}
+
+	// from 이상 to 이하인 키들의 값 합
+	public long sumInRange(long from, long to) {
+		return from > to ? 0 : sumBefore(to, true) - sumBefore(from, false);
+	}
+
+	// key 미만(inclusive면 이하)인 키의 수 - 내려갈 자식보다 왼쪽 자식들의 counts를 더한다.
+	private int countBefore(long key, boolean inclusive) {
+		int count = 0;
+		Node node = root;
+		for (int h = height; h > 0; h--) {
+			RankedInner inner = (RankedInner)node;
+			int child = upperBound(inner.keys, inner.size, key);
+			for (int c = 0; c < child; c++) {
+				count += inner.counts[c];
+			}
+			node = inner.children[child];
+		}
+		return count + (inclusive ? upperBound(node.keys, node.size, key) : lowerBound(node.keys, node.size, key));
+	}
+
+	// countBefore와 같은 방법으로 값 합을 구한다.
+	private long sumBefore(long key, boolean inclusive) {
+		long sum = 0;
+		Node node = root;
+		for (int h = height; h > 0; h--) {
+			RankedInner inner = (RankedInner)node;
+			int child = upperBound(inner.keys, inner.size, key);
+			for (int c = 0; c < child; c++) {
+				sum += inner.sums[c];
+			}
+			node = inner.children[child];
+		}
+		int end = inclusive ? upperBound(node.keys, node.size, key) : lowerBound(node.keys, node.size, key);
+		return sum + sumOf(((Leaf)node).values, 0, end);
+	}
+
+	// ========================================
+	// 수정
+	// ========================================
+
+	// ========================================
+	// 수정
+	// ========================================
+
+	public void put(long key, long value) {
+		update(key, value, false);
+	}
+
+	// 값에 delta를 더하고 새 값을 반환한다 (없으면 delta로 추가)
+	public long addTo(long key, long delta) {
+		return update(key, delta, true);
+	}
+
+	// 키가 있었으면 지우고 true
+	public boolean remove(long key) {
+		Leaf leaf = descend(key);
+		int i = lowerBound(leaf.keys, leaf.size, key);
+		if (i == leaf.size || leaf.keys[i] != key) {
+			return false;
+		}
+		long value = leaf.values[i];
+		totalSum -= value;
+		for (int level = 0; level < height; level++) {
+			RankedInner inner = (RankedInner)pathNodes[level];
+			inner.counts[pathIndexes[level]]--;
+			inner.sums[pathIndexes[level]] -= value;
+		}
+		removeAt(leaf, i);
+		return true;
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+		totalSum = 0;
+	}
+
+	private long update(long key, long value, boolean add) {
+		Leaf leaf = descend(key);
+		int i = lowerBound(leaf.keys, leaf.size, key);
+		if (i < leaf.size && leaf.keys[i] == key) {
+			long delta = add ? value : value - leaf.values[i];
+			leaf.values[i] += delta;
+			totalSum += delta;
+			for (int level = 0; level < height; level++) {
+				((RankedInner)pathNodes[level]).sums[pathIndexes[level]] += delta;
+			}
+			return leaf.values[i];
+		}
+		// 경로의 몫을 먼저 늘린다. 리프가 나뉘면 나뉜 두 자식의 몫은 childChanged가 다시 구한다.
+		totalSum += value;
+		for (int level = 0; level < height; level++) {
+			RankedInner inner = (RankedInner)pathNodes[level];
+			inner.counts[pathIndexes[level]]++;
+			inner.sums[pathIndexes[level]] += value;
+		}
+		insertAt(leaf, i, key, value);
+		return value;
+	}
+
+	// ========================================
+	// 순회
+	// ========================================
+
+	// 0부터 센 순위 from 이상 to 미만의 엔트리를 순회 (리더보드의 한 페이지)
+	public void forEachInRankRange(int from, int to, LongLongConsumer action) {
+		if (from < 0 || to > size || from > to) {
+			throw new IndexOutOfBoundsException("From: " + from + ", To: " + to + ", Size: " + size);
+		}
+		if (from == to) {
+			return;
+		}
+		int index = from;
+		Node node = root;
+		for (int h = height; h > 0; h--) {
+			RankedInner inner = (RankedInner)node;
+			int c = 0;
+			while (index >= inner.counts[c]) {
+				index -= inner.counts[c++];
+			}
+			node = inner.children[c];
+		}
+		Leaf leaf = (Leaf)node;
+		for (int remaining = to - from; remaining > 0; leaf = leaf.next, index = 0) {
+			for (; index < leaf.size && remaining > 0; index++, remaining--) {
+				action.accept(leaf.keys[index], leaf.values[index]);
+			}
+		}
+	}
+
+	// ========================================
+	// 내부 구현 - 자식별 키 수 / 값 합 (LongLongBTree의 훅)
+	// ========================================
+
+	@Override
+	Inner newInner() {
+		return new RankedInner();
+	}
+
+	@Override
+	void copyChildren(Inner src, int srcPos, Inner dst, int dstPos, int length) {
+		super.copyChildren(src, srcPos, dst, dstPos, length);
+		System.arraycopy(((RankedInner)src).counts, srcPos, ((RankedInner)dst).counts, dstPos, length);
+		System.arraycopy(((RankedInner)src).sums, srcPos, ((RankedInner)dst).sums, dstPos, length);
+	}
+
+	// 자식 c의 몫을 자식의 내용으로 다시 구한다 (리프는 키 수와 값 합, 내부 노드는 자기 counts / sums의 합).
+	@Override
+	void childChanged(Inner parent, int c) {
+		RankedInner inner = (RankedInner)parent;
+		Node child = inner.children[c];
+		if (child instanceof Leaf) {
+			inner.counts[c] = child.size;
+			inner.sums[c] = sumOf(((Leaf)child).values, 0, child.size);
+			return;
+		}
+		RankedInner ranked = (RankedInner)child;
+		int count = 0;
+		long sum = 0;
+		for (int i = 0; i <= ranked.size; i++) {
+			count += ranked.counts[i];
+			sum += ranked.sums[i];
+		}
+		inner.counts[c] = count;
+		inner.sums[c] = sum;
+	}
+
+	private static long sumOf(long[] values, int from, int to) {
+		long sum = 0;
+		for (int i = from; i < to; i++) {
+			sum += values[i];
+		}
+		return sum;
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+	public static void main(String[] args) {
+		// TreeMapDemo의 점수: 점수 → 그 점수를 받은 사람 수
+		RankedLongLongBTreeMap scores = new RankedLongLongBTreeMap();
+		for (int score : new int[] {85, 92, 78, 95, 88, 88}) {
+			scores.addTo(score, 1);
+		}
+		System.out.println("점수별 인원: " + scores); // {78=1, 85=1, 88=2, 92=1, 95=1}
+		System.out.println("88점 미만 점수 수: " + scores.rank(88)); // 2
+		System.out.println("80~93점 (서로 다른 점수): " + scores.countInRange(80, 93)); // 3
+		System.out.println("80~93점 (인원): " + scores.sumInRange(80, 93)); // 4
+		System.out.println("88점 이상 인원: " + (scores.totalSum() - scores.sumInRange(Long.MIN_VALUE, 87))); // 4
+		System.out.println("0부터 센 2번째 점수: " + scores.select(2)); // 88
+
+		// 리더보드: 키 = (점수 << 32) | 사용자 번호 → 같은 점수도 키가 유일하다. 값은 사용자 번호.
+		int users = 1_000_000;
+		Random random = new Random(42);
+		int[] userScore = new int[users];
+		RankedLongLongBTreeMap board = new RankedLongLongBTreeMap();
+		for (int user = 0; user < users; user++) {
+			userScore[user] = random.nextInt(100_000);
+			board.put(entryKey(userScore[user], user), user);
+		}
+		int user = 4242;
+		// 1등부터 센 등수 = 내 키보다 큰 키의 수 + 1
+		long key = entryKey(userScore[user], user);
+		System.out.println("사용자 " + user + " (" + userScore[user] + "점) 등수: " + (board.size() - board.rank(key)));
+
+		// 점수가 바뀌면 옛 키를 지우고 새 키를 넣는다.
+		board.remove(key);
+		userScore[user] = 99_999;
+		key = entryKey(userScore[user], user);
+		board.put(key, user);
+		System.out.println("99999점이 된 뒤 등수: " + (board.size() - board.rank(key)));
+
+		// 상위 3명: 순위가 큰 쪽부터 select
+		StringBuilder top = new StringBuilder();
+		for (int rank = 1; rank <= 3; rank++) {
+			long entry = board.select(board.size() - rank);
+			top.append(rank).append("등 사용자 ").append(board.valueAt(board.size() - rank))
+				.append('(').append(entry >>> 32).append("점) ");
+		}
+		System.out.println(top);
+		System.out.println("50000~59999점 사용자 수: "
+			+ board.countInRange(entryKey(50_000, 0), entryKey(59_999, Integer.MAX_VALUE)));
+	}
+
+	private static long entryKey(int score, int user) {
+		return ((long)score << 32) | user;
+	}
+}
@@ -19,6 +19,8 @@ public class TreeMapDemo {
 		// ========================================
 
 		// 기본 생성 - 키의 자연 순서(Comparable)로 정렬
+		// TreeMap은 스레드 안전하지 않다. 여러 스레드가 주로 읽는 경우는 phase05의 CopyOnWriteLongLongSortedMap 참고
+		// 오래 읽는 쪽에 한 시점의 맵을 주려면 통째로 복사해야 한다. 복사 없는 스냅숏은 phase05의 PersistentLongLongTreeMap 참고
 		TreeMap<Integer, String> scores = new TreeMap<>();
 
 		// 순서 상관없이 삽입
@@ -78,6 +80,12 @@ public class TreeMapDemo {
 		// higherKey: 주어진 값 초과 중 가장 작은 키 (같은 값 제외)
 		System.out.println("88 초과 중 최소: " + scores.higherKey(88));   // 92
 
+		// 키가 int/long이고 조회가 많으면 IntObjectBTreeMap / LongLongBTreeMap이 박싱 없이 같은 검색을 한다.
+		IntObjectBTreeMap<String> primitiveScores = new IntObjectBTreeMap<>();
+		scores.forEach(primitiveScores::put);
+		System.out.println("IntObjectBTreeMap 90 이하: " + primitiveScores.floorKey(90)
+			+ " (" + primitiveScores.floorValue(90) + ")"); // 88 (신사임당)
+
 
 		// ========================================
 		// 4. 범위 검색 (subMap, headMap, tailMap)
@@ -97,6 +105,12 @@ public class TreeMapDemo {
 		NavigableMap<Integer, String> high = scores.tailMap(88, true);
 		System.out.println("88 이상: " + high);  // {88=신사임당, 92=이순신, 95=유관순}
 
+		// 뷰의 size()는 범위를 끝까지 세므로 O(k)다. 개수와 순위만 필요하면 RankedLongLongBTreeMap이 O(log n)에 답한다.
+		System.out.println("80~93 개수: " + middle.size() + ", 88의 순위(0부터): " + low.size());  // 3, 2
+		RankedLongLongBTreeMap ranked = new RankedLongLongBTreeMap();
+		scores.keySet().forEach(score -> ranked.put(score, 1));
+		System.out.println("RankedLongLongBTreeMap: " + ranked.countInRange(80, 92) + ", " + ranked.rank(88));  // 3, 2
+
 		// ========================================
 		// 5. 역순 순회
 		// ========================================
@@ -107,6 +121,7 @@ public class TreeMapDemo {
 		NavigableMap<Integer, String> descending = scores.descendingMap();
 		System.out.println("내림차순: " + descending);
 		// {95=유관순, 92=이순신, 88=신사임당, 85=홍길동, 78=강감찬}
+		// TreeMap은 힙에만 있다. 힙보다 크거나 재시작 후에도 남아야 하는 정렬 인덱스는 DiskSortedMap 참고
 
 		// descendingKeySet으로 키만 역순 순회
 		for (Integer key : scores.descendingKeySet()) {
@@ -0,0 +1,164 @@
+package datastructure.phase05;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * 여러 스레드가 같은 키를 동시에 세는 경우를 위한 카운터 맵입니다.
+ * <p>
+ * ConcurrentHashMap&lt;K, Long&gt;.merge(key, 1L, Long::sum)는 키가 이미 있어도 매번
+ * 해당 버킷(bin)에 synchronized를 걸고 새 Long을 만든다. 소수의 핫 키에 스레드가 몰리면
+ * 모든 증가가 그 버킷 락 하나에서 줄을 서므로 코어를 늘려도 처리량이 늘지 않는다.
+ * <p>
+ * ConcurrentCounterMap은 키마다 LongAdder를 하나 두고
+ * - 이미 있는 키: get(락 없는 읽기) → LongAdder.add. 맵 구조는 건드리지 않는다
+ * - 처음 보는 키: computeIfAbsent로 한 번만 LongAdder를 만든다 (이때만 버킷 락)
+ * LongAdder는 평소에는 base 하나에 CAS하다가, CAS가 실패(경합)하면 스레드별로 나뉜 셀(stripe)에
+ * 더하도록 바뀐다. 셀들은 서로 다른 캐시 라인에 있어 핫 키 하나를 64 스레드가 세어도 서로를 막지 않는다.
+ * 대신 값을 읽을 때(sum) 셀들을 모두 더해야 하므로 읽기가 드물고 쓰기가 많은 집계에 맞다.
+ * <p>
+ * 읽기 연산(get, forEach, snapshot)은 동시에 진행 중인 증가를 포함할 수도, 안 할 수도 있다 (약한 일관성).
+ * sumThenReset은 읽은 만큼만 0으로 돌리므로 주기적으로 비워도 증가가 사라지거나 두 번 세어지지 않는다.
+ * 비운 뒤에도 키는 남는다 (핫 키의 LongAdder를 다시 만들지 않도록).
+ */
+public class ConcurrentCounterMap<K> {
+
+	private static final Function<Object, LongAdder> NEW_ADDER = key -> new LongAdder();
+
+	private final ConcurrentHashMap<K, LongAdder> counters;
+
+	public ConcurrentCounterMap() {
+		this.counters = new ConcurrentHashMap<>();
+	}
+
+	public ConcurrentCounterMap(int expectedKeys) {
+		this.counters = new ConcurrentHashMap<>(expectedKeys);
+	}
+
+	// ========================================
+	// 증가 (여러 스레드에서 동시에 호출)
+	// ========================================
+
+	public void increment(K key) {
+		add(key, 1);
+	}
+
+	public void add(K key, long delta) {
+		LongAdder adder = counters.get(key); // 빠른 경로: 락 없음
+		if (adder == null) {
+			adder = counters.computeIfAbsent(key, NEW_ADDER);
+		}
+		adder.add(delta);
+	}
+
+	// ========================================
+	// 조회 (약한 일관성)
+	// ========================================
+
+	// 현재 값 - 셀을 모두 더하므로 O(셀 수)
+	public long get(K key) {
+		LongAdder adder = counters.get(key);
+		return adder == null ? 0 : adder.sum();
+	}
+
+	// 한 번이라도 센 키의 수 (sumThenReset으로 0이 된 키 포함)
+	public int size() {
+		return counters.size();
+	}
+
+	// 모든 키의 값을 더한다.
+	public long total() {
+		long total = 0;
+		for (LongAdder adder : counters.values()) {
+			total += adder.sum();
+		}
+		return total;
+	}
+
+	// 키마다 현재 값을 넘긴다. 순회 중에 추가된 키는 보일 수도, 안 보일 수도 있다.
+	public void forEach(ObjLongConsumer<? super K> action) {
+		counters.forEach((key, adder) -> action.accept(key, adder.sum()));
+	}
+
+	// 현재 값들을 복사한 읽기 전용 맵. 이후의 증가는 반영되지 않는다.
+	public Map<K, Long> snapshot() {
+		Map<K, Long> copy = new HashMap<>(Math.max(16, (int)(counters.size() / 0.75f) + 1));
+		counters.forEach((key, adder) -> copy.put(key, adder.sum()));
+		return Collections.unmodifiableMap(copy);
+	}
+
+	// ========================================
+	// 비우기 (주기적 flush)
+	// ========================================
+
+	// 키 하나의 값을 읽고 0으로 돌린다.
+	public long sumThenReset(K key) {
+		LongAdder adder = counters.get(key);
+		return adder == null ? 0 : adder.sumThenReset();
+	}
+
+	// 모든 키의 값을 읽고 0으로 돌리며, 0이 아니었던 키만 sink에 넘긴다. 넘긴 값의 합을 반환
+	// LongAdder.sumThenReset은 셀마다 getAndSet(0)을 하므로, 비우는 도중에 들어온 증가는
+	// 이번 값에 포함되거나 다음 번에 남는다 - 잃어버리지 않는다.
+	public long sumThenReset(ObjLongConsumer<? super K> sink) {
+		long drained = 0;
+		for (Map.Entry<K, LongAdder> entry : counters.entrySet()) {
+			long value = entry.getValue().sumThenReset();
+			if (value != 0) {
+				sink.accept(entry.getKey(), value);
+				drained += value;
+			}
+		}
+		return drained;
+	}
+
+	@Override
+	public String toString() {
+		return snapshot().toString();
+	}
+
+	public static void main(String[] args) throws InterruptedException {
+		// HashMapDemo의 merge 카운팅과 같은 입력
+		ConcurrentCounterMap<String> wordCount = new ConcurrentCounterMap<>();
+		for (String word : new String[] {"apple", "banana", "apple", "cherry", "apple", "banana"}) {
+			wordCount.increment(word);
+		}
+		System.out.println("단어 카운팅: " + wordCount); // apple=3, banana=2, cherry=1
+
+		// 8개 스레드가 핫 키 2개와 나머지 키를 동시에 세면서, 수집 스레드가 주기적으로 비운다.
+		ConcurrentCounterMap<String> events = new ConcurrentCounterMap<>();
+		int threads = 8;
+		int perThread = 200_000;
+		CountDownLatch done = new CountDownLatch(threads);
+		for (int t = 0; t < threads; t++) {
+			int id = t;
+			Thread worker = new Thread(() -> {
+				for (int i = 0; i < perThread; i++) {
+					events.increment(i % 10 < 8 ? (i % 2 == 0 ? "GET /health" : "GET /api/users") : "user-" + id);
+				}
+				done.countDown();
+			});
+			worker.start();
+		}
+
+		Map<String, Long> flushed = new HashMap<>();
+		int flushes = 0;
+		while (done.getCount() > 0) {
+			events.sumThenReset((key, value) -> flushed.merge(key, value, Long::sum));
+			flushes++;
+			Thread.sleep(1);
+		}
+		events.sumThenReset((key, value) -> flushed.merge(key, value, Long::sum)); // 마지막 남은 값
+
+		long total = flushed.values().stream().mapToLong(Long::longValue).sum();
+		System.out.println("flush " + flushes + "회, 합계: " + total + " (기대값 " + (long)threads * perThread + ")");
+		System.out.println("GET /health: " + flushed.get("GET /health") + ", user-0: " + flushed.get("user-0"));
+		System.out.println("비운 뒤 남은 값: " + events.total() + ", 키 수: " + events.size());
+	}
+}
@@ -0,0 +1,557 @@
+package datastructure.phase05;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import datastructure.phase04.LongLongBTreeMap;
+import datastructure.phase04.LongLongConsumer;
+
+/**
+ * 읽기가 대부분인 경우를 위한 동시성 long 키 → long 값 정렬 맵입니다.
+ * <p>
+ * TreeMap은 스레드 안전하지 않고, ConcurrentSkipListMap은 엔트리마다 Node(+ 인덱스 노드)와
+ * 박싱된 Long을 만들며 조회가 높이만큼 흩어진 포인터를 따라간다.
+ * 이 맵은 키 범위로 나뉜 샤드마다 정렬된 long[] 키/값 배열을 두고, 전체를 불변 Snapshot 하나로 묶는다.
+ * <p>
+ * - 읽기 (RCU 방식): volatile 필드에서 현재 Snapshot을 한 번 읽고, 그 안에서 이진 탐색만 한다.
+ *   락도 CAS도 재시도도 없어서 wait-free이고, 쓰기와 절대 서로 기다리지 않는다.
+ * - 쓰기 (copy-on-write): 쓰기끼리만 락으로 줄을 세운다. 바뀐 샤드만 새 배열로 복사하고,
+ *   나머지 샤드는 이전 Snapshot과 공유한 새 Snapshot을 만든 뒤 volatile 쓰기 한 번으로 공개한다.
+ *   옛 Snapshot을 읽던 스레드는 그대로 끝까지 읽고, 아무도 참조하지 않으면 GC가 회수한다 (유예 기간).
+ * - Batch: 여러 변경을 모아 한 번에 공개하면 샤드 복사와 Snapshot 생성이 한 번으로 줄어든다.
+ * <p>
+ * snapshot()으로 얻은 Snapshot은 바뀌지 않으므로 여러 조회(순위 + 범위 순회 등)를 한 시점 기준으로 할 수 있다.
+ * 맵의 조회 메서드는 호출마다 그때의 최신 Snapshot을 쓴다.
+ * <p>
+ * 시간 복잡도: 조회 O(log n), 쓰기 O(샤드 크기 + 샤드 수 + 배치 크기 log 배치 크기)
+ */
+public class CopyOnWriteLongLongSortedMap {
+
+	private static final int MAX_SHARD_SIZE = 1024;
+	private static final int MIN_SHARD_SIZE = MAX_SHARD_SIZE / 4; // 이보다 작으면 이웃과 합친다
+
+	// 한 번 공개되면 바뀌지 않는 정렬된 키/값 배열 (비어 있지 않다)
+	private static final class Shard {
+		final long[] keys;
+		final long[] values;
+
+		Shard(long[] keys, long[] values) {
+			this.keys = keys;
+			this.values = values;
+		}
+	}
+
+	private final Object writeLock = new Object();
+	private volatile Snapshot current = new Snapshot(new Shard[0]);
+
+	// ========================================
+	// 읽기 (최신 Snapshot에 위임)
+	// ========================================
+
+	// 현재 시점의 불변 뷰 - 이후의 쓰기는 보이지 않는다.
+	public Snapshot snapshot() {
+		return current;
+	}
+
+	public int size() {
+		return current.size();
+	}
+
+	public boolean isEmpty() {
+		return current.size() == 0;
+	}
+
+	public long getOrDefault(long key, long defaultValue) {
+		return current.getOrDefault(key, defaultValue);
+	}
+
+	public boolean containsKey(long key) {
+		return current.containsKey(key);
+	}
+
+	public long floorKey(long key) {
+		return current.floorKey(key);
+	}
+
+	public long ceilingKey(long key) {
+		return current.ceilingKey(key);
+	}
+
+	public long floorValue(long key, long defaultValue) {
+		return current.floorValue(key, defaultValue);
+	}
+
+	public long ceilingValue(long key, long defaultValue) {
+		return current.ceilingValue(key, defaultValue);
+	}
+
+	public int rank(long key) {
+		return current.rank(key);
+	}
+
+	public void forEachInRange(long from, boolean fromInclusive, long to, boolean toInclusive, LongLongConsumer action) {
+		current.forEachInRange(from, fromInclusive, to, toInclusive, action);
+	}
+
+	// ========================================
+	// 쓰기
+	// ========================================
+
+	// 변경 하나를 바로 공개한다. 여러 개면 Batch가 훨씬 싸다.
+	public void put(long key, long value) {
+		synchronized (writeLock) {
+			publish(new long[] {key}, new long[] {value}, new boolean[] {false}, 1);
+		}
+	}
+
+	// 키가 있었으면 지우고 true
+	public boolean remove(long key) {
+		synchronized (writeLock) {
+			if (!current.containsKey(key)) {
+				return false;
+			}
+			publish(new long[] {key}, new long[1], new boolean[] {true}, 1);
+			return true;
+		}
+	}
+
+	public void clear() {
+		synchronized (writeLock) {
+			current = new Snapshot(new Shard[0]);
+		}
+	}
+
+	public Batch newBatch() {
+		return new Batch();
+	}
+
+	// batch의 변경을 새 Snapshot 하나로 공개하고 batch를 비운다.
+	public void apply(Batch batch) {
+		int count = batch.ops.size();
+		if (count == 0) {
+			return;
+		}
+		long[] keys = new long[count];
+		long[] values = new long[count];
+		boolean[] removes = new boolean[count];
+		int[] next = {0};
+		batch.ops.forEach((key, slot) -> {
+			int i = next[0]++;
+			keys[i] = key;
+			removes[i] = slot < 0;
+			values[i] = slot < 0 ? 0 : batch.values[(int)slot];
+		});
+		batch.clear();
+		synchronized (writeLock) {
+			publish(keys, values, removes, count);
+		}
+	}
+
+	/**
+	 * 공개 전의 변경 묶음 (한 스레드에서만 쓴다)
+	 * <p>
+	 * 같은 키를 여러 번 바꾸면 마지막 변경만 남는다. 키 순서는 LongLongBTreeMap이 유지하므로
+	 * apply는 정렬 없이 샤드와 병합만 한다.
+	 */
+	public static final class Batch {
+		private static final long REMOVE = -1;
+
+		private final LongLongBTreeMap ops = new LongLongBTreeMap(); // 키 → values 칸 번호 (지우기면 REMOVE)
+		private long[] values = new long[16];
+		private int valueCount;
+
+		private Batch() {
+		}
+
+		public Batch put(long key, long value) {
+			if (valueCount == values.length) {
+				values = Arrays.copyOf(values, valueCount * 2);
+			}
+			values[valueCount] = value;
+			ops.put(key, valueCount++);
+			return this;
+		}
+
+		public Batch remove(long key) {
+			ops.put(key, REMOVE);
+			return this;
+		}
+
+		public int size() {
+			return ops.size();
+		}
+
+		public void clear() {
+			ops.clear();
+			valueCount = 0;
+		}
+	}
+
+	// ========================================
+	// 내부 구현 - 공개 (writeLock 안에서만)
+	// ========================================
+
+	// 정렬되고 중복 없는 변경 [0, count)를 현재 샤드들과 병합해 새 Snapshot을 공개한다.
+	private void publish(long[] opKeys, long[] opValues, boolean[] opRemoves, int count) {
+		Shard[] shards = current.shards;
+		Shard[] result = new Shard[shards.length + count / MAX_SHARD_SIZE + 2];
+		int resultCount = 0;
+		int op = 0;
+		if (shards.length == 0) {
+			resultCount = addShards(result, resultCount, mergeShard(null, opKeys, opValues, opRemoves, 0, count));
+			op = count;
+		}
+		for (int s = 0; s < shards.length; s++) {
+			// 샤드 s가 맡는 변경: 다음 샤드의 첫 키보다 작은 것 (첫 샤드는 그보다 작은 키도 맡는다)
+			int end = op;
+			if (s == shards.length - 1) {
+				end = count;
+			} else {
+				long limit = shards[s + 1].keys[0];
+				while (end < count && opKeys[end] < limit) {
+					end++;
+				}
+			}
+			Shard[] merged = end == op
+				? new Shard[] {shards[s]} // 바뀌지 않은 샤드는 새 Snapshot과 공유한다
+				: mergeShard(shards[s], opKeys, opValues, opRemoves, op, end);
+			if (resultCount + merged.length > result.length) {
+				result = Arrays.copyOf(result, (resultCount + merged.length) * 2);
+			}
+			resultCount = addShards(result, resultCount, merged);
+			op = end;
+		}
+		current = new Snapshot(Arrays.copyOf(result, resultCount));
+	}
+
+	// 결과 목록 뒤에 샤드들을 붙인다. 바로 앞 샤드와 둘 중 하나가 작고 합쳐도 넘치지 않으면 합친다.
+	private static int addShards(Shard[] result, int resultCount, Shard[] shards) {
+		for (Shard shard : shards) {
+			if (resultCount > 0) {
+				Shard previous = result[resultCount - 1];
+				int total = previous.keys.length + shard.keys.length;
+				if ((previous.keys.length < MIN_SHARD_SIZE || shard.keys.length < MIN_SHARD_SIZE) && total <= MAX_SHARD_SIZE) {
+					long[] keys = Arrays.copyOf(previous.keys, total);
+					long[] values = Arrays.copyOf(previous.values, total);
+					System.arraycopy(shard.keys, 0, keys, previous.keys.length, shard.keys.length);
+					System.arraycopy(shard.values, 0, values, previous.keys.length, shard.keys.length);
+					result[resultCount - 1] = new Shard(keys, values);
+					continue;
+				}
+			}
+			result[resultCount++] = shard;
+		}
+		return resultCount;
+	}
+
+	// 샤드(null이면 빈 샤드)에 변경 [from, to)를 병합한 새 샤드들. 비면 0개, 넘치면 고르게 나눈다.
+	private static Shard[] mergeShard(Shard shard, long[] opKeys, long[] opValues, boolean[] opRemoves, int from, int to) {
+		long[] oldKeys = shard == null ? new long[0] : shard.keys;
+		long[] oldValues = shard == null ? new long[0] : shard.values;
+		long[] keys = new long[oldKeys.length + (to - from)];
+		long[] values = new long[keys.length];
+		int length = 0;
+		int i = 0;
+		int j = from;
+		while (i < oldKeys.length || j < to) {
+			if (j == to || (i < oldKeys.length && oldKeys[i] < opKeys[j])) {
+				keys[length] = oldKeys[i];
+				values[length++] = oldValues[i++];
+			} else {
+				if (i < oldKeys.length && oldKeys[i] == opKeys[j]) {
+					i++; // 덮어쓰거나 지운다
+				}
+				if (!opRemoves[j]) {
+					keys[length] = opKeys[j];
+					values[length++] = opValues[j];
+				}
+				j++;
+			}
+		}
+		int pieces = (length + MAX_SHARD_SIZE - 1) / MAX_SHARD_SIZE;
+		Shard[] result = new Shard[pieces];
+		for (int p = 0, offset = 0; p < pieces; p++) {
+			int pieceLength = length / pieces + (p < length % pieces ? 1 : 0);
+			result[p] = new Shard(Arrays.copyOfRange(keys, offset, offset + pieceLength),
+				Arrays.copyOfRange(values, offset, offset + pieceLength));
+			offset += pieceLength;
+		}
+		return result;
+	}
+
+	/**
+	 * 어느 한 시점의 맵 전체 (불변)
+	 * <p>
+	 * mins[s]는 샤드 s의 첫 키, offsets[s]는 샤드 s 앞의 키 수라서
+	 * 샤드 찾기와 순위(rank / select)가 모두 배열 이진 탐색이다.
+	 */
+	public static final class Snapshot {
+		private final Shard[] shards;
+		private final long[] mins;
+		private final int[] offsets;
+
+		private Snapshot(Shard[] shards) {
+			this.shards = shards;
+			this.mins = new long[shards.length];
+			this.offsets = new int[shards.length + 1];
+			for (int s = 0; s < shards.length; s++) {
+				mins[s] = shards[s].keys[0];
+				offsets[s + 1] = offsets[s] + shards[s].keys.length;
+			}
+		}
+
+		public int size() {
+			return offsets[shards.length];
+		}
+
+		public long getOrDefault(long key, long defaultValue) {
+			int s = shardOf(key);
+			if (s < 0) {
+				return defaultValue;
+			}
+			int i = Arrays.binarySearch(shards[s].keys, key);
+			return i >= 0 ? shards[s].values[i] : defaultValue;
+		}
+
+		public boolean containsKey(long key) {
+			int s = shardOf(key);
+			return s >= 0 && Arrays.binarySearch(shards[s].keys, key) >= 0;
+		}
+
+		public long firstKey() {
+			checkNotEmpty();
+			return mins[0];
+		}
+
+		public long lastKey() {
+			checkNotEmpty();
+			long[] keys = shards[shards.length - 1].keys;
+			return keys[keys.length - 1];
+		}
+
+		// key 이하 중 가장 큰 키 - 없으면 NoSuchElementException
+		public long floorKey(long key) {
+			int s = shardOf(key);
+			if (s < 0) {
+				throw new NoSuchElementException("이하인 키가 없습니다: " + key);
+			}
+			return shards[s].keys[upperBound(shards[s].keys, key) - 1];
+		}
+
+		// key 이상 중 가장 작은 키 - 없으면 NoSuchElementException
+		public long ceilingKey(long key) {
+			long position = ceilingPosition(key, true);
+			if (position < 0) {
+				throw new NoSuchElementException("이상인 키가 없습니다: " + key);
+			}
+			return shards[(int)(position >>> 32)].keys[(int)position];
+		}
+
+		public long floorValue(long key, long defaultValue) {
+			int s = shardOf(key);
+			return s < 0 ? defaultValue : shards[s].values[upperBound(shards[s].keys, key) - 1];
+		}
+
+		public long ceilingValue(long key, long defaultValue) {
+			long position = ceilingPosition(key, true);
+			return position < 0 ? defaultValue : shards[(int)(position >>> 32)].values[(int)position];
+		}
+
+		// key보다 작은 키의 수
+		public int rank(long key) {
+			int s = lowerBound(mins, key) - 1; // 첫 키가 key보다 작은 마지막 샤드
+			return s < 0 ? 0 : offsets[s] + lowerBound(shards[s].keys, key);
+		}
+
+		// 0부터 센 index번째로 작은 키
+		public long select(int index) {
+			if (index < 0 || index >= size()) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+			}
+			int lo = 0;
+			int hi = shards.length;
+			while (lo < hi) { // offsets[s] <= index인 마지막 s
+				int mid = (lo + hi) >>> 1;
+				if (offsets[mid + 1] <= index) {
+					lo = mid + 1;
+				} else {
+					hi = mid;
+				}
+			}
+			return shards[lo].keys[index - offsets[lo]];
+		}
+
+		// from ~ to 범위를 키 오름차순으로 순회
+		public void forEachInRange(long from, boolean fromInclusive, long to, boolean toInclusive, LongLongConsumer action) {
+			long position = ceilingPosition(from, fromInclusive);
+			if (position < 0) {
+				return;
+			}
+			int i = (int)position;
+			for (int s = (int)(position >>> 32); s < shards.length; s++, i = 0) {
+				long[] keys = shards[s].keys;
+				long[] values = shards[s].values;
+				for (; i < keys.length; i++) {
+					if (keys[i] > to || (keys[i] == to && !toInclusive)) {
+						return;
+					}
+					action.accept(keys[i], values[i]);
+				}
+			}
+		}
+
+		public void forEach(LongLongConsumer action) {
+			for (Shard shard : shards) {
+				for (int i = 0; i < shard.keys.length; i++) {
+					action.accept(shard.keys[i], shard.values[i]);
+				}
+			}
+		}
+
+		// key 이하인 키가 있을 수 있는 샤드 (첫 키가 key 이하인 마지막 샤드), 없으면 -1
+		private int shardOf(long key) {
+			return upperBound(mins, key) - 1;
+		}
+
+		// key 이상(inclusive) / 초과인 첫 위치를 (샤드 &lt;&lt; 32 | 칸)으로, 없으면 -1
+		private long ceilingPosition(long key, boolean inclusive) {
+			int s = shardOf(key);
+			if (s >= 0) {
+				long[] keys = shards[s].keys;
+				int i = inclusive ? lowerBound(keys, key) : upperBound(keys, key);
+				if (i < keys.length) {
+					return (long)s << 32 | i;
+				}
+			}
+			s++;
+			return s < shards.length ? (long)s << 32 : -1;
+		}
+
+		private void checkNotEmpty() {
+			if (shards.length == 0) {
+				throw new NoSuchElementException("맵이 비어있습니다.");
+			}
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder sb = new StringBuilder("{");
+			forEach((key, value) -> {
+				if (sb.length() > 1) {
+					sb.append(", ");
+				}
+				sb.append(key).append('=').append(value);
+			});
+			return sb.append('}').toString();
+		}
+	}
+
+	// 정렬된 keys에서 key 이상인 첫 위치
+	private static int lowerBound(long[] keys, long key) {
+		int lo = 0;
+		int hi = keys.length;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (keys[mid] < key) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	// 정렬된 keys에서 key 초과인 첫 위치
+	private static int upperBound(long[] keys, long key) {
+		int lo = 0;
+		int hi = keys.length;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (keys[mid] <= key) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	@Override
+	public String toString() {
+		return current.toString();
+	}
+
+	public static void main(String[] args) throws InterruptedException {
+		// TreeMapDemo의 점수 (점수 → 인원)
+		CopyOnWriteLongLongSortedMap scores = new CopyOnWriteLongLongSortedMap();
+		scores.apply(scores.newBatch().put(85, 1).put(92, 1).put(78, 1).put(95, 1).put(88, 1));
+		System.out.println("점수: " + scores); // {78=1, 85=1, 88=1, 92=1, 95=1}
+		System.out.println("90 이하 중 최대: " + scores.floorKey(90) + ", 90 이상 중 최소: " + scores.ceilingKey(90)); // 88, 92
+
+		// 스냅숏은 이후 쓰기에 영향을 받지 않는다.
+		Snapshot before = scores.snapshot();
+		scores.remove(78);
+		scores.put(100, 1);
+		System.out.println("이전 스냅숏: " + before + ", 현재: " + scores);
+
+		// 리더보드: 키 = (점수 << 32) | 사용자 번호. 쓰기 스레드 하나가 배치로 점수를 바꾸고,
+		// 읽기 스레드들은 락 없이 등수와 상위권을 조회한다.
+		int users = 200_000;
+		int[] userScore = new int[users];
+		Random random = new Random(42);
+		CopyOnWriteLongLongSortedMap board = new CopyOnWriteLongLongSortedMap();
+		Batch load = board.newBatch();
+		for (int user = 0; user < users; user++) {
+			userScore[user] = random.nextInt(1_000_000);
+			load.put(entryKey(userScore[user], user), user);
+		}
+		board.apply(load);
+
+		AtomicBoolean running = new AtomicBoolean(true);
+		LongAdder reads = new LongAdder();
+		LongAdder inconsistent = new LongAdder();
+		Thread[] readers = new Thread[3];
+		for (int r = 0; r < readers.length; r++) {
+			long seed = r;
+			readers[r] = new Thread(() -> {
+				Random local = new Random(seed);
+				while (running.get()) {
+					// 한 스냅숏 안에서는 크기가 항상 사용자 수와 같다 (배치는 지우기와 넣기를 함께 공개한다).
+					Snapshot snapshot = board.snapshot();
+					long key = snapshot.select(local.nextInt(snapshot.size()));
+					if (snapshot.size() != users || snapshot.rank(key) < 0) {
+						inconsistent.increment();
+					}
+					reads.increment();
+				}
+			});
+			readers[r].start();
+		}
+
+		Batch batch = board.newBatch();
+		for (int round = 0; round < 200; round++) {
+			for (int i = 0; i < 100; i++) {
+				int user = random.nextInt(users);
+				batch.remove(entryKey(userScore[user], user));
+				userScore[user] = random.nextInt(1_000_000);
+				batch.put(entryKey(userScore[user], user), user);
+			}
+			board.apply(batch);
+		}
+		running.set(false);
+		for (Thread reader : readers) {
+			reader.join();
+		}
+		Snapshot last = board.snapshot();
+		long top = last.select(last.size() - 1);
+		System.out.println("읽기 " + reads.sum() + "회, 불일치 " + inconsistent.sum()
+			+ "회, 1등: 사용자 " + last.getOrDefault(top, -1) + " (" + (top >>> 32) + "점)");
+	}
+
+	private static long entryKey(int score, int user) {
+		return ((long)score << 32) | user;
+	}
+}
@@ -0,0 +1,760 @@
+package datastructure.phase05;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeMap;
+
+import datastructure.phase04.LongLongConsumer;
+
+/**
+ * 바뀌지 않는(persistent) long 키 → long 값 정렬 맵입니다.
+ * <p>
+ * TreeMap을 오래 읽는 스레드에게 일관된 시점을 주려면 통째로 복사해야 한다 (O(n) 시간과 메모리).
+ * 이 맵은 put / remove가 자신을 바꾸지 않고 새 버전을 돌려준다. 구조는 LongLongBTreeMap과 같은 B+트리이고,
+ * 새 버전은 루트부터 바뀐 리프까지의 경로(높이만큼의 노드)만 복사하고 나머지 노드는 이전 버전과 공유한다 (path copying).
+ * 그래서 스냅숏은 참조 하나를 넘기는 것이고, 버전마다 추가 메모리는 O(log n)이다.
+ * 리프끼리 잇는 링크는 공유와 맞지 않아서 없고, 이웃 리프는 부모에서 다시 찾는다.
+ * <p>
+ * 많은 변경을 한 번에 할 때는 Builder를 쓴다. Builder는 자신이 만든 노드에 소유 표시를 해 두고,
+ * 그런 노드는 복사 없이 제자리에서 고치므로 (transient 방식) 같은 리프에 여러 번 써도 복사는 한 번이다.
+ * build()로 맵을 꺼내면 소유 표시를 새로 바꿔서, 이미 공개된 노드는 다시 고치지 않는다.
+ * <p>
+ * 맵은 모든 필드가 final이고 공개 뒤에는 노드가 바뀌지 않으므로 여러 스레드가 락 없이 읽어도 된다.
+ * 다른 스레드에 넘길 때는 volatile 필드 등으로 안전하게 공개한다. Builder는 스레드 안전하지 않다.
+ * <p>
+ * 시간 복잡도: get / put / remove / floor / ceiling O(log n), 범위 순회 O(log n + k), 스냅숏 O(1)
+ */
+public final class PersistentLongLongTreeMap {
+
+	// 복사 비용이 노드 크기에 비례하므로 LongLongBTreeMap(64)보다 작게 둔다.
+	private static final int MAX_KEYS = 32;
+	private static final int MIN_KEYS = MAX_KEYS / 2; // 루트가 아닌 노드의 최소 키 수
+
+	private static final PersistentLongLongTreeMap EMPTY = new PersistentLongLongTreeMap(new Leaf(null), 0, 0);
+
+	// 노드 배열은 한 칸 여유를 두어, 먼저 넣고 넘치면 나눈다.
+	// owner가 Builder의 현재 표시와 같은 노드만 제자리에서 고칠 수 있다 (null이면 누구도 못 고친다).
+	private abstract static class Node {
+		final Object owner;
+		final long[] keys = new long[MAX_KEYS + 1];
+		int size;
+
+		Node(Object owner) {
+			this.owner = owner;
+		}
+	}
+
+	private static final class Leaf extends Node {
+		final long[] values = new long[MAX_KEYS + 1];
+
+		Leaf(Object owner) {
+			super(owner);
+		}
+
+		Leaf copy(Object owner) {
+			Leaf copy = new Leaf(owner);
+			System.arraycopy(keys, 0, copy.keys, 0, size);
+			System.arraycopy(values, 0, copy.values, 0, size);
+			copy.size = size;
+			return copy;
+		}
+	}
+
+	// children[i]의 키 &lt; keys[i] &lt;= children[i + 1]의 키
+	private static final class Inner extends Node {
+		final Node[] children = new Node[MAX_KEYS + 2];
+
+		Inner(Object owner) {
+			super(owner);
+		}
+
+		Inner copy(Object owner) {
+			Inner copy = new Inner(owner);
+			System.arraycopy(keys, 0, copy.keys, 0, size);
+			System.arraycopy(children, 0, copy.children, 0, size + 1);
+			copy.size = size;
+			return copy;
+		}
+	}
+
+	private final Node root;
+	private final int height; // 0이면 root가 리프
+	private final int size;
+
+	private PersistentLongLongTreeMap(Node root, int height, int size) {
+		this.root = root;
+		this.height = height;
+		this.size = size;
+	}
+
+	public static PersistentLongLongTreeMap empty() {
+		return EMPTY;
+	}
+
+	// 빈 맵에서 시작하는 Builder
+	public static Builder builder() {
+		return EMPTY.toBuilder();
+	}
+
+	// 이 맵에서 시작하는 Builder (이 맵은 그대로 남는다)
+	public Builder toBuilder() {
+		return new Builder(root, height, size);
+	}
+
+	// ========================================
+	// 조회
+	// ========================================
+
+	public long getOrDefault(long key, long defaultValue) {
+		Leaf leaf = findLeaf(root, height, key);
+		int i = lowerBound(leaf.keys, leaf.size, key);
+		return i < leaf.size && leaf.keys[i] == key ? leaf.values[i] : defaultValue;
+	}
+
+	public boolean containsKey(long key) {
+		Leaf leaf = findLeaf(root, height, key);
+		int i = lowerBound(leaf.keys, leaf.size, key);
+		return i < leaf.size && leaf.keys[i] == key;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public long firstKey() {
+		if (size == 0) {
+			throw new NoSuchElementException("맵이 비어있습니다.");
+		}
+		return edgeLeaf(root, height, false).keys[0];
+	}
+
+	public long lastKey() {
+		if (size == 0) {
+			throw new NoSuchElementException("맵이 비어있습니다.");
+		}
+		Leaf leaf = edgeLeaf(root, height, true);
+		return leaf.keys[leaf.size - 1];
+	}
+
+	// ========================================
+	// 근접 값 검색 (floor, ceiling, lower, higher)
+	// ========================================
+
+	// 리프 링크가 없으므로, 찾은 리프에 답이 없으면 내려오며 지나친 가장 가까운 왼쪽(오른쪽) 형제의 끝 리프가 답이다.
+	// key 이하 중 가장 큰 키 - 없으면 NoSuchElementException
+	public long floorKey(long key) {
+		Leaf leaf = floorLeaf(key, true);
+		if (leaf == null) {
+			throw new NoSuchElementException("이하인 키가 없습니다: " + key);
+		}
+		return leaf.keys[upperBound(leaf.keys, leaf.size, key) - 1];
+	}
+
+	// key 이상 중 가장 작은 키
+	public long ceilingKey(long key) {
+		Leaf leaf = ceilingLeaf(key, true);
+		if (leaf == null) {
+			throw new NoSuchElementException("이상인 키가 없습니다: " + key);
+		}
+		return leaf.keys[lowerBound(leaf.keys, leaf.size, key)];
+	}
+
+	// key 미만 중 가장 큰 키
+	public long lowerKey(long key) {
+		Leaf leaf = floorLeaf(key, false);
+		if (leaf == null) {
+			throw new NoSuchElementException("미만인 키가 없습니다: " + key);
+		}
+		return leaf.keys[lowerBound(leaf.keys, leaf.size, key) - 1];
+	}
+
+	// key 초과 중 가장 작은 키
+	public long higherKey(long key) {
+		Leaf leaf = ceilingLeaf(key, false);
+		if (leaf == null) {
+			throw new NoSuchElementException("초과인 키가 없습니다: " + key);
+		}
+		return leaf.keys[upperBound(leaf.keys, leaf.size, key)];
+	}
+
+	// floorKey(key)의 값 - 없으면 defaultValue
+	public long floorValue(long key, long defaultValue) {
+		Leaf leaf = floorLeaf(key, true);
+		return leaf == null ? defaultValue : leaf.values[upperBound(leaf.keys, leaf.size, key) - 1];
+	}
+
+	public long ceilingValue(long key, long defaultValue) {
+		Leaf leaf = ceilingLeaf(key, true);
+		return leaf == null ? defaultValue : leaf.values[lowerBound(leaf.keys, leaf.size, key)];
+	}
+
+	public long lowerValue(long key, long defaultValue) {
+		Leaf leaf = floorLeaf(key, false);
+		return leaf == null ? defaultValue : leaf.values[lowerBound(leaf.keys, leaf.size, key) - 1];
+	}
+
+	public long higherValue(long key, long defaultValue) {
+		Leaf leaf = ceilingLeaf(key, false);
+		return leaf == null ? defaultValue : leaf.values[upperBound(leaf.keys, leaf.size, key)];
+	}
+
+	// ========================================
+	// 수정 (새 버전을 돌려준다)
+	// ========================================
+
+	// key → value가 들어간 새 맵. 이미 같은 값이면 이 맵 그대로
+	public PersistentLongLongTreeMap put(long key, long value) {
+		Editor editor = new Editor(null);
+		Node newRoot = editor.put(root, height, key, value);
+		if (newRoot == root) {
+			return this;
+		}
+		int newHeight = height;
+		if (editor.split != null) {
+			newRoot = editor.grow(newRoot);
+			newHeight++;
+		}
+		return new PersistentLongLongTreeMap(newRoot, newHeight, size + editor.sizeDelta);
+	}
+
+	// key를 뺀 새 맵. key가 없으면 이 맵 그대로
+	public PersistentLongLongTreeMap remove(long key) {
+		Editor editor = new Editor(null);
+		Node newRoot = editor.remove(root, height, key);
+		if (newRoot == root) {
+			return this;
+		}
+		int newHeight = height;
+		if (newHeight > 0 && newRoot.size == 0) {
+			newRoot = ((Inner)newRoot).children[0];
+			newHeight--;
+		}
+		return new PersistentLongLongTreeMap(newRoot, newHeight, size - 1);
+	}
+
+	// ========================================
+	// 순회
+	// ========================================
+
+	// 할당 없이 키 오름차순으로 순회
+	public void forEach(LongLongConsumer action) {
+		forEach(root, height, action);
+	}
+
+	// from ~ to 범위를 키 오름차순으로 순회 (subMap(from, fromInclusive, to, toInclusive)와 같은 범위)
+	public void forEachInRange(long from, boolean fromInclusive, long to, boolean toInclusive,
+		LongLongConsumer action) {
+		forEachInRange(root, height, from, fromInclusive, to, toInclusive, action);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("{");
+		forEach((key, value) -> {
+			if (sb.length() > 1) {
+				sb.append(", ");
+			}
+			sb.append(key).append('=').append(value);
+		});
+		return sb.append('}').toString();
+	}
+
+	/**
+	 * 여러 변경을 모아 새 맵을 만드는 transient 편집기
+	 * <p>
+	 * 첫 변경 때 경로를 복사하면서 새 노드에 자기 소유 표시를 하고, 이후 같은 노드는 제자리에서 고친다.
+	 * build() 뒤에도 계속 쓸 수 있다. 그때부터의 변경은 방금 공개한 노드를 다시 복사한다.
+	 */
+	public static final class Builder {
+		private final Editor editor = new Editor(new Object());
+		private Node root;
+		private int height;
+		private int size;
+
+		private Builder(Node root, int height, int size) {
+			this.root = root;
+			this.height = height;
+			this.size = size;
+		}
+
+		public Builder put(long key, long value) {
+			editor.sizeDelta = 0;
+			root = editor.put(root, height, key, value);
+			if (editor.split != null) {
+				root = editor.grow(root);
+				height++;
+			}
+			size += editor.sizeDelta;
+			return this;
+		}
+
+		public Builder remove(long key) {
+			editor.sizeDelta = 0;
+			root = editor.remove(root, height, key);
+			if (height > 0 && root.size == 0) {
+				root = ((Inner)root).children[0];
+				height--;
+			}
+			size += editor.sizeDelta;
+			return this;
+		}
+
+		public long getOrDefault(long key, long defaultValue) {
+			Leaf leaf = findLeaf(root, height, key);
+			int i = lowerBound(leaf.keys, leaf.size, key);
+			return i < leaf.size && leaf.keys[i] == key ? leaf.values[i] : defaultValue;
+		}
+
+		public boolean containsKey(long key) {
+			Leaf leaf = findLeaf(root, height, key);
+			int i = lowerBound(leaf.keys, leaf.size, key);
+			return i < leaf.size && leaf.keys[i] == key;
+		}
+
+		public int size() {
+			return size;
+		}
+
+		// 지금까지의 내용으로 맵을 만든다. 공개한 노드는 이후 고치지 않도록 소유 표시를 바꾼다.
+		public PersistentLongLongTreeMap build() {
+			editor.owner = new Object();
+			return new PersistentLongLongTreeMap(root, height, size);
+		}
+	}
+
+	// ========================================
+	// 내부 구현 - 탐색
+	// ========================================
+
+	// keys[0..size)에서 key 이상인 첫 위치
+	private static int lowerBound(long[] keys, int size, long key) {
+		int lo = 0;
+		int hi = size;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (keys[mid] < key) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	// keys[0..size)에서 key 초과인 첫 위치 (내부 노드에서는 내려갈 자식 번호)
+	private static int upperBound(long[] keys, int size, long key) {
+		int lo = 0;
+		int hi = size;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (keys[mid] <= key) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	private static Leaf findLeaf(Node node, int height, long key) {
+		for (int h = height; h > 0; h--) {
+			Inner inner = (Inner)node;
+			node = inner.children[upperBound(inner.keys, inner.size, key)];
+		}
+		return (Leaf)node;
+	}
+
+	// 가장 왼쪽(last면 오른쪽) 리프
+	private static Leaf edgeLeaf(Node node, int height, boolean last) {
+		for (int h = height; h > 0; h--) {
+			node = ((Inner)node).children[last ? node.size : 0];
+		}
+		return (Leaf)node;
+	}
+
+	// key 이하(inclusive) / 미만인 가장 큰 키가 있는 리프, 없으면 null
+	private Leaf floorLeaf(long key, boolean inclusive) {
+		Node node = root;
+		Node left = null; // 지나온 내부 노드에서 가장 가까운 왼쪽 형제
+		int leftHeight = 0;
+		for (int h = height; h > 0; h--) {
+			Inner inner = (Inner)node;
+			int i = upperBound(inner.keys, inner.size, key);
+			if (i > 0) {
+				left = inner.children[i - 1];
+				leftHeight = h - 1;
+			}
+			node = inner.children[i];
+		}
+		Leaf leaf = (Leaf)node;
+		int i = inclusive ? upperBound(leaf.keys, leaf.size, key) : lowerBound(leaf.keys, leaf.size, key);
+		if (i > 0) {
+			return leaf;
+		}
+		return left == null ? null : edgeLeaf(left, leftHeight, true);
+	}
+
+	// key 이상(inclusive) / 초과인 가장 작은 키가 있는 리프, 없으면 null
+	private Leaf ceilingLeaf(long key, boolean inclusive) {
+		Node node = root;
+		Node right = null; // 지나온 내부 노드에서 가장 가까운 오른쪽 형제
+		int rightHeight = 0;
+		for (int h = height; h > 0; h--) {
+			Inner inner = (Inner)node;
+			int i = upperBound(inner.keys, inner.size, key);
+			if (i < inner.size) {
+				right = inner.children[i + 1];
+				rightHeight = h - 1;
+			}
+			node = inner.children[i];
+		}
+		Leaf leaf = (Leaf)node;
+		int i = inclusive ? lowerBound(leaf.keys, leaf.size, key) : upperBound(leaf.keys, leaf.size, key);
+		if (i < leaf.size) {
+			return leaf;
+		}
+		return right == null ? null : edgeLeaf(right, rightHeight, false);
+	}
+
+	private static void forEach(Node node, int height, LongLongConsumer action) {
+		if (height == 0) {
+			Leaf leaf = (Leaf)node;
+			for (int i = 0; i < leaf.size; i++) {
+				action.accept(leaf.keys[i], leaf.values[i]);
+			}
+			return;
+		}
+		Inner inner = (Inner)node;
+		for (int c = 0; c <= inner.size; c++) {
+			forEach(inner.children[c], height - 1, action);
+		}
+	}
+
+	// 범위에 걸친 자식만 내려간다. 끝 검사는 리프에서 한다.
+	private static void forEachInRange(Node node, int height, long from, boolean fromInclusive, long to,
+		boolean toInclusive, LongLongConsumer action) {
+		if (height == 0) {
+			Leaf leaf = (Leaf)node;
+			int i = fromInclusive ? lowerBound(leaf.keys, leaf.size, from) : upperBound(leaf.keys, leaf.size, from);
+			for (; i < leaf.size; i++) {
+				long key = leaf.keys[i];
+				if (key > to || (key == to && !toInclusive)) {
+					return;
+				}
+				action.accept(key, leaf.values[i]);
+			}
+			return;
+		}
+		Inner inner = (Inner)node;
+		int last = upperBound(inner.keys, inner.size, to);
+		for (int c = upperBound(inner.keys, inner.size, from); c <= last; c++) {
+			forEachInRange(inner.children[c], height - 1, from, fromInclusive, to, toInclusive, action);
+		}
+	}
+
+	// ========================================
+	// 내부 구현 - 경로 복사 (분할 / 병합)
+	// ========================================
+
+	/**
+	 * put / remove 한 번의 재귀 상태. owner가 null이면 바뀌는 노드를 모두 복사하고 (영속 연산),
+	 * 아니면 owner 소유 노드는 제자리에서 고친다 (Builder).
+	 * 복사는 경로 전체에 일어나므로, 소유 노드의 조상도 항상 소유 노드다.
+	 */
+	private static final class Editor {
+		Object owner;
+		Node split; // 아래에서 나뉘어 부모에 넣어야 할 오른쪽 노드
+		long splitKey;
+		int sizeDelta;
+
+		Editor(Object owner) {
+			this.owner = owner;
+		}
+
+		private Leaf editable(Leaf leaf) {
+			return owner != null && leaf.owner == owner ? leaf : leaf.copy(owner);
+		}
+
+		private Inner editable(Inner inner) {
+			return owner != null && inner.owner == owner ? inner : inner.copy(owner);
+		}
+
+		// 고친(또는 복사한) node를 돌려준다. 바뀐 게 없으면 node 그대로. 넘치면 split / splitKey를 남긴다.
+		Node put(Node node, int height, long key, long value) {
+			if (height == 0) {
+				Leaf leaf = (Leaf)node;
+				int i = lowerBound(leaf.keys, leaf.size, key);
+				if (i < leaf.size && leaf.keys[i] == key) {
+					if (leaf.values[i] == value) {
+						return leaf;
+					}
+					Leaf edited = editable(leaf);
+					edited.values[i] = value;
+					return edited;
+				}
+				Leaf edited = editable(leaf);
+				System.arraycopy(edited.keys, i, edited.keys, i + 1, edited.size - i);
+				System.arraycopy(edited.values, i, edited.values, i + 1, edited.size - i);
+				edited.keys[i] = key;
+				edited.values[i] = value;
+				edited.size++;
+				sizeDelta = 1;
+				if (edited.size > MAX_KEYS) {
+					splitLeaf(edited);
+				}
+				return edited;
+			}
+			Inner inner = (Inner)node;
+			int i = upperBound(inner.keys, inner.size, key);
+			Node child = inner.children[i];
+			Node newChild = put(child, height - 1, key, value);
+			if (newChild == child && split == null) {
+				return inner;
+			}
+			Inner edited = editable(inner);
+			edited.children[i] = newChild;
+			if (split != null) {
+				System.arraycopy(edited.keys, i, edited.keys, i + 1, edited.size - i);
+				System.arraycopy(edited.children, i + 1, edited.children, i + 2, edited.size - i);
+				edited.keys[i] = splitKey;
+				edited.children[i + 1] = split;
+				edited.size++;
+				split = null;
+				if (edited.size > MAX_KEYS) {
+					splitInner(edited);
+				}
+			}
+			return edited;
+		}
+
+		// 루트가 나뉘었을 때 새 루트
+		Inner grow(Node left) {
+			Inner root = new Inner(owner);
+			root.keys[0] = splitKey;
+			root.children[0] = left;
+			root.children[1] = split;
+			root.size = 1;
+			split = null;
+			return root;
+		}
+
+		private void splitLeaf(Leaf leaf) {
+			Leaf right = new Leaf(owner);
+			int half = leaf.size / 2;
+			right.size = leaf.size - half;
+			System.arraycopy(leaf.keys, half, right.keys, 0, right.size);
+			System.arraycopy(leaf.values, half, right.values, 0, right.size);
+			leaf.size = half;
+			split = right;
+			splitKey = right.keys[0];
+		}
+
+		// 가운데 키는 부모로 올라간다.
+		private void splitInner(Inner inner) {
+			Inner right = new Inner(owner);
+			int half = inner.size / 2;
+			right.size = inner.size - half - 1;
+			System.arraycopy(inner.keys, half + 1, right.keys, 0, right.size);
+			System.arraycopy(inner.children, half + 1, right.children, 0, right.size + 1);
+			for (int c = half + 1; c <= inner.size; c++) {
+				inner.children[c] = null;
+			}
+			splitKey = inner.keys[half];
+			inner.size = half;
+			split = right;
+		}
+
+		// 고친 node를 돌려준다. key가 없으면 node 그대로. 루트가 아닌 노드가 모자라면 부모가 형제와 맞춘다.
+		Node remove(Node node, int height, long key) {
+			if (height == 0) {
+				Leaf leaf = (Leaf)node;
+				int i = lowerBound(leaf.keys, leaf.size, key);
+				if (i == leaf.size || leaf.keys[i] != key) {
+					return leaf;
+				}
+				Leaf edited = editable(leaf);
+				System.arraycopy(edited.keys, i + 1, edited.keys, i, edited.size - i - 1);
+				System.arraycopy(edited.values, i + 1, edited.values, i, edited.size - i - 1);
+				edited.size--;
+				sizeDelta = -1;
+				return edited;
+			}
+			Inner inner = (Inner)node;
+			int i = upperBound(inner.keys, inner.size, key);
+			Node child = inner.children[i];
+			Node newChild = remove(child, height - 1, key);
+			if (newChild == child && (owner == null || newChild.size >= MIN_KEYS)) {
+				return inner; // 못 찾았거나 (Builder가) 제자리에서 고쳤고 모자라지 않다
+			}
+			Inner edited = editable(inner);
+			edited.children[i] = newChild;
+			if (newChild.size < MIN_KEYS) {
+				if (height == 1) {
+					rebalanceLeaf(edited, i);
+				} else {
+					rebalanceInner(edited, i);
+				}
+			}
+			return edited;
+		}
+
+		// 왼쪽 형제가 있으면 왼쪽, 없으면 오른쪽에서 하나 빌리고, 형제도 모자라면 합친다.
+		private void rebalanceLeaf(Inner parent, int i) {
+			Leaf child = (Leaf)parent.children[i];
+			if (i > 0) {
+				Leaf left = editable((Leaf)parent.children[i - 1]);
+				parent.children[i - 1] = left;
+				if (left.size > MIN_KEYS) {
+					System.arraycopy(child.keys, 0, child.keys, 1, child.size);
+					System.arraycopy(child.values, 0, child.values, 1, child.size);
+					left.size--;
+					child.keys[0] = left.keys[left.size];
+					child.values[0] = left.values[left.size];
+					child.size++;
+					parent.keys[i - 1] = child.keys[0];
+				} else {
+					System.arraycopy(child.keys, 0, left.keys, left.size, child.size);
+					System.arraycopy(child.values, 0, left.values, left.size, child.size);
+					left.size += child.size;
+					removeChild(parent, i - 1);
+				}
+				return;
+			}
+			Leaf right = (Leaf)parent.children[1];
+			if (right.size > MIN_KEYS) {
+				right = editable(right);
+				parent.children[1] = right;
+				child.keys[child.size] = right.keys[0];
+				child.values[child.size] = right.values[0];
+				child.size++;
+				right.size--;
+				System.arraycopy(right.keys, 1, right.keys, 0, right.size);
+				System.arraycopy(right.values, 1, right.values, 0, right.size);
+				parent.keys[0] = right.keys[0];
+			} else {
+				System.arraycopy(right.keys, 0, child.keys, child.size, right.size);
+				System.arraycopy(right.values, 0, child.values, child.size, right.size);
+				child.size += right.size;
+				removeChild(parent, 0);
+			}
+		}
+
+		// 내부 노드는 부모의 구분 키를 내려받고 형제의 끝 키를 올린다 (회전).
+		private void rebalanceInner(Inner parent, int i) {
+			Inner child = (Inner)parent.children[i];
+			if (i > 0) {
+				Inner left = editable((Inner)parent.children[i - 1]);
+				parent.children[i - 1] = left;
+				if (left.size > MIN_KEYS) {
+					System.arraycopy(child.keys, 0, child.keys, 1, child.size);
+					System.arraycopy(child.children, 0, child.children, 1, child.size + 1);
+					child.keys[0] = parent.keys[i - 1];
+					child.children[0] = left.children[left.size];
+					child.size++;
+					parent.keys[i - 1] = left.keys[left.size - 1];
+					left.children[left.size] = null;
+					left.size--;
+				} else {
+					left.keys[left.size] = parent.keys[i - 1];
+					System.arraycopy(child.keys, 0, left.keys, left.size + 1, child.size);
+					System.arraycopy(child.children, 0, left.children, left.size + 1, child.size + 1);
+					left.size += child.size + 1;
+					removeChild(parent, i - 1);
+				}
+				return;
+			}
+			Inner right = (Inner)parent.children[1];
+			if (right.size > MIN_KEYS) {
+				right = editable(right);
+				parent.children[1] = right;
+				child.keys[child.size] = parent.keys[0];
+				child.children[child.size + 1] = right.children[0];
+				child.size++;
+				parent.keys[0] = right.keys[0];
+				System.arraycopy(right.keys, 1, right.keys, 0, right.size - 1);
+				System.arraycopy(right.children, 1, right.children, 0, right.size);
+				right.children[right.size] = null;
+				right.size--;
+			} else {
+				child.keys[child.size] = parent.keys[0];
+				System.arraycopy(right.keys, 0, child.keys, child.size + 1, right.size);
+				System.arraycopy(right.children, 0, child.children, child.size + 1, right.size + 1);
+				child.size += right.size + 1;
+				removeChild(parent, 0);
+			}
+		}
+
+		// keys[k]와 children[k + 1]을 지운다 (children[k + 1]이 children[k]로 합쳐진 뒤).
+		private static void removeChild(Inner parent, int k) {
+			System.arraycopy(parent.keys, k + 1, parent.keys, k, parent.size - k - 1);
+			System.arraycopy(parent.children, k + 2, parent.children, k + 1, parent.size - k - 1);
+			parent.children[parent.size] = null;
+			parent.size--;
+		}
+	}
+
+	public static void main(String[] args) {
+		// TreeMapDemo의 점수 (점수 → 인원). put은 새 버전을 돌려주고 이전 버전은 그대로다.
+		PersistentLongLongTreeMap v1 = PersistentLongLongTreeMap.empty().put(85, 1).put(92, 1).put(78, 1).put(95, 1).put(88, 1);
+		PersistentLongLongTreeMap v2 = v1.remove(78).put(100, 1);
+		System.out.println("v1: " + v1); // {78=1, 85=1, 88=1, 92=1, 95=1}
+		System.out.println("v2: " + v2); // {85=1, 88=1, 92=1, 95=1, 100=1}
+		System.out.println("v1 90 이하: " + v1.floorKey(90) + ", v2 90 이상: " + v2.ceilingKey(90)); // 88, 92
+
+		StringBuilder range = new StringBuilder();
+		v2.forEachInRange(80, true, 93, false, (score, count) -> range.append(score).append(' '));
+		System.out.println("v2 80~93: " + range); // 85 88 92
+
+		// 초마다 스냅숏을 뜨는 보고서: 1,000만 개를 Builder로 적재하고, 1초 분량의 변경 뒤 버전을 보관한다.
+		int n = 10_000_000;
+		long start = System.nanoTime();
+		Builder builder = PersistentLongLongTreeMap.builder();
+		for (int i = 0; i < n; i++) {
+			builder.put(i * 10L, i);
+		}
+		PersistentLongLongTreeMap snapshot = builder.build();
+		System.out.println("적재 " + snapshot.size() + "개: " + (System.nanoTime() - start) / 1_000_000 + "ms");
+
+		// TreeMap이었다면 스냅숏마다 1,000만 엔트리를 복사해야 한다. 여기서는 변경된 경로만 새로 생긴다.
+		PersistentLongLongTreeMap[] history = new PersistentLongLongTreeMap[10];
+		Random random = new Random(42);
+		start = System.nanoTime();
+		for (int second = 0; second < history.length; second++) {
+			for (int i = 0; i < 10_000; i++) {
+				long key = random.nextInt(n) * 10L;
+				builder.put(key, snapshot.getOrDefault(key, 0) + 1);
+			}
+			snapshot = builder.build();
+			history[second] = snapshot;
+		}
+		System.out.println("변경 1만 개 + 스냅숏 x " + history.length + ": " + (System.nanoTime() - start) / 1_000_000 + "ms");
+		// 각 스냅숏은 만들어진 시점의 값을 그대로 본다 (초마다 1만씩 늘어난 합계).
+		long base = (long)n * (n - 1) / 2;
+		System.out.println("처음/마지막 스냅숏의 값 합계 - 적재 때 합계: "
+			+ (sum(history[0]) - base) + " / " + (sum(history[history.length - 1]) - base)); // 10000 / 100000
+
+		// TreeMap과 같은 결과인지 작은 예로 확인
+		TreeMap<Long, Long> reference = new TreeMap<>();
+		PersistentLongLongTreeMap map = PersistentLongLongTreeMap.empty();
+		for (long key = 0; key < 1_000; key += 3) {
+			reference.put(key, key);
+			map = map.put(key, key);
+		}
+		for (long key = 0; key < 1_000; key += 7) {
+			reference.remove(key);
+			map = map.remove(key);
+		}
+		System.out.println("TreeMap과 같음: " + (reference.size() == map.size()
+			&& reference.floorKey(500L) == map.floorKey(500) && reference.higherKey(500L) == map.higherKey(500)));
+	}
+
+	private static long sum(PersistentLongLongTreeMap map) {
+		long[] total = new long[1];
+		map.forEach((key, value) -> total[0] += value);
+		return total[0];
+	}
+}